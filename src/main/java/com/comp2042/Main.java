@@ -1,37 +1,88 @@
 package com.comp2042;
 
-import com.comp2042.controller.GameController;
-import com.comp2042.view.GuiController;
+import com.comp2042.diagnostics.FlightRecording;
+import com.comp2042.diagnostics.MetricsServer;
+import com.comp2042.view.AssetCache;
+import com.comp2042.view.Assets;
+import com.comp2042.view.SceneManager;
+import com.comp2042.view.StartupProfiler;
 import javafx.application.Application;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
+import javafx.application.Platform;
 import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 
-import java.net.URL;
-import java.util.ResourceBundle;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class Main extends Application {
 
-    @Override
-    public void start(Stage primaryStage) throws Exception {
-        // CHANGE: Load mainMenu.fxml instead of gameLayout.fxml
-        URL location = getClass().getClassLoader().getResource("mainMenu.fxml");
+    private ExecutorService assetLoader;
+    private MetricsServer metricsServer;
+    private SceneManager sceneManager;
 
-        FXMLLoader fxmlLoader = new FXMLLoader(location);
-        Parent root = fxmlLoader.load();
+    @Override
+    public void start(Stage primaryStage) {
+        StartupProfiler profiler = new StartupProfiler();
+        profiler.mark("fx-start");
+        FlightRecording.startIfRequested();
+        metricsServer = MetricsServer.startIfRequested();
 
-        // NOTE: We do NOT create GameController here anymore.
-        // MenuController will do that when "New Game" is clicked.
+        // Show a plain first frame straight away; everything else loads in the background
+        Label loading = new Label("Loading...");
+        loading.setStyle("-fx-text-fill: white; -fx-font-size: 20px;");
+        StackPane splash = new StackPane(loading);
+        splash.setStyle("-fx-background-color: black;");
 
         primaryStage.setTitle("TetrisJFX");
-        Scene scene = new Scene(root, 800, 600);
-        primaryStage.setScene(scene);
+        primaryStage.setScene(new Scene(splash, 800, 600));
         primaryStage.setMinWidth(800);
         primaryStage.setMinHeight(600);
         primaryStage.show();
+        profiler.mark("first-frame");
+
+        assetLoader = newAssetLoader();
+        AssetCache assets = new AssetCache(assetLoader, profiler, Assets.COUNT);
+        Assets.preloadAll(assets);
+
+        // The menu is shown once it is ready; the game scene is preloaded behind it
+        // and reused for every game (see SceneManager).
+        sceneManager = new SceneManager(primaryStage, assets, assetLoader, profiler);
+        sceneManager.start().whenComplete((ignored, e) -> {
+            if (e != null) {
+                e.printStackTrace();
+                Platform.exit();
+                return;
+            }
+            profiler.report();
+        });
     }
 
+    @Override
+    public void stop() {
+        if (sceneManager != null) {
+            sceneManager.saveGame();
+        }
+        FlightRecording.stop();
+        if (metricsServer != null) {
+            metricsServer.close();
+        }
+        if (assetLoader != null) {
+            assetLoader.shutdownNow();
+        }
+    }
+
+    private static ExecutorService newAssetLoader() {
+        int threads = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+        AtomicInteger count = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "asset-loader-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
 
     public static void main(String[] args) {
         launch(args);
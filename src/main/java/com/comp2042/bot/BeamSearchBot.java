@@ -0,0 +1,293 @@
+package com.comp2042.bot;
+
+import com.comp2042.diagnostics.GameMetrics;
+import com.comp2042.model.BitBoard;
+import com.comp2042.model.TetrisBoard;
+import com.comp2042.model.bricks.Brick;
+import com.comp2042.model.bricks.PieceMask;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multi-piece lookahead bot.
+ * <p>
+ * Runs a beam search over the active piece, the hold slot and the next {@code depth}
+ * preview pieces. Each ply expands every node in the beam (optionally swapping with the
+ * hold piece), scores the children with a {@link BoardEvaluator} and keeps the best
+ * {@code beamWidth}. Expansion is split across a {@link ForkJoinPool}; the beam width
+ * scales with the pool's parallelism, so more cores buy a wider search within the same
+ * per-move time budget.
+ * </p>
+ * Candidate placements come from a {@link ReachablePlacementGenerator}, so the bot only
+ * plans moves it can actually input; the winning move is returned with its input path.
+ * <p>
+ * The first ply is always completed so a move is returned even on a tight budget; deeper
+ * plies are abandoned as a whole if the deadline passes part-way through. A budget of zero
+ * or less disables the deadline, which makes the search fully deterministic.
+ * </p>
+ */
+public class BeamSearchBot implements AutoCloseable {
+
+    /** Beam width contributed by each worker thread. */
+    public static final int BEAM_WIDTH_PER_THREAD = 24;
+
+    private final ForkJoinPool pool;
+    private final boolean ownsPool;
+    private final EvaluationWeights weights;
+    private final ThreadLocal<BoardEvaluator> evaluators;
+    private final ThreadLocal<PlacementGenerator> placementGenerators =
+            ThreadLocal.withInitial(ReachablePlacementGenerator::new);
+    private final int depth;
+    private final int beamWidth;
+    private final long budgetNanos;
+
+    private volatile long lastNodesExpanded;
+
+    public BeamSearchBot(int depth, long budgetMillis) {
+        this(EvaluationWeights.DEFAULT, depth, budgetMillis, Runtime.getRuntime().availableProcessors());
+    }
+
+    public BeamSearchBot(EvaluationWeights weights, int depth, long budgetMillis, int parallelism) {
+        this(weights, depth, budgetMillis, BEAM_WIDTH_PER_THREAD * parallelism, new ForkJoinPool(parallelism), true);
+    }
+
+    /**
+     * Creates a bot that runs on a shared pool, e.g. when many games are simulated at once.
+     * The pool is not shut down by {@link #close()}.
+     */
+    public BeamSearchBot(EvaluationWeights weights, int depth, long budgetMillis, int beamWidth, ForkJoinPool pool) {
+        this(weights, depth, budgetMillis, beamWidth, pool, false);
+    }
+
+    private BeamSearchBot(EvaluationWeights weights, int depth, long budgetMillis, int beamWidth,
+                          ForkJoinPool pool, boolean ownsPool) {
+        this.pool = pool;
+        this.ownsPool = ownsPool;
+        this.weights = weights;
+        this.evaluators = ThreadLocal.withInitial(() -> new BoardEvaluator(weights));
+        this.depth = depth;
+        this.beamWidth = beamWidth;
+        this.budgetNanos = budgetMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(budgetMillis) : Long.MAX_VALUE;
+    }
+
+    public EvaluationWeights getWeights() {
+        return weights;
+    }
+
+    /**
+     * Number of nodes expanded by the most recent call to {@link #findBestMove}.
+     */
+    public long getLastNodesExpanded() {
+        return lastNodesExpanded;
+    }
+
+    /**
+     * Picks the best placement for the board's active piece.
+     *
+     * @return the chosen placement, or null if every placement tops out.
+     */
+    public Placement findBestMove(TetrisBoard board) {
+        long started = System.nanoTime();
+        long deadline = budgetNanos == Long.MAX_VALUE ? Long.MAX_VALUE : System.nanoTime() + budgetNanos;
+
+        List<Brick> previewBricks = board.getPreview(depth);
+        PieceMask[] preview = new PieceMask[previewBricks.size()];
+        for (int i = 0; i < preview.length; i++) {
+            preview[i] = PieceMask.of(previewBricks.get(i));
+        }
+        Brick hold = board.getHoldBrick();
+        int multiplier = board.getScore().getScoreMultiplier();
+
+        Node root = new Node(BitBoard.fromMatrix(board.getBoardMatrix()),
+                PieceMask.of(board.getCurrentBrick()),
+                hold == null ? null : PieceMask.of(hold),
+                !board.isHoldUsedThisTurn(),
+                0, 0.0, null);
+
+        SearchContext ctx = new SearchContext(preview, multiplier, deadline);
+        List<Node> beam = List.of(root);
+        Node best = null;
+        long nodes = 0;
+
+        for (int ply = 0; ply < depth + 1; ply++) {
+            ctx.enforceDeadline = ply > 0;
+            List<Node> children = pool.invoke(new ExpandTask(ctx, beam, 0, beam.size()));
+            nodes += beam.size();
+            if (ctx.timedOut || children.isEmpty()) {
+                break;
+            }
+            children.sort(Comparator.comparingDouble((Node n) -> n.value).reversed());
+            beam = children.size() > beamWidth ? new ArrayList<>(children.subList(0, beamWidth)) : children;
+            best = beam.get(0);
+            if (beam.get(0).current == null) {
+                // Preview exhausted; nothing left to expand
+                break;
+            }
+        }
+
+        lastNodesExpanded = nodes;
+        GameMetrics metrics = GameMetrics.global();
+        if (metrics.isEnabled()) {
+            metrics.recordBotSearch(nodes, System.nanoTime() - started);
+        }
+        if (best == null) {
+            return null;
+        }
+        Placement move = best.firstMove;
+        BotMove[] path = placementGenerators.get().findPath(root.board, PieceMask.byId(move.getPieceId()),
+                move.getRotation(), move.getX(), move.getY());
+        return move.withPath(path);
+    }
+
+    private List<Node> expand(SearchContext ctx, Node node) {
+        List<Node> children = new ArrayList<>();
+        if (node.current == null) {
+            return children;
+        }
+        List<Placement> placements = new ArrayList<>();
+        PlacementGenerator placementGenerator = placementGenerators.get();
+        int q = node.queueIndex;
+
+        // Option 1: place the current piece
+        placementGenerator.generate(node.board, node.current, false, placements);
+        addChildren(ctx, node, placements, node.current, node.hold, ctx.previewAt(q), q + 1, children);
+
+        // Option 2: swap with (or stash into) the hold slot
+        if (node.holdAllowed) {
+            placements.clear();
+            if (node.hold == null) {
+                PieceMask fromQueue = ctx.previewAt(q);
+                if (fromQueue != null) {
+                    placementGenerator.generate(node.board, fromQueue, true, placements);
+                    addChildren(ctx, node, placements, fromQueue, node.current, ctx.previewAt(q + 1), q + 2, children);
+                }
+            } else if (node.hold.getId() != node.current.getId()) {
+                placementGenerator.generate(node.board, node.hold, true, placements);
+                addChildren(ctx, node, placements, node.hold, node.current, ctx.previewAt(q), q + 1, children);
+            }
+        }
+        return children;
+    }
+
+    private void addChildren(SearchContext ctx, Node parent, List<Placement> placements, PieceMask placed,
+                             PieceMask newHold, PieceMask next, int nextQueueIndex, List<Node> out) {
+        BoardEvaluator evaluator = evaluators.get();
+        for (Placement p : placements) {
+            BitBoard child = parent.board.copy();
+            int lines = child.place(placed, p.getRotation(), p.getX(), p.getY());
+            if (toppedOut(child, next)) {
+                continue;
+            }
+            double reward = parent.reward + evaluator.clearReward(lines, ctx.multiplier);
+            Placement first = parent.firstMove != null ? parent.firstMove : p;
+            // Locking a piece re-enables hold for the next one
+            Node node = new Node(child, next, newHold, true, nextQueueIndex, reward, first);
+            node.value = reward + evaluator.evaluate(child);
+            out.add(node);
+        }
+    }
+
+    private static boolean toppedOut(BitBoard board, PieceMask next) {
+        for (int y = 0; y < TetrisBoard.HIDDEN_ROWS; y++) {
+            if (board.getRow(y) != 0) {
+                return true;
+            }
+        }
+        return next != null && board.collides(next, 0, TetrisBoard.SPAWN_X, TetrisBoard.SPAWN_Y);
+    }
+
+    @Override
+    public void close() {
+        if (ownsPool) {
+            pool.shutdown();
+        }
+    }
+
+    private static final class SearchContext {
+        final PieceMask[] preview;
+        final int multiplier;
+        final long deadline;
+        volatile boolean enforceDeadline;
+        volatile boolean timedOut;
+
+        SearchContext(PieceMask[] preview, int multiplier, long deadline) {
+            this.preview = preview;
+            this.multiplier = multiplier;
+            this.deadline = deadline;
+        }
+
+        PieceMask previewAt(int index) {
+            return index < preview.length ? preview[index] : null;
+        }
+
+        boolean expired() {
+            if (enforceDeadline && deadline != Long.MAX_VALUE && System.nanoTime() > deadline) {
+                timedOut = true;
+            }
+            return timedOut;
+        }
+    }
+
+    private static final class Node {
+        final BitBoard board;
+        final PieceMask current;
+        final PieceMask hold;
+        final int queueIndex;
+        final double reward;
+        final Placement firstMove;
+        final boolean holdAllowed;
+        double value;
+
+        Node(BitBoard board, PieceMask current, PieceMask hold, boolean holdAllowed,
+             int queueIndex, double reward, Placement firstMove) {
+            this.board = board;
+            this.current = current;
+            this.hold = hold;
+            this.holdAllowed = holdAllowed;
+            this.queueIndex = queueIndex;
+            this.reward = reward;
+            this.firstMove = firstMove;
+        }
+    }
+
+    // Fork/join tasks are never serialized
+    @SuppressWarnings("serial")
+    private final class ExpandTask extends RecursiveTask<List<Node>> {
+        private static final int SEQUENTIAL_THRESHOLD = 2;
+
+        private final SearchContext ctx;
+        private final List<Node> beam;
+        private final int from;
+        private final int to;
+
+        ExpandTask(SearchContext ctx, List<Node> beam, int from, int to) {
+            this.ctx = ctx;
+            this.beam = beam;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<Node> compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                List<Node> result = new ArrayList<>();
+                for (int i = from; i < to && !ctx.expired(); i++) {
+                    result.addAll(expand(ctx, beam.get(i)));
+                }
+                return result;
+            }
+            int mid = (from + to) >>> 1;
+            ExpandTask left = new ExpandTask(ctx, beam, from, mid);
+            left.fork();
+            List<Node> right = new ExpandTask(ctx, beam, mid, to).compute();
+            List<Node> result = left.join();
+            result.addAll(right);
+            return result;
+        }
+    }
+}
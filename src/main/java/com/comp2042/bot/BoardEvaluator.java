@@ -0,0 +1,81 @@
+package com.comp2042.bot;
+
+import com.comp2042.model.BitBoard;
+import com.comp2042.model.ScoringRules;
+
+import java.util.Arrays;
+
+/**
+ * Heuristic scoring of board positions for the bot.
+ * <p>
+ * Features are computed in a single top-down pass over the bitboard rows. Instances keep a
+ * scratch array for column heights, so each search thread should use its own evaluator.
+ * </p>
+ */
+public class BoardEvaluator {
+
+    private final EvaluationWeights weights;
+    private int[] heights = new int[0];
+
+    public BoardEvaluator(EvaluationWeights weights) {
+        this.weights = weights;
+    }
+
+    public EvaluationWeights getWeights() {
+        return weights;
+    }
+
+    /**
+     * Scores the shape of the stack; higher is better.
+     */
+    public double evaluate(BitBoard board) {
+        int width = board.getWidth();
+        int height = board.getHeight();
+        if (heights.length != width) {
+            heights = new int[width];
+        }
+        Arrays.fill(heights, 0);
+
+        int covered = 0;
+        int holes = 0;
+        for (int y = 0; y < height; y++) {
+            int row = board.getRow(y);
+            int newTops = row & ~covered;
+            while (newTops != 0) {
+                heights[Integer.numberOfTrailingZeros(newTops)] = height - y;
+                newTops &= newTops - 1;
+            }
+            holes += Integer.bitCount(covered & ~row);
+            covered |= row;
+        }
+
+        int aggregate = 0;
+        int bumpiness = 0;
+        int wells = 0;
+        for (int x = 0; x < width; x++) {
+            aggregate += heights[x];
+            if (x > 0) {
+                bumpiness += Math.abs(heights[x] - heights[x - 1]);
+            }
+            // Walls count as infinitely tall neighbours
+            int left = x == 0 ? height : heights[x - 1];
+            int right = x == width - 1 ? height : heights[x + 1];
+            int depth = Math.min(left, right) - heights[x];
+            if (depth > 0) {
+                wells += depth;
+            }
+        }
+
+        return weights.getHoles() * holes
+                + weights.getAggregateHeight() * aggregate
+                + weights.getBumpiness() * bumpiness
+                + weights.getWells() * wells;
+    }
+
+    /**
+     * Reward for clearing lines, weighted by the game's own scoring table.
+     */
+    public double clearReward(int linesCleared, int multiplier) {
+        return weights.getLineClear() * ScoringRules.lineClearBonus(linesCleared, multiplier);
+    }
+}
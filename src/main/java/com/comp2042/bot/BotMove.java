@@ -0,0 +1,8 @@
+package com.comp2042.bot;
+
+/**
+ * Single player input the bot can issue, mirroring the {@code Board} move methods.
+ */
+public enum BotMove {
+    LEFT, RIGHT, ROTATE_CW, ROTATE_CCW, ROTATE_180, DOWN
+}
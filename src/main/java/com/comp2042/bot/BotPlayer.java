@@ -0,0 +1,52 @@
+package com.comp2042.bot;
+
+import com.comp2042.model.DownData;
+import com.comp2042.model.TetrisBoard;
+
+/**
+ * Turns a {@link Placement} into the same board calls a human player would make.
+ */
+public class BotPlayer {
+
+    private BotPlayer() {
+        // utility class
+    }
+
+    /**
+     * Holds if required, then follows the placement's input path and hard-drops.
+     * Placements without a path fall back to rotate, slide and drop.
+     *
+     * @return the result of the hard drop.
+     */
+    public static DownData play(TetrisBoard board, Placement placement) {
+        if (placement.isUseHold() && board.holdCurrentBrick()) {
+            // Swapped-in piece collides at spawn: report game over through the normal path
+            return board.hardDrop(false);
+        }
+        BotMove[] path = placement.getPath();
+        if (path != null) {
+            for (BotMove move : path) {
+                switch (move) {
+                    case LEFT -> board.moveBrickLeft();
+                    case RIGHT -> board.moveBrickRight();
+                    case ROTATE_CW -> board.rotateRightBrick();
+                    case ROTATE_CCW -> board.rotateLeftBrick();
+                    case ROTATE_180 -> board.rotate180Brick();
+                    case DOWN -> board.moveBrickDown();
+                }
+            }
+            return board.hardDrop(false);
+        }
+        for (int i = 0; i < placement.getRotation(); i++) {
+            board.rotateRightBrick();
+        }
+        int x = board.getViewData().getxPosition();
+        while (x < placement.getX() && board.moveBrickRight()) {
+            x++;
+        }
+        while (x > placement.getX() && board.moveBrickLeft()) {
+            x--;
+        }
+        return board.hardDrop(false);
+    }
+}
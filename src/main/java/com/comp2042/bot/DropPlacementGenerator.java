@@ -0,0 +1,33 @@
+package com.comp2042.bot;
+
+import com.comp2042.model.BitBoard;
+import com.comp2042.model.TetrisBoard;
+import com.comp2042.model.bricks.PieceMask;
+
+import java.util.List;
+
+/**
+ * Enumerates lock positions for a piece by rotating at the spawn row, sliding to each
+ * column and dropping straight down.
+ * <p>
+ * Cheap, but blind to slides and tucks under overhangs, and it assumes the spawn row is
+ * clear enough to slide along. {@link ReachablePlacementGenerator} is exact.
+ * </p>
+ */
+public class DropPlacementGenerator implements PlacementGenerator {
+
+    @Override
+    public void generate(BitBoard board, PieceMask piece, boolean useHold, List<Placement> out) {
+        for (int rot = 0; rot < piece.getRotationCount(); rot++) {
+            int minX = -piece.getMinCol(rot);
+            int maxX = board.getWidth() - 1 - piece.getMaxCol(rot);
+            for (int x = minX; x <= maxX; x++) {
+                if (board.collides(piece, rot, x, TetrisBoard.SPAWN_Y)) {
+                    continue;
+                }
+                int y = board.dropY(piece, rot, x, TetrisBoard.SPAWN_Y);
+                out.add(new Placement(piece.getId(), rot, x, y, useHold));
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.comp2042.bot;
+
+/**
+ * Weights used by {@link BoardEvaluator} to score a board position.
+ * <p>
+ * Negative weights penalise a feature (holes, stack height, bumpiness, wells) and the
+ * line-clear weight rewards clears in proportion to {@link com.comp2042.model.ScoringRules#lineClearBonus}.
+ * </p>
+ */
+public final class EvaluationWeights {
+
+    /** Hand-tuned starting point; good enough to survive a few hundred pieces. */
+    public static final EvaluationWeights DEFAULT = new EvaluationWeights(-0.36, -0.51, -0.18, -0.10, 0.015);
+
+    private final double holes;
+    private final double aggregateHeight;
+    private final double bumpiness;
+    private final double wells;
+    private final double lineClear;
+
+    /** Number of tunable weights, in the order used by {@link #toArray()}. */
+    public static final int SIZE = 5;
+
+    public EvaluationWeights(double holes, double aggregateHeight, double bumpiness, double wells, double lineClear) {
+        this.holes = holes;
+        this.aggregateHeight = aggregateHeight;
+        this.bumpiness = bumpiness;
+        this.wells = wells;
+        this.lineClear = lineClear;
+    }
+
+    public double getHoles() {
+        return holes;
+    }
+
+    public double getAggregateHeight() {
+        return aggregateHeight;
+    }
+
+    public double getBumpiness() {
+        return bumpiness;
+    }
+
+    public double getWells() {
+        return wells;
+    }
+
+    public double getLineClear() {
+        return lineClear;
+    }
+
+    /**
+     * Weights as a vector: holes, aggregate height, bumpiness, wells, line clear.
+     */
+    public double[] toArray() {
+        return new double[]{holes, aggregateHeight, bumpiness, wells, lineClear};
+    }
+
+    public static EvaluationWeights fromArray(double[] values) {
+        if (values.length != SIZE) {
+            throw new IllegalArgumentException("Expected " + SIZE + " weights but got " + values.length);
+        }
+        return new EvaluationWeights(values[0], values[1], values[2], values[3], values[4]);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("holes=%.4f height=%.4f bumpiness=%.4f wells=%.4f lineClear=%.5f",
+                holes, aggregateHeight, bumpiness, wells, lineClear);
+    }
+}
@@ -0,0 +1,45 @@
+package com.comp2042.bot;
+
+/**
+ * Summary of one headless game.
+ */
+public final class GameResult {
+
+    private final long pieces;
+    private final int lines;
+    private final int score;
+    private final int level;
+    private final long durationNanos;
+
+    public GameResult(long pieces, int lines, int score, int level, long durationNanos) {
+        this.pieces = pieces;
+        this.lines = lines;
+        this.score = score;
+        this.level = level;
+        this.durationNanos = durationNanos;
+    }
+
+    public long getPieces() {
+        return pieces;
+    }
+
+    public int getLines() {
+        return lines;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public double getPiecesPerSecond() {
+        return pieces / Math.max(durationNanos / 1e9, 1e-9);
+    }
+}
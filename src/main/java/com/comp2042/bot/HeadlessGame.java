@@ -0,0 +1,114 @@
+package com.comp2042.bot;
+
+import com.comp2042.diagnostics.GameMetrics;
+import com.comp2042.model.BitBoard;
+import com.comp2042.model.DownData;
+import com.comp2042.model.ScoringEngine;
+import com.comp2042.model.TetrisBoard;
+import com.comp2042.model.bricks.Bag7BrickGenerator;
+import com.comp2042.model.bricks.Brick;
+import com.comp2042.model.bricks.PieceMask;
+
+/**
+ * Plays a complete game with the bot, without any GUI.
+ * <p>
+ * Applies the same {@link ScoringEngine} scoring and levelling as {@code GameController}
+ * (T-spins, combos and back-to-back included), so results are comparable with human games.
+ * </p>
+ */
+public class HeadlessGame {
+
+    /**
+     * Receives every move the bot makes, e.g. to record training data.
+     */
+    @FunctionalInterface
+    public interface MoveObserver {
+        /**
+         * @param before  the board before the piece was placed; reused between calls, so copy it if needed.
+         * @param pieceId id of the active piece before the move.
+         * @param holdId  id of the held piece before the move, or 0 if the hold slot was empty.
+         * @param move    the placement that was played.
+         * @param reward  points awarded for the move.
+         */
+        void onMove(BitBoard before, int pieceId, int holdId, Placement move, int reward);
+    }
+
+    private HeadlessGame() {
+        // utility class
+    }
+
+    /**
+     * Plays one game from a fixed seed; the same seed always deals the same pieces.
+     */
+    public static GameResult play(BeamSearchBot bot, long seed, long maxPieces) {
+        return play(bot, seed, maxPieces, null);
+    }
+
+    /**
+     * Plays one seeded game, reporting each move to {@code observer} (may be null).
+     */
+    public static GameResult play(BeamSearchBot bot, long seed, long maxPieces, MoveObserver observer) {
+        TetrisBoard board = new TetrisBoard(TetrisBoard.BOARD_HEIGHT, TetrisBoard.BOARD_WIDTH, new Bag7BrickGenerator(seed));
+        return play(bot, board, maxPieces, observer);
+    }
+
+    /**
+     * Starts a new game on {@code board} and lets the bot play until it tops out or
+     * {@code maxPieces} pieces have been placed.
+     */
+    public static GameResult play(BeamSearchBot bot, TetrisBoard board, long maxPieces) {
+        return play(bot, board, maxPieces, null);
+    }
+
+    /**
+     * Same as {@link #play(BeamSearchBot, TetrisBoard, long)}, reporting each move to {@code observer}.
+     */
+    public static GameResult play(BeamSearchBot bot, TetrisBoard board, long maxPieces, MoveObserver observer) {
+        board.newGame();
+        BitBoard before = observer == null ? null : new BitBoard(TetrisBoard.BOARD_WIDTH, TetrisBoard.BOARD_HEIGHT);
+        ScoringEngine scoring = new ScoringEngine();
+        GameMetrics metrics = GameMetrics.global();
+        long pieces = 0;
+        long start = System.nanoTime();
+        boolean gameOver = false;
+
+        while (!gameOver && pieces < maxPieces) {
+            Placement move = bot.findBestMove(board);
+            if (move == null) {
+                break;
+            }
+            int pieceId = 0;
+            int holdId = 0;
+            if (observer != null) {
+                before.loadMatrix(board.getBoardMatrix());
+                pieceId = PieceMask.of(board.getCurrentBrick()).getId();
+                Brick hold = board.getHoldBrick();
+                holdId = hold == null ? 0 : PieceMask.of(hold).getId();
+            }
+
+            DownData data = BotPlayer.play(board, move);
+            pieces++;
+            gameOver = data.isGameOver();
+            int lines = data.getClearRow() == null ? 0 : data.getClearRow().getLinesRemoved();
+            if (metrics.isEnabled()) {
+                metrics.recordLock(lines);
+            }
+            int reward = scoring.lock(lines, data.getSpin(), board.getScore().getScoreMultiplier());
+            if (reward > 0) {
+                board.getScore().addScore(reward);
+            }
+            if (lines > 0) {
+                board.getScore().addLines(lines);
+            }
+            if (observer != null) {
+                observer.onMove(before, pieceId, holdId, move, reward);
+            }
+        }
+
+        return new GameResult(pieces,
+                board.getScore().linesProperty().get(),
+                board.getScore().scoreProperty().get(),
+                board.getScore().levelProperty().get(),
+                System.nanoTime() - start);
+    }
+}
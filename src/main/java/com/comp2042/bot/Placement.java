@@ -0,0 +1,72 @@
+package com.comp2042.bot;
+
+/**
+ * A candidate lock position for the active (or held) brick.
+ * <p>
+ * {@code rotation} is the index into the brick's shape list, and (x, y) is the board
+ * offset of the shape's top-left corner when it locks. The optional input path is the
+ * sequence of moves that reaches it from spawn (after holding, if {@code useHold} is set).
+ * </p>
+ */
+public final class Placement {
+
+    private final int pieceId;
+    private final int rotation;
+    private final int x;
+    private final int y;
+    private final boolean useHold;
+    private final BotMove[] path;
+
+    public Placement(int pieceId, int rotation, int x, int y, boolean useHold) {
+        this(pieceId, rotation, x, y, useHold, null);
+    }
+
+    public Placement(int pieceId, int rotation, int x, int y, boolean useHold, BotMove[] path) {
+        this.pieceId = pieceId;
+        this.rotation = rotation;
+        this.x = x;
+        this.y = y;
+        this.useHold = useHold;
+        this.path = path;
+    }
+
+    public int getPieceId() {
+        return pieceId;
+    }
+
+    public int getRotation() {
+        return rotation;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public boolean isUseHold() {
+        return useHold;
+    }
+
+    /**
+     * Input path from spawn to this position, or null if it was not computed.
+     */
+    public BotMove[] getPath() {
+        return path == null ? null : path.clone();
+    }
+
+    public Placement withHold(boolean hold) {
+        return new Placement(pieceId, rotation, x, y, hold, path);
+    }
+
+    public Placement withPath(BotMove[] newPath) {
+        return new Placement(pieceId, rotation, x, y, useHold, newPath);
+    }
+
+    @Override
+    public String toString() {
+        return "Placement{piece=" + pieceId + ", rot=" + rotation + ", x=" + x + ", y=" + y + (useHold ? ", hold" : "") + "}";
+    }
+}
@@ -0,0 +1,28 @@
+package com.comp2042.bot;
+
+import com.comp2042.model.BitBoard;
+import com.comp2042.model.bricks.PieceMask;
+
+import java.util.List;
+
+/**
+ * Strategy for enumerating the lock positions available to a piece.
+ * Implementations may keep scratch state, so each search thread should use its own instance.
+ */
+public interface PlacementGenerator {
+
+    /**
+     * Adds every placement of {@code piece} on {@code board} to {@code out}.
+     *
+     * @param useHold recorded on each placement so the bot knows to hold before playing it.
+     */
+    void generate(BitBoard board, PieceMask piece, boolean useHold, List<Placement> out);
+
+    /**
+     * Shortest input sequence that takes a freshly spawned piece to the given lock position,
+     * or null if this generator does not track paths.
+     */
+    default BotMove[] findPath(BitBoard board, PieceMask piece, int rotation, int x, int y) {
+        return null;
+    }
+}
@@ -0,0 +1,178 @@
+package com.comp2042.bot;
+
+import com.comp2042.model.BitBoard;
+import com.comp2042.model.RotationSystem;
+import com.comp2042.model.TetrisBoard;
+import com.comp2042.model.bricks.PieceMask;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Finds every lock position a piece can actually reach from spawn.
+ * <p>
+ * Runs a breadth-first search over (x, y, rotation) states using the same moves as
+ * {@code TetrisBoard}: left, right, soft drop and the three SRS rotations including their
+ * wall kicks. A state is a lock position when moving down from it collides. Because the search is breadth-first, the first time a state
+ * is reached is also its shortest input path, which {@link #findPath} reconstructs from the
+ * parent table. Slides, tucks under overhangs and kicked spins into cavities are all found.
+ * Lock positions of symmetric pieces that cover the same cells in a different rotation are
+ * reported once.
+ * </p>
+ * The visited set is a bitset and the queue, parent and move tables are preallocated and
+ * reused, so a search does not allocate apart from the placements it returns.
+ */
+public class ReachablePlacementGenerator implements PlacementGenerator {
+
+    private static final BotMove[] MOVES = BotMove.values();
+
+    private final RotationSystem rotationSystem = RotationSystem.srs();
+    private long[] visited = new long[0];
+    private long[] emitted = new long[0];
+    private int[] queue = new int[0];
+    private int[] parent = new int[0];
+    private byte[] via = new byte[0];
+
+    // Extra columns/rows around the board so partially-outside shape boxes stay indexable
+    private int margin;
+    private int cols;
+    private int rowsSpan;
+    private int queueLength;
+    private int words;
+
+    @Override
+    public void generate(BitBoard board, PieceMask piece, boolean useHold, List<Placement> out) {
+        search(board, piece);
+        Arrays.fill(emitted, 0, words, 0L);
+        for (int i = 0; i < queueLength; i++) {
+            int state = queue[i];
+            int rot = rotationOf(state);
+            int x = xOf(state);
+            int y = yOf(state);
+            if (!board.collides(piece, rot, x, y + 1)) {
+                continue;
+            }
+            int canonical = encode(piece.getCanonicalRotation(rot),
+                    x + piece.getCanonicalDx(rot), y + piece.getCanonicalDy(rot));
+            if (canonical >= 0) {
+                if ((emitted[canonical >>> 6] & (1L << canonical)) != 0) {
+                    continue;
+                }
+                emitted[canonical >>> 6] |= 1L << canonical;
+            }
+            out.add(new Placement(piece.getId(), rot, x, y, useHold));
+        }
+    }
+
+    @Override
+    public BotMove[] findPath(BitBoard board, PieceMask piece, int rotation, int x, int y) {
+        search(board, piece);
+        int target = encode(rotation, x, y);
+        if (target < 0 || !isVisited(target)) {
+            return null;
+        }
+        int length = 0;
+        for (int s = target; parent[s] != s; s = parent[s]) {
+            length++;
+        }
+        BotMove[] path = new BotMove[length];
+        for (int s = target; parent[s] != s; s = parent[s]) {
+            path[--length] = MOVES[via[s]];
+        }
+        return path;
+    }
+
+    private void search(BitBoard board, PieceMask piece) {
+        int rotations = piece.getRotationCount();
+        margin = piece.getRowCount(0);
+        cols = board.getWidth() + 2 * margin;
+        rowsSpan = board.getHeight() + 2 * margin;
+        int capacity = rotations * rowsSpan * cols;
+        ensureCapacity(capacity);
+        words = (capacity + 63) >>> 6;
+        Arrays.fill(visited, 0, words, 0L);
+        queueLength = 0;
+
+        if (board.collides(piece, 0, TetrisBoard.SPAWN_X, TetrisBoard.SPAWN_Y)) {
+            return;
+        }
+        int start = encode(0, TetrisBoard.SPAWN_X, TetrisBoard.SPAWN_Y);
+        markVisited(start);
+        parent[start] = start;
+        queue[queueLength++] = start;
+
+        for (int head = 0; head < queueLength; head++) {
+            int state = queue[head];
+            int rot = rotationOf(state);
+            int x = xOf(state);
+            int y = yOf(state);
+
+            tryMove(board, piece, state, rot, x - 1, y, BotMove.LEFT);
+            tryMove(board, piece, state, rot, x + 1, y, BotMove.RIGHT);
+            if (rotations > 1) {
+                tryRotate(board, piece, state, rot, x, y, RotationSystem.CW, BotMove.ROTATE_CW);
+                tryRotate(board, piece, state, rot, x, y, RotationSystem.CCW, BotMove.ROTATE_CCW);
+                tryRotate(board, piece, state, rot, x, y, RotationSystem.FLIP, BotMove.ROTATE_180);
+            }
+            tryMove(board, piece, state, rot, x, y + 1, BotMove.DOWN);
+        }
+    }
+
+    private void tryRotate(BitBoard board, PieceMask piece, int from, int rot, int x, int y, int direction, BotMove move) {
+        long result = rotationSystem.rotate(board, piece, rot, x, y, direction);
+        if (result != RotationSystem.FAILED) {
+            tryMove(board, piece, from, RotationSystem.rotationOf(result),
+                    RotationSystem.xOf(result), RotationSystem.yOf(result), move);
+        }
+    }
+
+    private void tryMove(BitBoard board, PieceMask piece, int from, int rot, int x, int y, BotMove move) {
+        int next = encode(rot, x, y);
+        if (next < 0 || isVisited(next) || board.collides(piece, rot, x, y)) {
+            return;
+        }
+        markVisited(next);
+        parent[next] = from;
+        via[next] = (byte) move.ordinal();
+        queue[queueLength++] = next;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (parent.length < capacity) {
+            visited = new long[(capacity + 63) >>> 6];
+            emitted = new long[(capacity + 63) >>> 6];
+            queue = new int[capacity];
+            parent = new int[capacity];
+            via = new byte[capacity];
+        }
+    }
+
+    private int encode(int rot, int x, int y) {
+        int cx = x + margin;
+        int cy = y + margin;
+        if (cx < 0 || cx >= cols || cy < 0 || cy >= rowsSpan) {
+            return -1;
+        }
+        return (rot * rowsSpan + cy) * cols + cx;
+    }
+
+    private int rotationOf(int state) {
+        return state / (rowsSpan * cols);
+    }
+
+    private int xOf(int state) {
+        return state % cols - margin;
+    }
+
+    private int yOf(int state) {
+        return (state / cols) % rowsSpan - margin;
+    }
+
+    private boolean isVisited(int state) {
+        return (visited[state >>> 6] & (1L << state)) != 0;
+    }
+
+    private void markVisited(int state) {
+        visited[state >>> 6] |= 1L << state;
+    }
+}
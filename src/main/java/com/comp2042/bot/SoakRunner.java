@@ -0,0 +1,35 @@
+package com.comp2042.bot;
+
+import com.comp2042.diagnostics.MetricsServer;
+import com.comp2042.model.TetrisBoard;
+
+/**
+ * Headless soak test: lets the bot play complete games without a GUI.
+ * <p>
+ * Usage: {@code SoakRunner [games] [lookahead] [budgetMillis] [maxPieces]}
+ * </p>
+ */
+public class SoakRunner {
+
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 1;
+        int lookahead = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        long budgetMillis = args.length > 2 ? Long.parseLong(args[2]) : 50;
+        long maxPieces = args.length > 3 ? Long.parseLong(args[3]) : Long.MAX_VALUE;
+        MetricsServer metrics = MetricsServer.startIfRequested();
+
+        try (BeamSearchBot bot = new BeamSearchBot(lookahead, budgetMillis)) {
+            for (int game = 1; game <= games; game++) {
+                TetrisBoard board = new TetrisBoard(TetrisBoard.BOARD_HEIGHT, TetrisBoard.BOARD_WIDTH);
+                GameResult result = HeadlessGame.play(bot, board, maxPieces);
+                System.out.printf("game %d: pieces=%d lines=%d score=%d level=%d pps=%.1f%n",
+                        game, result.getPieces(), result.getLines(), result.getScore(), result.getLevel(),
+                        result.getPiecesPerSecond());
+            }
+        } finally {
+            if (metrics != null) {
+                metrics.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package com.comp2042.bot;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Tunes {@link EvaluationWeights} with the cross-entropy method.
+ * <p>
+ * Every generation samples a population of weight vectors from a Gaussian, plays each one
+ * on the same set of seeded headless games, and refits the Gaussian to the elite fraction.
+ * All candidate games of a generation run in parallel on one {@link ForkJoinPool}; the bots
+ * share that pool for their own search so no core sits idle.
+ * </p>
+ * Progress is checkpointed to a properties file after every generation and picked up again
+ * on the next run, so long tuning jobs can be stopped and resumed. Sampling is seeded per
+ * generation, which makes a resumed run identical to an uninterrupted one.
+ * <p>
+ * Usage: {@code WeightTuner [checkpointFile] [generations] [population] [gamesPerCandidate] [maxPieces]}
+ * </p>
+ */
+public class WeightTuner {
+
+    private static final double ELITE_FRACTION = 0.25;
+    private static final double MIN_STD_DEV = 0.01;
+    private static final double INITIAL_STD_DEV = 0.5;
+    private static final int LOOKAHEAD = 1;
+    private static final int BEAM_WIDTH = 8;
+
+    /**
+     * Scores one candidate weight vector on one seeded game; higher is better.
+     */
+    interface CandidateFitness {
+        double score(double[] candidate, long gameSeed);
+    }
+
+    private final Path checkpoint;
+    private final int population;
+    private final int gamesPerCandidate;
+    private final CandidateFitness fitness;
+    private final ForkJoinPool pool;
+
+    private int generation;
+    private long seed;
+    private double[] mean;
+    private double[] stdDev;
+    private double[] best;
+    private double bestFitness = Double.NEGATIVE_INFINITY;
+
+    public WeightTuner(Path checkpoint, int population, int gamesPerCandidate, long maxPieces, ForkJoinPool pool) {
+        this(checkpoint, population, gamesPerCandidate, System.nanoTime(), (candidate, gameSeed) -> {
+            EvaluationWeights weights = EvaluationWeights.fromArray(candidate);
+            BeamSearchBot bot = new BeamSearchBot(weights, LOOKAHEAD, 0, BEAM_WIDTH, pool);
+            return HeadlessGame.play(bot, gameSeed, maxPieces).getLines();
+        }, pool);
+    }
+
+    /**
+     * Creates a tuner with a fixed sampling seed and its own fitness function, e.g. for tests.
+     */
+    WeightTuner(Path checkpoint, int population, int gamesPerCandidate, long seed,
+                CandidateFitness fitness, ForkJoinPool pool) {
+        this.checkpoint = checkpoint;
+        this.population = population;
+        this.gamesPerCandidate = gamesPerCandidate;
+        this.fitness = fitness;
+        this.pool = pool;
+
+        this.seed = seed;
+        this.mean = EvaluationWeights.DEFAULT.toArray();
+        this.stdDev = new double[EvaluationWeights.SIZE];
+        Arrays.fill(stdDev, INITIAL_STD_DEV);
+        this.best = mean.clone();
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException, ExecutionException {
+        Path checkpoint = Paths.get(args.length > 0 ? args[0] : "tuner-checkpoint.properties");
+        int generations = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+        int population = args.length > 2 ? Integer.parseInt(args[2]) : 64;
+        int games = args.length > 3 ? Integer.parseInt(args[3]) : 8;
+        long maxPieces = args.length > 4 ? Long.parseLong(args[4]) : 2000;
+
+        WeightTuner tuner = new WeightTuner(checkpoint, population, games, maxPieces, ForkJoinPool.commonPool());
+        if (tuner.loadCheckpoint()) {
+            System.out.println("Resuming from generation " + tuner.generation + " (" + checkpoint + ")");
+        }
+        tuner.run(generations);
+        System.out.println("Best weights: " + EvaluationWeights.fromArray(tuner.best) + " fitness=" + tuner.bestFitness);
+    }
+
+    /**
+     * Runs until {@code generations} generations have been completed in total, including
+     * any restored from the checkpoint.
+     */
+    public void run(int generations) throws IOException, InterruptedException, ExecutionException {
+        while (generation < generations) {
+            long start = System.nanoTime();
+            SplittableRandom random = new SplittableRandom(seed ^ (0x9E3779B97F4A7C15L * (generation + 1)));
+
+            double[][] candidates = new double[population][];
+            for (int i = 0; i < population; i++) {
+                candidates[i] = sample(random);
+            }
+            long[] gameSeeds = random.longs(gamesPerCandidate).toArray();
+            double[] scores = evaluate(candidates, gameSeeds);
+
+            Integer[] order = new Integer[population];
+            for (int i = 0; i < population; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparingDouble((Integer i) -> scores[i]).reversed());
+            refit(candidates, order);
+
+            if (scores[order[0]] > bestFitness) {
+                bestFitness = scores[order[0]];
+                best = candidates[order[0]].clone();
+            }
+            generation++;
+            saveCheckpoint();
+
+            System.out.printf("generation %d: best=%.1f elite-mean=%.1f (%.1fs) %s%n",
+                    generation, scores[order[0]], eliteMean(scores, order),
+                    (System.nanoTime() - start) / 1e9, EvaluationWeights.fromArray(mean));
+        }
+    }
+
+    private double[] sample(SplittableRandom random) {
+        double[] candidate = new double[EvaluationWeights.SIZE];
+        for (int w = 0; w < candidate.length; w++) {
+            candidate[w] = mean[w] + stdDev[w] * gaussian(random);
+        }
+        return candidate;
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        // Box-Muller; SplittableRandom has no nextGaussian
+        double u = 1.0 - random.nextDouble();
+        double v = random.nextDouble();
+        return Math.sqrt(-2.0 * Math.log(u)) * Math.cos(2.0 * Math.PI * v);
+    }
+
+    /**
+     * Plays every (candidate, seed) pair in parallel and returns the mean score per candidate;
+     * by default that is the mean lines cleared.
+     */
+    private double[] evaluate(double[][] candidates, long[] gameSeeds) throws InterruptedException, ExecutionException {
+        int games = gameSeeds.length;
+        double[] scores = pool.submit(() -> IntStream.range(0, candidates.length * games)
+                .parallel()
+                .mapToDouble(task -> fitness.score(candidates[task / games], gameSeeds[task % games]))
+                .toArray()).get();
+
+        double[] means = new double[candidates.length];
+        for (int task = 0; task < scores.length; task++) {
+            means[task / games] += scores[task];
+        }
+        for (int i = 0; i < means.length; i++) {
+            means[i] /= games;
+        }
+        return means;
+    }
+
+    private void refit(double[][] candidates, Integer[] order) {
+        int elite = Math.max(1, (int) Math.round(population * ELITE_FRACTION));
+        for (int w = 0; w < EvaluationWeights.SIZE; w++) {
+            double sum = 0;
+            for (int e = 0; e < elite; e++) {
+                sum += candidates[order[e]][w];
+            }
+            double m = sum / elite;
+            double var = 0;
+            for (int e = 0; e < elite; e++) {
+                double d = candidates[order[e]][w] - m;
+                var += d * d;
+            }
+            mean[w] = m;
+            // Keep a noise floor so the search does not collapse prematurely
+            stdDev[w] = Math.max(MIN_STD_DEV, Math.sqrt(var / elite));
+        }
+    }
+
+    private double eliteMean(double[] scores, Integer[] order) {
+        int elite = Math.max(1, (int) Math.round(population * ELITE_FRACTION));
+        double sum = 0;
+        for (int e = 0; e < elite; e++) {
+            sum += scores[order[e]];
+        }
+        return sum / elite;
+    }
+
+    int getGeneration() {
+        return generation;
+    }
+
+    double[] getMean() {
+        return mean.clone();
+    }
+
+    double[] getStdDev() {
+        return stdDev.clone();
+    }
+
+    double[] getBest() {
+        return best.clone();
+    }
+
+    double getBestFitness() {
+        return bestFitness;
+    }
+
+    /**
+     * Restores tuner state from the checkpoint file, if one exists.
+     *
+     * @return true if a checkpoint was loaded.
+     */
+    public boolean loadCheckpoint() throws IOException {
+        if (!Files.exists(checkpoint)) {
+            return false;
+        }
+        Properties props = new Properties();
+        try (Reader reader = Files.newBufferedReader(checkpoint)) {
+            props.load(reader);
+        }
+        generation = Integer.parseInt(props.getProperty("generation"));
+        seed = Long.parseLong(props.getProperty("seed"));
+        mean = parseVector(props.getProperty("mean"));
+        stdDev = parseVector(props.getProperty("stdDev"));
+        best = parseVector(props.getProperty("best"));
+        bestFitness = Double.parseDouble(props.getProperty("bestFitness"));
+        return true;
+    }
+
+    /**
+     * Writes the checkpoint to a temporary file and atomically moves it into place, so a
+     * crash mid-write never leaves a truncated checkpoint behind.
+     */
+    private void saveCheckpoint() throws IOException {
+        Properties props = new Properties();
+        props.setProperty("generation", String.valueOf(generation));
+        props.setProperty("seed", String.valueOf(seed));
+        props.setProperty("mean", formatVector(mean));
+        props.setProperty("stdDev", formatVector(stdDev));
+        props.setProperty("best", formatVector(best));
+        props.setProperty("bestFitness", String.valueOf(bestFitness));
+
+        Path parent = checkpoint.toAbsolutePath().getParent();
+        Path tmp = Files.createTempFile(parent, "tuner", ".tmp");
+        try (Writer writer = Files.newBufferedWriter(tmp)) {
+            props.store(writer, "WeightTuner checkpoint");
+        }
+        try {
+            Files.move(tmp, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp, checkpoint, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static String formatVector(double[] values) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(values[i]);
+        }
+        return sb.toString();
+    }
+
+    private static double[] parseVector(String text) {
+        return Arrays.stream(text.split(",")).mapToDouble(Double::parseDouble).toArray();
+    }
+}
@@ -0,0 +1,87 @@
+package com.comp2042.bot.dataset;
+
+import com.comp2042.bot.BeamSearchBot;
+import com.comp2042.bot.EvaluationWeights;
+import com.comp2042.bot.HeadlessGame;
+import com.comp2042.model.TetrisBoard;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Generates training data by letting the bot play seeded headless games.
+ * <p>
+ * Each worker thread plays its share of the games and streams records into its own
+ * rotating file set ({@code worker-N-00001.ttd}, ...), so there is no contention on I/O.
+ * </p>
+ * Usage: {@code TrainingDataExporter [outDir] [games] [maxPiecesPerGame] [lookahead] [maxFileMiB]}
+ */
+public class TrainingDataExporter {
+
+    private static final int BEAM_WIDTH = 8;
+
+    public static void main(String[] args) throws IOException, InterruptedException, ExecutionException {
+        Path outDir = Paths.get(args.length > 0 ? args[0] : "training-data");
+        int games = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        long maxPieces = args.length > 2 ? Long.parseLong(args[2]) : 5000;
+        int lookahead = args.length > 3 ? Integer.parseInt(args[3]) : 1;
+        long maxFileBytes = (args.length > 4 ? Long.parseLong(args[4]) : 256) * 1024 * 1024;
+
+        Files.createDirectories(outDir);
+        int workers = Runtime.getRuntime().availableProcessors();
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        long start = System.nanoTime();
+
+        List<Future<long[]>> results = new ArrayList<>();
+        for (int w = 0; w < workers; w++) {
+            int worker = w;
+            results.add(executor.submit(() -> runWorker(outDir, worker, workers, games, maxPieces, lookahead, maxFileBytes)));
+        }
+
+        long records = 0;
+        long bytes = 0;
+        for (Future<long[]> result : results) {
+            records += result.get()[0];
+            bytes += result.get()[1];
+        }
+        executor.shutdown();
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("Exported %d records (%.1f MiB, %.1f bytes/record) in %.1fs: %.0f records/s%n",
+                records, bytes / (1024.0 * 1024.0), bytes / (double) Math.max(records, 1), seconds, records / seconds);
+    }
+
+    private static long[] runWorker(Path outDir, int worker, int workers, int games, long maxPieces,
+                                    int lookahead, long maxFileBytes) throws IOException {
+        // A single-thread pool per worker: parallelism comes from running one game per core
+        ForkJoinPool pool = new ForkJoinPool(1);
+        TrainingDataWriter writer = new TrainingDataWriter(outDir, "worker-" + worker,
+                TetrisBoard.BOARD_WIDTH, TetrisBoard.BOARD_HEIGHT, maxFileBytes);
+        try (writer; BeamSearchBot bot = new BeamSearchBot(EvaluationWeights.DEFAULT, lookahead, 0, BEAM_WIDTH, pool)) {
+
+            for (int game = worker; game < games; game += workers) {
+                HeadlessGame.play(bot, game, maxPieces, (before, pieceId, holdId, move, reward) -> {
+                    try {
+                        writer.append(before, pieceId, holdId, move.isUseHold(), move.getRotation(), move.getX(), move.getY(), reward);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        } finally {
+            pool.shutdown();
+        }
+        // Read the totals once closing has flushed the last chunk
+        return new long[]{writer.getRecordsWritten(), writer.getBytesWritten()};
+    }
+}
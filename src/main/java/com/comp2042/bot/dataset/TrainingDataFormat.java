@@ -0,0 +1,48 @@
+package com.comp2042.bot.dataset;
+
+/**
+ * Layout constants for the columnar training-data files.
+ * <p>
+ * A file starts with an 8-byte header: {@code int magic, short version, byte width, byte height}.
+ * It is followed by chunks, each holding up to {@link #CHUNK_RECORDS} records stored column by column:
+ * </p>
+ * <pre>
+ * int   CHUNK_MAGIC
+ * int   recordCount
+ * int   rewardBytes
+ * byte  boards[recordCount * height * bytesPerRow]   board rows bit-packed, little-endian
+ * byte  pieceIds[recordCount]
+ * byte  holdIds[recordCount]                         0 = empty hold slot
+ * byte  flags[recordCount]                           bit 0 = placement used the hold slot
+ * byte  rotations[recordCount]
+ * byte  xs[recordCount]                              signed
+ * byte  ys[recordCount]                              signed
+ * byte  rewards[rewardBytes]                         unsigned LEB128 varints
+ * </pre>
+ * All multi-byte header fields are big-endian, as written by {@link java.nio.ByteBuffer}'s default order.
+ */
+public final class TrainingDataFormat {
+
+    public static final int FILE_MAGIC = 0x54545244;   // "TTRD"
+    public static final int CHUNK_MAGIC = 0x43484E4B;  // "CHNK"
+    public static final short VERSION = 1;
+    public static final int FILE_HEADER_BYTES = 8;
+    public static final int CHUNK_HEADER_BYTES = 12;
+    public static final int CHUNK_RECORDS = 8192;
+    public static final String FILE_SUFFIX = ".ttd";
+    public static final int FLAG_HOLD = 1;
+
+    private TrainingDataFormat() {
+        // constants only
+    }
+
+    public static int bytesPerRow(int width) {
+        return (width + 7) / 8;
+    }
+
+    /** Upper bound of the encoded size of a full chunk. */
+    public static int maxChunkBytes(int width, int height) {
+        int perRecord = height * bytesPerRow(width) + 6 + 5;
+        return CHUNK_HEADER_BYTES + CHUNK_RECORDS * perRecord;
+    }
+}
@@ -0,0 +1,214 @@
+package com.comp2042.bot.dataset;
+
+import com.comp2042.model.BitBoard;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Cursor over one or more training-data files.
+ * <p>
+ * Each file is memory-mapped and read in place: {@link #next()} only moves offsets into the
+ * current chunk's columns, and the accessors decode straight from the mapped buffer, so
+ * iterating does not allocate per record.
+ * </p>
+ * <pre>
+ * try (TrainingDataReader reader = TrainingDataReader.open(dir)) {
+ *     while (reader.next()) {
+ *         int piece = reader.getPieceId();
+ *         ...
+ *     }
+ * }
+ * </pre>
+ */
+public class TrainingDataReader implements AutoCloseable {
+
+    private final List<Path> files;
+    private int fileIndex = -1;
+    private MappedByteBuffer buffer;
+
+    private int width;
+    private int height;
+    private int bytesPerRow;
+
+    private int chunkEnd;
+    private int chunkCount;
+    private int recordInChunk;
+    private int boardsOffset;
+    private int piecesOffset;
+    private int holdsOffset;
+    private int flagsOffset;
+    private int rotationsOffset;
+    private int xsOffset;
+    private int ysOffset;
+    private int rewardPos;
+    private int reward;
+
+    public TrainingDataReader(List<Path> files) {
+        this.files = files;
+    }
+
+    /**
+     * Opens every {@code .ttd} file in a directory, in name order, or a single file.
+     */
+    public static TrainingDataReader open(Path path) throws IOException {
+        if (!Files.isDirectory(path)) {
+            return new TrainingDataReader(List.of(path));
+        }
+        List<Path> files = new ArrayList<>();
+        try (Stream<Path> stream = Files.list(path)) {
+            stream.filter(p -> p.getFileName().toString().endsWith(TrainingDataFormat.FILE_SUFFIX))
+                    .sorted()
+                    .forEach(files::add);
+        }
+        return new TrainingDataReader(files);
+    }
+
+    /**
+     * Advances to the next record.
+     *
+     * @return false once every file has been consumed.
+     */
+    public boolean next() throws IOException {
+        while (recordInChunk + 1 >= chunkCount) {
+            if (!nextChunk()) {
+                return false;
+            }
+        }
+        recordInChunk++;
+        decodeReward();
+        return true;
+    }
+
+    private boolean nextChunk() throws IOException {
+        while (buffer == null || chunkEnd >= buffer.limit()) {
+            if (!nextFile()) {
+                return false;
+            }
+        }
+        int pos = chunkEnd;
+        if (buffer.getInt(pos) != TrainingDataFormat.CHUNK_MAGIC) {
+            throw new IOException("Corrupt chunk at offset " + pos + " in " + files.get(fileIndex));
+        }
+        chunkCount = buffer.getInt(pos + 4);
+        int rewardBytes = buffer.getInt(pos + 8);
+        boardsOffset = pos + TrainingDataFormat.CHUNK_HEADER_BYTES;
+        piecesOffset = boardsOffset + chunkCount * height * bytesPerRow;
+        holdsOffset = piecesOffset + chunkCount;
+        flagsOffset = holdsOffset + chunkCount;
+        rotationsOffset = flagsOffset + chunkCount;
+        xsOffset = rotationsOffset + chunkCount;
+        ysOffset = xsOffset + chunkCount;
+        rewardPos = ysOffset + chunkCount;
+        chunkEnd = rewardPos + rewardBytes;
+        recordInChunk = -1;
+        return true;
+    }
+
+    private boolean nextFile() throws IOException {
+        if (++fileIndex >= files.size()) {
+            buffer = null;
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(files.get(fileIndex), StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.getInt(0) != TrainingDataFormat.FILE_MAGIC) {
+            throw new IOException("Not a training-data file: " + files.get(fileIndex));
+        }
+        short version = buffer.getShort(4);
+        if (version != TrainingDataFormat.VERSION) {
+            throw new IOException("Unsupported training-data version " + version);
+        }
+        width = buffer.get(6) & 0xFF;
+        height = buffer.get(7) & 0xFF;
+        bytesPerRow = TrainingDataFormat.bytesPerRow(width);
+        chunkEnd = TrainingDataFormat.FILE_HEADER_BYTES;
+        chunkCount = 0;
+        recordInChunk = -1;
+        return true;
+    }
+
+    private void decodeReward() {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get(rewardPos++);
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        reward = value;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getPieceId() {
+        return buffer.get(piecesOffset + recordInChunk);
+    }
+
+    public int getHoldId() {
+        return buffer.get(holdsOffset + recordInChunk);
+    }
+
+    public boolean isHoldUsed() {
+        return (buffer.get(flagsOffset + recordInChunk) & TrainingDataFormat.FLAG_HOLD) != 0;
+    }
+
+    public int getRotation() {
+        return buffer.get(rotationsOffset + recordInChunk);
+    }
+
+    public int getX() {
+        return buffer.get(xsOffset + recordInChunk);
+    }
+
+    public int getY() {
+        return buffer.get(ysOffset + recordInChunk);
+    }
+
+    public int getReward() {
+        return reward;
+    }
+
+    /**
+     * Bitmask of one board row of the current record (bit x = column x).
+     */
+    public int getBoardRow(int y) {
+        int pos = boardsOffset + (recordInChunk * height + y) * bytesPerRow;
+        int mask = 0;
+        for (int b = 0; b < bytesPerRow; b++) {
+            mask |= (buffer.get(pos + b) & 0xFF) << (8 * b);
+        }
+        return mask;
+    }
+
+    /**
+     * Copies the current record's board into a caller-owned bitboard.
+     */
+    public void readBoard(BitBoard into) {
+        for (int y = 0; y < height; y++) {
+            into.setRow(y, getBoardRow(y));
+        }
+    }
+
+    @Override
+    public void close() {
+        // Mapped buffers are released by the GC; dropping the reference is all we can do portably
+        buffer = null;
+        fileIndex = files.size();
+    }
+}
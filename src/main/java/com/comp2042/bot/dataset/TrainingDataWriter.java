@@ -0,0 +1,154 @@
+package com.comp2042.bot.dataset;
+
+import com.comp2042.model.BitBoard;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Streams training records into rotating columnar files (see {@link TrainingDataFormat}).
+ * <p>
+ * Records are buffered column by column in preallocated arrays, so {@link #append} never
+ * allocates. When a chunk is full it is encoded into a single direct buffer and handed to
+ * the {@link FileChannel} in one large write. Once a file would exceed {@code maxFileBytes}
+ * the writer rolls over to {@code prefix-00002.ttd}, {@code prefix-00003.ttd} and so on.
+ * </p>
+ * Not thread-safe; use one writer (and prefix) per producer thread.
+ */
+public class TrainingDataWriter implements AutoCloseable {
+
+    private final Path directory;
+    private final String prefix;
+    private final long maxFileBytes;
+    private final int width;
+    private final int height;
+    private final int bytesPerRow;
+
+    private final byte[] boards;
+    private final byte[] pieceIds = new byte[TrainingDataFormat.CHUNK_RECORDS];
+    private final byte[] holdIds = new byte[TrainingDataFormat.CHUNK_RECORDS];
+    private final byte[] flags = new byte[TrainingDataFormat.CHUNK_RECORDS];
+    private final byte[] rotations = new byte[TrainingDataFormat.CHUNK_RECORDS];
+    private final byte[] xs = new byte[TrainingDataFormat.CHUNK_RECORDS];
+    private final byte[] ys = new byte[TrainingDataFormat.CHUNK_RECORDS];
+    private final byte[] rewards = new byte[TrainingDataFormat.CHUNK_RECORDS * 5];
+    private final ByteBuffer out;
+
+    private int count;
+    private int rewardBytes;
+    private int fileIndex;
+    private FileChannel channel;
+    private long recordsWritten;
+    private long bytesWritten;
+
+    public TrainingDataWriter(Path directory, String prefix, int width, int height, long maxFileBytes) {
+        this.directory = directory;
+        this.prefix = prefix;
+        this.width = width;
+        this.height = height;
+        this.bytesPerRow = TrainingDataFormat.bytesPerRow(width);
+        this.maxFileBytes = maxFileBytes;
+        this.boards = new byte[TrainingDataFormat.CHUNK_RECORDS * height * bytesPerRow];
+        this.out = ByteBuffer.allocateDirect(TrainingDataFormat.maxChunkBytes(width, height));
+    }
+
+    /**
+     * Adds one (board, piece, hold, placement, reward) record.
+     */
+    public void append(BitBoard board, int pieceId, int holdId, boolean usedHold, int rotation, int x, int y,
+                       int reward) throws IOException {
+        int base = count * height * bytesPerRow;
+        for (int row = 0; row < height; row++) {
+            int mask = board.getRow(row);
+            for (int b = 0; b < bytesPerRow; b++) {
+                boards[base++] = (byte) (mask >>> (8 * b));
+            }
+        }
+        pieceIds[count] = (byte) pieceId;
+        holdIds[count] = (byte) holdId;
+        flags[count] = (byte) (usedHold ? TrainingDataFormat.FLAG_HOLD : 0);
+        rotations[count] = (byte) rotation;
+        xs[count] = (byte) x;
+        ys[count] = (byte) y;
+
+        int value = reward;
+        while ((value & ~0x7F) != 0) {
+            rewards[rewardBytes++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        rewards[rewardBytes++] = (byte) value;
+
+        if (++count == TrainingDataFormat.CHUNK_RECORDS) {
+            flushChunk();
+        }
+    }
+
+    public long getRecordsWritten() {
+        return recordsWritten + count;
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    private void flushChunk() throws IOException {
+        if (count == 0) {
+            return;
+        }
+        out.clear();
+        out.putInt(TrainingDataFormat.CHUNK_MAGIC);
+        out.putInt(count);
+        out.putInt(rewardBytes);
+        out.put(boards, 0, count * height * bytesPerRow);
+        out.put(pieceIds, 0, count);
+        out.put(holdIds, 0, count);
+        out.put(flags, 0, count);
+        out.put(rotations, 0, count);
+        out.put(xs, 0, count);
+        out.put(ys, 0, count);
+        out.put(rewards, 0, rewardBytes);
+        out.flip();
+
+        if (channel == null || channel.position() + out.remaining() > maxFileBytes) {
+            rollFile();
+        }
+        while (out.hasRemaining()) {
+            bytesWritten += channel.write(out);
+        }
+        recordsWritten += count;
+        count = 0;
+        rewardBytes = 0;
+    }
+
+    private void rollFile() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+        fileIndex++;
+        Path file = directory.resolve(String.format("%s-%05d%s", prefix, fileIndex, TrainingDataFormat.FILE_SUFFIX));
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+
+        ByteBuffer header = ByteBuffer.allocate(TrainingDataFormat.FILE_HEADER_BYTES);
+        header.putInt(TrainingDataFormat.FILE_MAGIC);
+        header.putShort(TrainingDataFormat.VERSION);
+        header.put((byte) width);
+        header.put((byte) height);
+        header.flip();
+        while (header.hasRemaining()) {
+            bytesWritten += channel.write(header);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flushChunk();
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+}
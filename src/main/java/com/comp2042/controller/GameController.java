@@ -1,11 +1,26 @@
 package com.comp2042.controller;
 
 import com.comp2042.controller.event.EventSource;
+import com.comp2042.controller.event.EventType;
+import com.comp2042.controller.event.GameEventBus;
+import com.comp2042.controller.event.GameEventType;
 import com.comp2042.controller.event.MoveEvent;
+import com.comp2042.diagnostics.GameMetrics;
+import com.comp2042.diagnostics.GravityTickEvent;
+import com.comp2042.diagnostics.InputHandledEvent;
+import com.comp2042.diagnostics.PerfMetrics;
+import com.comp2042.diagnostics.PieceLockEvent;
 import com.comp2042.model.*;
+import com.comp2042.model.bricks.Bag7BrickGenerator;
+import com.comp2042.model.bricks.PieceSet;
+import com.comp2042.stats.GameStatsTracker;
+import com.comp2042.stats.StatsLog;
 import com.comp2042.view.GuiController;
 import com.comp2042.view.SoundManager;
 
+import java.nio.file.Paths;
+import java.util.concurrent.ThreadLocalRandom;
+
 /**
  * The central controller in the MVC architecture.
  * <p>
@@ -13,23 +28,68 @@ import com.comp2042.view.SoundManager;
  * <ul>
  * <li>Handling input events from the View (via {@link InputEventListener}).</li>
  * <li>Updating the Model ({@link Board}).</li>
- * <li>Managing high-level game rules like Scoring, Leveling, and Audio triggers.</li>
+ * <li>Managing high-level game rules like Scoring and Leveling.</li>
+ * <li>Publishing what happened (locks, clears, level ups, game over) on a {@link GameEventBus}.</li>
  * </ul>
+ * The view, sound and high-score persistence subscribe to the bus and are drained once per
+ * frame, so game logic never calls into UI or audio code directly.
+ * <p>
+ * Every game is dealt from a random seed, and the seed, each input that reaches the board
+ * and each lock are appended to a {@link GameJournal}, with a snapshot every
+ * {@value #SNAPSHOT_EVERY_PIECES} pieces to keep it short. After a crash the game can be
+ * rebuilt from it with {@link JournalRecovery} and picked up again with {@link #resume}.
+ * Pausing or leaving the game also saves it to a {@link SaveGameStore}.
+ * </p>
+ * <p>
+ * A {@link GameStatsTracker} counts pieces, clears, holds and time played; when the game
+ * ends, its record is appended to the {@link StatsLog} by a {@link GameStatsRecorder}.
+ * </p>
  */
 public class GameController implements InputEventListener {
 
-    private Board board = new TetrisBoard(TetrisBoard.BOARD_HEIGHT, TetrisBoard.BOARD_WIDTH);
+    private static final int EVENT_BUFFER_SIZE = 1024;
+    private static final int SNAPSHOT_EVERY_PIECES = 100;
+    private static final MoveEvent GRAVITY = new MoveEvent(EventType.DOWN, EventSource.THREAD);
+
+    private final PieceSet pieceSet = PieceSet.loadOrStandard(Paths.get("pieces.properties"));
+    private Board board = new TetrisBoard(TetrisBoard.BOARD_HEIGHT, TetrisBoard.BOARD_WIDTH,
+            new Bag7BrickGenerator(pieceSet));
 
     private final GuiController viewGuiController;
     private final SoundManager soundManager;
     private final ScoreManager scoreManager;
+    private final SaveGameStore saveGameStore = new SaveGameStore();
+    private final GameStatsTracker statsTracker = new GameStatsTracker();
+    private final ScoringEngine scoringEngine = new ScoringEngine(ScoreTable.loadOrDefault(Paths.get("scoring.properties")));
+    private final LevelTable levelTable = LevelTable.loadOrDefault(Paths.get("levels.properties"));
+    private final GravityClock gravityClock = new GravityClock(levelTable);
+    private final GameEventBus eventBus = new GameEventBus(EVENT_BUFFER_SIZE);
+    private final PerfMetrics perfMetrics = PerfMetrics.global();
+    private final GameMetrics gameMetrics = GameMetrics.global();
+    private final GameJournal journal = GameJournal.fromSystemProperties();
+    private boolean gameOver;
+    private int piecesSinceSnapshot;
 
     public GameController(GuiController c) {
+        this(c, new SoundManager(), new ScoreManager());
+    }
+
+    /**
+     * Wires the game to an already loaded view, sound manager and score store, so a
+     * preloaded scene can be reused without reloading audio or the high score file.
+     */
+    public GameController(GuiController c, SoundManager soundManager, ScoreManager scoreManager) {
         viewGuiController = c;
-        this.soundManager = new SoundManager();
-        this.scoreManager = new ScoreManager();
+        this.soundManager = soundManager;
+        this.scoreManager = scoreManager;
+        board.getScore().setLevelTable(levelTable);
         board.createNewBrick();
         viewGuiController.setEventListener(this);
+        eventBus.subscribe(viewGuiController);
+        eventBus.subscribe(soundManager);
+        eventBus.subscribe(new HighScoreRecorder(scoreManager));
+        eventBus.subscribe(new GameStatsRecorder(statsTracker, new StatsLog(StatsLog.DEFAULT_DIR)));
+        viewGuiController.setEventBus(eventBus);
         viewGuiController.initGameView(board.getBoardMatrix(), board.getViewData());
         viewGuiController.setHighScore(scoreManager.getHighScore());
 
@@ -37,7 +97,7 @@ public class GameController implements InputEventListener {
         viewGuiController.bindGameStats(board.getScore().scoreProperty(), board.getScore().levelProperty(), board.getScore().linesProperty());
 
         if (board instanceof TetrisBoard) {
-            viewGuiController.showHoldPiece(((TetrisBoard) board).getHoldBrickShape());
+            eventBus.publish(GameEventType.HOLD, ((TetrisBoard) board).getHoldPieceId());
         }
     }
 
@@ -53,73 +113,212 @@ public class GameController implements InputEventListener {
      */
     @Override
     public DownData onDownEvent(MoveEvent event) {
+        if (gameOver) {
+            return new DownData(null, board.getViewData(), true);
+        }
+        GravityTickEvent tick = new GravityTickEvent();
+        tick.begin();
         boolean fromUser = event.getEventSource() == EventSource.USER;
+        journal(fromUser ? GameJournal.SOFT_DROP : GameJournal.GRAVITY);
+        int pieceId = currentPieceId();
+        boolean timed = perfMetrics.isEnabled() || gameMetrics.isEnabled();
+        long start = timed ? System.nanoTime() : 0;
         DownData downData = board.stepDown(fromUser);
+        if (timed) {
+            long elapsed = System.nanoTime() - start;
+            if (perfMetrics.isEnabled()) {
+                perfMetrics.getSimulationTime().record(elapsed);
+            }
+            if (gameMetrics.isEnabled()) {
+                gameMetrics.recordTick(elapsed);
+            }
+        }
 
-        // NEW: Manually add score for soft drop if user pressed down and piece moved (no collision yet)
+        // Soft drop points for each row the user moved the piece down
         if (fromUser && downData.getClearRow() == null && !downData.isGameOver()) {
-            board.getScore().addScore(1);
+            board.getScore().addScore(scoringEngine.softDrop(downData.getDropDistance()));
         }
 
-        viewGuiController.refreshGameBackground(board.getBoardMatrix());
-
-        if (downData.isGameOver()) {
-            viewGuiController.gameOver();
-            soundManager.playGameOver();
-            handleGameOver();
+        handleLock(downData, pieceId);
+        if (tick.shouldCommit()) {
+            tick.softDrop = fromUser;
+            tick.locked = downData.getClearRow() != null;
+            tick.stackHeight = stackHeight();
+            tick.commit();
         }
-        handleClearRow(downData);
         return downData;
     }
 
-    // For hard drop, we can just give a fixed bonus for simplicity
+    /**
+     * Runs gravity for one frame, at the current level's speed from the {@link LevelTable}.
+     * <p>
+     * The piece falls the rows that are due but stops where it lands; it is locked once it
+     * has rested there for the level's lock delay. Each row is a separate gravity step, so
+     * the journal replays it exactly.
+     * </p>
+     *
+     * @param elapsedNanos time since the previous frame.
+     * @return the result of the last step, or null if the piece did not move.
+     */
+    @Override
+    public DownData onGravityFrame(long elapsedNanos) {
+        if (gameOver || !(board instanceof TetrisBoard tBoard)) {
+            return null;
+        }
+        int rows = gravityClock.advance(elapsedNanos, board.getScore().levelProperty().get(), tBoard.isGrounded());
+        DownData last = null;
+        for (int i = 0; i < rows; i++) {
+            last = onDownEvent(GRAVITY);
+            if (last.getClearRow() != null || last.isGameOver() || tBoard.isGrounded()) {
+                break;
+            }
+        }
+        return last;
+    }
+
+    // Hard drop points scale with the number of rows dropped
     public DownData onHardDropEvent(MoveEvent event) {
+        if (gameOver) {
+            return new DownData(null, board.getViewData(), true);
+        }
+        InputHandledEvent input = new InputHandledEvent();
+        input.begin();
         boolean fromUser = event.getEventSource() == EventSource.USER;
+        journal(fromUser ? GameJournal.HARD_DROP : GameJournal.AUTO_DROP);
+        int pieceId = currentPieceId();
         DownData downData = board.hardDrop(fromUser);
 
-        // Fixed bonus for hard drop (since we don't calculate exact rows anymore)
         if (fromUser) {
-            board.getScore().addScore(20);
+            board.getScore().addScore(scoringEngine.hardDrop(downData.getDropDistance()));
         }
 
-        viewGuiController.refreshGameBackground(board.getBoardMatrix());
-        if (downData.isGameOver()) {
-            viewGuiController.gameOver();
-            soundManager.playGameOver();
-            handleGameOver();
-        }
-        handleClearRow(downData);
+        handleLock(downData, pieceId);
+        commitInput(input, event);
         return downData;
     }
 
     @Override
     public ViewData onLeftEvent(MoveEvent event) {
-        board.moveBrickLeft();
+        InputHandledEvent input = new InputHandledEvent();
+        input.begin();
+        if (!gameOver) {
+            journal(GameJournal.LEFT);
+            board.moveBrickLeft();
+        }
+        commitInput(input, event);
         return board.getViewData();
     }
 
     @Override
     public ViewData onRightEvent(MoveEvent event) {
-        board.moveBrickRight();
+        InputHandledEvent input = new InputHandledEvent();
+        input.begin();
+        if (!gameOver) {
+            journal(GameJournal.RIGHT);
+            board.moveBrickRight();
+        }
+        commitInput(input, event);
         return board.getViewData();
     }
 
     @Override
     public ViewData onRotateEvent(MoveEvent event) {
-        board.rotateLeftBrick();
+        if (gameOver) {
+            return board.getViewData();
+        }
+        InputHandledEvent input = new InputHandledEvent();
+        input.begin();
+        switch (event.getEventType()) {
+            case ROTATE_CCW -> {
+                journal(GameJournal.ROTATE_CCW);
+                board.rotateLeftBrick();
+            }
+            case ROTATE_180 -> {
+                journal(GameJournal.ROTATE_180);
+                board.rotate180Brick();
+            }
+            default -> {
+                journal(GameJournal.ROTATE_CW);
+                board.rotateRightBrick();
+            }
+        }
+        commitInput(input, event);
         return board.getViewData();
     }
 
 
     @Override
     public void createNewGame() {
-        board.newGame();
+        if (board instanceof TetrisBoard tBoard) {
+            long seed = ThreadLocalRandom.current().nextLong();
+            tBoard.newGame(seed);
+            if (journal != null) {
+                journal.startGame(seed, pieceSet);
+            }
+        } else {
+            board.newGame();
+        }
+        scoringEngine.reset();
+        gravityClock.reset();
+        gameOver = false;
+        piecesSinceSnapshot = 0;
+        statsTracker.start(System.nanoTime());
         viewGuiController.refreshGameBackground(board.getBoardMatrix());
         viewGuiController.setHighScore(scoreManager.getHighScore());
 
         if (board instanceof TetrisBoard) {
-            viewGuiController.showHoldPiece(((TetrisBoard) board).getHoldBrickShape());
+            eventBus.publish(GameEventType.HOLD, ((TetrisBoard) board).getHoldPieceId());
+        }
+    }
+
+    /**
+     * Carries on a game recovered from the journal, in place of the one being played.
+     * The journal starts over from this state, so a second crash resumes from here too.
+     */
+    public void resume(GameSnapshot snapshot) {
+        TetrisBoard tBoard = (TetrisBoard) board;
+        snapshot.restore(tBoard, scoringEngine);
+        gravityClock.reset();
+        gameOver = false;
+        piecesSinceSnapshot = 0;
+        // Only the rest of a resumed game is counted; what came before the crash is not known
+        statsTracker.start(System.nanoTime());
+        if (journal != null) {
+            journal.snapshot(snapshot);
         }
+        viewGuiController.refreshGameBackground(board.getBoardMatrix());
+        eventBus.publish(GameEventType.HOLD, tBoard.getHoldPieceId());
+        viewGuiController.showBrick(board.getViewData());
+    }
+
+    /**
+     * Stops the play clock and saves the game while it is paused; starts the clock again
+     * when it carries on.
+     */
+    @Override
+    public void setPaused(boolean paused) {
+        if (paused) {
+            statsTracker.pause(System.nanoTime());
+            saveGame();
+        } else {
+            statsTracker.unpause(System.nanoTime());
+        }
+    }
+
+    /**
+     * Saves the game unless it is over. The same snapshot compacts the journal, since
+     * nothing before it is needed any more.
+     */
+    public void saveGame() {
+        if (gameOver || !(board instanceof TetrisBoard tBoard)) {
+            return;
+        }
+        GameSnapshot snapshot = GameSnapshot.capture(tBoard, scoringEngine);
+        saveGameStore.save(snapshot);
+        if (journal != null) {
+            journal.snapshot(snapshot);
+        }
+        piecesSinceSnapshot = 0;
     }
 
     /**
@@ -169,75 +368,159 @@ public class GameController implements InputEventListener {
         return true;
     }
 
+    @Override
+    public int[][] getBoardMatrix() {
+        return board.getBoardMatrix();
+    }
+
+    /**
+     * Publishes the consequences of a drop that locked the brick: the lock itself, any
+     * score, the board change, and either the next spawn or the end of the game.
+     */
+    private void handleLock(DownData downData, int pieceId) {
+        if (downData.getClearRow() == null) {
+            return;
+        }
+        PieceLockEvent lock = new PieceLockEvent();
+        lock.begin();
+        if (gameMetrics.isEnabled()) {
+            gameMetrics.recordLock(downData.getClearRow().getLinesRemoved());
+        }
+        eventBus.publish(GameEventType.LOCK, pieceId, downData.getSpin(), downData.getClearRow().getLinesRemoved(), 0);
+        handleClearRow(downData);
+        journalLock(pieceId, downData.getClearRow().getLinesRemoved());
+        statsTracker.onLock(downData.getClearRow().getLinesRemoved(), downData.getSpin(), stackHeight());
+        eventBus.publish(GameEventType.BOARD_CHANGED);
+        if (downData.isGameOver()) {
+            handleGameOver();
+        }
+        if (lock.shouldCommit()) {
+            lock.pieceId = pieceId;
+            lock.linesCleared = downData.getClearRow().getLinesRemoved();
+            lock.spin = downData.getSpin();
+            lock.combo = scoringEngine.getCombo();
+            lock.stackHeight = stackHeight();
+            lock.commit();
+        }
+    }
+
+    private void journal(int action) {
+        if (journal != null) {
+            journal.input(action);
+        }
+    }
+
     /**
-     * Processes scoring and leveling logic when rows are cleared.
+     * Journals a lock with the score it left, and snapshots the game every so often, or as
+     * soon as the journal has had to drop records, so the journal never grows far past it.
+     */
+    private void journalLock(int pieceId, int linesRemoved) {
+        if (journal == null) {
+            return;
+        }
+        journal.lock(pieceId, linesRemoved, board.getScore().scoreProperty().get());
+        if (++piecesSinceSnapshot >= SNAPSHOT_EVERY_PIECES || journal.isDropping()) {
+            if (board instanceof TetrisBoard tBoard) {
+                journal.snapshot(GameSnapshot.capture(tBoard, scoringEngine));
+            }
+            piecesSinceSnapshot = 0;
+        }
+    }
+
+    private int currentPieceId() {
+        return board instanceof TetrisBoard tBoard ? tBoard.getCurrentPieceId() : 0;
+    }
+
+    private int stackHeight() {
+        return board instanceof TetrisBoard tBoard ? tBoard.getOccupancy().stackHeight() : 0;
+    }
+
+    /**
+     * Fills in and commits a flight recorder event for a player input. The fields are only
+     * computed when a recording has the event enabled.
+     */
+    private void commitInput(InputHandledEvent input, MoveEvent event) {
+        if (input.shouldCommit()) {
+            input.action = event.getEventType().name();
+            input.stackHeight = stackHeight();
+            input.commit();
+        }
+    }
+
+    /**
+     * Processes scoring and leveling logic when a brick locks.
      * <p>
-     * Calculates the score bonus based on the current level using {@link ScoringRules},
-     * updates the {@link Score} model, and triggers visual/audio feedback.
+     * Scores the lock with the {@link ScoringEngine} (line clears, T-spins, combos and
+     * back-to-back), updates the {@link Score} model, and publishes the result.
+     * Every lock is passed to the engine so that combos end when a brick clears nothing.
      * </p>
      *
      * @param downData The data returned from the board after a drop operation.
      */
     private void handleClearRow(DownData downData) {
-        if (downData.getClearRow() != null
-                && downData.getClearRow().getLinesRemoved() > 0) {
-
-            int linesRemoved = downData.getClearRow().getLinesRemoved();
-            int currentLevel = board.getScore().levelProperty().get(); // Get Level
-
-            // 1. Calculate Score Bonus using Level Multiplier
-            // UPDATE: Pass currentLevel to the rules
-            int bonus = ScoringRules.lineClearBonus(linesRemoved, currentLevel);
-
-            board.getScore().addScore(bonus);
-
-            // 2. Update Lines and Level
-            int oldLevel = board.getScore().levelProperty().get();
-            board.getScore().addLines(linesRemoved);
-            int newLevel = board.getScore().levelProperty().get();
-
-            // 3. Audio & Visuals
-            if (newLevel > oldLevel) {
-                soundManager.playLevelUp();
-                viewGuiController.showScoreBonus("LEVEL " + newLevel);
-            } else {
-                soundManager.playClearLine();
-                viewGuiController.showScoreBonus("+" + bonus);
-            }
+        if (downData.getClearRow() == null) {
+            return;
+        }
+        int linesRemoved = downData.getClearRow().getLinesRemoved();
+
+        // 1. Score the lock (level multiplier, spins, combo and back-to-back)
+        int bonus = scoringEngine.lock(linesRemoved, downData.getSpin(), board.getScore().getScoreMultiplier());
+        board.getScore().addScore(bonus);
+
+        if (bonus > 0) {
+            eventBus.publish(GameEventType.LINE_CLEAR, linesRemoved, bonus, downData.getSpin(), scoringEngine.getCombo());
+        }
+        if (linesRemoved == 0) {
+            return;
+        }
+
+        // 2. Update Lines and Level
+        int oldLevel = board.getScore().levelProperty().get();
+        board.getScore().addLines(linesRemoved);
+        int newLevel = board.getScore().levelProperty().get();
+        if (newLevel > oldLevel) {
+            eventBus.publish(GameEventType.LEVEL_UP, newLevel);
         }
     }
 
     @Override
     public ViewData onHoldEvent(MoveEvent event) {
-        TetrisBoard tBoard = (TetrisBoard) board;
+        InputHandledEvent input = new InputHandledEvent();
+        input.begin();
+        holdBrick();
+        commitInput(input, event);
 
-        boolean gameOver = tBoard.holdCurrentBrick();
+        // active piece has changed (new or swapped), so return its view
+        return board.getViewData();
+    }
 
-        // update HOLD box
-        int[][] holdShape = tBoard.getHoldBrickShape();
-        viewGuiController.showHoldPiece(holdShape);
+    private void holdBrick() {
+        TetrisBoard tBoard = (TetrisBoard) board;
+        if (gameOver || tBoard.isHoldUsedThisTurn()) {
+            return;
+        }
 
-        if (gameOver) {
-            viewGuiController.gameOver();
-            soundManager.playGameOver();
+        journal(GameJournal.HOLD);
+        statsTracker.onHold();
+        boolean toppedOut = tBoard.holdCurrentBrick();
+        eventBus.publish(GameEventType.HOLD, tBoard.getHoldPieceId());
+
+        if (toppedOut) {
             handleGameOver();
         }
-
-        // active piece has changed (new or swapped), so return its view
-        return board.getViewData();
     }
 
-    // Helper method to handle game over logic centrally
+    // Helper method to handle game over logic centrally; published once per game
     private void handleGameOver() {
-        viewGuiController.gameOver();
-        soundManager.playGameOver();
-
-        // NEW: Check and Save High Score
-        int currentScore = board.getScore().scoreProperty().get();
-        if (scoreManager.isNewHighScore(currentScore)) {
-            scoreManager.saveHighScore(currentScore);
-            viewGuiController.showScoreBonus("NEW HIGH SCORE!");
-            viewGuiController.setHighScore(scoreManager.getHighScore());
+        gameOver = true;
+        if (journal != null) {
+            journal.gameOver();
         }
+        saveGameStore.delete();
+        int currentScore = board.getScore().scoreProperty().get();
+        statsTracker.finish(currentScore, board.getScore().levelProperty().get(), System.nanoTime(),
+                System.currentTimeMillis());
+        boolean newHighScore = scoreManager.isNewHighScore(currentScore);
+        eventBus.publish(GameEventType.GAME_OVER, currentScore, newHighScore ? 1 : 0, 0, 0);
     }
 }
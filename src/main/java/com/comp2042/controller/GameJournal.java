@@ -0,0 +1,422 @@
+package com.comp2042.controller;
+
+import com.comp2042.model.GameSnapshot;
+import com.comp2042.model.bricks.PieceSet;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Append-only record of the running game, so it survives a crash or power cut.
+ * <p>
+ * The game thread appends small binary records: the seed a game was dealt from, every
+ * input that reached the board, each lock with the score after it, and the end of the game.
+ * Appending only copies bytes into a preallocated ring buffer and publishes them with a
+ * release store, so it never waits for the disk. A background thread drains the ring and
+ * writes everything it finds in one go, then forces it to disk once for the whole batch
+ * (group commit). It wakes when the sync interval has passed or when the game thread has
+ * locked the configured number of pieces since the last sync, whichever comes first.
+ * </p>
+ * <p>
+ * A game-start or snapshot record makes everything before it redundant, so the writer
+ * starts a new file with it and moves that over the old journal in one atomic rename. The
+ * game controller snapshots every so often, which keeps the journal, and the replay on
+ * restart, short. A finished game leaves nothing to resume, so its journal is deleted.
+ * If the disk stalls long enough for the ring to fill, records are dropped until the next
+ * snapshot fits; the file on disk then ends early but is still a valid prefix of the game.
+ * The end of a game is never dropped: if it does not fit either, the writer is told where
+ * in the ring the game ended and deletes the journal when it gets there.
+ * </p>
+ * <p>
+ * Record layout, after a header of {@link #MAGIC} and {@link #VERSION}:
+ * {@code START seed:i64 pieceSet:i64}, {@code INPUT action:u8}, {@code LOCK piece:u8 lines:u8 score:i32},
+ * {@code GAME_OVER}, {@code SNAPSHOT length:u16 bytes}. {@link JournalRecovery} reads it back.
+ * </p>
+ */
+public final class GameJournal implements AutoCloseable {
+
+    public static final Path DEFAULT_PATH = Paths.get("game.journal");
+
+    static final int MAGIC = 0x544A4E4C;
+    static final int VERSION = 3;
+    static final int HEADER_BYTES = 5;
+
+    static final byte START = 1;
+    static final byte INPUT = 2;
+    static final byte LOCK = 3;
+    static final byte GAME_OVER = 4;
+    static final byte SNAPSHOT = 5;
+
+    // Input actions; replayed by JournalRecovery with the same rules as GameController
+    static final int LEFT = 0;
+    static final int RIGHT = 1;
+    static final int ROTATE_CW = 2;
+    static final int ROTATE_CCW = 3;
+    static final int ROTATE_180 = 4;
+    static final int SOFT_DROP = 5;
+    static final int GRAVITY = 6;
+    static final int HARD_DROP = 7;
+    static final int AUTO_DROP = 8;
+    static final int HOLD = 9;
+
+    private static final int RING_BYTES = 1 << 16;
+    private static final int RING_MASK = RING_BYTES - 1;
+
+    private final Path path;
+    private final Path tempPath;
+    private final long syncIntervalNanos;
+    private final int syncPieces;
+    private final byte[] ring = new byte[RING_BYTES];
+    /** Bytes appended so far; written only by the game thread. */
+    private final AtomicLong written = new AtomicLong();
+    /** Bytes taken out of the ring so far; written only by the writer thread. */
+    private final AtomicLong drained = new AtomicLong();
+    /** Ring position a game ended at whose GAME_OVER record did not fit, or -1. */
+    private final AtomicLong finishAt = new AtomicLong(-1);
+    private final Thread writer;
+    private final ByteBuffer batch = ByteBuffer.allocate(RING_BYTES + HEADER_BYTES);
+    private final ByteArrayOutputStream snapshotBytes = new ByteArrayOutputStream(512);
+
+    private volatile boolean running = true;
+    private boolean dropping;
+    private long cursor;
+    private int piecesSinceSync;
+    private FileChannel channel;
+    private boolean failed;
+
+    /**
+     * Opens the journal and starts its writer thread. Nothing is written until a game starts.
+     *
+     * @param syncIntervalMillis longest time appended records wait before being forced to disk.
+     * @param syncPieces         locks after which the writer is woken early; 0 to sync on the interval only.
+     */
+    public GameJournal(Path path, long syncIntervalMillis, int syncPieces) {
+        this.path = path;
+        this.tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+        this.syncIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, syncIntervalMillis));
+        this.syncPieces = syncPieces;
+        writer = new Thread(this::run, "game-journal");
+        writer.setDaemon(true);
+        writer.start();
+        // Whatever is still in the ring when the game is closed normally reaches the disk
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close, "game-journal-close"));
+    }
+
+    /**
+     * A journal at {@link #DEFAULT_PATH}, syncing every {@code -Dtetris.journal.syncMillis}
+     * (default 200) or every {@code -Dtetris.journal.syncPieces} locks (default 4).
+     * {@code -Dtetris.journal=false} turns journaling off and returns null.
+     */
+    public static GameJournal fromSystemProperties() {
+        if (!isEnabled()) {
+            return null;
+        }
+        return new GameJournal(DEFAULT_PATH, Long.getLong("tetris.journal.syncMillis", 200),
+                Integer.getInteger("tetris.journal.syncPieces", 4));
+    }
+
+    /**
+     * Whether games are journaled, and so whether there can be one to resume.
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty("tetris.journal", "true"));
+    }
+
+    // ---- game thread ----
+
+    /**
+     * A new game dealt from {@code seed} with the standard pieces.
+     */
+    public void startGame(long seed) {
+        startGame(seed, PieceSet.STANDARD);
+    }
+
+    /**
+     * A new game dealt from {@code seed} and {@code pieces}. Starts a fresh journal file.
+     */
+    public void startGame(long seed, PieceSet pieces) {
+        if (reserve(17, true)) {
+            put(START);
+            putLong(seed);
+            putLong(pieces.fingerprint());
+            publish();
+        }
+    }
+
+    /**
+     * An input that reached the board, one of the action constants.
+     */
+    public void input(int action) {
+        if (reserve(2, false)) {
+            put(INPUT);
+            put((byte) action);
+            publish();
+        }
+    }
+
+    /**
+     * A piece locked, with the score after the lock was scored; replay checks it matches.
+     */
+    public void lock(int pieceId, int lines, int score) {
+        if (reserve(7, false)) {
+            put(LOCK);
+            put((byte) pieceId);
+            put((byte) lines);
+            putInt(score);
+            publish();
+        }
+        if (syncPieces > 0 && ++piecesSinceSync >= syncPieces) {
+            piecesSinceSync = 0;
+            LockSupport.unpark(writer);
+        }
+    }
+
+    /**
+     * The game ended. Recorded even while other records are being dropped, since a journal
+     * left behind would offer to resume a finished game.
+     */
+    public void gameOver() {
+        if (reserve(1, true)) {
+            put(GAME_OVER);
+            publish();
+        } else {
+            finishAt.setRelease(written.get());
+        }
+        LockSupport.unpark(writer);
+    }
+
+    /**
+     * The full game state. Replaces everything journaled before it.
+     */
+    public void snapshot(GameSnapshot snapshot) {
+        snapshotBytes.reset();
+        try {
+            snapshot.writeTo(new DataOutputStream(snapshotBytes));
+        } catch (IOException e) {
+            // ByteArrayOutputStream does not throw
+            throw new UncheckedIOException(e);
+        }
+        int length = snapshotBytes.size();
+        if (reserve(3 + length, true)) {
+            put(SNAPSHOT);
+            put((byte) (length >>> 8));
+            put((byte) length);
+            byte[] bytes = snapshotBytes.toByteArray();
+            for (byte b : bytes) {
+                put(b);
+            }
+            publish();
+        }
+    }
+
+    /**
+     * Whether records are being dropped because the writer has fallen behind. A snapshot
+     * ends this as soon as it fits in the ring.
+     */
+    public boolean isDropping() {
+        return dropping;
+    }
+
+    /**
+     * Makes room for one record. A record that starts a new file or ends the game may end a
+     * dropping spell; others are discarded while it lasts, so the journal on disk stays a
+     * clean prefix.
+     */
+    private boolean reserve(int bytes, boolean endsDropping) {
+        if (dropping && !endsDropping) {
+            return false;
+        }
+        long free = RING_BYTES - (written.get() - drained.getAcquire());
+        if (bytes > free) {
+            dropping = true;
+            return false;
+        }
+        dropping = false;
+        cursor = written.get();
+        return true;
+    }
+
+    private void put(byte value) {
+        ring[(int) (cursor++ & RING_MASK)] = value;
+    }
+
+    private void putInt(int value) {
+        put((byte) (value >>> 24));
+        put((byte) (value >>> 16));
+        put((byte) (value >>> 8));
+        put((byte) value);
+    }
+
+    private void putLong(long value) {
+        putInt((int) (value >>> 32));
+        putInt((int) value);
+    }
+
+    private void publish() {
+        written.setRelease(cursor);
+    }
+
+    // ---- writer thread ----
+
+    private void run() {
+        while (running) {
+            LockSupport.parkNanos(syncIntervalNanos);
+            drain();
+        }
+    }
+
+    /**
+     * Writes out everything appended so far and forces it to disk. Runs on the writer
+     * thread, or on the closing thread once the writer has stopped.
+     */
+    private synchronized void drain() {
+        long end = written.getAcquire();
+        long finish = finishAt.getAcquire();
+        long position = drained.get();
+        boolean finishing = finish >= position && finish <= end;
+        if (position == end && !finishing) {
+            return;
+        }
+        batch.clear();
+        try {
+            while (position < end) {
+                if (finishing && position == finish) {
+                    finishGame();
+                    finishing = false;
+                }
+                byte type = ring[(int) (position & RING_MASK)];
+                int length = recordLength(type, position);
+                if (type == START || type == SNAPSHOT) {
+                    // Everything before this record is superseded
+                    batch.clear();
+                    startFile(position, length);
+                } else {
+                    copy(position, length);
+                    if (type == GAME_OVER) {
+                        finishGame();
+                    }
+                }
+                position += length;
+            }
+            if (finishing) {
+                finishGame();
+            }
+            if (channel != null && batch.position() > 0) {
+                batch.flip();
+                while (batch.hasRemaining()) {
+                    channel.write(batch);
+                }
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            reportFailure(e);
+        }
+        if (finish >= 0 && finish <= end) {
+            finishAt.compareAndSet(finish, -1);
+        }
+        drained.setRelease(end);
+    }
+
+    private int recordLength(byte type, long position) {
+        return switch (type) {
+            case START -> 17;
+            case INPUT -> 2;
+            case LOCK -> 7;
+            case GAME_OVER -> 1;
+            case SNAPSHOT -> 3 + ((ring[(int) ((position + 1) & RING_MASK)] & 0xFF) << 8
+                    | (ring[(int) ((position + 2) & RING_MASK)] & 0xFF));
+            default -> throw new IllegalStateException("Unknown journal record " + type);
+        };
+    }
+
+    private void copy(long position, int length) {
+        for (int i = 0; i < length; i++) {
+            batch.put(ring[(int) ((position + i) & RING_MASK)]);
+        }
+    }
+
+    /**
+     * Writes a new journal holding just this record and moves it over the old one.
+     */
+    private void startFile(long position, int length) throws IOException {
+        closeChannel();
+        ByteBuffer first = ByteBuffer.allocate(HEADER_BYTES + length);
+        first.putInt(MAGIC).put((byte) VERSION);
+        for (int i = 0; i < length; i++) {
+            first.put(ring[(int) ((position + i) & RING_MASK)]);
+        }
+        first.flip();
+        try (FileChannel temp = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (first.hasRemaining()) {
+                temp.write(first);
+            }
+            temp.force(true);
+        }
+        Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * The game is over, so there is nothing left to resume.
+     */
+    private void finishGame() throws IOException {
+        batch.clear();
+        closeChannel();
+        Files.deleteIfExists(path);
+    }
+
+    private void closeChannel() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private void reportFailure(IOException e) {
+        if (!failed) {
+            failed = true;
+            System.err.println("Game journal could not be written: " + e.getMessage());
+        }
+        try {
+            closeChannel();
+        } catch (IOException ignored) {
+            // already reported
+        }
+    }
+
+    /**
+     * Stops the writer after writing out and syncing whatever is still in the ring.
+     */
+    @Override
+    public void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(2));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        drain();
+        try {
+            closeChannel();
+        } catch (IOException e) {
+            reportFailure(e);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.comp2042.controller;
+
+import com.comp2042.controller.event.GameEventSubscriber;
+import com.comp2042.controller.event.GameEventType;
+import com.comp2042.stats.GameRecord;
+import com.comp2042.stats.GameStatsTracker;
+import com.comp2042.stats.StatsLog;
+
+import java.io.IOException;
+
+/**
+ * Persistence subscriber: appends each finished game's record to the {@link StatsLog}.
+ * <p>
+ * Like {@link HighScoreRecorder}, it runs when the event bus is drained, so the file write
+ * never happens inside game logic. The record itself was built by the game's
+ * {@link GameStatsTracker} when the game ended.
+ * </p>
+ */
+public class GameStatsRecorder implements GameEventSubscriber {
+
+    private final GameStatsTracker tracker;
+    private final StatsLog log;
+    private GameRecord lastWritten;
+
+    public GameStatsRecorder(GameStatsTracker tracker, StatsLog log) {
+        this.tracker = tracker;
+        this.log = log;
+    }
+
+    @Override
+    public void onEvent(GameEventType type, int a, int b, int c, int d) {
+        if (type != GameEventType.GAME_OVER) {
+            return;
+        }
+        GameRecord record = tracker.getLastGame();
+        if (record == null || record == lastWritten) {
+            return;
+        }
+        lastWritten = record;
+        try {
+            log.append(record);
+        } catch (IOException e) {
+            System.err.println("Failed to save game stats: " + e.getMessage());
+        }
+    }
+}
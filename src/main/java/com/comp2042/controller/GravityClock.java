@@ -0,0 +1,51 @@
+package com.comp2042.controller;
+
+import com.comp2042.model.LevelTable;
+
+/**
+ * Frame-driven gravity for the desktop game.
+ * <p>
+ * Each frame adds the time since the last one, and the clock says how many rows are due
+ * at the current level, or that a landed piece's lock delay has run out. Timings are read
+ * from the {@link LevelTable} on every frame, so a level up takes effect straight away
+ * with nothing to reschedule.
+ * </p>
+ */
+final class GravityClock {
+
+    private final LevelTable levels;
+    private long pending;
+
+    GravityClock(LevelTable levels) {
+        this.levels = levels;
+    }
+
+    void reset() {
+        pending = 0;
+    }
+
+    /**
+     * @param elapsedNanos time since the previous frame.
+     * @param level        current level.
+     * @param grounded     whether the active piece is resting on the stack.
+     * @return rows the piece should fall now, or for a grounded piece 1 when it should lock.
+     */
+    int advance(long elapsedNanos, int level, boolean grounded) {
+        pending += elapsedNanos;
+        if (grounded) {
+            long delay = levels.getLockDelayNanos(level);
+            if (pending < delay) {
+                return 0;
+            }
+            pending -= delay;
+            return 1;
+        }
+        long interval = levels.getGravityNanos(level);
+        if (pending < interval) {
+            return 0;
+        }
+        long steps = pending / interval;
+        pending -= steps * interval;
+        return (int) Math.min(steps * levels.getRowsPerStep(level), LevelTable.INSTANT_ROWS);
+    }
+}
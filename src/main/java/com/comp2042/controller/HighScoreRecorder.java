@@ -0,0 +1,27 @@
+package com.comp2042.controller;
+
+import com.comp2042.controller.event.GameEventSubscriber;
+import com.comp2042.controller.event.GameEventType;
+import com.comp2042.model.ScoreManager;
+
+/**
+ * Persistence subscriber: saves the high score when a game ends with a new record.
+ * <p>
+ * Runs when the event bus is drained, so the file write never happens inside game logic.
+ * </p>
+ */
+public class HighScoreRecorder implements GameEventSubscriber {
+
+    private final ScoreManager scoreManager;
+
+    public HighScoreRecorder(ScoreManager scoreManager) {
+        this.scoreManager = scoreManager;
+    }
+
+    @Override
+    public void onEvent(GameEventType type, int a, int b, int c, int d) {
+        if (type == GameEventType.GAME_OVER && b == 1) {
+            scoreManager.saveHighScore(a);
+        }
+    }
+}
@@ -10,6 +10,13 @@ public interface InputEventListener {
 
     DownData onHardDropEvent(MoveEvent event);
 
+    /**
+     * Applies whatever gravity is due after {@code elapsedNanos} more of play.
+     *
+     * @return the result of the last step down, or null if nothing moved.
+     */
+    DownData onGravityFrame(long elapsedNanos);
+
     ViewData onLeftEvent(MoveEvent event);
 
     ViewData onRightEvent(MoveEvent event);
@@ -20,5 +27,16 @@ public interface InputEventListener {
 
     boolean canMoveDown(ViewData brick, int newY);
 
+    /**
+     * Current background matrix, read by the view when it redraws after a board change.
+     */
+    int[][] getBoardMatrix();
+
     void createNewGame();
+
+    /**
+     * The game was paused, or left for the menu, or carries on again. Pausing saves it so
+     * it can be resumed later.
+     */
+    void setPaused(boolean paused);
 }
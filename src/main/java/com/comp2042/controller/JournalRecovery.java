@@ -0,0 +1,200 @@
+package com.comp2042.controller;
+
+import com.comp2042.model.DownData;
+import com.comp2042.model.GameSnapshot;
+import com.comp2042.model.LevelTable;
+import com.comp2042.model.ScoreTable;
+import com.comp2042.model.ScoringEngine;
+import com.comp2042.model.TetrisBoard;
+import com.comp2042.model.bricks.Bag7BrickGenerator;
+import com.comp2042.model.bricks.PieceSet;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+/**
+ * Rebuilds an unfinished game from a {@link GameJournal}.
+ * <p>
+ * The journal's first record is either the seed the game was dealt from or a snapshot of
+ * it. Recovery sets up a fresh {@link TetrisBoard} from that and replays every input after
+ * it as fast as it can, with the same rules {@link GameController} used to score them.
+ * Both records name the piece set the game was dealt from, and a journal written with
+ * another set is rejected outright. After each lock it checks the score against the one
+ * journaled, so a journal that no longer matches the game rules (for example after the
+ * scoring or level table changed) is rejected rather than resumed into a different game.
+ * A record cut short by a crash ends the replay there; everything before it was written whole.
+ * </p>
+ * <p>
+ * Nothing here touches the running game, so it can run on any thread; the result is a
+ * {@link GameSnapshot} the controller restores in one step.
+ * </p>
+ */
+public final class JournalRecovery {
+
+    private final PieceSet pieces;
+    private final TetrisBoard board;
+    private final ScoringEngine scoring;
+    private boolean toppedOut;
+
+    private JournalRecovery(ScoreTable table, LevelTable levels, PieceSet pieces) {
+        this.pieces = pieces;
+        board = new TetrisBoard(TetrisBoard.BOARD_HEIGHT, TetrisBoard.BOARD_WIDTH, new Bag7BrickGenerator(pieces));
+        scoring = new ScoringEngine(table);
+        board.getScore().setLevelTable(levels);
+    }
+
+    /**
+     * Replays the journal at {@code path} under the default {@link LevelTable}.
+     */
+    public static GameSnapshot recover(Path path, ScoreTable table) {
+        return recover(path, table, LevelTable.DEFAULT);
+    }
+
+    /**
+     * Replays the journal at {@code path} with the standard pieces.
+     */
+    public static GameSnapshot recover(Path path, ScoreTable table, LevelTable levels) {
+        return recover(path, table, levels, PieceSet.STANDARD);
+    }
+
+    /**
+     * Replays the journal at {@code path}, dealing from the set the game was played with.
+     *
+     * @return the state the game was in when the journal was last synced, or null if there
+     *         is no journal, its game is over, or it does not replay to the scores it recorded.
+     */
+    public static GameSnapshot recover(Path path, ScoreTable table, LevelTable levels, PieceSet pieces) {
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(path);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            System.err.println("Game journal could not be read: " + e.getMessage());
+            return null;
+        }
+        return new JournalRecovery(table, levels, pieces).replay(ByteBuffer.wrap(bytes));
+    }
+
+    private GameSnapshot replay(ByteBuffer in) {
+        if (in.remaining() < GameJournal.HEADER_BYTES || in.getInt() != GameJournal.MAGIC
+                || in.get() != GameJournal.VERSION) {
+            return null;
+        }
+        boolean started = false;
+        while (in.hasRemaining()) {
+            byte type = in.get();
+            switch (type) {
+                case GameJournal.START -> {
+                    if (in.remaining() < 16) {
+                        return result(started);
+                    }
+                    long seed = in.getLong();
+                    if (in.getLong() != pieces.fingerprint()) {
+                        return null;
+                    }
+                    board.newGame(seed);
+                    scoring.reset();
+                    toppedOut = false;
+                    started = true;
+                }
+                case GameJournal.SNAPSHOT -> {
+                    if (in.remaining() < 2 || in.remaining() < 2 + Short.toUnsignedInt(in.getShort(in.position()))) {
+                        return result(started);
+                    }
+                    byte[] snapshot = new byte[Short.toUnsignedInt(in.getShort())];
+                    in.get(snapshot);
+                    try {
+                        GameSnapshot.readFrom(new DataInputStream(new ByteArrayInputStream(snapshot)))
+                                .restore(board, scoring);
+                        toppedOut = false;
+                    } catch (IOException | RuntimeException e) {
+                        return null;
+                    }
+                    started = true;
+                }
+                case GameJournal.INPUT -> {
+                    if (!started || !in.hasRemaining() || !apply(in.get())) {
+                        return result(started);
+                    }
+                }
+                case GameJournal.LOCK -> {
+                    if (!started || in.remaining() < 6) {
+                        return result(started);
+                    }
+                    in.get();
+                    in.get();
+                    if (in.getInt() != board.getScore().scoreProperty().get()) {
+                        return null;
+                    }
+                }
+                case GameJournal.GAME_OVER -> {
+                    return null;
+                }
+                default -> {
+                    // Garbage after a torn write; everything before it is good
+                    return result(started);
+                }
+            }
+        }
+        return result(started);
+    }
+
+    /**
+     * Applies one journaled input the way {@link GameController} did when it was played.
+     *
+     * @return false if the byte is not an input, meaning the journal is damaged from here on.
+     */
+    private boolean apply(int action) {
+        switch (action) {
+            case GameJournal.LEFT -> board.moveBrickLeft();
+            case GameJournal.RIGHT -> board.moveBrickRight();
+            case GameJournal.ROTATE_CW -> board.rotateRightBrick();
+            case GameJournal.ROTATE_CCW -> board.rotateLeftBrick();
+            case GameJournal.ROTATE_180 -> board.rotate180Brick();
+            case GameJournal.SOFT_DROP -> {
+                DownData downData = board.stepDown(true);
+                if (downData.getClearRow() == null && !downData.isGameOver()) {
+                    board.getScore().addScore(scoring.softDrop(downData.getDropDistance()));
+                }
+                scoreLock(downData);
+            }
+            case GameJournal.GRAVITY -> scoreLock(board.stepDown(false));
+            case GameJournal.HARD_DROP -> {
+                DownData downData = board.hardDrop(true);
+                board.getScore().addScore(scoring.hardDrop(downData.getDropDistance()));
+                scoreLock(downData);
+            }
+            case GameJournal.AUTO_DROP -> scoreLock(board.hardDrop(false));
+            case GameJournal.HOLD -> toppedOut = board.holdCurrentBrick();
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void scoreLock(DownData downData) {
+        toppedOut = downData.isGameOver();
+        if (downData.getClearRow() == null) {
+            return;
+        }
+        int lines = downData.getClearRow().getLinesRemoved();
+        board.getScore().addScore(scoring.lock(lines, downData.getSpin(), board.getScore().getScoreMultiplier()));
+        if (lines > 0) {
+            board.getScore().addLines(lines);
+        }
+    }
+
+    /**
+     * The replayed game, unless there is none or it ended before its game-over record was synced.
+     */
+    private GameSnapshot result(boolean started) {
+        return started && !toppedOut ? GameSnapshot.capture(board, scoring) : null;
+    }
+}
@@ -1,5 +1,5 @@
 package com.comp2042.controller.event;
 
 public enum EventType {
-    DOWN, LEFT, RIGHT, ROTATE, HARD_DROP, HOLD
+    DOWN, LEFT, RIGHT, ROTATE, ROTATE_CCW, ROTATE_180, HARD_DROP, HOLD
 }
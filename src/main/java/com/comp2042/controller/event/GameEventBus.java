@@ -0,0 +1,153 @@
+package com.comp2042.controller.event;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Single-producer, multi-subscriber event bus backed by a preallocated ring buffer.
+ * <p>
+ * Events are stored as primitive records (a type ordinal and four {@code int} arguments) in
+ * parallel arrays, so publishing never allocates and never waits: the producer writes the slot
+ * and publishes the new sequence with a release store. Each {@link Subscription} keeps its own
+ * cursor and reads everything published since its last {@link Subscription#drain()}.
+ * </p>
+ * Game logic publishes; the view drains once per frame. Coalesced event types
+ * ({@link GameEventType#isCoalesced()}) are delivered only once per drain. If a subscriber
+ * falls more than a full ring behind, the oldest events are skipped and counted in
+ * {@link Subscription#getMissed()} rather than stalling the producer.
+ */
+public final class GameEventBus {
+
+    private static final GameEventType[] TYPES = GameEventType.values();
+
+    private final int capacity;
+    private final int mask;
+    private final byte[] types;
+    private final int[] argA;
+    private final int[] argB;
+    private final int[] argC;
+    private final int[] argD;
+
+    /** Sequence of the next event to be published; written only by the producer. */
+    private final AtomicLong published = new AtomicLong();
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    /**
+     * @param capacity ring size, a power of two.
+     */
+    public GameEventBus(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        types = new byte[capacity];
+        argA = new int[capacity];
+        argB = new int[capacity];
+        argC = new int[capacity];
+        argD = new int[capacity];
+    }
+
+    public void publish(GameEventType type) {
+        publish(type, 0, 0, 0, 0);
+    }
+
+    public void publish(GameEventType type, int a) {
+        publish(type, a, 0, 0, 0);
+    }
+
+    /**
+     * Appends an event. Must only be called from the producer (game logic) thread.
+     */
+    public void publish(GameEventType type, int a, int b, int c, int d) {
+        long seq = published.get();
+        int slot = (int) seq & mask;
+        types[slot] = (byte) type.ordinal();
+        argA[slot] = a;
+        argB[slot] = b;
+        argC[slot] = c;
+        argD[slot] = d;
+        published.setRelease(seq + 1);
+    }
+
+    /**
+     * Registers a subscriber. It receives events published from now on.
+     */
+    public Subscription subscribe(GameEventSubscriber subscriber) {
+        Subscription subscription = new Subscription(subscriber, published.getAcquire());
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Drains every subscription in registration order.
+     */
+    public void drainAll() {
+        for (Subscription subscription : subscriptions) {
+            subscription.drain();
+        }
+    }
+
+    /**
+     * One subscriber's read position on the ring.
+     */
+    public final class Subscription {
+
+        private final GameEventSubscriber subscriber;
+        private final long[] lastSeen = new long[TYPES.length];
+        private long cursor;
+        private long missed;
+
+        private Subscription(GameEventSubscriber subscriber, long cursor) {
+            this.subscriber = subscriber;
+            this.cursor = cursor;
+        }
+
+        /**
+         * Delivers all events published since the last drain.
+         *
+         * @return the number of events delivered.
+         */
+        public int drain() {
+            long end = published.getAcquire();
+            long start = cursor;
+            if (start == end) {
+                return 0;
+            }
+            if (end - start > capacity) {
+                missed += end - capacity - start;
+                start = end - capacity;
+            }
+
+            // First pass: find the last occurrence of each coalesced type
+            for (long seq = start; seq < end; seq++) {
+                lastSeen[types[(int) seq & mask]] = seq;
+            }
+            int delivered = 0;
+            for (long seq = start; seq < end; seq++) {
+                int slot = (int) seq & mask;
+                GameEventType type = TYPES[types[slot]];
+                if (type.isCoalesced() && lastSeen[type.ordinal()] != seq) {
+                    continue;
+                }
+                subscriber.onEvent(type, argA[slot], argB[slot], argC[slot], argD[slot]);
+                delivered++;
+            }
+            cursor = end;
+            subscriber.onBatchEnd();
+            return delivered;
+        }
+
+        /**
+         * Number of events skipped because this subscriber fell a full ring behind.
+         */
+        public long getMissed() {
+            return missed;
+        }
+
+        public void close() {
+            subscriptions.remove(this);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.comp2042.controller.event;
+
+/**
+ * Receives events drained from a {@link GameEventBus}.
+ * <p>
+ * Arguments are plain {@code int}s whose meaning depends on the {@link GameEventType}.
+ * Subscribers run on the thread that drains the bus (the JavaFX thread in the game).
+ * </p>
+ */
+public interface GameEventSubscriber {
+
+    void onEvent(GameEventType type, int a, int b, int c, int d);
+
+    /**
+     * Called after the last event of a drain, so subscribers can act once per frame
+     * (e.g. play at most one sound) instead of once per event.
+     */
+    default void onBatchEnd() {
+    }
+}
@@ -0,0 +1,39 @@
+package com.comp2042.controller.event;
+
+/**
+ * Kinds of game events published on the {@link GameEventBus}.
+ * <p>
+ * Each event carries up to four {@code int} arguments; their meaning is listed per constant.
+ * Coalesced types are delivered at most once per drain, keeping only the latest occurrence.
+ * </p>
+ */
+public enum GameEventType {
+
+    /** A brick was locked. a = piece id, b = spin, c = lines cleared. */
+    LOCK(false),
+
+    /** A lock scored points. a = lines cleared (0 for a spin without lines), b = points, c = spin, d = combo. */
+    LINE_CLEAR(false),
+
+    /** The level increased. a = new level. */
+    LEVEL_UP(false),
+
+    /** The hold slot changed. a = held piece id, 0 for an empty slot. */
+    HOLD(true),
+
+    /** The background matrix changed and should be redrawn. */
+    BOARD_CHANGED(true),
+
+    /** The game ended. a = final score, b = 1 if it is a new high score. */
+    GAME_OVER(true);
+
+    private final boolean coalesced;
+
+    GameEventType(boolean coalesced) {
+        this.coalesced = coalesced;
+    }
+
+    public boolean isCoalesced() {
+        return coalesced;
+    }
+}
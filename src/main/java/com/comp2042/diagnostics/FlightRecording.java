@@ -0,0 +1,109 @@
+package com.comp2042.diagnostics;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Starts and dumps a flight recording that includes the game's own events.
+ * <p>
+ * The game events ({@link GravityTickEvent}, {@link InputHandledEvent},
+ * {@link PieceLockEvent}, {@link RenderPassEvent}) are disabled by default, so they cost
+ * nothing unless a recording started here enables them. A recording starts at launch when the
+ * {@code tetris.jfr} system property is {@code true}, or when the player presses the
+ * recording hotkey. Stopping writes a {@code tetris-<timestamp>.jfr} file to the working
+ * directory, next to the JDK's own GC, JIT and safepoint events from the same period.
+ * </p>
+ */
+public final class FlightRecording {
+
+    private static final String START_PROPERTY = "tetris.jfr";
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private static Recording recording;
+
+    private FlightRecording() {
+        // utility class
+    }
+
+    /**
+     * Starts a recording if the {@code tetris.jfr} property asks for one.
+     */
+    public static void startIfRequested() {
+        if (Boolean.getBoolean(START_PROPERTY)) {
+            start();
+        }
+    }
+
+    public static synchronized boolean isRecording() {
+        return recording != null;
+    }
+
+    /**
+     * Starts a recording, or stops the current one and writes it to disk.
+     *
+     * @return the file written, or null if a recording was started or could not be written.
+     */
+    public static synchronized Path toggle() {
+        if (recording == null) {
+            start();
+            return null;
+        }
+        return stop();
+    }
+
+    /**
+     * Starts a recording with the JDK's default settings plus the game events.
+     */
+    public static synchronized void start() {
+        if (recording != null || !FlightRecorder.isAvailable()) {
+            return;
+        }
+        try {
+            Recording r = new Recording(Configuration.getConfiguration("default"));
+            r.setName("tetris");
+            r.enable(GravityTickEvent.class);
+            r.enable(InputHandledEvent.class);
+            r.enable(PieceLockEvent.class);
+            r.enable(RenderPassEvent.class);
+            r.setToDisk(true);
+            r.start();
+            recording = r;
+            System.out.println("Flight recording started");
+        } catch (IOException | ParseException | IllegalStateException | SecurityException e) {
+            System.err.println("Failed to start flight recording: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stops the current recording and writes it to disk.
+     *
+     * @return the file written, or null if nothing was recording or the write failed.
+     */
+    public static synchronized Path stop() {
+        if (recording == null) {
+            return null;
+        }
+        Recording r = recording;
+        recording = null;
+        Path file = Paths.get("tetris-" + LocalDateTime.now().format(FILE_TIME) + ".jfr");
+        try {
+            r.stop();
+            r.dump(file);
+            System.out.println("Flight recording written to " + file.toAbsolutePath());
+            return file;
+        } catch (IOException | IllegalStateException e) {
+            System.err.println("Failed to write flight recording: " + e.getMessage());
+            return null;
+        } finally {
+            r.close();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.comp2042.diagnostics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and duration histograms for the game and the bot, exported by
+ * {@link MetricsServer}.
+ * <p>
+ * Every counter is a {@link LongAdder} and every histogram bucket is one too, so recording
+ * never takes a lock and concurrent bot threads do not contend on a single cache line.
+ * Recording is off until the metrics endpoint is started; callers check
+ * {@link #isEnabled()} before taking timestamps.
+ * </p>
+ */
+public final class GameMetrics {
+
+    /** One frame at 60 Hz. */
+    private static final long FRAME_NANOS = 16_666_667L;
+    /** Clears by lines removed; custom pieces can clear five or more lines at once. */
+    private static final String[] CLEAR_TYPES = {"single", "double", "triple", "tetris", "five_plus"};
+    private static final GameMetrics GLOBAL = new GameMetrics();
+
+    private final LongAdder piecesLocked = new LongAdder();
+    private final LongAdder[] linesCleared = new LongAdder[CLEAR_TYPES.length];
+    private final LongAdder ticks = new LongAdder();
+    private final LongAdder frames = new LongAdder();
+    private final LongAdder droppedFrames = new LongAdder();
+    private final LongAdder botSearches = new LongAdder();
+    private final LongAdder botNodes = new LongAdder();
+    private final LongAdder botSearchNanos = new LongAdder();
+    private final MetricHistogram tickTime = new MetricHistogram(MetricHistogram.FRAME_BOUNDS_NANOS);
+    private final MetricHistogram renderTime = new MetricHistogram(MetricHistogram.FRAME_BOUNDS_NANOS);
+    private final MetricHistogram scoreWriteTime = new MetricHistogram(MetricHistogram.IO_BOUNDS_NANOS);
+    private volatile boolean enabled;
+
+    GameMetrics() {
+        for (int i = 0; i < linesCleared.length; i++) {
+            linesCleared[i] = new LongAdder();
+        }
+    }
+
+    public static GameMetrics global() {
+        return GLOBAL;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Counts a locked piece and, if it cleared rows, one clear of that size.
+     */
+    public void recordLock(int linesRemoved) {
+        piecesLocked.increment();
+        if (linesRemoved > 0) {
+            linesCleared[Math.min(linesRemoved, CLEAR_TYPES.length) - 1].increment();
+        }
+    }
+
+    /** One gravity or soft-drop step of the board and how long it took. */
+    public void recordTick(long nanos) {
+        ticks.increment();
+        tickTime.record(nanos);
+    }
+
+    /** One render pass of the board renderer. */
+    public void recordRender(long nanos) {
+        renderTime.record(nanos);
+    }
+
+    /**
+     * The time between two rendered frames. Every whole 60 Hz frame beyond the first that
+     * the interval spans counts as dropped.
+     */
+    public void recordFrame(long intervalNanos) {
+        frames.increment();
+        long missed = (intervalNanos + FRAME_NANOS / 2) / FRAME_NANOS - 1;
+        if (missed > 0) {
+            droppedFrames.add(missed);
+        }
+    }
+
+    /** One write of the high score file. */
+    public void recordScoreWrite(long nanos) {
+        scoreWriteTime.record(nanos);
+    }
+
+    /** One bot search, with the number of nodes it expanded. */
+    public void recordBotSearch(long nodes, long nanos) {
+        botSearches.increment();
+        botNodes.add(nodes);
+        botSearchNanos.add(nanos);
+    }
+
+    /**
+     * Writes every metric in the Prometheus text exposition format.
+     */
+    public String toPrometheusText() {
+        StringBuilder out = new StringBuilder(4096);
+        PrometheusText.counter(out, "tetris_pieces_locked_total", "Pieces locked into the board.", piecesLocked.sum());
+
+        PrometheusText.header(out, "tetris_lines_cleared_total", "Line clears by number of rows cleared at once.", "counter");
+        for (int i = 0; i < CLEAR_TYPES.length; i++) {
+            out.append("tetris_lines_cleared_total{type=\"").append(CLEAR_TYPES[i]).append("\"} ")
+                    .append(linesCleared[i].sum()).append('\n');
+        }
+
+        PrometheusText.counter(out, "tetris_ticks_total", "Gravity and soft-drop steps.", ticks.sum());
+        tickTime.writeTo(out, "tetris_tick_seconds", "Time spent in one gravity or soft-drop step.");
+        long tickCount = tickTime.getCount();
+        PrometheusText.gauge(out, "tetris_tick_seconds_avg", "Average time of one step since start.",
+                PrometheusText.seconds(tickCount == 0 ? 0 : tickTime.getSumNanos() / tickCount));
+
+        renderTime.writeTo(out, "tetris_render_seconds", "Time spent in one board render pass.");
+        PrometheusText.counter(out, "tetris_frames_total", "Frames rendered.", frames.sum());
+        PrometheusText.counter(out, "tetris_dropped_frames_total", "60 Hz frames missed between rendered frames.", droppedFrames.sum());
+
+        scoreWriteTime.writeTo(out, "tetris_score_write_seconds", "Time to write the high score file.");
+
+        long searchNanos = botSearchNanos.sum();
+        long nodes = botNodes.sum();
+        PrometheusText.counter(out, "tetris_bot_searches_total", "Bot move searches.", botSearches.sum());
+        PrometheusText.counter(out, "tetris_bot_nodes_total", "Search nodes expanded by the bot.", nodes);
+        PrometheusText.counter(out, "tetris_bot_search_seconds_total", "Time spent in bot searches.",
+                PrometheusText.seconds(searchNanos));
+        PrometheusText.gauge(out, "tetris_bot_nodes_per_second", "Bot search nodes per second of search time since start.",
+                Long.toString(searchNanos == 0 ? 0 : (long) (nodes / (searchNanos / 1_000_000_000.0))));
+        return out.toString();
+    }
+}
@@ -0,0 +1,32 @@
+package com.comp2042.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One downward step of the active piece, from gravity or a soft drop.
+ */
+@Name("com.comp2042.GravityTick")
+@Label("Gravity Tick")
+@Category({"Tetris", "Game Loop"})
+@Description("One downward step of the active piece")
+@Enabled(false)
+@StackTrace(false)
+public class GravityTickEvent extends Event {
+
+    @Label("Soft Drop")
+    @Description("True if the step came from the player rather than gravity")
+    public boolean softDrop;
+
+    @Label("Locked")
+    public boolean locked;
+
+    @Label("Stack Height")
+    @Description("Height of the tallest column after the step")
+    public int stackHeight;
+}
@@ -0,0 +1,25 @@
+package com.comp2042.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Game logic for one player input (move, rotate, hold, hard drop).
+ */
+@Name("com.comp2042.InputHandled")
+@Label("Input Handled")
+@Category({"Tetris", "Game Loop"})
+@Enabled(false)
+@StackTrace(false)
+public class InputHandledEvent extends Event {
+
+    @Label("Action")
+    public String action;
+
+    @Label("Stack Height")
+    public int stackHeight;
+}
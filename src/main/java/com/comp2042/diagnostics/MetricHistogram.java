@@ -0,0 +1,91 @@
+package com.comp2042.diagnostics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-bucket duration histogram in the Prometheus style, with a running sum and maximum.
+ * <p>
+ * Every bucket is a {@link LongAdder}, so concurrent recorders update separate cells rather
+ * than contending on one counter. Bucket bounds are given in nanoseconds and written out in
+ * seconds, cumulatively, as the exposition format expects.
+ * </p>
+ */
+final class MetricHistogram {
+
+    /** Bounds suited to work done within one frame: 50 µs to 100 ms. */
+    static final long[] FRAME_BOUNDS_NANOS = {
+            50_000, 100_000, 250_000, 500_000, 1_000_000, 2_500_000,
+            5_000_000, 10_000_000, 25_000_000, 50_000_000, 100_000_000
+    };
+
+    /** Bounds suited to disk writes: 100 µs to 1 s. */
+    static final long[] IO_BOUNDS_NANOS = {
+            100_000, 500_000, 1_000_000, 5_000_000, 10_000_000,
+            50_000_000, 100_000_000, 250_000_000, 500_000_000, 1_000_000_000
+    };
+
+    private final long[] bounds;
+    private final LongAdder[] buckets;
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    MetricHistogram(long[] boundsNanos) {
+        this.bounds = boundsNanos.clone();
+        // One extra bucket for values above the last bound (+Inf)
+        this.buckets = new LongAdder[bounds.length + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long nanos) {
+        int i = 0;
+        while (i < bounds.length && nanos > bounds[i]) {
+            i++;
+        }
+        buckets[i].increment();
+        sum.add(nanos);
+        max.accumulate(nanos);
+    }
+
+    public long getCount() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    public long getSumNanos() {
+        return sum.sum();
+    }
+
+    public long getMaxNanos() {
+        return max.get();
+    }
+
+    /**
+     * Appends the buckets, sum and count of this histogram, followed by a separate
+     * {@code <name>_max} gauge.
+     */
+    void writeTo(StringBuilder out, String name, String help) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(" histogram\n");
+        long cumulative = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            cumulative += buckets[i].sum();
+            out.append(name).append("_bucket{le=\"");
+            if (i < bounds.length) {
+                out.append(PrometheusText.seconds(bounds[i]));
+            } else {
+                out.append("+Inf");
+            }
+            out.append("\"} ").append(cumulative).append('\n');
+        }
+        out.append(name).append("_sum ").append(PrometheusText.seconds(sum.sum())).append('\n');
+        out.append(name).append("_count ").append(cumulative).append('\n');
+        PrometheusText.gauge(out, name + "_max", "Largest observed value of " + name + ".",
+                PrometheusText.seconds(max.get()));
+    }
+}
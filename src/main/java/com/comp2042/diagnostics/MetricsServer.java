@@ -0,0 +1,97 @@
+package com.comp2042.diagnostics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Optional HTTP endpoint serving {@link GameMetrics} in the Prometheus text format.
+ * <p>
+ * The server binds to the loopback address only and answers {@code GET /metrics} on one
+ * daemon thread, so scraping never competes with the game for more than a core. It is
+ * started when the {@code tetris.metrics.port} system property is set; recording in
+ * {@link GameMetrics} is switched on at the same time.
+ * </p>
+ */
+public final class MetricsServer implements AutoCloseable {
+
+    private static final String PORT_PROPERTY = "tetris.metrics.port";
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private MetricsServer(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    /**
+     * Starts the endpoint if {@code tetris.metrics.port} is set.
+     *
+     * @return the running server, or null if none was requested or it failed to start.
+     */
+    public static MetricsServer startIfRequested() {
+        Integer port = Integer.getInteger(PORT_PROPERTY);
+        if (port == null) {
+            return null;
+        }
+        try {
+            MetricsServer server = start(port, GameMetrics.global());
+            System.out.println("Metrics available at http://localhost:" + server.getPort() + "/metrics");
+            return server;
+        } catch (IOException e) {
+            System.err.println("Failed to start metrics endpoint: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Starts serving the given metrics on localhost. Port 0 picks a free port.
+     */
+    public static MetricsServer start(int port, GameMetrics metrics) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "metrics-http");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.createContext("/metrics", exchange -> serve(exchange, metrics));
+        server.setExecutor(executor);
+        server.start();
+        metrics.setEnabled(true);
+        return new MetricsServer(server, executor);
+    }
+
+    private static void serve(HttpExchange exchange, GameMetrics metrics) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = metrics.toPrometheusText().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
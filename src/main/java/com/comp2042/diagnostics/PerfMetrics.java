@@ -0,0 +1,53 @@
+package com.comp2042.diagnostics;
+
+/**
+ * The timings shown by the performance overlay.
+ * <p>
+ * One shared instance holds a {@link LatencyHistogram} each for frame time, simulation step
+ * time and input-to-render latency. Recording is off unless the overlay is showing;
+ * callers check {@link #isEnabled()}, a single volatile read, before taking timestamps, so
+ * the game pays almost nothing while it is hidden.
+ * </p>
+ */
+public final class PerfMetrics {
+
+    private static final PerfMetrics GLOBAL = new PerfMetrics();
+
+    private final LatencyHistogram frameTime = new LatencyHistogram();
+    private final LatencyHistogram simulationTime = new LatencyHistogram();
+    private final LatencyHistogram inputLatency = new LatencyHistogram();
+    private volatile boolean enabled;
+
+    public static PerfMetrics global() {
+        return GLOBAL;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /** Time between consecutive rendered frames. */
+    public LatencyHistogram getFrameTime() {
+        return frameTime;
+    }
+
+    /** Time spent in one gravity or soft-drop step of the board. */
+    public LatencyHistogram getSimulationTime() {
+        return simulationTime;
+    }
+
+    /** Time from a key press reaching the game to the moved piece being drawn. */
+    public LatencyHistogram getInputLatency() {
+        return inputLatency;
+    }
+
+    public void reset() {
+        frameTime.reset();
+        simulationTime.reset();
+        inputLatency.reset();
+    }
+}
@@ -0,0 +1,34 @@
+package com.comp2042.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A piece locking into the board, covering line clearing and scoring.
+ */
+@Name("com.comp2042.PieceLock")
+@Label("Piece Lock")
+@Category({"Tetris", "Game Loop"})
+@Enabled(false)
+@StackTrace(false)
+public class PieceLockEvent extends Event {
+
+    @Label("Piece Id")
+    public int pieceId;
+
+    @Label("Lines Cleared")
+    public int linesCleared;
+
+    @Label("Spin")
+    public int spin;
+
+    @Label("Combo")
+    public int combo;
+
+    @Label("Stack Height")
+    public int stackHeight;
+}
@@ -0,0 +1,34 @@
+package com.comp2042.diagnostics;
+
+/**
+ * Helpers for writing the Prometheus text exposition format.
+ */
+final class PrometheusText {
+
+    private PrometheusText() {
+        // utility class
+    }
+
+    static void counter(StringBuilder out, String name, String help, long value) {
+        counter(out, name, help, Long.toString(value));
+    }
+
+    static void counter(StringBuilder out, String name, String help, String value) {
+        header(out, name, help, "counter");
+        out.append(name).append(' ').append(value).append('\n');
+    }
+
+    static void gauge(StringBuilder out, String name, String help, String value) {
+        header(out, name, help, "gauge");
+        out.append(name).append(' ').append(value).append('\n');
+    }
+
+    static void header(StringBuilder out, String name, String help, String type) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    static String seconds(long nanos) {
+        return Double.toString(nanos / 1_000_000_000.0);
+    }
+}
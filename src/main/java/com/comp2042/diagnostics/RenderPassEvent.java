@@ -0,0 +1,25 @@
+package com.comp2042.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One pass of the board renderer updating scene graph nodes.
+ */
+@Name("com.comp2042.RenderPass")
+@Label("Render Pass")
+@Category({"Tetris", "Rendering"})
+@Enabled(false)
+@StackTrace(false)
+public class RenderPassEvent extends Event {
+
+    @Label("Pass")
+    public String pass;
+
+    @Label("Cells Restyled")
+    public int cellsRestyled;
+}
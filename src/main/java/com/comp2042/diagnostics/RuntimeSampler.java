@@ -0,0 +1,83 @@
+package com.comp2042.diagnostics;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+
+/**
+ * Samples the JVM's allocation and garbage collection counters.
+ * <p>
+ * Each {@link #sample()} compares the counters with the previous sample and keeps the
+ * allocation rate, and the number and total duration of collections, over that interval.
+ * Allocation is measured across all threads where the JVM supports it, and is reported as
+ * -1 otherwise. Sampling goes through the management beans, so it is meant to run a few
+ * times a second rather than every frame. Not thread-safe.
+ * </p>
+ */
+public final class RuntimeSampler {
+
+    private final com.sun.management.ThreadMXBean threads;
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+
+    private long lastSampleNanos;
+    private long lastAllocated;
+    private long lastGcCount;
+    private long lastGcMillis;
+
+    private long allocatedBytesPerSecond = -1;
+    private long gcCount;
+    private long gcMillis;
+
+    public RuntimeSampler() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean sunBean && sunBean.isThreadAllocatedMemorySupported()) {
+            sunBean.setThreadAllocatedMemoryEnabled(true);
+            threads = sunBean;
+        } else {
+            threads = null;
+        }
+        sample();
+    }
+
+    /**
+     * Takes a new sample and updates the values for the interval since the previous one.
+     */
+    public void sample() {
+        long now = System.nanoTime();
+        long allocated = threads == null ? -1 : threads.getTotalThreadAllocatedBytes();
+        long count = 0;
+        long millis = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            count += Math.max(0, collector.getCollectionCount());
+            millis += Math.max(0, collector.getCollectionTime());
+        }
+
+        long elapsed = now - lastSampleNanos;
+        if (lastSampleNanos != 0 && elapsed > 0) {
+            allocatedBytesPerSecond = allocated < 0 || lastAllocated < 0
+                    ? -1
+                    : (allocated - lastAllocated) * 1_000_000_000L / elapsed;
+            gcCount = count - lastGcCount;
+            gcMillis = millis - lastGcMillis;
+        }
+        lastSampleNanos = now;
+        lastAllocated = allocated;
+        lastGcCount = count;
+        lastGcMillis = millis;
+    }
+
+    public long getAllocatedBytesPerSecond() {
+        return allocatedBytesPerSecond;
+    }
+
+    /** Collections that finished during the last interval. */
+    public long getGcCount() {
+        return gcCount;
+    }
+
+    /** Approximate time spent collecting during the last interval. */
+    public long getGcMillis() {
+        return gcMillis;
+    }
+}
@@ -0,0 +1,221 @@
+package com.comp2042.model;
+
+import com.comp2042.model.bricks.PieceMask;
+
+/**
+ * Compact occupancy-only copy of the board, one {@code int} bitmask per row.
+ * <p>
+ * Bit {@code x} of {@code rows[y]} is set when cell (x, y) is filled. Row 0 is the top
+ * of the board, matching the coordinate system used by {@link TetrisBoard}.
+ * This representation is cheap to copy and lets search code (the bot, simulators)
+ * test collisions and place pieces with a handful of mask operations.
+ * </p>
+ */
+public final class BitBoard {
+
+    private final int width;
+    private final int height;
+    private final int fullRow;
+    private final int[] rows;
+
+    public BitBoard(int width, int height) {
+        if (width > Integer.SIZE - 1) {
+            throw new IllegalArgumentException("BitBoard supports at most " + (Integer.SIZE - 1) + " columns");
+        }
+        this.width = width;
+        this.height = height;
+        this.fullRow = (1 << width) - 1;
+        this.rows = new int[height];
+    }
+
+    /**
+     * Builds a bitboard from a colour matrix laid out as {@code matrix[row][col]}.
+     */
+    public static BitBoard fromMatrix(int[][] matrix) {
+        BitBoard board = new BitBoard(matrix[0].length, matrix.length);
+        board.loadMatrix(matrix);
+        return board;
+    }
+
+    /**
+     * Refills this board from a colour matrix of the same size, without allocating.
+     */
+    public void loadMatrix(int[][] matrix) {
+        for (int y = 0; y < height; y++) {
+            int mask = 0;
+            for (int x = 0; x < width; x++) {
+                if (matrix[y][x] != 0) {
+                    mask |= 1 << x;
+                }
+            }
+            rows[y] = mask;
+        }
+    }
+
+    public BitBoard copy() {
+        BitBoard copy = new BitBoard(width, height);
+        System.arraycopy(rows, 0, copy.rows, 0, height);
+        return copy;
+    }
+
+    /**
+     * Overwrites this board with the contents of another board of the same size.
+     */
+    public void copyFrom(BitBoard other) {
+        System.arraycopy(other.rows, 0, rows, 0, height);
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getRow(int y) {
+        return rows[y];
+    }
+
+    public void setRow(int y, int mask) {
+        rows[y] = mask & fullRow;
+    }
+
+    public int getFullRowMask() {
+        return fullRow;
+    }
+
+    public boolean isFilled(int x, int y) {
+        return (rows[y] & (1 << x)) != 0;
+    }
+
+    /**
+     * Checks whether a piece at (x, y) would overlap a filled cell or leave the board.
+     * Same semantics as {@link MatrixUtils#intersect}.
+     */
+    public boolean collides(PieceMask piece, int rotation, int x, int y) {
+        if (x + piece.getMinCol(rotation) < 0 || x + piece.getMaxCol(rotation) >= width) {
+            return true;
+        }
+        // Only the rows the piece fills, so a large shape box costs no more than a small one
+        int lastRow = piece.getMaxRow(rotation);
+        for (int r = piece.getMinRow(rotation); r <= lastRow; r++) {
+            int mask = piece.getRowMask(rotation, r);
+            if (mask == 0) {
+                continue;
+            }
+            int targetY = y + r;
+            if (targetY < 0 || targetY >= height) {
+                return true;
+            }
+            int shifted = x >= 0 ? mask << x : mask >>> -x;
+            if ((rows[targetY] & shifted) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the lowest row the piece reaches when dropped straight down from (x, y).
+     * The starting position is assumed to be free.
+     */
+    public int dropY(PieceMask piece, int rotation, int x, int y) {
+        while (!collides(piece, rotation, x, y + 1)) {
+            y++;
+        }
+        return y;
+    }
+
+    /**
+     * Writes the piece into the board and removes any completed rows.
+     *
+     * @return the number of rows cleared.
+     */
+    public int place(PieceMask piece, int rotation, int x, int y) {
+        stamp(piece, rotation, x, y);
+        return clearFullRows();
+    }
+
+    /**
+     * Writes the piece into the board without clearing rows.
+     */
+    public void stamp(PieceMask piece, int rotation, int x, int y) {
+        int lastRow = piece.getMaxRow(rotation);
+        for (int r = piece.getMinRow(rotation); r <= lastRow; r++) {
+            int mask = piece.getRowMask(rotation, r);
+            int targetY = y + r;
+            if (mask != 0 && targetY >= 0 && targetY < height) {
+                rows[targetY] |= x >= 0 ? mask << x : mask >>> -x;
+            }
+        }
+    }
+
+    /**
+     * Removes full rows, shifting everything above them down.
+     *
+     * @return the number of rows removed.
+     */
+    public int clearFullRows() {
+        int write = height - 1;
+        for (int read = height - 1; read >= 0; read--) {
+            if (rows[read] != fullRow) {
+                rows[write--] = rows[read];
+            }
+        }
+        int cleared = write + 1;
+        for (int y = write; y >= 0; y--) {
+            rows[y] = 0;
+        }
+        return cleared;
+    }
+
+    /**
+     * Pushes the stack up by {@code lines} rows and fills the freed bottom rows with
+     * garbage: every cell filled except {@code holeColumn}.
+     *
+     * @return true if a filled row was pushed off the top.
+     * @throws IllegalArgumentException if {@code holeColumn} is not a column of the board.
+     */
+    public boolean insertGarbage(int lines, int holeColumn) {
+        if (holeColumn < 0 || holeColumn >= width) {
+            throw new IllegalArgumentException("Hole column must be between 0 and " + (width - 1) + ", got " + holeColumn);
+        }
+        lines = Math.min(lines, height);
+        boolean overflow = false;
+        for (int y = 0; y < lines; y++) {
+            overflow |= rows[y] != 0;
+        }
+        System.arraycopy(rows, lines, rows, 0, height - lines);
+        int garbage = fullRow & ~(1 << holeColumn);
+        for (int y = height - lines; y < height; y++) {
+            rows[y] = garbage;
+        }
+        return overflow;
+    }
+
+    /**
+     * Height of a column measured from the floor; 0 for an empty column.
+     */
+    public int columnHeight(int x) {
+        int bit = 1 << x;
+        for (int y = 0; y < height; y++) {
+            if ((rows[y] & bit) != 0) {
+                return height - y;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Height of the tallest column measured from the floor; 0 for an empty board.
+     */
+    public int stackHeight() {
+        for (int y = 0; y < height; y++) {
+            if (rows[y] != 0) {
+                return height - y;
+            }
+        }
+        return 0;
+    }
+}
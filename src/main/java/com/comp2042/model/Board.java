@@ -6,6 +6,8 @@ public interface Board {
     boolean moveBrickLeft();
     boolean moveBrickRight();
     boolean rotateLeftBrick();
+    boolean rotateRightBrick();
+    boolean rotate180Brick();
     boolean createNewBrick();
 
     int[][] getBoardMatrix();
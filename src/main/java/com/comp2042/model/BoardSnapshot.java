@@ -0,0 +1,98 @@
+package com.comp2042.model;
+
+import com.comp2042.model.bricks.PieceMask;
+
+/**
+ * A copy of a board's visible cells with the active piece drawn in, for a renderer on
+ * another thread.
+ * <p>
+ * The thread that owns the board calls {@link #capture} after each change; the renderer
+ * copies the cells out with {@link #copyTo}. Both synchronize on the snapshot, but a copy is
+ * a few hundred bytes, so neither side holds the lock for long. Cells hold colour codes, one
+ * byte each, row-major from the top visible row. The version goes up on every capture, so a
+ * renderer can skip boards that have not changed since it last drew them.
+ * </p>
+ */
+public final class BoardSnapshot {
+
+    private final int width;
+    private final int height;
+    private final byte[] cells;
+    private long version;
+
+    /**
+     * @param width  columns on the board.
+     * @param height visible rows; hidden rows above them are not copied.
+     */
+    public BoardSnapshot(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.cells = new byte[width * height];
+    }
+
+    /**
+     * A snapshot sized for the visible part of a standard board.
+     */
+    public static BoardSnapshot forStandardBoard() {
+        return new BoardSnapshot(TetrisBoard.BOARD_WIDTH, TetrisBoard.BOARD_HEIGHT - TetrisBoard.HIDDEN_ROWS);
+    }
+
+    /**
+     * Copies the board's visible rows and stamps the active piece over them.
+     */
+    public synchronized void capture(TetrisBoard board) {
+        int[][] matrix = board.getBoardMatrix();
+        int top = matrix.length - height;
+        for (int row = 0; row < height; row++) {
+            int[] source = matrix[top + row];
+            int base = row * width;
+            for (int col = 0; col < width; col++) {
+                cells[base + col] = (byte) source[col];
+            }
+        }
+
+        PieceMask piece = PieceMask.byId(board.getCurrentPieceId());
+        int rotation = board.getCurrentRotation();
+        int x = board.getCurrentOffset().x();
+        int y = board.getCurrentOffset().y() - top;
+        for (int r = 0; r < piece.getRowCount(rotation); r++) {
+            int row = y + r;
+            if (row < 0 || row >= height) {
+                continue;
+            }
+            int mask = piece.getRowMask(rotation, r);
+            while (mask != 0) {
+                int col = x + Integer.numberOfTrailingZeros(mask);
+                if (col >= 0 && col < width) {
+                    cells[row * width + col] = (byte) piece.getColor();
+                }
+                mask &= mask - 1;
+            }
+        }
+        version++;
+    }
+
+    /**
+     * Copies the cells into {@code target} unless the snapshot is still at {@code knownVersion}.
+     *
+     * @return the version of the cells now in {@code target}.
+     */
+    public synchronized long copyTo(byte[] target, long knownVersion) {
+        if (version != knownVersion) {
+            System.arraycopy(cells, 0, target, 0, cells.length);
+        }
+        return version;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public synchronized long getVersion() {
+        return version;
+    }
+}
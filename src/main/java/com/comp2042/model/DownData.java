@@ -4,11 +4,23 @@ public final class DownData {
     private final ClearRow clearRow;
     private final ViewData viewData;
     private final boolean gameOver;
+    private final int dropDistance;
+    private final int spin;
 
     public DownData(ClearRow clearRow, ViewData viewData, boolean gameOver) {
+        this(clearRow, viewData, gameOver, 0, TSpinDetector.NONE);
+    }
+
+    /**
+     * @param dropDistance rows the piece fell during this step.
+     * @param spin         spin classification of the lock, see {@link TSpinDetector}.
+     */
+    public DownData(ClearRow clearRow, ViewData viewData, boolean gameOver, int dropDistance, int spin) {
         this.clearRow = clearRow;
         this.viewData = viewData;
         this.gameOver = gameOver;
+        this.dropDistance = dropDistance;
+        this.spin = spin;
     }
 
     public ClearRow getClearRow() {
@@ -22,4 +34,12 @@ public final class DownData {
     public boolean isGameOver() {
         return gameOver;
     }
-}
\ No newline at end of file
+
+    public int getDropDistance() {
+        return dropDistance;
+    }
+
+    public int getSpin() {
+        return spin;
+    }
+}
@@ -0,0 +1,275 @@
+package com.comp2042.model;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+/**
+ * Immutable level table: how fast each level falls, how long a landed piece waits before
+ * it locks, how many lines lead to the next level and what clears are multiplied by.
+ * <p>
+ * Gravity is given the way rulesets usually state it, in rows per 60 Hz frame, so 1/60 is
+ * one row a second and 20 (20G) drops a piece straight onto the stack. Lock delay is given
+ * in frames. Everything is compiled up front into flat arrays indexed by level, both in
+ * nanoseconds for the real-time clocks and in whole frames for tick-driven simulation, so
+ * a clock looks up the current level's timing with a single array read and nothing has
+ * to be rebuilt when the level changes.
+ * </p>
+ * The default table is the original curve: 400 ms a row at level 1, 50 ms faster per level
+ * down to 100 ms, a piece locking one gravity step after it lands, a level every 10 lines
+ * and the level as the score multiplier. A table can be loaded from a properties file:
+ * <pre>
+ * levels=30
+ * gravity=1/60,1/30,1/15,1/8,1/4,1/2,1,2,5,20
+ * lockDelay=30
+ * linesPerLevel=10
+ * scoreMultiplier=1,2,3,4,5,6,7,8,9,10
+ * </pre>
+ * Each list gives one value per level from level 1, and its last value holds for every
+ * level after it. Gravity may be a fraction or a decimal, with an optional {@code G}.
+ * Missing keys keep their default values. Play stays at the top level once it is reached.
+ */
+public final class LevelTable {
+
+    public static final int FRAMES_PER_SECOND = 60;
+    public static final double FRAME_NANOS = 1_000_000_000.0 / FRAMES_PER_SECOND;
+    /** Gravity at which a piece falls to the stack within the frame it spawns. */
+    public static final double TWENTY_G = 20;
+    /** Rows per step at 20G: more than any board is tall. */
+    public static final int INSTANT_ROWS = 1 << 16;
+    /** Highest level count; the spectator stream sends the level in one unsigned byte. */
+    public static final int MAX_LEVELS = 255;
+
+    public static final LevelTable DEFAULT = new LevelTable(99,
+            new double[]{1 / 24.0, 1 / 21.0, 1 / 18.0, 1 / 15.0, 1 / 12.0, 1 / 9.0, 1 / 6.0},
+            new int[]{24, 21, 18, 15, 12, 9, 6},
+            new int[]{10},
+            multipliers(99));
+
+    private final int levels;
+    private final double[] gravity;
+    private final int[] lockDelay;
+    private final int[] linesPerLevel;
+    private final int[] scoreMultiplier;
+
+    // Compiled lookups, indexed by level; entry 0 is unused
+    private final long[] gravityNanos;
+    private final int[] gravityTicks;
+    private final int[] rowsPerStep;
+    private final long[] lockDelayNanos;
+    private final int[] lockDelayTicks;
+    private final int[] multiplier;
+    // Total lines needed to reach each level
+    private final int[] linesToReach;
+
+    /**
+     * @param levels          number of levels; play stays at the last one.
+     * @param gravity         rows per frame for each level, from level 1.
+     * @param lockDelay       frames a landed piece waits before it locks, for each level.
+     * @param linesPerLevel   lines cleared on each level to reach the next.
+     * @param scoreMultiplier what clears on each level are multiplied by.
+     */
+    public LevelTable(int levels, double[] gravity, int[] lockDelay, int[] linesPerLevel, int[] scoreMultiplier) {
+        if (levels < 1 || levels > MAX_LEVELS) {
+            throw new IllegalArgumentException("levels must be between 1 and " + MAX_LEVELS + ", got " + levels);
+        }
+        requireValues("gravity", gravity.length);
+        for (double g : gravity) {
+            if (!(g > 0) || Double.isInfinite(g)) {
+                throw new IllegalArgumentException("gravity values must be positive, got " + g);
+            }
+        }
+        requireValues("lockDelay", lockDelay.length);
+        requireValues("linesPerLevel", linesPerLevel.length);
+        requireValues("scoreMultiplier", scoreMultiplier.length);
+        if (Arrays.stream(lockDelay).anyMatch(v -> v < 0) || Arrays.stream(scoreMultiplier).anyMatch(v -> v < 0)) {
+            throw new IllegalArgumentException("lockDelay and scoreMultiplier values must be non-negative");
+        }
+        if (Arrays.stream(linesPerLevel).anyMatch(v -> v < 1)) {
+            throw new IllegalArgumentException("linesPerLevel values must be at least 1");
+        }
+        this.levels = levels;
+        this.gravity = gravity.clone();
+        this.lockDelay = lockDelay.clone();
+        this.linesPerLevel = linesPerLevel.clone();
+        this.scoreMultiplier = scoreMultiplier.clone();
+
+        gravityNanos = new long[levels + 1];
+        gravityTicks = new int[levels + 1];
+        rowsPerStep = new int[levels + 1];
+        lockDelayNanos = new long[levels + 1];
+        lockDelayTicks = new int[levels + 1];
+        multiplier = new int[levels + 1];
+        linesToReach = new int[levels + 1];
+        compile();
+    }
+
+    private static void requireValues(String name, int length) {
+        if (length == 0) {
+            throw new IllegalArgumentException(name + " needs at least one value");
+        }
+    }
+
+    private static int[] multipliers(int levels) {
+        int[] values = new int[levels];
+        Arrays.setAll(values, i -> i + 1);
+        return values;
+    }
+
+    private void compile() {
+        long lines = 0;
+        for (int level = 1; level <= levels; level++) {
+            double g = at(gravity, level);
+            // A fall of more than a row a frame moves whole rows at once, as often as keeps the
+            // average rate exact: 1.5G is two rows every one and a third frames
+            int rows = g >= TWENTY_G ? INSTANT_ROWS : (int) Math.ceil(g);
+            double frames = g >= TWENTY_G ? 1 : rows / g;
+            rowsPerStep[level] = rows;
+            gravityNanos[level] = Math.round(frames * FRAME_NANOS);
+            gravityTicks[level] = (int) Math.max(1, Math.min(Integer.MAX_VALUE, Math.round(frames)));
+
+            int delay = at(lockDelay, level);
+            lockDelayNanos[level] = Math.round(delay * FRAME_NANOS);
+            lockDelayTicks[level] = Math.max(1, delay);
+
+            multiplier[level] = at(scoreMultiplier, level);
+            linesToReach[level] = (int) Math.min(lines, Integer.MAX_VALUE);
+            lines += at(linesPerLevel, level);
+        }
+    }
+
+    private static double at(double[] values, int level) {
+        return values[Math.min(level, values.length) - 1];
+    }
+
+    private static int at(int[] values, int level) {
+        return values[Math.min(level, values.length) - 1];
+    }
+
+    private int index(int level) {
+        return Math.max(1, Math.min(level, levels));
+    }
+
+    public int getLevels() {
+        return levels;
+    }
+
+    /**
+     * Time between gravity steps while the piece is falling.
+     */
+    public long getGravityNanos(int level) {
+        return gravityNanos[index(level)];
+    }
+
+    /**
+     * {@link #getGravityNanos} in whole frames, at least one.
+     */
+    public int getGravityTicks(int level) {
+        return gravityTicks[index(level)];
+    }
+
+    /**
+     * Rows the piece falls at each gravity step: 1 below 1G, {@link #INSTANT_ROWS} at 20G.
+     */
+    public int getRowsPerStep(int level) {
+        return rowsPerStep[index(level)];
+    }
+
+    /**
+     * Time a piece resting on the stack waits before the next gravity step locks it.
+     */
+    public long getLockDelayNanos(int level) {
+        return lockDelayNanos[index(level)];
+    }
+
+    /**
+     * {@link #getLockDelayNanos} in whole frames, at least one.
+     */
+    public int getLockDelayTicks(int level) {
+        return lockDelayTicks[index(level)];
+    }
+
+    public int getScoreMultiplier(int level) {
+        return multiplier[index(level)];
+    }
+
+    /**
+     * The level reached after clearing {@code lines} lines in total.
+     */
+    public int levelForLines(int lines) {
+        int i = Arrays.binarySearch(linesToReach, 1, levels + 1, lines);
+        return i >= 0 ? i : -i - 2;
+    }
+
+    /**
+     * Builds a table from properties, using default values for missing keys.
+     *
+     * @throws IllegalArgumentException if a value is malformed or out of range.
+     */
+    public static LevelTable fromProperties(Properties props) {
+        try {
+            String levels = props.getProperty("levels");
+            String gravity = props.getProperty("gravity");
+            return new LevelTable(
+                    levels == null ? DEFAULT.levels : Integer.parseInt(levels.trim()),
+                    gravity == null ? DEFAULT.gravity : split(gravity).mapToDouble(LevelTable::parseGravity).toArray(),
+                    vector(props, "lockDelay", DEFAULT.lockDelay),
+                    vector(props, "linesPerLevel", DEFAULT.linesPerLevel),
+                    vector(props, "scoreMultiplier", DEFAULT.scoreMultiplier));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed level table: " + e.getMessage(), e);
+        }
+    }
+
+    public static LevelTable load(Path path) throws IOException {
+        Properties props = new Properties();
+        try (Reader reader = Files.newBufferedReader(path)) {
+            props.load(reader);
+        }
+        return fromProperties(props);
+    }
+
+    /**
+     * Loads the table at {@code path} if it exists, falling back to {@link #DEFAULT} if it is
+     * missing or invalid.
+     */
+    public static LevelTable loadOrDefault(Path path) {
+        if (!Files.exists(path)) {
+            return DEFAULT;
+        }
+        try {
+            return load(path);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Failed to load level table: " + e.getMessage());
+            return DEFAULT;
+        }
+    }
+
+    /**
+     * Parses {@code 1/64}, {@code 0.5}, {@code 20} or {@code 20G}.
+     */
+    static double parseGravity(String text) {
+        String value = text.endsWith("G") || text.endsWith("g") ? text.substring(0, text.length() - 1).trim() : text;
+        int slash = value.indexOf('/');
+        if (slash < 0) {
+            return Double.parseDouble(value);
+        }
+        return Double.parseDouble(value.substring(0, slash).trim()) / Double.parseDouble(value.substring(slash + 1).trim());
+    }
+
+    private static Stream<String> split(String text) {
+        return Arrays.stream(text.split(",")).map(String::trim);
+    }
+
+    private static int[] vector(Properties props, String key, int[] fallback) {
+        String text = props.getProperty(key);
+        if (text == null) {
+            return fallback;
+        }
+        return split(text).mapToInt(Integer::parseInt).toArray();
+    }
+}
@@ -78,18 +78,11 @@ public class MatrixUtils {
         List<Integer> clearedRows = new ArrayList<>();
 
         for (int i = 0; i < matrix.length; i++) {
-            int[] tmpRow = new int[matrix[i].length];
-            boolean rowToClear = true;
-            for (int j = 0; j < matrix[0].length; j++) {
-                if (matrix[i][j] == 0) {
-                    rowToClear = false;
-                }
-                tmpRow[j] = matrix[i][j];
-            }
-            if (rowToClear) {
+            // Whole-row test, vectorised on wide boards
+            if (RowKernels.isFull(matrix[i])) {
                 clearedRows.add(i);
             } else {
-                newRows.add(tmpRow);
+                newRows.add(matrix[i].clone());
             }
         }
         for (int i = matrix.length - 1; i >= 0; i--) {
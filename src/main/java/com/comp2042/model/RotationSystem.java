@@ -0,0 +1,167 @@
+package com.comp2042.model;
+
+import com.comp2042.model.bricks.BrickTypes;
+import com.comp2042.model.bricks.PieceMask;
+
+/**
+ * Table-driven Super Rotation System (SRS) with wall kicks.
+ * <p>
+ * Rotations are numbered 0 (spawn), 1 (R), 2 and 3 (L), clockwise, matching the order of the
+ * brick shape lists. For every piece and every (from, direction) transition the kick offsets
+ * are compiled once into flat {@code int} arrays, already converted to this board's
+ * y-down coordinates. A rotation attempt then just walks the 5 (or 6 for 180 degrees) tests
+ * and asks the {@link BitBoard} for a collision, with no per-attempt allocation.
+ * </p>
+ * The result of {@link #rotate} is packed into a single {@code long}; use the static
+ * accessors to unpack it. 180-degree rotations use the widely adopted SRS+ kick table, as
+ * SRS itself does not define one. Custom pieces from a
+ * {@link com.comp2042.model.bricks.PieceSet} kick like J, L, S, T and Z.
+ */
+public final class RotationSystem {
+
+    public static final int CW = 0;
+    public static final int CCW = 1;
+    public static final int FLIP = 2;
+
+    /** Returned by {@link #rotate} when every kick test collides. */
+    public static final long FAILED = -1L;
+
+    private static final int I_PIECE_ID = 1;
+
+    // Offsets as (x, y) pairs with y pointing UP, exactly as published in the SRS guideline.
+    private static final int[][] JLSTZ_CW = {
+            {0, 0, -1, 0, -1, 1, 0, -2, -1, -2},    // 0 -> R
+            {0, 0, 1, 0, 1, -1, 0, 2, 1, 2},        // R -> 2
+            {0, 0, 1, 0, 1, 1, 0, -2, 1, -2},       // 2 -> L
+            {0, 0, -1, 0, -1, -1, 0, 2, -1, 2}      // L -> 0
+    };
+    private static final int[][] JLSTZ_CCW = {
+            {0, 0, 1, 0, 1, 1, 0, -2, 1, -2},       // 0 -> L
+            {0, 0, 1, 0, 1, -1, 0, 2, 1, 2},        // R -> 0
+            {0, 0, -1, 0, -1, 1, 0, -2, -1, -2},    // 2 -> R
+            {0, 0, -1, 0, -1, -1, 0, 2, -1, 2}      // L -> 2
+    };
+    private static final int[][] I_CW = {
+            {0, 0, -2, 0, 1, 0, -2, -1, 1, 2},      // 0 -> R
+            {0, 0, -1, 0, 2, 0, -1, 2, 2, -1},      // R -> 2
+            {0, 0, 2, 0, -1, 0, 2, 1, -1, -2},      // 2 -> L
+            {0, 0, 1, 0, -2, 0, 1, -2, -2, 1}       // L -> 0
+    };
+    private static final int[][] I_CCW = {
+            {0, 0, -1, 0, 2, 0, -1, 2, 2, -1},      // 0 -> L
+            {0, 0, 2, 0, -1, 0, 2, 1, -1, -2},      // R -> 0
+            {0, 0, 1, 0, -2, 0, 1, -2, -2, 1},      // 2 -> R
+            {0, 0, -2, 0, 1, 0, -2, -1, 1, 2}       // L -> 2
+    };
+    private static final int[][] FLIP_KICKS = {
+            {0, 0, 0, 1, 1, 1, -1, 1, 1, 0, -1, 0},     // 0 -> 2
+            {0, 0, 1, 0, 1, 2, 1, 1, 0, 2, 0, 1},       // R -> L
+            {0, 0, 0, -1, -1, -1, 1, -1, -1, 0, 1, 0},  // 2 -> 0
+            {0, 0, -1, 0, -1, 2, -1, 1, 0, 2, 0, 1}     // L -> R
+    };
+    private static final int[] NO_KICK = {0, 0};
+
+    private static final RotationSystem SRS = new RotationSystem();
+
+    /** Compiled tables indexed by piece id; entries are built lazily per piece. */
+    private final CompiledKicks[] compiled = new CompiledKicks[BrickTypes.MAX_ID + 1];
+
+    private RotationSystem() {
+    }
+
+    public static RotationSystem srs() {
+        return SRS;
+    }
+
+    /**
+     * Tries to rotate a piece, testing each kick offset in order.
+     *
+     * @param direction {@link #CW}, {@link #CCW} or {@link #FLIP}.
+     * @return the packed new state (see {@link #rotationOf}, {@link #xOf}, {@link #yOf},
+     *         {@link #kickOf}), or {@link #FAILED}.
+     */
+    public long rotate(BitBoard board, PieceMask piece, int rotation, int x, int y, int direction) {
+        CompiledKicks kicks = compiledFor(piece);
+        int target = kicks.target[rotation][direction];
+        int[] dx = kicks.dx[rotation][direction];
+        int[] dy = kicks.dy[rotation][direction];
+        for (int k = 0; k < dx.length; k++) {
+            int nx = x + dx[k];
+            int ny = y + dy[k];
+            if (!board.collides(piece, target, nx, ny)) {
+                return pack(target, nx, ny, k);
+            }
+        }
+        return FAILED;
+    }
+
+    public static int rotationOf(long packed) {
+        return (int) (packed >>> 48) & 0xFF;
+    }
+
+    public static int kickOf(long packed) {
+        return (int) (packed >>> 56) & 0xFF;
+    }
+
+    public static int xOf(long packed) {
+        return (short) (packed >>> 16);
+    }
+
+    public static int yOf(long packed) {
+        return (short) packed;
+    }
+
+    private static long pack(int rotation, int x, int y, int kick) {
+        return ((long) kick << 56) | ((long) rotation << 48) | ((x & 0xFFFFL) << 16) | (y & 0xFFFFL);
+    }
+
+    private CompiledKicks compiledFor(PieceMask piece) {
+        int id = piece.getId();
+        CompiledKicks kicks = compiled[id];
+        if (kicks == null) {
+            // Benign race: two threads may compile the same immutable table
+            kicks = new CompiledKicks(piece);
+            compiled[id] = kicks;
+        }
+        return kicks;
+    }
+
+    /**
+     * Kick offsets for one piece, flattened per (from rotation, direction).
+     */
+    private static final class CompiledKicks {
+        final int[][] target;
+        final int[][][] dx;
+        final int[][][] dy;
+
+        CompiledKicks(PieceMask piece) {
+            int count = piece.getRotationCount();
+            target = new int[count][3];
+            dx = new int[count][3][];
+            dy = new int[count][3][];
+            boolean srs = count == 4;
+            boolean iPiece = piece.getId() == I_PIECE_ID;
+
+            for (int from = 0; from < count; from++) {
+                target[from][CW] = (from + 1) % count;
+                target[from][CCW] = (from + count - 1) % count;
+                target[from][FLIP] = (from + 2) % count;
+
+                compile(from, CW, srs ? (iPiece ? I_CW : JLSTZ_CW)[from] : NO_KICK);
+                compile(from, CCW, srs ? (iPiece ? I_CCW : JLSTZ_CCW)[from] : NO_KICK);
+                compile(from, FLIP, srs ? FLIP_KICKS[from] : NO_KICK);
+            }
+        }
+
+        private void compile(int from, int direction, int[] pairs) {
+            int tests = pairs.length / 2;
+            dx[from][direction] = new int[tests];
+            dy[from][direction] = new int[tests];
+            for (int k = 0; k < tests; k++) {
+                dx[from][direction][k] = pairs[2 * k];
+                // Guideline tables are y-up; the board is y-down
+                dy[from][direction][k] = -pairs[2 * k + 1];
+            }
+        }
+    }
+}
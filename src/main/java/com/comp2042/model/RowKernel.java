@@ -0,0 +1,18 @@
+package com.comp2042.model;
+
+/**
+ * The full-row test behind {@link MatrixUtils#checkRemoving}, with a scalar and a SIMD
+ * implementation chosen by {@link RowKernels}.
+ */
+interface RowKernel {
+
+    /**
+     * Whether every cell of the row is filled.
+     */
+    boolean isFull(int[] row);
+
+    /**
+     * Cells tested per step: 1 for the scalar loop, the register width for SIMD.
+     */
+    int lanes();
+}
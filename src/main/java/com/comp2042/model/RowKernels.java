@@ -0,0 +1,79 @@
+package com.comp2042.model;
+
+/**
+ * Picks the {@link RowKernel} for each row.
+ * <p>
+ * The SIMD kernel is used when the game was built with the {@code vector} Maven profile and
+ * runs with the {@code jdk.incubator.vector} module enabled ({@code mvn -Pvector javafx:run},
+ * or {@code --add-modules jdk.incubator.vector}), and the row is at least
+ * {@link #getVectorMinWidth()} cells wide. Anything narrower, such as the standard 10-wide
+ * board, stays on the scalar loop, because setting up the vector costs more than the handful
+ * of cells it would save; {@code RowKernelBenchmark} in the test sources measures where the
+ * two cross. Otherwise every row uses the scalar loop. {@code -Dtetris.vector=false} turns
+ * the SIMD path off and {@code -Dtetris.vector.minWidth} moves the crossover.
+ * </p>
+ */
+final class RowKernels {
+
+    /**
+     * Narrowest row the SIMD kernel is used for unless overridden. {@code RowKernelBenchmark}
+     * puts the crossover at one full register, 16 cells with AVX-512.
+     */
+    static final int DEFAULT_VECTOR_MIN_WIDTH = 16;
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    // Loaded by name, since the default build leaves it out
+    private static final String VECTOR_KERNEL = "com.comp2042.model.VectorRowKernel";
+
+    static final RowKernel SCALAR = new ScalarRowKernel();
+    private static final RowKernel VECTOR = loadVector();
+    private static final int VECTOR_MIN_WIDTH = Integer.getInteger("tetris.vector.minWidth", DEFAULT_VECTOR_MIN_WIDTH);
+
+    private RowKernels() {
+        // utility class
+    }
+
+    private static RowKernel loadVector() {
+        if (!Boolean.parseBoolean(System.getProperty("tetris.vector", "true"))
+                || ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return null;
+        }
+        try {
+            return (RowKernel) Class.forName(VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * The SIMD kernel, or null if it was not built or the Vector API is not available.
+     */
+    static RowKernel vector() {
+        return VECTOR;
+    }
+
+    static int getVectorMinWidth() {
+        return VECTOR_MIN_WIDTH;
+    }
+
+    static boolean isFull(int[] row) {
+        return (VECTOR != null && row.length >= VECTOR_MIN_WIDTH ? VECTOR : SCALAR).isFull(row);
+    }
+
+    private static final class ScalarRowKernel implements RowKernel {
+
+        @Override
+        public boolean isFull(int[] row) {
+            for (int cell : row) {
+                if (cell == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int lanes() {
+            return 1;
+        }
+    }
+}
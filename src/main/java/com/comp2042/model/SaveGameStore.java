@@ -0,0 +1,93 @@
+package com.comp2042.model;
+
+import com.comp2042.model.bricks.PieceSet;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Keeps the saved game in the local 'savegame.dat' file.
+ * <p>
+ * The game is saved as a {@link GameSnapshot} whenever it is paused or left, so saving has
+ * to go unnoticed: the snapshot is a few dozen bytes, written to a temporary file and
+ * renamed over the old save, which keeps the previous save intact if writing fails
+ * halfway. It is not forced to disk; the {@code GameJournal} covers crashes.
+ * </p>
+ */
+public class SaveGameStore {
+
+    private static final String FILE_NAME = "savegame.dat";
+
+    private final Path path;
+    private final Path tempPath;
+
+    public SaveGameStore() {
+        this(Paths.get(FILE_NAME));
+    }
+
+    public SaveGameStore(Path path) {
+        this.path = path;
+        this.tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+    }
+
+    public void save(GameSnapshot snapshot) {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempPath)))) {
+            snapshot.writeTo(out);
+        } catch (IOException e) {
+            System.err.println("Failed to save game: " + e.getMessage());
+            return;
+        }
+        try {
+            Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            System.err.println("Failed to save game: " + e.getMessage());
+        }
+    }
+
+    /**
+     * The saved game, or null if there is none or it cannot be read, e.g. because it was
+     * written in an older format.
+     */
+    public GameSnapshot load() {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            return GameSnapshot.readFrom(in);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            System.err.println("Failed to load saved game: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * The saved game if it was dealt from {@code pieces}, or null as for {@link #load()}
+     * or if it was played with another piece set.
+     */
+    public GameSnapshot load(PieceSet pieces) {
+        GameSnapshot snapshot = load();
+        if (snapshot != null && !snapshot.isDealtFrom(pieces)) {
+            System.err.println("Saved game was played with another piece set; not resuming it");
+            return null;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Forgets the saved game, once it has been finished.
+     */
+    public void delete() {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            System.err.println("Failed to delete saved game: " + e.getMessage());
+        }
+    }
+}
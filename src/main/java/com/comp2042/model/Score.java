@@ -8,6 +8,18 @@ public final class Score {
     private final IntegerProperty score = new SimpleIntegerProperty(0);
     private final IntegerProperty lines = new SimpleIntegerProperty(0);
     private final IntegerProperty level = new SimpleIntegerProperty(1);
+    private LevelTable levels = LevelTable.DEFAULT;
+
+    /**
+     * Sets the table that decides when the level goes up and what clears are multiplied by.
+     */
+    public void setLevelTable(LevelTable levels) {
+        this.levels = levels;
+    }
+
+    public LevelTable getLevelTable() {
+        return levels;
+    }
 
     public IntegerProperty scoreProperty() {
         return score;
@@ -27,13 +39,19 @@ public final class Score {
 
     public void addLines(int count) {
         lines.set(lines.get() + count);
-        // Level up every 10 lines
-        int newLevel = (lines.get() / 10) + 1;
+        int newLevel = levels.levelForLines(lines.get());
         if (newLevel > level.get()) {
             level.set(newLevel);
         }
     }
 
+    /**
+     * What the current level multiplies clears by, for {@link ScoringEngine#lock}.
+     */
+    public int getScoreMultiplier() {
+        return levels.getScoreMultiplier(level.get());
+    }
+
     public void reset() {
         score.set(0);
         lines.set(0);
@@ -0,0 +1,29 @@
+package com.comp2042.model;
+
+/**
+ * Receives score events from {@link ScoringEngine}.
+ * <p>
+ * Events are passed as primitive arguments rather than event objects, so scoring stays
+ * allocation-free even when a listener is attached.
+ * </p>
+ */
+public interface ScoreListener {
+
+    /**
+     * Called for every lock that clears lines or is a T-spin.
+     *
+     * @param lines      lines cleared.
+     * @param spin       {@link TSpinDetector#NONE}, {@link TSpinDetector#MINI} or {@link TSpinDetector#FULL}.
+     * @param combo      combo count after this lock (0 for the first clear in a chain, -1 if none).
+     * @param backToBack whether the back-to-back bonus was applied.
+     * @param points     total points awarded, including level, combo and back-to-back.
+     */
+    default void onLock(int lines, int spin, int combo, boolean backToBack, int points) {
+    }
+
+    /**
+     * Called when drop points are awarded.
+     */
+    default void onDrop(int cells, boolean hardDrop, int points) {
+    }
+}
@@ -1,5 +1,7 @@
 package com.comp2042.model;
 
+import com.comp2042.diagnostics.GameMetrics;
+
 import java.io.*;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -41,11 +43,16 @@ public class ScoreManager {
     public void saveHighScore(int score) {
         if (score > highScore) {
             this.highScore = score;
+            long start = System.nanoTime();
             try (BufferedWriter writer = Files.newBufferedWriter(Paths.get(FILE_NAME))) {
                 writer.write(String.valueOf(highScore));
             } catch (IOException e) {
                 System.err.println("Failed to save high score: " + e.getMessage());
             }
+            GameMetrics metrics = GameMetrics.global();
+            if (metrics.isEnabled()) {
+                metrics.recordScoreWrite(System.nanoTime() - start);
+            }
         }
     }
 
@@ -0,0 +1,212 @@
+package com.comp2042.model;
+
+import com.comp2042.model.bricks.PieceSet;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Properties;
+
+/**
+ * Immutable table of score awards used by {@link ScoringEngine}.
+ * <p>
+ * Line-clear awards (before the level multiplier) are compiled into flat {@code int} arrays
+ * indexed by {@code spin * (PieceSet.MAX_SIZE + 1) + lines}, together with the back-to-back
+ * value and whether the clear counts as "difficult", so scoring a lock is a couple of array reads.
+ * </p>
+ * The default table keeps the original plain clear values (50, 200, 450, 800) and adds
+ * guideline T-spin, combo and drop values. Custom pieces taller than four rows can clear
+ * more lines than a tetris; each line past four adds the difference between the tetris and
+ * triple awards (350 by default), and such a clear is difficult like a tetris.
+ * A table can be loaded from a properties file:
+ * <pre>
+ * clear=0,50,200,450,800
+ * tspin=400,800,1200,1600
+ * tspinMini=100,200,400
+ * combo=50
+ * backToBackPercent=150
+ * softDrop=1
+ * hardDrop=2
+ * </pre>
+ * Missing keys keep their default values.
+ */
+public final class ScoreTable {
+
+    private static final int TETRIS_LINES = 4;
+    /** The most lines one lock can clear: the height of the tallest possible piece. */
+    private static final int MAX_LINES = PieceSet.MAX_SIZE;
+    private static final int STRIDE = MAX_LINES + 1;
+
+    public static final ScoreTable DEFAULT = new ScoreTable(
+            new int[]{0, 50, 200, 450, 800},
+            new int[]{400, 800, 1200, 1600},
+            new int[]{100, 200, 400},
+            50, 150, 1, 2);
+
+    private final int[] clear;
+    private final int[] tSpin;
+    private final int[] tSpinMini;
+    private final int comboBonus;
+    private final int backToBackPercent;
+    private final int softDropPerCell;
+    private final int hardDropPerCell;
+
+    private final int[] award = new int[3 * STRIDE];
+    private final int[] backToBackAward = new int[3 * STRIDE];
+    private final boolean[] difficult = new boolean[3 * STRIDE];
+
+    /**
+     * @param clear             plain clear awards for 0-4 lines.
+     * @param tSpin             T-spin awards for 0-3 lines.
+     * @param tSpinMini         T-spin mini awards for 0-2 lines.
+     * @param comboBonus        points per combo step, times the level's score multiplier.
+     * @param backToBackPercent multiplier applied to a difficult clear that follows another, in percent.
+     * @param softDropPerCell   points per cell of soft drop.
+     * @param hardDropPerCell   points per cell of hard drop.
+     */
+    public ScoreTable(int[] clear, int[] tSpin, int[] tSpinMini, int comboBonus,
+                      int backToBackPercent, int softDropPerCell, int hardDropPerCell) {
+        requireLength("clear", clear, 5);
+        requireLength("tspin", tSpin, 4);
+        requireLength("tspinMini", tSpinMini, 3);
+        if (comboBonus < 0 || backToBackPercent < 100 || softDropPerCell < 0 || hardDropPerCell < 0) {
+            throw new IllegalArgumentException("Score values must be non-negative and back-to-back at least 100%");
+        }
+        this.clear = clear.clone();
+        this.tSpin = tSpin.clone();
+        this.tSpinMini = tSpinMini.clone();
+        this.comboBonus = comboBonus;
+        this.backToBackPercent = backToBackPercent;
+        this.softDropPerCell = softDropPerCell;
+        this.hardDropPerCell = hardDropPerCell;
+        compile();
+    }
+
+    private static void requireLength(String name, int[] values, int length) {
+        if (values.length != length) {
+            throw new IllegalArgumentException(name + " needs " + length + " values, got " + values.length);
+        }
+        for (int value : values) {
+            if (value < 0) {
+                throw new IllegalArgumentException(name + " values must be non-negative");
+            }
+        }
+    }
+
+    private void compile() {
+        int perExtraLine = Math.max(0, clear[TETRIS_LINES] - clear[TETRIS_LINES - 1]);
+        for (int lines = 0; lines <= MAX_LINES; lines++) {
+            int plain = lines <= TETRIS_LINES ? clear[lines] : clear[TETRIS_LINES] + (lines - TETRIS_LINES) * perExtraLine;
+            set(TSpinDetector.NONE, lines, plain, lines >= TETRIS_LINES);
+            if (lines < tSpin.length) {
+                set(TSpinDetector.FULL, lines, tSpin[lines], lines > 0);
+            }
+            if (lines < tSpinMini.length) {
+                set(TSpinDetector.MINI, lines, tSpinMini[lines], lines > 0);
+            }
+        }
+    }
+
+    private void set(int spin, int lines, int points, boolean isDifficult) {
+        int i = spin * STRIDE + lines;
+        award[i] = points;
+        backToBackAward[i] = isDifficult ? points * backToBackPercent / 100 : points;
+        difficult[i] = isDifficult;
+    }
+
+    private static int index(int spin, int lines) {
+        return spin * STRIDE + lines;
+    }
+
+    /**
+     * Award for a lock before the level multiplier.
+     */
+    public int getAward(int spin, int lines) {
+        return award[index(spin, lines)];
+    }
+
+    /**
+     * Award for a difficult clear that continues a back-to-back chain.
+     */
+    public int getBackToBackAward(int spin, int lines) {
+        return backToBackAward[index(spin, lines)];
+    }
+
+    /**
+     * Whether the clear starts or continues a back-to-back chain (Tetris or longer, or any spin clear).
+     */
+    public boolean isDifficult(int spin, int lines) {
+        return difficult[index(spin, lines)];
+    }
+
+    public int getComboBonus() {
+        return comboBonus;
+    }
+
+    public int getSoftDropPerCell() {
+        return softDropPerCell;
+    }
+
+    public int getHardDropPerCell() {
+        return hardDropPerCell;
+    }
+
+    /**
+     * Builds a table from properties, using default values for missing keys.
+     *
+     * @throws IllegalArgumentException if a value is malformed or out of range.
+     */
+    public static ScoreTable fromProperties(Properties props) {
+        try {
+            return new ScoreTable(
+                    vector(props, "clear", DEFAULT.clear),
+                    vector(props, "tspin", DEFAULT.tSpin),
+                    vector(props, "tspinMini", DEFAULT.tSpinMini),
+                    scalar(props, "combo", DEFAULT.comboBonus),
+                    scalar(props, "backToBackPercent", DEFAULT.backToBackPercent),
+                    scalar(props, "softDrop", DEFAULT.softDropPerCell),
+                    scalar(props, "hardDrop", DEFAULT.hardDropPerCell));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed score table: " + e.getMessage(), e);
+        }
+    }
+
+    public static ScoreTable load(Path path) throws IOException {
+        Properties props = new Properties();
+        try (Reader reader = Files.newBufferedReader(path)) {
+            props.load(reader);
+        }
+        return fromProperties(props);
+    }
+
+    /**
+     * Loads the table at {@code path} if it exists, falling back to {@link #DEFAULT} if it is
+     * missing or invalid.
+     */
+    public static ScoreTable loadOrDefault(Path path) {
+        if (!Files.exists(path)) {
+            return DEFAULT;
+        }
+        try {
+            return load(path);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Failed to load score table: " + e.getMessage());
+            return DEFAULT;
+        }
+    }
+
+    private static int[] vector(Properties props, String key, int[] fallback) {
+        String text = props.getProperty(key);
+        if (text == null) {
+            return fallback;
+        }
+        return Arrays.stream(text.split(",")).map(String::trim).mapToInt(Integer::parseInt).toArray();
+    }
+
+    private static int scalar(Properties props, String key, int fallback) {
+        String text = props.getProperty(key);
+        return text == null ? fallback : Integer.parseInt(text.trim());
+    }
+}
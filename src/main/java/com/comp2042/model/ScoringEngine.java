@@ -0,0 +1,115 @@
+package com.comp2042.model;
+
+/**
+ * Stateful scoring for one game: line clears, T-spins, combos, back-to-back and drops.
+ * <p>
+ * Awards come from an immutable {@link ScoreTable}; the engine itself only keeps the combo
+ * counter and the back-to-back flag. No method allocates, so the same engine is used by the
+ * GUI game and by the headless simulator.
+ * </p>
+ * The engine only computes points. Callers add them to {@link Score} themselves, the same
+ * way line and level bookkeeping is done.
+ */
+public final class ScoringEngine {
+
+    private final ScoreTable table;
+    private ScoreListener listener;
+    private int combo = -1;
+    private boolean backToBack;
+
+    public ScoringEngine() {
+        this(ScoreTable.DEFAULT);
+    }
+
+    public ScoringEngine(ScoreTable table) {
+        this.table = table;
+    }
+
+    public void setListener(ScoreListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Scores a piece lock. Must be called for every lock, including ones that clear nothing,
+     * so the combo chain is broken correctly.
+     *
+     * @param lines number of lines cleared.
+     * @param spin  spin classification from {@link TSpinDetector}.
+     * @param multiplier the current level's score multiplier, see {@link Score#getScoreMultiplier()}.
+     * @return the points awarded.
+     */
+    public int lock(int lines, int spin, int multiplier) {
+        if (lines <= 0) {
+            combo = -1;
+            if (spin == TSpinDetector.NONE) {
+                return 0;
+            }
+            int points = table.getAward(spin, 0) * multiplier;
+            notifyLock(0, spin, false, points);
+            return points;
+        }
+
+        boolean difficult = table.isDifficult(spin, lines);
+        boolean applyBackToBack = difficult && backToBack;
+        int points = (applyBackToBack ? table.getBackToBackAward(spin, lines) : table.getAward(spin, lines)) * multiplier;
+        backToBack = difficult;
+
+        combo++;
+        if (combo > 0) {
+            points += table.getComboBonus() * combo * multiplier;
+        }
+        notifyLock(lines, spin, applyBackToBack, points);
+        return points;
+    }
+
+    public int softDrop(int cells) {
+        int points = cells * table.getSoftDropPerCell();
+        if (listener != null && points > 0) {
+            listener.onDrop(cells, false, points);
+        }
+        return points;
+    }
+
+    public int hardDrop(int cells) {
+        int points = cells * table.getHardDropPerCell();
+        if (listener != null && points > 0) {
+            listener.onDrop(cells, true, points);
+        }
+        return points;
+    }
+
+    private void notifyLock(int lines, int spin, boolean applyBackToBack, int points) {
+        if (listener != null) {
+            listener.onLock(lines, spin, combo, applyBackToBack, points);
+        }
+    }
+
+    public void reset() {
+        combo = -1;
+        backToBack = false;
+    }
+
+    /**
+     * Continues a chain saved from {@link #getCombo()} and {@link #isBackToBack()}, e.g.
+     * when a game is restored.
+     */
+    public void restore(int combo, boolean backToBack) {
+        this.combo = combo;
+        this.backToBack = backToBack;
+    }
+
+    /**
+     * Current combo count: -1 when no chain is running, 0 after the first clear.
+     */
+    public int getCombo() {
+        return combo;
+    }
+
+    public boolean isBackToBack() {
+        return backToBack;
+    }
+
+    public ScoreTable getTable() {
+        return table;
+    }
+}
@@ -7,16 +7,18 @@ public class ScoringRules {
     }
 
     /**
-     * Bonus for clearing lines.
-     * Formula: (50 * lines^2) * currentLevel
+     * Bonus for clearing lines without a spin, looked up in {@link ScoreTable#DEFAULT}.
+     * Default values: 50, 200, 450, 800 for 1-4 lines, multiplied by currentLevel.
      * Example: Clearing 4 lines (Tetris) at Level 1 = 800 pts.
      * Clearing 4 lines at Level 10 = 8000 pts.
+     * <p>
+     * T-spins, combos and back-to-back clears are scored by {@link ScoringEngine}.
+     * </p>
      */
     public static int lineClearBonus(int linesRemoved, int currentLevel) {
         if (linesRemoved <= 0) {
             return 0;
         }
-        int baseScore = 50 * linesRemoved * linesRemoved;
-        return baseScore * currentLevel;
+        return ScoreTable.DEFAULT.getAward(TSpinDetector.NONE, linesRemoved) * currentLevel;
     }
 }
@@ -0,0 +1,75 @@
+package com.comp2042.model;
+
+/**
+ * Detects T-spins with the guideline 3-corner rule.
+ * <p>
+ * The four diagonal corners of the T's 3x3 box are read from the {@link BitBoard} into a
+ * 4-bit mask (walls and floor count as filled). A precomputed table indexed by rotation and
+ * corner mask then gives the result directly: three or more filled corners make a spin, and
+ * it is a full T-spin when both corners on the pointing side are filled, otherwise a mini.
+ * </p>
+ * A mini is upgraded to a full T-spin when a 90-degree rotation needed the last of its five
+ * kick tests, as the guideline does for T-spin triples. 180-degree rotations, which the
+ * guideline does not define, are never upgraded.
+ */
+public final class TSpinDetector {
+
+    public static final int NONE = 0;
+    public static final int MINI = 1;
+    public static final int FULL = 2;
+
+    private static final int T_PIECE_ID = 6;
+    // Last test of the 90-degree SRS kick tables
+    private static final int LAST_KICK = 4;
+
+    // Corner bits in clockwise order: 0 = top-left, 1 = top-right, 2 = bottom-right, 3 = bottom-left
+    private static final int[] CORNER_DX = {0, 2, 2, 0};
+    private static final int[] CORNER_DY = {0, 0, 2, 2};
+    private static final byte[][] SPIN_BY_CORNERS = new byte[4][16];
+
+    static {
+        for (int rotation = 0; rotation < 4; rotation++) {
+            // Rotation r points at corners r and r + 1 (spawn points up: top-left and top-right)
+            int front = (1 << rotation) | (1 << ((rotation + 1) & 3));
+            for (int corners = 0; corners < 16; corners++) {
+                if (Integer.bitCount(corners) >= 3) {
+                    SPIN_BY_CORNERS[rotation][corners] = (byte) ((corners & front) == front ? FULL : MINI);
+                }
+            }
+        }
+    }
+
+    private TSpinDetector() {
+        // utility class
+    }
+
+    /**
+     * Classifies the lock of a piece at (x, y), before it is written into the board.
+     *
+     * @param lastMoveWasRotation whether the last successful input before locking was a rotation.
+     * @param direction           that rotation's {@link RotationSystem} direction.
+     * @param kick                index of the kick test used by that rotation.
+     * @return {@link #NONE}, {@link #MINI} or {@link #FULL}.
+     */
+    public static int detect(BitBoard board, int pieceId, int rotation, int x, int y,
+                             boolean lastMoveWasRotation, int direction, int kick) {
+        if (pieceId != T_PIECE_ID || !lastMoveWasRotation) {
+            return NONE;
+        }
+        int corners = 0;
+        for (int c = 0; c < 4; c++) {
+            if (isBlocked(board, x + CORNER_DX[c], y + CORNER_DY[c])) {
+                corners |= 1 << c;
+            }
+        }
+        int spin = SPIN_BY_CORNERS[rotation][corners];
+        return spin == MINI && direction != RotationSystem.FLIP && kick == LAST_KICK ? FULL : spin;
+    }
+
+    private static boolean isBlocked(BitBoard board, int x, int y) {
+        if (x < 0 || x >= board.getWidth() || y >= board.getHeight()) {
+            return true;
+        }
+        return y >= 0 && board.isFilled(x, y);
+    }
+}
@@ -3,9 +3,14 @@ package com.comp2042.model;
 import com.comp2042.model.bricks.Brick;
 import com.comp2042.model.bricks.BrickGenerator;
 import com.comp2042.model.bricks.BrickRotator;
+import com.comp2042.model.bricks.BrickTypes;
+import com.comp2042.model.bricks.PieceMask;
 import com.comp2042.model.bricks.RandomBrickGenerator;
 import com.comp2042.model.bricks.Bag7BrickGenerator;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Represents the game board logic and physics engine.
  * <p>
@@ -14,6 +19,11 @@ import com.comp2042.model.bricks.Bag7BrickGenerator;
  * </p>
  * The board uses a coordinate system where (0,0) is the top-left corner.
  * It includes hidden rows at the top for smooth brick spawning.
+ * <p>
+ * Alongside the colour matrix the board keeps a {@link BitBoard} mirror of the occupied
+ * cells. Moves and rotations test collisions against the mirror, and rotations go through
+ * the SRS {@link RotationSystem}, so wall kicks work in both directions and for 180 degrees.
+ * </p>
  */
 public class TetrisBoard implements Board {
 
@@ -21,8 +31,15 @@ public class TetrisBoard implements Board {
     private final int height;
     private final BrickGenerator brickGenerator;
     private final BrickRotator brickRotator;
+    private final RotationSystem rotationSystem = RotationSystem.srs();
     private int[][] currentGameMatrix;
+    private BitBoard occupancy;
+    private PieceMask currentMask;
     private GamePoint currentOffset;
+    private boolean lastMoveWasRotation;
+    private int lastRotationDirection;
+    private int lastKick;
+    private int lastLockSpin = TSpinDetector.NONE;
     private final Score score;
     private Brick holdBrick = null;
     private boolean holdUsedThisTurn = false;
@@ -30,44 +47,80 @@ public class TetrisBoard implements Board {
     public static final int BOARD_HEIGHT = 25;
     public static final int BOARD_WIDTH  = 10;
     public static final int HIDDEN_ROWS  = 2;
-    private static final int SPAWN_X = 4;
-    private static final int SPAWN_Y = HIDDEN_ROWS;
+    public static final int SPAWN_X = 4;
+    public static final int SPAWN_Y = HIDDEN_ROWS;
+    /** Colour code of garbage cells, one past the seven piece colours. */
+    public static final int GARBAGE_COLOR = 8;
 
     public TetrisBoard(int width, int height) {
+        this(width, height, new Bag7BrickGenerator());
+    }
+
+    /**
+     * Creates a board fed by a specific generator, e.g. a seeded {@link Bag7BrickGenerator}
+     * for repeatable headless games.
+     */
+    public TetrisBoard(int width, int height, BrickGenerator brickGenerator) {
         this.width = width;
         this.height = height;
         currentGameMatrix = new int[width][height];
-        brickGenerator = new Bag7BrickGenerator();
+        occupancy = BitBoard.fromMatrix(currentGameMatrix);
+        this.brickGenerator = brickGenerator;
         brickRotator = new BrickRotator();
         score = new Score();
     }
 
-    @Override public boolean moveBrickDown() {
-        int[][] currentMatrix = MatrixUtils.copy(currentGameMatrix);
-        GamePoint p = currentOffset.translate(0, 1);
-        boolean conflict = MatrixUtils.intersect(currentMatrix, brickRotator.getCurrentShape(), p.x(), p.y());
-        if (conflict) { return false; } else { currentOffset = p; return true; }
-    }
+    @Override public boolean moveBrickDown() { return tryMove(0, 1); }
+
+    @Override public boolean moveBrickLeft() { return tryMove(-1, 0); }
+
+    @Override public boolean moveBrickRight() { return tryMove(1, 0); }
+
+    @Override public boolean rotateLeftBrick() { return tryRotate(RotationSystem.CCW); }
 
-    @Override public boolean moveBrickLeft() {
-        int[][] currentMatrix = MatrixUtils.copy(currentGameMatrix);
-        GamePoint p = currentOffset.translate(-1, 0);
-        boolean conflict = MatrixUtils.intersect(currentMatrix, brickRotator.getCurrentShape(), p.x(), p.y());
-        if (conflict) { return false; } else { currentOffset = p; return true; }
+    @Override public boolean rotateRightBrick() { return tryRotate(RotationSystem.CW); }
+
+    @Override public boolean rotate180Brick() { return tryRotate(RotationSystem.FLIP); }
+
+    /**
+     * Whether the active brick is resting on the stack or the floor, so that the next step
+     * down locks it.
+     */
+    public boolean isGrounded() {
+        return occupancy.collides(currentMask, brickRotator.getCurrentPosition(), currentOffset.x(), currentOffset.y() + 1);
     }
 
-    @Override public boolean moveBrickRight() {
-        int[][] currentMatrix = MatrixUtils.copy(currentGameMatrix);
-        GamePoint p = currentOffset.translate(1, 0);
-        boolean conflict = MatrixUtils.intersect(currentMatrix, brickRotator.getCurrentShape(), p.x(), p.y());
-        if (conflict) { return false; } else { currentOffset = p; return true; }
+    private boolean tryMove(int dx, int dy) {
+        int x = currentOffset.x() + dx;
+        int y = currentOffset.y() + dy;
+        if (occupancy.collides(currentMask, brickRotator.getCurrentPosition(), x, y)) {
+            return false;
+        }
+        currentOffset = new GamePoint(x, y);
+        lastMoveWasRotation = false;
+        return true;
     }
 
-    @Override public boolean rotateLeftBrick() {
-        int[][] currentMatrix = MatrixUtils.copy(currentGameMatrix);
-        NextShapeInfo nextShape = brickRotator.getNextShape();
-        boolean conflict = MatrixUtils.intersect(currentMatrix, nextShape.getShape(), currentOffset.x(), currentOffset.y());
-        if (conflict) { return false; } else { brickRotator.setCurrentShape(nextShape.getPosition()); return true; }
+    /**
+     * Rotates the active brick, trying each SRS kick offset in turn.
+     *
+     * @param direction one of {@link RotationSystem#CW}, {@link RotationSystem#CCW}, {@link RotationSystem#FLIP}.
+     * @return true if any kick test succeeded.
+     */
+    private boolean tryRotate(int direction) {
+        long result = rotationSystem.rotate(occupancy, currentMask, brickRotator.getCurrentPosition(),
+                currentOffset.x(), currentOffset.y(), direction);
+        if (result == RotationSystem.FAILED) {
+            return false;
+        }
+        brickRotator.setCurrentShape(RotationSystem.rotationOf(result));
+        lastMoveWasRotation = true;
+        lastRotationDirection = direction;
+        lastKick = RotationSystem.kickOf(result);
+        if (RotationSystem.kickOf(result) != 0) {
+            currentOffset = new GamePoint(RotationSystem.xOf(result), RotationSystem.yOf(result));
+        }
+        return true;
     }
 
     /**
@@ -81,27 +134,86 @@ public class TetrisBoard implements Board {
     @Override public boolean createNewBrick() {
         Brick currentBrick = brickGenerator.getBrick();
         brickRotator.setBrick(currentBrick);
+        currentMask = PieceMask.of(currentBrick);
         currentOffset = new GamePoint(SPAWN_X, SPAWN_Y);
+        lastMoveWasRotation = false;
         holdUsedThisTurn = false;
-        return MatrixUtils.intersect(currentGameMatrix, brickRotator.getCurrentShape(), currentOffset.x(), currentOffset.y());
+        return occupancy.collides(currentMask, 0, SPAWN_X, SPAWN_Y);
     }
 
     @Override public int[][] getBoardMatrix() { return currentGameMatrix; }
 
     @Override public ViewData getViewData() { return new ViewData(brickRotator.getCurrentShape(), currentOffset.x(), currentOffset.y(), brickGenerator.getNextBrick().getShapeMatrix().get(0)); }
 
-    @Override public void mergeBrickToBackground() { currentGameMatrix = MatrixUtils.merge(currentGameMatrix, brickRotator.getCurrentShape(), currentOffset.x(), currentOffset.y()); }
+    @Override public void mergeBrickToBackground() {
+        lastLockSpin = TSpinDetector.detect(occupancy, currentMask.getId(), brickRotator.getCurrentPosition(),
+                currentOffset.x(), currentOffset.y(), lastMoveWasRotation, lastRotationDirection, lastKick);
+        currentGameMatrix = MatrixUtils.merge(currentGameMatrix, brickRotator.getCurrentShape(), currentOffset.x(), currentOffset.y());
+        occupancy.stamp(currentMask, brickRotator.getCurrentPosition(), currentOffset.x(), currentOffset.y());
+    }
 
     @Override public ClearRow clearRows() {
         ClearRow clearRow = MatrixUtils.checkRemoving(currentGameMatrix);
         currentGameMatrix = clearRow.getNewMatrix();
+        occupancy.clearFullRows();
         return clearRow;
     }
     @Override public Score getScore() { return score; }
 
+    /**
+     * Pushes {@code lines} garbage rows in from the bottom, each filled except at
+     * {@code holeColumn}, as sent by an opponent in versus play.
+     * <p>
+     * Only row references are moved: the rows pushed off the top are refilled and reused as
+     * the new bottom rows, so no other cell is copied, and the {@link BitBoard} mirror is
+     * shifted the same way. The active brick is lifted if the rising stack now overlaps it.
+     * </p>
+     *
+     * @return true if the player topped out: filled cells were pushed off the top, or the
+     *         active brick could not be lifted clear.
+     * @throws IllegalArgumentException if {@code holeColumn} is not a column of the board.
+     */
+    public boolean insertGarbage(int lines, int holeColumn) {
+        int[][] matrix = currentGameMatrix;
+        if (holeColumn < 0 || holeColumn >= BOARD_WIDTH) {
+            throw new IllegalArgumentException("Hole column must be between 0 and " + (BOARD_WIDTH - 1) + ", got " + holeColumn);
+        }
+        lines = Math.min(lines, matrix.length);
+        if (lines <= 0) {
+            return false;
+        }
+        boolean toppedOut = occupancy.insertGarbage(lines, holeColumn);
+
+        int[][] recycled = new int[lines][];
+        System.arraycopy(matrix, 0, recycled, 0, lines);
+        System.arraycopy(matrix, lines, matrix, 0, matrix.length - lines);
+        for (int i = 0; i < lines; i++) {
+            int[] row = recycled[i];
+            Arrays.fill(row, GARBAGE_COLOR);
+            row[holeColumn] = 0;
+            matrix[matrix.length - lines + i] = row;
+        }
+
+        int rotation = brickRotator.getCurrentPosition();
+        int x = currentOffset.x();
+        int y = currentOffset.y();
+        int lowest = y - lines;
+        while (y >= lowest && occupancy.collides(currentMask, rotation, x, y)) {
+            y--;
+        }
+        if (y < lowest) {
+            return true;
+        }
+        if (y != currentOffset.y()) {
+            currentOffset = new GamePoint(x, y);
+        }
+        return toppedOut;
+    }
+
     @Override
     public void newGame() {
         currentGameMatrix = new int[BOARD_HEIGHT][BOARD_WIDTH];
+        occupancy = new BitBoard(BOARD_WIDTH, BOARD_HEIGHT);
         score.reset();
 
         holdBrick = null;
@@ -116,12 +228,99 @@ public class TetrisBoard implements Board {
         Brick currentBrick = brickRotator.getBrick();
         if (holdBrick == null) { holdBrick = currentBrick; return createNewBrick(); }
         Brick temp = holdBrick; holdBrick = currentBrick; brickRotator.setBrick(temp);
+        currentMask = PieceMask.of(temp);
         currentOffset = new GamePoint(SPAWN_X, SPAWN_Y);
-        return MatrixUtils.intersect(currentGameMatrix, brickRotator.getCurrentShape(), currentOffset.x(), currentOffset.y());
+        lastMoveWasRotation = false;
+        return occupancy.collides(currentMask, 0, SPAWN_X, SPAWN_Y);
     }
 
     @Override public int[][] getHoldBrickShape() { if (holdBrick == null) return null; return holdBrick.getShapeMatrix().get(0); }
 
+    public Brick getCurrentBrick() { return brickRotator.getBrick(); }
+
+    /** Piece id (colour code) of the active brick. */
+    public int getCurrentPieceId() { return currentMask.getId(); }
+
+    /** Piece id of the held brick, or 0 if the hold slot is empty. */
+    public int getHoldPieceId() { return holdBrick == null ? 0 : PieceMask.of(holdBrick).getId(); }
+
+    /** Rotation index of the active brick (0 = spawn, then clockwise). */
+    public int getCurrentRotation() { return brickRotator.getCurrentPosition(); }
+
+    /** Board position of the active brick's top-left corner. */
+    public GamePoint getCurrentOffset() { return currentOffset; }
+
+    /**
+     * Live occupancy mirror of the board matrix. Callers must treat it as read-only.
+     */
+    public BitBoard getOccupancy() { return occupancy; }
+
+    /** Spin classification of the most recently merged brick, see {@link TSpinDetector}. */
+    public int getLastLockSpin() { return lastLockSpin; }
+
+    public Brick getHoldBrick() { return holdBrick; }
+
+    public boolean isHoldUsedThisTurn() { return holdUsedThisTurn; }
+
+    /**
+     * Read-only look at the upcoming bricks, used by the bot to plan several pieces ahead.
+     *
+     * @param count number of upcoming bricks to return.
+     */
+    public List<Brick> getPreview(int count) { return brickGenerator.getPreview(count); }
+
+    /**
+     * Starts a new game dealt from {@code seed}, so that the same inputs always give the same game.
+     *
+     * @throws IllegalStateException if the board's generator cannot be seeded.
+     */
+    public void newGame(long seed) {
+        seededGenerator().reseed(seed);
+        newGame();
+    }
+
+    /**
+     * The generator, for saving and restoring its state.
+     *
+     * @throws IllegalStateException unless it is a {@link Bag7BrickGenerator}, the only one that can be seeded.
+     */
+    Bag7BrickGenerator seededGenerator() {
+        if (brickGenerator instanceof Bag7BrickGenerator bag) {
+            return bag;
+        }
+        throw new IllegalStateException("Only a Bag7BrickGenerator can be seeded or saved");
+    }
+
+    boolean isLastMoveRotation() { return lastMoveWasRotation; }
+
+    int getLastRotationDirection() { return lastRotationDirection; }
+
+    int getLastKick() { return lastKick; }
+
+    /**
+     * Replaces the whole board state, as saved in a {@link GameSnapshot}. The matrix is
+     * copied and the occupancy mirror rebuilt from it. Nothing changes if an id is unknown.
+     *
+     * @throws IllegalArgumentException if the piece or hold id is not a piece id.
+     */
+    void restore(int[][] matrix, int pieceId, int rotation, GamePoint offset, boolean lastMoveRotation, int direction, int kick,
+                 int holdId, boolean holdUsed) {
+        Brick brick = BrickTypes.byId(pieceId);
+        Brick hold = holdId == 0 ? null : BrickTypes.byId(holdId);
+        currentGameMatrix = MatrixUtils.copy(matrix);
+        occupancy = BitBoard.fromMatrix(currentGameMatrix);
+        brickRotator.setBrick(brick);
+        brickRotator.setCurrentShape(rotation);
+        currentMask = PieceMask.of(brick);
+        currentOffset = offset;
+        lastMoveWasRotation = lastMoveRotation;
+        lastRotationDirection = direction;
+        lastKick = kick;
+        lastLockSpin = TSpinDetector.NONE;
+        holdBrick = hold;
+        holdUsedThisTurn = holdUsed;
+    }
+
     /**
      * Advances the game state by one step (gravity).
      * <p>
@@ -138,9 +337,11 @@ public class TetrisBoard implements Board {
         boolean canMove = moveBrickDown();
         ClearRow clearRow = null;
         boolean gameOver = false;
+        int spin = TSpinDetector.NONE;
 
         if (!canMove) {
             mergeBrickToBackground();
+            spin = lastLockSpin;
             clearRow = clearRows();
 
             if (createNewBrick()) {
@@ -148,23 +349,45 @@ public class TetrisBoard implements Board {
             }
         }
 
-        return new DownData(clearRow, getViewData(), gameOver);
+        return new DownData(clearRow, getViewData(), gameOver, canMove ? 1 : 0, spin);
+    }
+
+    /**
+     * Applies one gravity step of up to {@code rows} rows, see {@link LevelTable#getRowsPerStep}.
+     * <p>
+     * The brick falls until it lands but is not locked, so the lock delay can start; a brick
+     * that was already resting on the stack is locked as by {@link #stepDown}.
+     * </p>
+     */
+    public DownData fall(int rows) {
+        if (isGrounded()) {
+            return stepDown(false);
+        }
+        int distance = 0;
+        while (distance < rows && moveBrickDown()) {
+            distance++;
+            if (isGrounded()) {
+                break;
+            }
+        }
+        return new DownData(null, getViewData(), false, distance, TSpinDetector.NONE);
     }
 
     @Override
     public DownData hardDrop(boolean awardSoftDropScore) {
         ClearRow clearRow;
         boolean gameOver;
-        boolean canMove;
-        do {
-            canMove = moveBrickDown();
-        } while (canMove);
+        int distance = 0;
+        while (moveBrickDown()) {
+            distance++;
+        }
 
         mergeBrickToBackground();
+        int spin = lastLockSpin;
         clearRow = clearRows();
 
         gameOver = createNewBrick();
 
-        return new DownData(clearRow, getViewData(), gameOver);
+        return new DownData(clearRow, getViewData(), gameOver, distance, spin);
     }
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.comp2042.model;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link RowKernel} on the incubating Vector API: a row is tested a full SIMD register of
+ * cells at a time, with a scalar loop for the cells left over.
+ * <p>
+ * This is the only class that refers to {@code jdk.incubator.vector}. It is compiled only by
+ * the {@code vector} Maven profile, and {@link RowKernels} loads it by name only when the
+ * module is in the boot layer, so a default build neither contains nor needs it.
+ * </p>
+ */
+final class VectorRowKernel implements RowKernel {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    @Override
+    public int lanes() {
+        return SPECIES.length();
+    }
+
+    @Override
+    public boolean isFull(int[] row) {
+        int i = 0;
+        int bound = SPECIES.loopBound(row.length);
+        for (; i < bound; i += SPECIES.length()) {
+            if (IntVector.fromArray(SPECIES, row, i).compare(VectorOperators.EQ, 0).anyTrue()) {
+                return false;
+            }
+        }
+        for (; i < row.length; i++) {
+            if (row[i] == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -12,13 +12,34 @@ import java.util.List;
  * Each concrete brick only defines its rotation matrices. Common behaviour such as
  * storing the rotations and returning a defensive copy is handled here, which
  * removes a lot of duplication from the individual brick classes.
+ * <p>
+ * A standard brick's id is its colour code, the value in its shape cells. Pieces from a
+ * {@link PieceSet} pass their id separately, since several may share a colour.
+ * </p>
  */
 public abstract class AbstractBrick implements Brick {
 
     private final List<int[][]> shapeMatrix = new ArrayList<>();
+    private final int id;
 
     protected AbstractBrick(int[][]... rotations) {
-        shapeMatrix.addAll(Arrays.asList(rotations));
+        this(firstCell(rotations[0]), Arrays.asList(rotations));
+    }
+
+    protected AbstractBrick(int id, List<int[][]> rotations) {
+        this.id = id;
+        shapeMatrix.addAll(rotations);
+    }
+
+    private static int firstCell(int[][] shape) {
+        for (int[] row : shape) {
+            for (int cell : row) {
+                if (cell != 0) {
+                    return cell;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Brick shape has no filled cells");
     }
 
     @Override
@@ -26,4 +47,9 @@ public abstract class AbstractBrick implements Brick {
         // defensive copy so model code can't mutate our internal state
         return MatrixUtils.deepCopyList(shapeMatrix);
     }
-}
\ No newline at end of file
+
+    @Override
+    public int getId() {
+        return id;
+    }
+}
@@ -4,7 +4,9 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Implements the "7-Bag" Random Generator system.
@@ -12,38 +14,116 @@ import java.util.List;
  * This strategy guarantees that the player receives a sequence containing exactly
  * one of every tetromino type (I, J, L, O, S, T, Z) in a random order before the set repeats.
  * This prevents long droughts of specific pieces (e.g., waiting forever for an I-piece).
+ * With a custom {@link PieceSet} the bag holds one of each piece in the set instead.
  * </p>
+ * Shuffling uses a small SplitMix64 generator, so a generator built with a fixed seed
+ * always deals the same sequence. Headless simulations rely on this for repeatable games.
  */
 public class Bag7BrickGenerator implements BrickGenerator {
 
+    private final PieceSet pieceSet;
+    private final List<Brick> pieces;
     private final Deque<Brick> brickQueue = new ArrayDeque<>();
+    private long rngState;
 
     public Bag7BrickGenerator() {
+        this(ThreadLocalRandom.current().nextLong());
+    }
+
+    public Bag7BrickGenerator(long seed) {
+        this(PieceSet.STANDARD, seed);
+    }
+
+    public Bag7BrickGenerator(PieceSet pieces) {
+        this(pieces, ThreadLocalRandom.current().nextLong());
+    }
+
+    public Bag7BrickGenerator(PieceSet pieces, long seed) {
+        this.pieceSet = pieces;
+        this.pieces = pieces.getBricks();
+        this.rngState = seed;
         // Fill the queue initially with 2 bags so we always have a "next" piece ready
         refillBag();
         refillBag();
     }
 
     private void refillBag() {
-        List<Brick> newBag = new ArrayList<>();
-        newBag.add(new IBrick());
-        newBag.add(new JBrick());
-        newBag.add(new LBrick());
-        newBag.add(new OBrick());
-        newBag.add(new SBrick());
-        newBag.add(new TBrick());
-        newBag.add(new ZBrick());
-
-        // Randomize the order of these 7 bricks
-        Collections.shuffle(newBag);
+        List<Brick> newBag = new ArrayList<>(pieces);
+
+        // Randomize the order of the bag (Fisher-Yates)
+        for (int i = newBag.size() - 1; i > 0; i--) {
+            Collections.swap(newBag, i, nextInt(i + 1));
+        }
 
         brickQueue.addAll(newBag);
     }
 
+    private int nextInt(int bound) {
+        // SplitMix64 step
+        long z = (rngState += 0x9E3779B97F4A7C15L);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z = z ^ (z >>> 31);
+        return (int) ((z >>> 33) % bound);
+    }
+
+    /**
+     * Starts over from {@code seed}, dealing exactly what a new generator with that seed would.
+     */
+    public void reseed(long seed) {
+        brickQueue.clear();
+        rngState = seed;
+        refillBag();
+        refillBag();
+    }
+
+    /**
+     * The set this generator deals from.
+     */
+    public PieceSet getPieceSet() {
+        return pieceSet;
+    }
+
+    /**
+     * The shuffle state; together with {@link #getQueuedIds()} it determines every piece
+     * still to come.
+     */
+    public long getRngState() {
+        return rngState;
+    }
+
+    /**
+     * Piece ids of the bricks already shuffled and waiting, in dealing order.
+     */
+    public int[] getQueuedIds() {
+        int[] ids = new int[brickQueue.size()];
+        int i = 0;
+        for (Brick brick : brickQueue) {
+            ids[i++] = brick.getId();
+        }
+        return ids;
+    }
+
+    /**
+     * Puts the generator back into a state read from {@link #getRngState()} and
+     * {@link #getQueuedIds()}. Nothing changes if an id is unknown.
+     *
+     * @throws IllegalArgumentException if a queued id is not a piece id.
+     */
+    public void restore(long rngState, int[] queuedIds) {
+        List<Brick> queued = new ArrayList<>(queuedIds.length);
+        for (int id : queuedIds) {
+            queued.add(BrickTypes.byId(id));
+        }
+        brickQueue.clear();
+        brickQueue.addAll(queued);
+        this.rngState = rngState;
+    }
+
     @Override
     public Brick getBrick() {
-        // If we are running low (fewer than 7 pieces), add another bag to the end
-        if (brickQueue.size() <= 7) {
+        // If we are running low (no more than a bag left), add another bag to the end
+        if (brickQueue.size() <= pieces.size()) {
             refillBag();
         }
         return brickQueue.poll();
@@ -54,4 +134,18 @@ public class Bag7BrickGenerator implements BrickGenerator {
         // Peek at the next piece without removing it
         return brickQueue.peek();
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<Brick> getPreview(int count) {
+        // Top up whole bags so the preview never reveals a partially-shuffled bag
+        while (brickQueue.size() < count) {
+            refillBag();
+        }
+        List<Brick> preview = new ArrayList<>(count);
+        Iterator<Brick> it = brickQueue.iterator();
+        for (int i = 0; i < count; i++) {
+            preview.add(it.next());
+        }
+        return Collections.unmodifiableList(preview);
+    }
+}
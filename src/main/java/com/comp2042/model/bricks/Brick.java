@@ -5,4 +5,10 @@ import java.util.List;
 public interface Brick {
 
     List<int[][]> getShapeMatrix();
+
+    /**
+     * Piece id: 1 to {@link BrickTypes#COUNT} for the standard tetrominoes, higher for
+     * pieces defined in a {@link PieceSet}.
+     */
+    int getId();
 }
@@ -1,8 +1,18 @@
 package com.comp2042.model.bricks;
 
+import java.util.List;
+
 public interface BrickGenerator {
 
     Brick getBrick();
 
     Brick getNextBrick();
+
+    /**
+     * Returns a read-only view of the upcoming bricks without consuming them.
+     *
+     * @param count how many upcoming bricks to return; the generator tops up its queue if needed.
+     * @return an unmodifiable list of the next {@code count} bricks, in the order they will be dealt.
+     */
+    List<Brick> getPreview(int count);
 }
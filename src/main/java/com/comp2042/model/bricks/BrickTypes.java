@@ -0,0 +1,107 @@
+package com.comp2042.model.bricks;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Creates bricks from their piece ids, for code that stores pieces as ids and has to turn
+ * them back into bricks, such as saved games and spectator streams.
+ * <p>
+ * Ids above {@link #COUNT} belong to pieces defined in a {@link PieceSet}, which registers
+ * them here when it is loaded. An id keeps the same shape for the life of the program, so
+ * anything that stored it can always turn it back into the brick it meant.
+ * </p>
+ */
+public final class BrickTypes {
+
+    /** Number of standard piece ids; the tetrominoes are 1 to this. */
+    public static final int COUNT = 7;
+    /** Highest piece id; saved games and journals store ids in a byte. */
+    public static final int MAX_ID = 255;
+    /** Side of the standard shape boxes. */
+    public static final int STANDARD_SIZE = 4;
+
+    private static final AtomicReferenceArray<Brick> REGISTERED = new AtomicReferenceArray<>(MAX_ID + 1);
+    private static volatile int maxSize = STANDARD_SIZE;
+
+    private BrickTypes() {
+        // utility class
+    }
+
+    /**
+     * A brick for a piece id: 1 I, 2 J, 3 L, 4 O, 5 S, 6 T, 7 Z, or a registered piece.
+     *
+     * @throws IllegalArgumentException if the id is not a piece id.
+     */
+    public static Brick byId(int id) {
+        return switch (id) {
+            case 1 -> new IBrick();
+            case 2 -> new JBrick();
+            case 3 -> new LBrick();
+            case 4 -> new OBrick();
+            case 5 -> new SBrick();
+            case 6 -> new TBrick();
+            case 7 -> new ZBrick();
+            default -> {
+                Brick brick = id > COUNT && id <= MAX_ID ? REGISTERED.get(id) : null;
+                if (brick == null) {
+                    throw new IllegalArgumentException("Not a piece id: " + id);
+                }
+                yield brick;
+            }
+        };
+    }
+
+    /**
+     * Whether {@link #byId} knows {@code id}: a standard piece or a registered custom one.
+     */
+    public static boolean isPieceId(int id) {
+        return id >= 1 && id <= COUNT || id > COUNT && id <= MAX_ID && REGISTERED.get(id) != null;
+    }
+
+    /**
+     * Makes a custom piece available through {@link #byId}. Registering the same shape
+     * under its id again does nothing.
+     *
+     * @throws IllegalArgumentException if the id is out of range or already names a different shape.
+     */
+    static synchronized void register(Brick brick) {
+        int id = brick.getId();
+        if (id <= COUNT || id > MAX_ID) {
+            throw new IllegalArgumentException("Custom piece ids run from " + (COUNT + 1) + " to " + MAX_ID
+                    + ", got " + id);
+        }
+        Brick existing = REGISTERED.get(id);
+        if (existing != null) {
+            if (!sameShape(existing.getShapeMatrix(), brick.getShapeMatrix())) {
+                throw new IllegalArgumentException("Piece id " + id + " is already used by a different shape");
+            }
+            return;
+        }
+        REGISTERED.set(id, brick);
+        for (int[][] rotation : brick.getShapeMatrix()) {
+            maxSize = Math.max(maxSize, Math.max(rotation.length, rotation[0].length));
+        }
+    }
+
+    private static boolean sameShape(List<int[][]> a, List<int[][]> b) {
+        if (a.size() != b.size()) {
+            return false;
+        }
+        for (int i = 0; i < a.size(); i++) {
+            if (!Arrays.deepEquals(a.get(i), b.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Side of the largest shape box of any piece in use, at least {@link #STANDARD_SIZE};
+     * views size their piece grids to it.
+     */
+    public static int getMaxSize() {
+        return maxSize;
+    }
+}
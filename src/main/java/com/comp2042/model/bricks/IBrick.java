@@ -3,6 +3,7 @@ package com.comp2042.model.bricks;
 public final class IBrick extends AbstractBrick {
 
     public IBrick() {
+        // SRS orientations in clockwise order: spawn, R, 2, L
         super(
                 new int[][]{
                         {0, 0, 0, 0},
@@ -15,6 +16,18 @@ public final class IBrick extends AbstractBrick {
                         {0, 0, 1, 0},
                         {0, 0, 1, 0},
                         {0, 0, 1, 0}
+                },
+                new int[][]{
+                        {0, 0, 0, 0},
+                        {0, 0, 0, 0},
+                        {1, 1, 1, 1},
+                        {0, 0, 0, 0}
+                },
+                new int[][]{
+                        {0, 1, 0, 0},
+                        {0, 1, 0, 0},
+                        {0, 1, 0, 0},
+                        {0, 1, 0, 0}
                 }
         );
     }
@@ -3,29 +3,30 @@ package com.comp2042.model.bricks;
 public final class LBrick extends AbstractBrick {
 
     public LBrick() {
+        // SRS orientations in clockwise order: spawn, R, 2, L
         super(
                 new int[][]{
+                        {0, 0, 3, 0},
+                        {3, 3, 3, 0},
                         {0, 0, 0, 0},
-                        {0, 3, 3, 3},
-                        {0, 3, 0, 0},
                         {0, 0, 0, 0}
                 },
                 new int[][]{
-                        {0, 0, 0, 0},
+                        {0, 3, 0, 0},
+                        {0, 3, 0, 0},
                         {0, 3, 3, 0},
-                        {0, 0, 3, 0},
-                        {0, 0, 3, 0}
+                        {0, 0, 0, 0}
                 },
                 new int[][]{
                         {0, 0, 0, 0},
-                        {0, 0, 3, 0},
                         {3, 3, 3, 0},
+                        {3, 0, 0, 0},
                         {0, 0, 0, 0}
                 },
                 new int[][]{
+                        {3, 3, 0, 0},
                         {0, 3, 0, 0},
                         {0, 3, 0, 0},
-                        {0, 3, 3, 0},
                         {0, 0, 0, 0}
                 }
         );
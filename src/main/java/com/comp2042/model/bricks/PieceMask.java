@@ -0,0 +1,191 @@
+package com.comp2042.model.bricks;
+
+import java.util.List;
+
+/**
+ * Bitmask form of a brick's rotations, compiled once per brick type.
+ * <p>
+ * Each rotation is stored as one {@code int} per shape row, where bit {@code c} is set
+ * when column {@code c} of the shape is filled. Together with {@link com.comp2042.model.BitBoard}
+ * this lets collision checks run as a few AND operations instead of nested loops over
+ * {@code int[][]} matrices.
+ * </p>
+ * Masks are cached by piece id in a flat array, so finding the masks for a brick is one
+ * array read however many piece types are in play. Two threads compiling the same brick at
+ * once build equal masks, and either may be kept.
+ */
+public final class PieceMask {
+
+    private static final PieceMask[] CACHE = new PieceMask[BrickTypes.MAX_ID + 1];
+
+    private final int id;
+    private final int color;
+    private final int[][] rowMasks;
+    private final int[] minCol;
+    private final int[] maxCol;
+    private final int[] minRow;
+    private final int[] maxRow;
+    private final int[] canonicalRotation;
+    private final int[] canonicalDx;
+    private final int[] canonicalDy;
+
+    private PieceMask(int id, List<int[][]> rotations) {
+        this.id = id;
+        this.color = firstCell(rotations.get(0));
+        int count = rotations.size();
+        rowMasks = new int[count][];
+        minCol = new int[count];
+        maxCol = new int[count];
+        minRow = new int[count];
+        maxRow = new int[count];
+        canonicalRotation = new int[count];
+        canonicalDx = new int[count];
+        canonicalDy = new int[count];
+
+        for (int r = 0; r < count; r++) {
+            int[][] shape = rotations.get(r);
+            rowMasks[r] = new int[shape.length];
+            minCol[r] = Integer.MAX_VALUE;
+            maxCol[r] = -1;
+            minRow[r] = Integer.MAX_VALUE;
+            maxRow[r] = -1;
+            for (int row = 0; row < shape.length; row++) {
+                for (int col = 0; col < shape[row].length; col++) {
+                    if (shape[row][col] != 0) {
+                        rowMasks[r][row] |= 1 << col;
+                        minCol[r] = Math.min(minCol[r], col);
+                        maxCol[r] = Math.max(maxCol[r], col);
+                        minRow[r] = Math.min(minRow[r], row);
+                        maxRow[r] = Math.max(maxRow[r], row);
+                    }
+                }
+            }
+        }
+        findEquivalentRotations();
+    }
+
+    /**
+     * Symmetric pieces (I, S, Z, O) have rotations that fill the same cells as an earlier
+     * rotation, just shifted. Record, for each rotation, the first rotation with the same
+     * footprint and the offset between them so search code can skip duplicate placements.
+     */
+    private void findEquivalentRotations() {
+        for (int r = 0; r < rowMasks.length; r++) {
+            canonicalRotation[r] = r;
+            for (int c = 0; c < r; c++) {
+                int dx = minCol[r] - minCol[c];
+                int dy = minRow[r] - minRow[c];
+                if (sameFootprint(c, r, dx, dy)) {
+                    canonicalRotation[r] = c;
+                    canonicalDx[r] = dx;
+                    canonicalDy[r] = dy;
+                    break;
+                }
+            }
+        }
+    }
+
+    private boolean sameFootprint(int a, int b, int dx, int dy) {
+        if (maxRow[a] - minRow[a] != maxRow[b] - minRow[b]) {
+            return false;
+        }
+        for (int row = minRow[a]; row <= maxRow[a]; row++) {
+            int ma = rowMasks[a][row];
+            int mb = rowMasks[b][row + dy];
+            if ((dx >= 0 ? ma << dx : ma >>> -dx) != mb) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the compiled masks for the given brick, building them on first use.
+     */
+    public static PieceMask of(Brick brick) {
+        int id = brick.getId();
+        PieceMask mask = CACHE[id];
+        if (mask == null) {
+            mask = new PieceMask(id, brick.getShapeMatrix());
+            CACHE[id] = mask;
+        }
+        return mask;
+    }
+
+    /**
+     * Returns previously compiled masks by piece id, or null if that brick type has not been seen.
+     */
+    public static PieceMask byId(int id) {
+        return id >= 0 && id < CACHE.length ? CACHE[id] : null;
+    }
+
+    private static int firstCell(int[][] shape) {
+        for (int[] row : shape) {
+            for (int cell : row) {
+                if (cell != 0) {
+                    return cell;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Brick shape has no filled cells");
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Colour code the piece's cells are stamped with; the same as the id for the standard pieces.
+     */
+    public int getColor() {
+        return color;
+    }
+
+    public int getRotationCount() {
+        return rowMasks.length;
+    }
+
+    public int getRowCount(int rotation) {
+        return rowMasks[rotation].length;
+    }
+
+    /**
+     * Bitmask of the filled columns in one row of one rotation.
+     */
+    public int getRowMask(int rotation, int row) {
+        return rowMasks[rotation][row];
+    }
+
+    public int getMinCol(int rotation) {
+        return minCol[rotation];
+    }
+
+    public int getMaxCol(int rotation) {
+        return maxCol[rotation];
+    }
+
+    public int getMinRow(int rotation) {
+        return minRow[rotation];
+    }
+
+    public int getMaxRow(int rotation) {
+        return maxRow[rotation];
+    }
+
+    /**
+     * First rotation with the same footprint as {@code rotation} (itself if none).
+     * A placement at (x, y) in {@code rotation} covers the same cells as the canonical
+     * rotation at (x + {@link #getCanonicalDx}, y + {@link #getCanonicalDy}).
+     */
+    public int getCanonicalRotation(int rotation) {
+        return canonicalRotation[rotation];
+    }
+
+    public int getCanonicalDx(int rotation) {
+        return canonicalDx[rotation];
+    }
+
+    public int getCanonicalDy(int rotation) {
+        return canonicalDy[rotation];
+    }
+}
@@ -0,0 +1,281 @@
+package com.comp2042.model.bricks;
+
+import com.comp2042.model.TetrisBoard;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * The pieces a game is dealt from.
+ * <p>
+ * A set lists the standard tetrominoes by letter and any number of pieces defined by
+ * their spawn orientation, such as pentominoes. A defined piece's other three rotations
+ * are generated by turning its shape box clockwise about its centre, the way the standard
+ * pieces turn in SRS, and every piece is compiled into {@link PieceMask} bitmasks when the
+ * set is loaded. Collision then works on the rows a piece fills whatever the size of its
+ * box, so a set of large pieces plays as fast as the standard seven.
+ * </p>
+ * A set is loaded from a properties file:
+ * <pre>
+ * pieces=I,J,L,O,S,T,Z,F,P,X
+ * F.id=9
+ * F.color=9
+ * F.shape=.##/##./.#.
+ * P.id=10
+ * P.shape=##/##/#.
+ * X.id=11
+ * X.color=13
+ * X.shape=.#./###/.#.
+ * </pre>
+ * A shape lists its rows from the top, separated by {@code /}, with {@code #} for a filled
+ * cell and {@code .} for an empty one, in a box of up to {@link #MAX_SIZE} cells a side, and
+ * must fit the board at the spawn position. Ids run from 8 to {@link BrickTypes#MAX_ID};
+ * saved games and journals store pieces by id, so an id has to mean the same shape in every
+ * set that uses it. Colours are cell colour codes from 1 to {@link #MAX_COLOR} (8 is the
+ * garbage grey); a piece without one is coloured from 9 upwards in the order listed.
+ */
+public final class PieceSet {
+
+    /** Largest side of a shape box. */
+    public static final int MAX_SIZE = 8;
+    /** Highest cell colour code; board cells are stored in four bits. */
+    public static final int MAX_COLOR = 15;
+    private static final int FIRST_CUSTOM_COLOR = 9;
+
+    public static final PieceSet STANDARD = new PieceSet(List.of(
+            new IBrick(), new JBrick(), new LBrick(), new OBrick(), new SBrick(), new TBrick(), new ZBrick()));
+
+    private final List<Brick> bricks;
+    private final int maxSize;
+    private final long fingerprint;
+
+    private PieceSet(List<Brick> bricks) {
+        this.bricks = Collections.unmodifiableList(new ArrayList<>(bricks));
+        int size = BrickTypes.STANDARD_SIZE;
+        for (Brick brick : bricks) {
+            // Compile now rather than on the first spawn
+            PieceMask.of(brick);
+            size = Math.max(size, brick.getShapeMatrix().get(0).length);
+        }
+        this.maxSize = size;
+        this.fingerprint = fingerprint(bricks);
+    }
+
+    /**
+     * The pieces in the order they are listed; a bag holds one of each.
+     */
+    public List<Brick> getBricks() {
+        return bricks;
+    }
+
+    public int size() {
+        return bricks.size();
+    }
+
+    /**
+     * Side of the largest shape box in the set, at least {@link BrickTypes#STANDARD_SIZE}.
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Hash of the ids, shapes and colours in the order listed. Sets with the same fingerprint
+     * deal the same pieces from the same seed; saved games and journals record it so they
+     * are never resumed with a different set.
+     */
+    public long fingerprint() {
+        return fingerprint;
+    }
+
+    private static long fingerprint(List<Brick> bricks) {
+        // 64-bit FNV-1a over one int at a time
+        long hash = 0xCBF29CE484222325L;
+        for (Brick brick : bricks) {
+            hash = (hash ^ brick.getId()) * 0x100000001B3L;
+            for (int[][] rotation : brick.getShapeMatrix()) {
+                hash = (hash ^ rotation.length) * 0x100000001B3L;
+                for (int[] row : rotation) {
+                    for (int cell : row) {
+                        hash = (hash ^ cell) * 0x100000001B3L;
+                    }
+                }
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Builds a set from properties; without a {@code pieces} key it is the standard seven.
+     *
+     * @throws IllegalArgumentException if a piece is undefined, malformed or clashes with another.
+     */
+    public static PieceSet fromProperties(Properties props) {
+        String list = props.getProperty("pieces");
+        if (list == null) {
+            return STANDARD;
+        }
+        List<Brick> bricks = new ArrayList<>();
+        Set<Integer> ids = new HashSet<>();
+        int nextColor = FIRST_CUSTOM_COLOR;
+        try {
+            for (String name : list.split(",")) {
+                name = name.trim();
+                String shape = props.getProperty(name + ".shape");
+                Brick brick;
+                if (shape == null) {
+                    brick = standard(name);
+                } else {
+                    String id = props.getProperty(name + ".id");
+                    if (id == null) {
+                        throw new IllegalArgumentException("Piece " + name + " has no id");
+                    }
+                    String color = props.getProperty(name + ".color");
+                    int code = color == null ? nextColor : Integer.parseInt(color.trim());
+                    if (code < 1 || code > MAX_COLOR) {
+                        throw new IllegalArgumentException("Piece " + name + " colour must be between 1 and "
+                                + MAX_COLOR + ", got " + code);
+                    }
+                    if (color == null) {
+                        nextColor = nextColor == MAX_COLOR ? FIRST_CUSTOM_COLOR : nextColor + 1;
+                    }
+                    int[][] spawn = parseShape(shape, code);
+                    if (!fitsAtSpawn(spawn)) {
+                        throw new IllegalArgumentException("Piece " + name + " does not fit the board at the spawn position");
+                    }
+                    brick = new DefinedBrick(Integer.parseInt(id.trim()), rotations(spawn));
+                    BrickTypes.register(brick);
+                }
+                if (!ids.add(brick.getId())) {
+                    throw new IllegalArgumentException("Piece id " + brick.getId() + " is listed twice");
+                }
+                bricks.add(brick);
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed piece set: " + e.getMessage(), e);
+        }
+        return new PieceSet(bricks);
+    }
+
+    public static PieceSet load(Path path) throws IOException {
+        Properties props = new Properties();
+        try (Reader reader = Files.newBufferedReader(path)) {
+            props.load(reader);
+        }
+        return fromProperties(props);
+    }
+
+    /**
+     * Loads the set at {@code path} if it exists, falling back to {@link #STANDARD} if it is
+     * missing or invalid.
+     */
+    public static PieceSet loadOrStandard(Path path) {
+        if (!Files.exists(path)) {
+            return STANDARD;
+        }
+        try {
+            return load(path);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Failed to load piece set: " + e.getMessage());
+            return STANDARD;
+        }
+    }
+
+    private static Brick standard(String name) {
+        int id = "IJLOSTZ".indexOf(name.length() == 1 ? name.charAt(0) : '?');
+        if (id < 0) {
+            throw new IllegalArgumentException("Piece " + name + " has no shape");
+        }
+        return BrickTypes.byId(id + 1);
+    }
+
+    private static boolean fitsAtSpawn(int[][] shape) {
+        for (int[] row : shape) {
+            for (int col = 0; col < row.length; col++) {
+                if (row[col] != 0 && TetrisBoard.SPAWN_X + col >= TetrisBoard.BOARD_WIDTH) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses a shape such as {@code .#./###} into a square box filled with {@code color}.
+     */
+    static int[][] parseShape(String text, int color) {
+        String[] rows = text.trim().split("/");
+        int size = rows.length;
+        for (String row : rows) {
+            size = Math.max(size, row.trim().length());
+        }
+        if (size > MAX_SIZE) {
+            throw new IllegalArgumentException("Shape " + text + " is larger than " + MAX_SIZE + "x" + MAX_SIZE);
+        }
+        int[][] shape = new int[size][size];
+        boolean filled = false;
+        for (int r = 0; r < rows.length; r++) {
+            String row = rows[r].trim();
+            for (int c = 0; c < row.length(); c++) {
+                switch (row.charAt(c)) {
+                    case '#' -> {
+                        shape[r][c] = color;
+                        filled = true;
+                    }
+                    case '.' -> {
+                    }
+                    default -> throw new IllegalArgumentException("Unexpected '" + row.charAt(c) + "' in shape " + text);
+                }
+            }
+        }
+        if (!filled) {
+            throw new IllegalArgumentException("Shape " + text + " has no filled cells");
+        }
+        return shape;
+    }
+
+    /**
+     * The spawn orientation and its three clockwise turns, in SRS order: spawn, R, 2, L.
+     */
+    static List<int[][]> rotations(int[][] spawn) {
+        List<int[][]> rotations = new ArrayList<>(4);
+        int[][] shape = spawn;
+        for (int r = 0; r < 4; r++) {
+            rotations.add(shape);
+            shape = rotateClockwise(shape);
+        }
+        return rotations;
+    }
+
+    private static int[][] rotateClockwise(int[][] shape) {
+        int n = shape.length;
+        int[][] turned = new int[n][n];
+        for (int row = 0; row < n; row++) {
+            for (int col = 0; col < n; col++) {
+                turned[col][n - 1 - row] = shape[row][col];
+            }
+        }
+        return turned;
+    }
+
+    @Override
+    public String toString() {
+        return "PieceSet" + Arrays.toString(bricks.stream().mapToInt(Brick::getId).toArray());
+    }
+
+    private static final class DefinedBrick extends AbstractBrick {
+
+        DefinedBrick(int id, List<int[][]> rotations) {
+            super(id, rotations);
+        }
+    }
+}
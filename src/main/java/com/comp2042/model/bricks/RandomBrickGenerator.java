@@ -2,7 +2,9 @@ package com.comp2042.model.bricks;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 
@@ -13,14 +15,11 @@ public class RandomBrickGenerator implements BrickGenerator {
     private final Deque<Brick> nextBricks = new ArrayDeque<>();
 
     public RandomBrickGenerator() {
-        brickList = new ArrayList<>();
-        brickList.add(new IBrick());
-        brickList.add(new JBrick());
-        brickList.add(new LBrick());
-        brickList.add(new OBrick());
-        brickList.add(new SBrick());
-        brickList.add(new TBrick());
-        brickList.add(new ZBrick());
+        this(PieceSet.STANDARD);
+    }
+
+    public RandomBrickGenerator(PieceSet pieces) {
+        brickList = pieces.getBricks();
         nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
         nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
     }
@@ -37,4 +36,17 @@ public class RandomBrickGenerator implements BrickGenerator {
     public Brick getNextBrick() {
         return nextBricks.peek();
     }
+
+    @Override
+    public List<Brick> getPreview(int count) {
+        while (nextBricks.size() < count) {
+            nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
+        }
+        List<Brick> preview = new ArrayList<>(count);
+        Iterator<Brick> it = nextBricks.iterator();
+        for (int i = 0; i < count; i++) {
+            preview.add(it.next());
+        }
+        return Collections.unmodifiableList(preview);
+    }
 }
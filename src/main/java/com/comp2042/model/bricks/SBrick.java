@@ -3,7 +3,20 @@ package com.comp2042.model.bricks;
 public final class SBrick extends AbstractBrick {
 
     public SBrick() {
+        // SRS orientations in clockwise order: spawn, R, 2, L
         super(
+                new int[][]{
+                        {0, 5, 5, 0},
+                        {5, 5, 0, 0},
+                        {0, 0, 0, 0},
+                        {0, 0, 0, 0}
+                },
+                new int[][]{
+                        {0, 5, 0, 0},
+                        {0, 5, 5, 0},
+                        {0, 0, 5, 0},
+                        {0, 0, 0, 0}
+                },
                 new int[][]{
                         {0, 0, 0, 0},
                         {0, 5, 5, 0},
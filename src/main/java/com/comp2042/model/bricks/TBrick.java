@@ -3,11 +3,12 @@ package com.comp2042.model.bricks;
 public final class TBrick extends AbstractBrick {
 
     public TBrick() {
+        // SRS orientations in clockwise order: spawn, R, 2, L
         super(
                 new int[][]{
-                        {0, 0, 0, 0},
-                        {6, 6, 6, 0},
                         {0, 6, 0, 0},
+                        {6, 6, 6, 0},
+                        {0, 0, 0, 0},
                         {0, 0, 0, 0}
                 },
                 new int[][]{
@@ -17,9 +18,9 @@ public final class TBrick extends AbstractBrick {
                         {0, 0, 0, 0}
                 },
                 new int[][]{
-                        {0, 6, 0, 0},
-                        {6, 6, 6, 0},
                         {0, 0, 0, 0},
+                        {6, 6, 6, 0},
+                        {0, 6, 0, 0},
                         {0, 0, 0, 0}
                 },
                 new int[][]{
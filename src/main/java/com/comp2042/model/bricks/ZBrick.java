@@ -3,7 +3,20 @@ package com.comp2042.model.bricks;
 public final class ZBrick extends AbstractBrick {
 
     public ZBrick() {
+        // SRS orientations in clockwise order: spawn, R, 2, L
         super(
+                new int[][]{
+                        {7, 7, 0, 0},
+                        {0, 7, 7, 0},
+                        {0, 0, 0, 0},
+                        {0, 0, 0, 0}
+                },
+                new int[][]{
+                        {0, 0, 7, 0},
+                        {0, 7, 7, 0},
+                        {0, 7, 0, 0},
+                        {0, 0, 0, 0}
+                },
                 new int[][]{
                         {0, 0, 0, 0},
                         {7, 7, 0, 0},
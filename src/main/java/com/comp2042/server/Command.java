@@ -0,0 +1,35 @@
+package com.comp2042.server;
+
+/**
+ * Commands of the line protocol spoken by {@link GameServer}.
+ * <p>
+ * A client sends one command word per line, case-insensitive. Every command except
+ * {@code QUIT} is answered with one {@code STATE} line (see {@link GameSession}).
+ * </p>
+ */
+public enum Command {
+    LEFT, RIGHT, CW, CCW, FLIP, DOWN, DROP, HOLD,
+    /** Reports the current state without changing it. */
+    STATE,
+    /** Starts a new game in the same session. */
+    NEW,
+    /** Closes the connection. */
+    QUIT;
+
+    private static final Command[] VALUES = values();
+
+    /**
+     * Parses a command word.
+     *
+     * @return the command, or null if the word is not a command.
+     */
+    public static Command parse(String word) {
+        String trimmed = word.trim();
+        for (Command command : VALUES) {
+            if (command.name().equalsIgnoreCase(trimmed)) {
+                return command;
+            }
+        }
+        return null;
+    }
+}
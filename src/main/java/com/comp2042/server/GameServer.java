@@ -0,0 +1,190 @@
+package com.comp2042.server;
+
+import com.comp2042.model.LevelTable;
+import com.comp2042.model.bricks.PieceSet;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Headless server hosting many independent games over loopback TCP.
+ * <p>
+ * Every connection gets its own {@link GameSession} and one virtual thread, which reads
+ * command lines and writes the reply to each one with plain blocking I/O. Gravity for all
+ * sessions comes from one shared {@link TimerWheel} with a 1 ms tick, so an idle session
+ * costs a parked virtual thread and one pending timer rather than an OS thread or a
+ * {@code Timeline}. No JavaFX toolkit is started: the model only uses the
+ * {@code javafx.beans} property classes, which work without one.
+ * </p>
+ * <p>
+ * Protocol: the server sends {@code HELLO <sessionId>}, then answers each {@link Command}
+ * with one {@code STATE} line, or {@code ERR <reason>} for an unknown command. Gravity
+ * changes are not pushed; they show up in the next reply. Run with
+ * {@code GameServer [port] [spectatorPort]}; {@link LoadGenerator} drives it for scaling
+ * tests.
+ * </p>
+ * <p>
+ * When a spectator port is given, a {@link SpectatorServer} on it streams any running
+ * session, by id, to as many watchers as connect. {@link SpectatorClient} is a watcher.
+ * </p>
+ */
+public final class GameServer implements AutoCloseable {
+
+    public static final int DEFAULT_PORT = 7777;
+    public static final int DEFAULT_SPECTATOR_PORT = 7778;
+    private static final int BACKLOG = 4096;
+    private static final long STATS_INTERVAL_SECONDS = 5;
+
+    private final ServerSocket serverSocket;
+    private final TimerWheel wheel = new TimerWheel(1, TimeUnit.MILLISECONDS);
+    private final ServerStats stats = new ServerStats();
+    private final LevelTable levels = LevelTable.loadOrDefault(Paths.get("levels.properties"));
+    private final PieceSet pieces = PieceSet.loadOrStandard(Paths.get("pieces.properties"));
+    private final AtomicLong nextId = new AtomicLong();
+    private final Map<Long, GameSession> sessions = new ConcurrentHashMap<>();
+    private SpectatorServer spectators;
+    private volatile boolean closed;
+
+    private GameServer(ServerSocket serverSocket) {
+        this.serverSocket = serverSocket;
+    }
+
+    /**
+     * Starts accepting connections on the loopback address. Port 0 picks a free port.
+     */
+    public static GameServer start(int port) throws IOException {
+        GameServer server = new GameServer(new ServerSocket(port, BACKLOG, InetAddress.getLoopbackAddress()));
+        Thread.ofVirtual().name("acceptor").start(server::acceptLoop);
+        return server;
+    }
+
+    /**
+     * Starts the server together with a spectator stream on {@code spectatorPort}.
+     */
+    public static GameServer start(int port, int spectatorPort) throws IOException {
+        GameServer server = start(port);
+        try {
+            server.spectators = SpectatorServer.start(spectatorPort, server.sessions::get);
+        } catch (IOException e) {
+            server.close();
+            throw e;
+        }
+        return server;
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * @return the spectator port, or -1 if spectators are not served.
+     */
+    public int getSpectatorPort() {
+        return spectators == null ? -1 : spectators.getPort();
+    }
+
+    public long getSessionCount() {
+        return stats.getSessions();
+    }
+
+    private void acceptLoop() {
+        while (!closed) {
+            try {
+                Socket socket = serverSocket.accept();
+                long id = nextId.incrementAndGet();
+                Thread.ofVirtual().name("session-" + id).start(() -> serve(socket, id));
+            } catch (IOException e) {
+                if (!closed) {
+                    System.err.println("Accept failed: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void serve(Socket socket, long id) {
+        GameSession session = new GameSession(id, wheel, stats, levels, pieces);
+        sessions.put(id, session);
+        stats.sessionOpened();
+        try (socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+             Writer out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII))) {
+            socket.setTcpNoDelay(true);
+            session.start();
+            reply(out, "HELLO " + id);
+
+            String line;
+            while ((line = in.readLine()) != null) {
+                Command command = Command.parse(line);
+                if (command == null) {
+                    reply(out, "ERR unknown command");
+                    continue;
+                }
+                if (command == Command.QUIT) {
+                    break;
+                }
+                stats.command();
+                reply(out, session.handle(command));
+            }
+        } catch (IOException e) {
+            // Client went away; nothing to report
+        } finally {
+            sessions.remove(id);
+            session.close();
+            stats.sessionClosed();
+        }
+    }
+
+    private static void reply(Writer out, String line) throws IOException {
+        out.write(line);
+        out.write('\n');
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        serverSocket.close();
+        wheel.close();
+        if (spectators != null) {
+            spectators.close();
+        }
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        int spectatorPort = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SPECTATOR_PORT;
+        try (GameServer server = start(port, spectatorPort)) {
+            System.out.println("Game server listening on localhost:" + server.getPort()
+                    + ", spectators on localhost:" + server.getSpectatorPort());
+            long lastCommands = 0;
+            long lastTicks = 0;
+            while (true) {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(STATS_INTERVAL_SECONDS));
+                long commands = server.stats.getCommands();
+                long ticks = server.stats.getGravityTicks();
+                System.out.printf("sessions=%d spectators=%d commands/s=%d gravity/s=%d gamesOver=%d wheelLag=%.2fms%n",
+                        server.stats.getSessions(),
+                        server.spectators.getSpectatorCount(),
+                        (commands - lastCommands) / STATS_INTERVAL_SECONDS,
+                        (ticks - lastTicks) / STATS_INTERVAL_SECONDS,
+                        server.stats.getGamesOver(),
+                        server.wheel.getLagNanos() / 1_000_000.0);
+                lastCommands = commands;
+                lastTicks = ticks;
+            }
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package com.comp2042.server;
+
+import com.comp2042.model.DownData;
+import com.comp2042.model.GamePoint;
+import com.comp2042.model.LevelTable;
+import com.comp2042.model.ScoringEngine;
+import com.comp2042.model.TetrisBoard;
+import com.comp2042.model.ViewData;
+import com.comp2042.model.bricks.Bag7BrickGenerator;
+import com.comp2042.model.bricks.PieceMask;
+import com.comp2042.model.bricks.PieceSet;
+import com.comp2042.view.GameRenderer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * One game hosted by the {@link GameServer}.
+ * <p>
+ * The board is changed from two threads: the connection's virtual thread applies player
+ * commands, and the {@link TimerWheel} driver applies gravity. Both take the session's
+ * lock, which is held only for the board update itself and never across I/O. A
+ * {@link ReentrantLock} is used rather than {@code synchronized} so that a virtual thread
+ * waiting for it does not pin its carrier thread.
+ * </p>
+ * <p>
+ * Gravity and lock delay follow a {@link LevelTable}, the same one the desktop game uses
+ * unless another is given. Scoring uses the same {@link ScoringEngine} rules.
+ * </p>
+ * <p>
+ * Every update is also offered to the session's {@link SpectatorFeed} while the lock is
+ * still held, so spectators see changes in the order they were applied.
+ * </p>
+ */
+public final class GameSession {
+
+    private final long id;
+    private final TimerWheel wheel;
+    private final ServerStats stats;
+    private final TetrisBoard board;
+    private final ScoringEngine scoring = new ScoringEngine();
+    private final LevelTable levels;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final SpectatorFeed feed = new SpectatorFeed(SpectatorFeed.DEFAULT_KEYFRAME_INTERVAL);
+
+    private TimerWheel.Timeout gravity;
+    // Bumped whenever gravity is cancelled, so a tick already under way is ignored
+    private long gravityGeneration;
+    private boolean gameOver;
+    private boolean closed;
+
+    GameSession(long id, TimerWheel wheel, ServerStats stats) {
+        this(id, wheel, stats, LevelTable.DEFAULT);
+    }
+
+    GameSession(long id, TimerWheel wheel, ServerStats stats, LevelTable levels) {
+        this(id, wheel, stats, levels, PieceSet.STANDARD);
+    }
+
+    GameSession(long id, TimerWheel wheel, ServerStats stats, LevelTable levels, PieceSet pieces) {
+        this.id = id;
+        this.board = new TetrisBoard(TetrisBoard.BOARD_HEIGHT, TetrisBoard.BOARD_WIDTH, new Bag7BrickGenerator(pieces));
+        this.wheel = wheel;
+        this.stats = stats;
+        this.levels = levels;
+        board.getScore().setLevelTable(levels);
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Starts a new game and its gravity.
+     */
+    public void start() {
+        lock.lock();
+        try {
+            board.newGame();
+            scoring.reset();
+            gameOver = false;
+            scheduleGravity();
+            feed.restart();
+            feed.publish(board, null, gameOver);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Applies one protocol command and returns the reply line.
+     */
+    public String handle(Command command) {
+        lock.lock();
+        try {
+            if (closed) {
+                return "ERR closed";
+            }
+            if (command == Command.NEW) {
+                cancelGravity();
+                board.newGame();
+                scoring.reset();
+                gameOver = false;
+                scheduleGravity();
+                feed.restart();
+                feed.publish(board, null, gameOver);
+            } else if (!gameOver) {
+                feed.publish(board, apply(command), gameOver);
+            }
+            return state();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops gravity. Later commands are refused.
+     */
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            cancelGravity();
+            feed.closeAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Starts sending this game to a spectator, beginning with a keyframe.
+     *
+     * @return false if the session has already ended.
+     */
+    boolean addSpectator(SpectatorFeed.Sink sink) {
+        lock.lock();
+        try {
+            if (closed) {
+                return false;
+            }
+            feed.subscribe(sink, board, gameOver);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void removeSpectator(SpectatorFeed.Sink sink) {
+        lock.lock();
+        try {
+            feed.unsubscribe(sink);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Builds {@code renderer}'s view for this session's board and takes its ghost
+     * collisions from the board.
+     */
+    public void attach(GameRenderer renderer) {
+        lock.lock();
+        try {
+            renderer.initGameView(board.getBoardMatrix(), board.getViewData());
+            renderer.setGhostProbe(this::canMoveDown);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Passes the current game to {@code renderer} under the session lock, so it never sees
+     * a board half-way through an update. Only the renderer's in-memory view is updated
+     * here; writing it out is left to the caller, outside the lock.
+     */
+    public void render(GameRenderer renderer) {
+        lock.lock();
+        try {
+            ViewData brick = board.getViewData();
+            renderer.refreshGameBackground(board.getBoardMatrix());
+            renderer.updateBrickPosition(brick);
+            renderer.showHoldPiece(board.getHoldBrickShape());
+            renderer.showNextPiece(brick.getNextBrickData());
+            renderer.showStats(board.getScore().scoreProperty().get(), board.getScore().linesProperty().get(),
+                    board.getScore().levelProperty().get(), gameOver);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean canMoveDown(ViewData brick, int newY) {
+        // Called from render() with the lock already held; it is reentrant
+        lock.lock();
+        try {
+            return !board.getOccupancy().collides(PieceMask.byId(board.getCurrentPieceId()),
+                    board.getCurrentRotation(), brick.getxPosition(), newY);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the step result if the command moved the piece down, otherwise null.
+     */
+    private DownData apply(Command command) {
+        switch (command) {
+            case LEFT -> board.moveBrickLeft();
+            case RIGHT -> board.moveBrickRight();
+            case CW -> board.rotateRightBrick();
+            case CCW -> board.rotateLeftBrick();
+            case FLIP -> board.rotate180Brick();
+            case HOLD -> {
+                if (!board.isHoldUsedThisTurn() && board.holdCurrentBrick()) {
+                    endGame();
+                }
+            }
+            case DOWN -> {
+                DownData data = board.stepDown(true);
+                if (data.getClearRow() == null) {
+                    board.getScore().addScore(scoring.softDrop(data.getDropDistance()));
+                }
+                afterLock(data);
+                return data;
+            }
+            case DROP -> {
+                DownData data = board.hardDrop(true);
+                board.getScore().addScore(scoring.hardDrop(data.getDropDistance()));
+                afterLock(data);
+                return data;
+            }
+            default -> {}
+        }
+        return null;
+    }
+
+    private void onGravity(long generation) {
+        // Runs on the timer thread. Commands hold the lock only briefly and never across I/O.
+        lock.lock();
+        try {
+            if (closed || gameOver || generation != gravityGeneration) {
+                return;
+            }
+            stats.gravityTick();
+            DownData data = board.fall(levels.getRowsPerStep(board.getScore().levelProperty().get()));
+            afterLock(data);
+            feed.publish(board, data, gameOver);
+            if (!gameOver) {
+                scheduleGravity();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void afterLock(DownData data) {
+        if (data.getClearRow() == null) {
+            return;
+        }
+        int lines = data.getClearRow().getLinesRemoved();
+        board.getScore().addScore(scoring.lock(lines, data.getSpin(), board.getScore().getScoreMultiplier()));
+        if (lines > 0) {
+            board.getScore().addLines(lines);
+        }
+        if (data.isGameOver()) {
+            endGame();
+        }
+    }
+
+    private void endGame() {
+        gameOver = true;
+        cancelGravity();
+        stats.gameOver();
+    }
+
+    /**
+     * Schedules the next gravity step: a row's fall time, or the lock delay once the piece
+     * has landed.
+     */
+    private void scheduleGravity() {
+        int level = board.getScore().levelProperty().get();
+        long delay = board.isGrounded() ? levels.getLockDelayNanos(level) : levels.getGravityNanos(level);
+        long generation = gravityGeneration;
+        gravity = wheel.schedule(() -> onGravity(generation), delay, TimeUnit.NANOSECONDS);
+    }
+
+    private void cancelGravity() {
+        gravityGeneration++;
+        if (gravity != null) {
+            gravity.cancel();
+            gravity = null;
+        }
+    }
+
+    /**
+     * {@code STATE <score> <lines> <level> <piece> <x> <y> <rotation> <hold> <gameOver>}
+     */
+    private String state() {
+        GamePoint offset = board.getCurrentOffset();
+        return "STATE " + board.getScore().scoreProperty().get()
+                + ' ' + board.getScore().linesProperty().get()
+                + ' ' + board.getScore().levelProperty().get()
+                + ' ' + board.getCurrentPieceId()
+                + ' ' + offset.x()
+                + ' ' + offset.y()
+                + ' ' + board.getCurrentRotation()
+                + ' ' + board.getHoldPieceId()
+                + ' ' + (gameOver ? 1 : 0);
+    }
+}
@@ -0,0 +1,122 @@
+package com.comp2042.server;
+
+import com.comp2042.diagnostics.LatencyHistogram;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Load-test client for {@link GameServer}.
+ * <p>
+ * Opens many connections from this machine, one virtual thread each. Every client sends a
+ * random player command at a human-like rate, starts a new game when its game ends, and
+ * records the round-trip time of each command. At the end it prints throughput and the
+ * latency percentiles.
+ * </p>
+ * <p>
+ * Usage: {@code LoadGenerator [port] [clients] [seconds] [commandIntervalMillis]}.
+ * Ten thousand clients need about twenty thousand open files across client and server;
+ * raise {@code ulimit -n} first.
+ * </p>
+ */
+public final class LoadGenerator {
+
+    private static final Command[] MOVES = {
+            Command.LEFT, Command.RIGHT, Command.LEFT, Command.RIGHT,
+            Command.CW, Command.CCW, Command.DOWN, Command.DOWN, Command.DROP, Command.HOLD
+    };
+
+    private final int port;
+    private final long intervalMillis;
+    private final long deadline;
+    private final LatencyHistogram roundTrip = new LatencyHistogram();
+    private final LongAdder connected = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder gamesOver = new LongAdder();
+
+    private LoadGenerator(int port, long intervalMillis, long durationNanos) {
+        this.port = port;
+        this.intervalMillis = intervalMillis;
+        this.deadline = System.nanoTime() + durationNanos;
+    }
+
+    private void runClient() {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+             Writer out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII))) {
+            socket.setTcpNoDelay(true);
+            if (in.readLine() == null) {
+                failed.increment();
+                return;
+            }
+            connected.increment();
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            // Spread the clients out so they do not all send in the same millisecond
+            Thread.sleep(random.nextLong(intervalMillis + 1));
+
+            while (System.nanoTime() < deadline) {
+                Command command = MOVES[random.nextInt(MOVES.length)];
+                long start = System.nanoTime();
+                out.write(command.name());
+                out.write('\n');
+                out.flush();
+                String reply = in.readLine();
+                if (reply == null) {
+                    break;
+                }
+                roundTrip.record(System.nanoTime() - start);
+                if (reply.endsWith(" 1")) {
+                    gamesOver.increment();
+                    out.write("NEW\n");
+                    out.flush();
+                    in.readLine();
+                }
+                Thread.sleep(intervalMillis);
+            }
+            out.write("QUIT\n");
+            out.flush();
+        } catch (IOException e) {
+            failed.increment();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : GameServer.DEFAULT_PORT;
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        long seconds = args.length > 2 ? Long.parseLong(args[2]) : 30;
+        long intervalMillis = args.length > 3 ? Long.parseLong(args[3]) : 150;
+
+        LoadGenerator generator = new LoadGenerator(port, intervalMillis, TimeUnit.SECONDS.toNanos(seconds));
+        List<Thread> threads = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            threads.add(Thread.ofVirtual().name("client-" + i).start(generator::runClient));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        generator.report(seconds);
+    }
+
+    private void report(long seconds) {
+        LatencyHistogram h = roundTrip;
+        System.out.printf("clients connected=%d failed=%d commands=%d (%d/s) gamesOver=%d%n",
+                connected.sum(), failed.sum(), h.getCount(), h.getCount() / Math.max(1, seconds), gamesOver.sum());
+        System.out.printf("round trip p50=%.3fms p99=%.3fms p99.9=%.3fms max=%.3fms%n",
+                h.getValueAtPercentile(50) / 1e6, h.getValueAtPercentile(99) / 1e6,
+                h.getValueAtPercentile(99.9) / 1e6, h.getMax() / 1e6);
+    }
+}
@@ -0,0 +1,50 @@
+package com.comp2042.server;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters shared by every session of a {@link GameServer}.
+ */
+final class ServerStats {
+
+    private final LongAdder sessions = new LongAdder();
+    private final LongAdder commands = new LongAdder();
+    private final LongAdder gravityTicks = new LongAdder();
+    private final LongAdder gamesOver = new LongAdder();
+
+    void sessionOpened() {
+        sessions.increment();
+    }
+
+    void sessionClosed() {
+        sessions.decrement();
+    }
+
+    void command() {
+        commands.increment();
+    }
+
+    void gravityTick() {
+        gravityTicks.increment();
+    }
+
+    void gameOver() {
+        gamesOver.increment();
+    }
+
+    long getSessions() {
+        return sessions.sum();
+    }
+
+    long getCommands() {
+        return commands.sum();
+    }
+
+    long getGravityTicks() {
+        return gravityTicks.sum();
+    }
+
+    long getGamesOver() {
+        return gamesOver.sum();
+    }
+}
@@ -0,0 +1,96 @@
+package com.comp2042.server;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Watches one session of a {@link GameServer} through its {@link SpectatorServer}.
+ * <p>
+ * Opens the given number of spectator connections to the same session, one virtual thread
+ * each, and rebuilds the game from the stream with a {@link SpectatorView}. At the end it
+ * prints the frames and bytes each spectator received, which is the figure to watch when
+ * tuning the encoding.
+ * </p>
+ * <p>
+ * Usage: {@code SpectatorClient [spectatorPort] [sessionId] [spectators] [seconds]}.
+ * Run a {@link LoadGenerator} against the same server so the session has moves to show.
+ * </p>
+ */
+public final class SpectatorClient {
+
+    private final int port;
+    private final long sessionId;
+    private final long deadline;
+    private final LongAdder frames = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private volatile SpectatorView lastView;
+
+    private SpectatorClient(int port, long sessionId, long durationNanos) {
+        this.port = port;
+        this.sessionId = sessionId;
+        this.deadline = System.nanoTime() + durationNanos;
+    }
+
+    private void watch() {
+        try (SocketChannel channel = SocketChannel.open(new InetSocketAddress(InetAddress.getLoopbackAddress(), port))) {
+            channel.write(ByteBuffer.allocate(SpectatorProtocol.SUBSCRIBE_BYTES).putLong(0, sessionId));
+            SpectatorView view = new SpectatorView();
+            ByteBuffer in = ByteBuffer.allocate(64 * 1024);
+            while (System.nanoTime() < deadline) {
+                int n = channel.read(in);
+                if (n < 0) {
+                    break;
+                }
+                bytes.add(n);
+                in.flip();
+                while (view.apply(in)) {
+                    frames.increment();
+                }
+                in.compact();
+            }
+            lastView = view;
+        } catch (IOException e) {
+            failed.increment();
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : GameServer.DEFAULT_SPECTATOR_PORT;
+        long sessionId = args.length > 1 ? Long.parseLong(args[1]) : 1;
+        int spectators = args.length > 2 ? Integer.parseInt(args[2]) : 100;
+        long seconds = args.length > 3 ? Long.parseLong(args[3]) : 30;
+
+        SpectatorClient client = new SpectatorClient(port, sessionId, TimeUnit.SECONDS.toNanos(seconds));
+        List<Thread> threads = new ArrayList<>(spectators);
+        for (int i = 0; i < spectators; i++) {
+            threads.add(Thread.ofVirtual().name("spectator-" + i).start(client::watch));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        client.report(spectators, seconds);
+    }
+
+    private void report(int spectators, long seconds) {
+        int watching = Math.max(1, spectators - (int) failed.sum());
+        long framesEach = frames.sum() / watching;
+        long bytesEach = bytes.sum() / watching;
+        System.out.printf("spectators=%d failed=%d frames/spectator=%d bytes/spectator=%d (%.1f bytes/frame, %d bytes/s)%n",
+                spectators, failed.sum(), framesEach, bytesEach,
+                framesEach == 0 ? 0.0 : (double) bytesEach / framesEach, bytesEach / Math.max(1, seconds));
+        SpectatorView view = lastView;
+        if (view != null && view.isSynced()) {
+            System.out.printf("last state: score=%d lines=%d level=%d piece=%d at (%d,%d) gameOver=%b%n",
+                    view.getScore(), view.getLines(), view.getLevel(), view.getPiece(),
+                    view.getX(), view.getY(), view.isGameOver());
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package com.comp2042.server;
+
+import com.comp2042.model.BitBoard;
+import com.comp2042.model.DownData;
+import com.comp2042.model.GamePoint;
+import com.comp2042.model.Score;
+import com.comp2042.model.TetrisBoard;
+import com.comp2042.model.bricks.PieceMask;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Encodes one session's board changes for its spectators.
+ * <p>
+ * After every board update the session calls {@link #publish}, which compares the board
+ * with what was last sent and writes only the difference, in the format described by
+ * {@link SpectatorProtocol}. The frame is encoded once into a shared read-only buffer and
+ * the same buffer is handed to every spectator, so the cost per spectator is one queue
+ * offer. With nobody watching, {@code publish} returns at once.
+ * </p>
+ * <p>
+ * Locks are sent as row masks. The feed keeps its own {@link BitBoard} of what spectators
+ * have been told, stamps the locked piece into it and removes the rows that fill, just as
+ * a spectator does. If that ever disagrees with the real board a keyframe is sent instead.
+ * A keyframe also goes out every {@code keyframeInterval} locks, and the frames since the
+ * last one are kept so a spectator who joins late is brought up to date straight away.
+ * </p>
+ * <p>
+ * Not thread-safe: the owning session calls every method while holding its lock.
+ * </p>
+ */
+public final class SpectatorFeed {
+
+    /**
+     * Receives encoded frames. The buffer is shared and must not be modified.
+     */
+    interface Sink {
+        void send(ByteBuffer frame);
+
+        /** Called once when the session ends; no more frames follow. */
+        void sessionClosed();
+    }
+
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 32;
+
+    private final int keyframeInterval;
+    private final ByteBuffer scratch;
+    private final BitBoard sentRows = new BitBoard(TetrisBoard.BOARD_WIDTH, TetrisBoard.BOARD_HEIGHT);
+    private final List<Sink> sinks = new ArrayList<>();
+    private final List<ByteBuffer> sinceKeyframe = new ArrayList<>();
+
+    private boolean keyframeDue = true;
+    private int locksSinceKeyframe;
+    private int sentPiece;
+    private int sentX;
+    private int sentY;
+    private int sentRotation;
+    private int sentHold;
+    private int sentScore;
+    private int sentLines;
+    private int sentLevel;
+    private boolean sentGameOver;
+    private long bytesEncoded;
+
+    public SpectatorFeed(int keyframeInterval) {
+        if (keyframeInterval < 1) {
+            throw new IllegalArgumentException("keyframeInterval must be positive");
+        }
+        this.keyframeInterval = keyframeInterval;
+        this.scratch = ByteBuffer.allocate(64 + TetrisBoard.BOARD_WIDTH * TetrisBoard.BOARD_HEIGHT / 2);
+    }
+
+    public boolean isWatched() {
+        return !sinks.isEmpty();
+    }
+
+    public int getSpectatorCount() {
+        return sinks.size();
+    }
+
+    /**
+     * Total bytes of all frames encoded so far, however many spectators received them.
+     */
+    public long getBytesEncoded() {
+        return bytesEncoded;
+    }
+
+    /**
+     * Adds a spectator and sends it the latest keyframe and everything since.
+     */
+    void subscribe(Sink sink, TetrisBoard board, boolean gameOver) {
+        if (sinks.isEmpty()) {
+            // Nothing was encoded while nobody watched, so the history is stale
+            keyframeDue = true;
+        }
+        sinks.add(sink);
+        if (keyframeDue) {
+            publish(board, null, gameOver);
+        } else {
+            for (ByteBuffer frame : sinceKeyframe) {
+                sink.send(frame);
+            }
+        }
+    }
+
+    void unsubscribe(Sink sink) {
+        sinks.remove(sink);
+        if (sinks.isEmpty()) {
+            sinceKeyframe.clear();
+        }
+    }
+
+    /**
+     * Tells every spectator the session has ended and forgets them.
+     */
+    void closeAll() {
+        for (Sink sink : sinks) {
+            sink.sessionClosed();
+        }
+        sinks.clear();
+        sinceKeyframe.clear();
+    }
+
+    /**
+     * Makes the next frame a keyframe, for example after the board was reset.
+     */
+    void restart() {
+        keyframeDue = true;
+    }
+
+    /**
+     * Sends whatever changed since the previous call.
+     *
+     * @param data     the result of a step that may have locked a piece, or null.
+     * @param gameOver whether the session's game has ended.
+     */
+    void publish(TetrisBoard board, DownData data, boolean gameOver) {
+        if (sinks.isEmpty()) {
+            return;
+        }
+        ByteBuffer out = scratch.clear();
+        out.position(SpectatorProtocol.HEADER_BYTES);
+        if (data != null && data.getClearRow() != null && !keyframeDue) {
+            locksSinceKeyframe++;
+            if (locksSinceKeyframe >= keyframeInterval || !encodeLock(out, board, data.getDropDistance())) {
+                keyframeDue = true;
+            }
+        }
+        if (keyframeDue) {
+            out.position(SpectatorProtocol.HEADER_BYTES);
+            encodeKeyframe(out, board, gameOver);
+        } else {
+            encodeChanges(out, board, gameOver);
+        }
+        if (out.position() == SpectatorProtocol.HEADER_BYTES) {
+            return;
+        }
+        out.putShort(0, (short) (out.position() - SpectatorProtocol.HEADER_BYTES));
+        out.flip();
+        ByteBuffer frame = ByteBuffer.allocate(out.remaining()).put(out).flip().asReadOnlyBuffer();
+        bytesEncoded += frame.remaining();
+        sinceKeyframe.add(frame);
+        for (Sink sink : sinks) {
+            sink.send(frame);
+        }
+    }
+
+    /**
+     * Writes the LOCK message for the piece last sent, dropped by {@code dropDistance} rows.
+     *
+     * @return false if the result does not match the board, so a keyframe is needed.
+     */
+    private boolean encodeLock(ByteBuffer out, TetrisBoard board, int dropDistance) {
+        PieceMask piece = PieceMask.byId(sentPiece);
+        int y = sentY + dropDistance;
+        int full = sentRows.getFullRowMask();
+        out.put(SpectatorProtocol.LOCK).put((byte) piece.getColor());
+        int countAt = out.position();
+        out.put((byte) 0);
+        int count = 0;
+        int cleared = 0;
+        for (int r = 0; r < piece.getRowCount(sentRotation); r++) {
+            int mask = piece.getRowMask(sentRotation, r);
+            int row = y + r;
+            if (mask == 0 || row < 0 || row >= sentRows.getHeight()) {
+                continue;
+            }
+            int shifted = sentX >= 0 ? mask << sentX : mask >>> -sentX;
+            out.put((byte) row).putShort((short) shifted);
+            count++;
+            int filled = sentRows.getRow(row) | shifted;
+            sentRows.setRow(row, filled);
+            if (filled == full) {
+                cleared |= 1 << row;
+            }
+        }
+        out.put(countAt, (byte) count);
+        out.putInt(cleared);
+        sentRows.clearFullRows();
+
+        BitBoard actual = board.getOccupancy();
+        for (int row = 0; row < sentRows.getHeight(); row++) {
+            if (sentRows.getRow(row) != actual.getRow(row)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void encodeChanges(ByteBuffer out, TetrisBoard board, boolean gameOver) {
+        GamePoint offset = board.getCurrentOffset();
+        int piece = board.getCurrentPieceId();
+        int rotation = board.getCurrentRotation();
+        if (piece != sentPiece || offset.x() != sentX || offset.y() != sentY || rotation != sentRotation) {
+            out.put(SpectatorProtocol.MOVE).put((byte) piece).put((byte) offset.x()).put((byte) offset.y()).put((byte) rotation);
+            sentPiece = piece;
+            sentX = offset.x();
+            sentY = offset.y();
+            sentRotation = rotation;
+        }
+        int hold = board.getHoldPieceId();
+        if (hold != sentHold) {
+            out.put(SpectatorProtocol.HOLD).put((byte) hold);
+            sentHold = hold;
+        }
+        Score score = board.getScore();
+        int points = score.scoreProperty().get();
+        int lines = score.linesProperty().get();
+        int level = score.levelProperty().get();
+        if (points != sentScore || lines != sentLines || level != sentLevel) {
+            out.put(SpectatorProtocol.SCORE).putInt(points).putShort((short) lines).put((byte) level);
+            sentScore = points;
+            sentLines = lines;
+            sentLevel = level;
+        }
+        if (gameOver && !sentGameOver) {
+            out.put(SpectatorProtocol.GAME_OVER);
+        }
+        sentGameOver = gameOver;
+    }
+
+    private void encodeKeyframe(ByteBuffer out, TetrisBoard board, boolean gameOver) {
+        int[][] matrix = board.getBoardMatrix();
+        int height = matrix.length;
+        int width = matrix[0].length;
+        out.put(SpectatorProtocol.KEYFRAME).put((byte) height).put((byte) width);
+        int pending = -1;
+        for (int[] row : matrix) {
+            for (int x = 0; x < width; x++) {
+                if (pending < 0) {
+                    pending = row[x] & 0xF;
+                } else {
+                    out.put((byte) (pending << 4 | (row[x] & 0xF)));
+                    pending = -1;
+                }
+            }
+        }
+        if (pending >= 0) {
+            out.put((byte) (pending << 4));
+        }
+
+        GamePoint offset = board.getCurrentOffset();
+        Score score = board.getScore();
+        sentPiece = board.getCurrentPieceId();
+        sentX = offset.x();
+        sentY = offset.y();
+        sentRotation = board.getCurrentRotation();
+        sentHold = board.getHoldPieceId();
+        sentScore = score.scoreProperty().get();
+        sentLines = score.linesProperty().get();
+        sentLevel = score.levelProperty().get();
+        sentGameOver = gameOver;
+        out.put((byte) sentPiece).put((byte) sentX).put((byte) sentY).put((byte) sentRotation).put((byte) sentHold)
+                .putInt(sentScore).putShort((short) sentLines).put((byte) sentLevel).put((byte) (gameOver ? 1 : 0));
+
+        sentRows.copyFrom(board.getOccupancy());
+        sinceKeyframe.clear();
+        locksSinceKeyframe = 0;
+        keyframeDue = false;
+    }
+}
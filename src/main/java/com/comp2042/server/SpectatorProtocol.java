@@ -0,0 +1,47 @@
+package com.comp2042.server;
+
+/**
+ * Wire format of the spectator stream sent by {@link SpectatorServer}.
+ * <p>
+ * A spectator connects and sends the 8-byte id of the session to watch. From then on the
+ * server only writes. The stream is a series of frames, each a 2-byte big-endian length
+ * followed by that many bytes of messages. One frame describes everything that changed in
+ * one board update, so a plain move is a 7-byte frame.
+ * </p>
+ * <pre>
+ * MOVE      type, piece, x, y, rotation                    5 bytes
+ * HOLD      type, piece                                    2 bytes
+ * LOCK      type, colour, n, n x (row, mask16), cleared32  7 + 3n bytes
+ * SCORE     type, score32, lines16, level8                 8 bytes
+ * GAME_OVER type                                           1 byte
+ * KEYFRAME  type, height, width, cells (4 bits each, row-major),
+ *           piece, x, y, rotation, hold, score32, lines16, level8, gameOver8
+ * </pre>
+ * <p>
+ * A LOCK lists the rows the locked piece wrote to, with the piece's cells in each as a
+ * column mask, then a bitmask of the rows that became full, numbered before they are
+ * removed. The spectator fills the masked cells with the piece's colour and removes the
+ * full rows exactly as the board does. Piece ids are unsigned bytes; ids above 7 are
+ * pieces from a custom {@link com.comp2042.model.bricks.PieceSet}, which the spectator
+ * needs loaded to draw them.
+ * </p>
+ */
+public final class SpectatorProtocol {
+
+    public static final byte MOVE = 1;
+    public static final byte HOLD = 2;
+    public static final byte LOCK = 3;
+    public static final byte SCORE = 4;
+    public static final byte GAME_OVER = 5;
+    public static final byte KEYFRAME = 6;
+
+    /** Bytes in the length prefix of every frame. */
+    public static final int HEADER_BYTES = 2;
+
+    /** Bytes a spectator sends to choose a session. */
+    public static final int SUBSCRIBE_BYTES = Long.BYTES;
+
+    private SpectatorProtocol() {
+        // utility class
+    }
+}
@@ -0,0 +1,296 @@
+package com.comp2042.server;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+
+/**
+ * Streams games to spectators from a single non-blocking selector thread.
+ * <p>
+ * A spectator connects, sends the id of the session to watch, and from then on only reads
+ * the frames described in {@link SpectatorProtocol}. Frames are encoded by the session's
+ * {@link SpectatorFeed} on whichever thread changed the board; this class only queues the
+ * shared buffer for each spectator and writes it out when the socket can take it, using a
+ * gathering write over everything queued. Publishing threads never touch a socket: they
+ * put the spectator on a ready queue and wake the selector, at most once per wake-up.
+ * </p>
+ * <p>
+ * A spectator that falls more than {@link #MAX_QUEUED_FRAMES} frames behind is
+ * disconnected rather than allowed to hold memory for ever; it can reconnect and pick up
+ * from the next keyframe.
+ * </p>
+ */
+public final class SpectatorServer implements AutoCloseable {
+
+    static final int MAX_QUEUED_FRAMES = 4096;
+    private static final int MAX_GATHER = 64;
+
+    private final ServerSocketChannel serverChannel;
+    private final Selector selector;
+    private final LongFunction<GameSession> sessions;
+    private final Queue<Spectator> ready = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean wakeupPending = new AtomicBoolean();
+    private final AtomicInteger spectators = new AtomicInteger();
+    private final ByteBuffer[] gather = new ByteBuffer[MAX_GATHER];
+    private final Thread thread;
+    private volatile boolean closed;
+
+    private SpectatorServer(ServerSocketChannel serverChannel, Selector selector, LongFunction<GameSession> sessions) {
+        this.serverChannel = serverChannel;
+        this.selector = selector;
+        this.sessions = sessions;
+        this.thread = new Thread(this::run, "spectator-selector");
+        thread.setDaemon(true);
+    }
+
+    /**
+     * Starts listening on the loopback address. Port 0 picks a free port.
+     *
+     * @param sessions looks up a running session by id, or returns null.
+     */
+    public static SpectatorServer start(int port, LongFunction<GameSession> sessions) throws IOException {
+        ServerSocketChannel channel = ServerSocketChannel.open();
+        Selector selector = Selector.open();
+        try {
+            channel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+            channel.configureBlocking(false);
+            channel.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException e) {
+            channel.close();
+            selector.close();
+            throw e;
+        }
+        SpectatorServer server = new SpectatorServer(channel, selector, sessions);
+        server.thread.start();
+        return server;
+    }
+
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    public int getSpectatorCount() {
+        return spectators.get();
+    }
+
+    private void run() {
+        try {
+            while (!closed) {
+                selector.select();
+                wakeupPending.set(false);
+                for (SelectionKey key : selector.selectedKeys()) {
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                    } else {
+                        Spectator spectator = (Spectator) key.attachment();
+                        if (key.isReadable()) {
+                            read(spectator);
+                        }
+                        if (key.isValid() && key.isWritable()) {
+                            flush(spectator);
+                        }
+                    }
+                }
+                selector.selectedKeys().clear();
+                Spectator spectator;
+                while ((spectator = ready.poll()) != null) {
+                    flush(spectator);
+                }
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            if (!closed) {
+                System.err.println("Spectator server stopped: " + e.getMessage());
+            }
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+            Spectator spectator = new Spectator(channel);
+            spectator.key = channel.register(selector, SelectionKey.OP_READ, spectator);
+            spectators.incrementAndGet();
+        }
+    }
+
+    private void read(Spectator spectator) {
+        try {
+            ByteBuffer in = spectator.request;
+            int n = spectator.channel.read(in);
+            if (n < 0) {
+                drop(spectator);
+                return;
+            }
+            if (spectator.session != null) {
+                // Only the session id is expected; anything else is ignored
+                in.clear();
+                return;
+            }
+            if (in.hasRemaining()) {
+                return;
+            }
+            GameSession session = sessions.apply(in.flip().getLong());
+            in.clear();
+            if (session == null) {
+                drop(spectator);
+                return;
+            }
+            spectator.session = session;
+            if (!session.addSpectator(spectator)) {
+                spectator.session = null;
+                drop(spectator);
+            }
+        } catch (IOException e) {
+            drop(spectator);
+        }
+    }
+
+    private void flush(Spectator spectator) {
+        if (!spectator.key.isValid()) {
+            return;
+        }
+        if (spectator.overflowed) {
+            drop(spectator);
+            return;
+        }
+        try {
+            Deque<ByteBuffer> pending = spectator.pending;
+            ByteBuffer frame;
+            while ((frame = spectator.queue.poll()) != null) {
+                pending.add(frame.duplicate());
+            }
+            while (!pending.isEmpty()) {
+                int count = 0;
+                for (ByteBuffer buffer : pending) {
+                    gather[count++] = buffer;
+                    if (count == MAX_GATHER) {
+                        break;
+                    }
+                }
+                spectator.channel.write(gather, 0, count);
+                boolean socketFull = gather[count - 1].hasRemaining();
+                Arrays.fill(gather, 0, count, null);
+                while (!pending.isEmpty() && !pending.peekFirst().hasRemaining()) {
+                    pending.pollFirst();
+                    spectator.queued.decrementAndGet();
+                }
+                if (socketFull) {
+                    // Carry on when the socket can take more
+                    spectator.key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                    return;
+                }
+            }
+            spectator.key.interestOps(SelectionKey.OP_READ);
+            if (spectator.finished) {
+                drop(spectator);
+                return;
+            }
+            spectator.scheduled.set(false);
+            // A frame may have arrived after the queue was found empty
+            if (!spectator.queue.isEmpty() && spectator.scheduled.compareAndSet(false, true)) {
+                ready.add(spectator);
+            }
+        } catch (IOException e) {
+            drop(spectator);
+        }
+    }
+
+    private void drop(Spectator spectator) {
+        if (!spectator.key.isValid()) {
+            return;
+        }
+        spectator.key.cancel();
+        try {
+            spectator.channel.close();
+        } catch (IOException e) {
+            // Already gone
+        }
+        spectators.decrementAndGet();
+        GameSession session = spectator.session;
+        if (session != null && !spectator.finished) {
+            session.removeSpectator(spectator);
+        }
+    }
+
+    private void schedule(Spectator spectator) {
+        if (spectator.scheduled.compareAndSet(false, true)) {
+            ready.add(spectator);
+            if (wakeupPending.compareAndSet(false, true)) {
+                selector.wakeup();
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        selector.wakeup();
+        serverChannel.close();
+        try {
+            thread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (SelectionKey key : selector.keys()) {
+            key.channel().close();
+        }
+        selector.close();
+    }
+
+    /**
+     * One connected spectator. Frames are queued by publishing threads and written by the
+     * selector thread; {@code scheduled} keeps it on the ready queue at most once.
+     */
+    private final class Spectator implements SpectatorFeed.Sink {
+        private final SocketChannel channel;
+        private final ByteBuffer request = ByteBuffer.allocate(SpectatorProtocol.SUBSCRIBE_BYTES);
+        private final Queue<ByteBuffer> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        // Frames taken off the queue but not yet fully written; selector thread only
+        private final Deque<ByteBuffer> pending = new ArrayDeque<>();
+        private SelectionKey key;
+        private GameSession session;
+        private volatile boolean overflowed;
+        private volatile boolean finished;
+
+        private Spectator(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public void send(ByteBuffer frame) {
+            if (queued.incrementAndGet() > MAX_QUEUED_FRAMES) {
+                overflowed = true;
+            } else {
+                queue.add(frame);
+            }
+            schedule(this);
+        }
+
+        @Override
+        public void sessionClosed() {
+            finished = true;
+            schedule(this);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.comp2042.server;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A spectator's copy of a game, rebuilt from the frames of a {@link SpectatorFeed}.
+ * <p>
+ * Nothing is known until the first keyframe arrives; frames before it are skipped.
+ * </p>
+ */
+public final class SpectatorView {
+
+    private int[][] cells;
+    private int piece;
+    private int x;
+    private int y;
+    private int rotation;
+    private int hold;
+    private int score;
+    private int lines;
+    private int level;
+    private boolean gameOver;
+    private long frames;
+
+    /**
+     * Applies the next complete frame in {@code in}, advancing its position past it.
+     *
+     * @return false if {@code in} does not yet hold a whole frame; nothing is consumed.
+     */
+    public boolean apply(ByteBuffer in) {
+        if (in.remaining() < SpectatorProtocol.HEADER_BYTES) {
+            return false;
+        }
+        int length = Short.toUnsignedInt(in.getShort(in.position()));
+        if (in.remaining() < SpectatorProtocol.HEADER_BYTES + length) {
+            return false;
+        }
+        in.position(in.position() + SpectatorProtocol.HEADER_BYTES);
+        int end = in.position() + length;
+        while (in.position() < end) {
+            byte type = in.get();
+            if (cells == null && type != SpectatorProtocol.KEYFRAME) {
+                in.position(end);
+                break;
+            }
+            switch (type) {
+                case SpectatorProtocol.MOVE -> {
+                    piece = Byte.toUnsignedInt(in.get());
+                    x = in.get();
+                    y = in.get();
+                    rotation = in.get();
+                }
+                case SpectatorProtocol.HOLD -> hold = Byte.toUnsignedInt(in.get());
+                case SpectatorProtocol.LOCK -> applyLock(in);
+                case SpectatorProtocol.SCORE -> {
+                    score = in.getInt();
+                    lines = Short.toUnsignedInt(in.getShort());
+                    level = Byte.toUnsignedInt(in.get());
+                }
+                case SpectatorProtocol.GAME_OVER -> gameOver = true;
+                case SpectatorProtocol.KEYFRAME -> applyKeyframe(in);
+                default -> throw new IllegalStateException("Unknown message type " + type);
+            }
+        }
+        frames++;
+        return true;
+    }
+
+    private void applyLock(ByteBuffer in) {
+        int colour = in.get();
+        int count = in.get();
+        for (int i = 0; i < count; i++) {
+            int[] row = cells[in.get()];
+            int mask = Short.toUnsignedInt(in.getShort());
+            for (int col = 0; col < row.length; col++) {
+                if ((mask & (1 << col)) != 0) {
+                    row[col] = colour;
+                }
+            }
+        }
+        int cleared = in.getInt();
+        if (cleared == 0) {
+            return;
+        }
+        // Same compaction as the board: keep the rest in order and refill from the top
+        int write = cells.length - 1;
+        for (int read = cells.length - 1; read >= 0; read--) {
+            if ((cleared & (1 << read)) == 0) {
+                cells[write--] = cells[read];
+            }
+        }
+        for (int row = write; row >= 0; row--) {
+            cells[row] = new int[cells[0].length];
+        }
+    }
+
+    private void applyKeyframe(ByteBuffer in) {
+        int height = Byte.toUnsignedInt(in.get());
+        int width = Byte.toUnsignedInt(in.get());
+        cells = new int[height][width];
+        int index = 0;
+        int packed = 0;
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                if ((index++ & 1) == 0) {
+                    packed = Byte.toUnsignedInt(in.get());
+                    cells[row][col] = packed >>> 4;
+                } else {
+                    cells[row][col] = packed & 0xF;
+                }
+            }
+        }
+        piece = Byte.toUnsignedInt(in.get());
+        x = in.get();
+        y = in.get();
+        rotation = in.get();
+        hold = Byte.toUnsignedInt(in.get());
+        score = in.getInt();
+        lines = Short.toUnsignedInt(in.getShort());
+        level = Byte.toUnsignedInt(in.get());
+        gameOver = in.get() != 0;
+    }
+
+    public boolean isSynced() {
+        return cells != null;
+    }
+
+    /**
+     * The board as last described, laid out as {@code [row][col]}; null before a keyframe.
+     */
+    public int[][] getCells() {
+        return cells;
+    }
+
+    public int getPiece() {
+        return piece;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public int getRotation() {
+        return rotation;
+    }
+
+    public int getHold() {
+        return hold;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getLines() {
+        return lines;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public long getFrames() {
+        return frames;
+    }
+}
@@ -0,0 +1,206 @@
+package com.comp2042.server;
+
+import com.comp2042.model.BitBoard;
+import com.comp2042.model.LevelTable;
+import com.comp2042.model.ViewData;
+import com.comp2042.model.bricks.Brick;
+import com.comp2042.model.bricks.BrickTypes;
+import com.comp2042.model.bricks.PieceMask;
+import com.comp2042.model.bricks.PieceSet;
+import com.comp2042.view.TerminalRenderer;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Plays or watches a headless game in a terminal, drawn with a {@link TerminalRenderer}.
+ * <p>
+ * {@code play} hosts one {@link GameSession} in this process, with gravity on its own
+ * {@link TimerWheel}, and reads keys from the terminal in raw mode: arrows or WASD to
+ * move, Z and X to rotate, space to drop, C to hold, N for a new game and Q to quit.
+ * {@code watch} connects to a running {@link GameServer}'s spectator port and draws the
+ * chosen session from the stream; the next piece is not part of that stream, so its
+ * preview stays empty.
+ * </p>
+ * <p>
+ * Either way the screen is refreshed at 60 Hz. The renderer only sends the cells that
+ * changed, so a frame where nothing moved writes nothing, and a session can be watched
+ * over a slow SSH link without the output backing up.
+ * </p>
+ * <p>
+ * Usage: {@code TerminalConsole [play]} or
+ * {@code TerminalConsole watch [spectatorPort] [sessionId]}.
+ * </p>
+ */
+public final class TerminalConsole {
+
+    private static final long FRAME_NANOS = TimeUnit.SECONDS.toNanos(1) / 60;
+    private static final int KEY_ESC = 0x1b;
+
+    private volatile boolean running = true;
+
+    private TerminalConsole() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String mode = args.length > 0 ? args[0] : "play";
+        OutputStream out = new FileOutputStream(FileDescriptor.out);
+        TerminalRenderer renderer = new TerminalRenderer(out);
+        TerminalConsole console = new TerminalConsole();
+        if (mode.equals("watch")) {
+            int port = args.length > 1 ? Integer.parseInt(args[1]) : GameServer.DEFAULT_SPECTATOR_PORT;
+            long sessionId = args.length > 2 ? Long.parseLong(args[2]) : 1;
+            try {
+                console.watch(renderer, port, sessionId);
+            } finally {
+                renderer.restoreTerminal();
+            }
+        } else {
+            console.play(renderer);
+        }
+    }
+
+    private void play(TerminalRenderer renderer) throws IOException, InterruptedException {
+        setRawMode(true);
+        Thread restore = new Thread(() -> setRawModeQuietly(false));
+        Runtime.getRuntime().addShutdownHook(restore);
+        try (TimerWheel wheel = new TimerWheel(1, TimeUnit.MILLISECONDS)) {
+            GameSession session = new GameSession(1, wheel, new ServerStats(),
+                    LevelTable.loadOrDefault(Paths.get("levels.properties")),
+                    PieceSet.loadOrStandard(Paths.get("pieces.properties")));
+            session.start();
+            session.attach(renderer);
+            Thread input = Thread.ofPlatform().daemon().name("terminal-input").start(() -> readKeys(session));
+
+            long next = System.nanoTime();
+            while (running) {
+                session.render(renderer);
+                renderer.flush();
+                next += FRAME_NANOS;
+                LockSupport.parkNanos(Math.max(0, next - System.nanoTime()));
+            }
+            session.close();
+            input.interrupt();
+        } finally {
+            renderer.restoreTerminal();
+            setRawMode(false);
+            Runtime.getRuntime().removeShutdownHook(restore);
+        }
+    }
+
+    private void readKeys(GameSession session) {
+        InputStream in = System.in;
+        try {
+            int key;
+            while (running && (key = in.read()) >= 0) {
+                if (key == KEY_ESC && in.read() == '[') {
+                    key = switch (in.read()) {
+                        case 'A' -> 'w';
+                        case 'B' -> 's';
+                        case 'C' -> 'd';
+                        case 'D' -> 'a';
+                        default -> 0;
+                    };
+                }
+                Command command = switch (Character.toLowerCase(key)) {
+                    case 'a' -> Command.LEFT;
+                    case 'd' -> Command.RIGHT;
+                    case 'w', 'x' -> Command.CW;
+                    case 'z' -> Command.CCW;
+                    case 's' -> Command.DOWN;
+                    case ' ' -> Command.DROP;
+                    case 'c' -> Command.HOLD;
+                    case 'n' -> Command.NEW;
+                    case 'q' -> Command.QUIT;
+                    default -> null;
+                };
+                if (command == Command.QUIT) {
+                    running = false;
+                } else if (command != null) {
+                    session.handle(command);
+                }
+            }
+        } catch (IOException e) {
+            running = false;
+        }
+    }
+
+    private void watch(TerminalRenderer renderer, int port, long sessionId) throws IOException {
+        // Registers any custom pieces the server deals, so their ids can be drawn
+        PieceSet.loadOrStandard(Paths.get("pieces.properties"));
+        try (SocketChannel channel = SocketChannel.open(new InetSocketAddress(InetAddress.getLoopbackAddress(), port))) {
+            channel.write(ByteBuffer.allocate(SpectatorProtocol.SUBSCRIBE_BYTES).putLong(0, sessionId));
+            SpectatorView view = new SpectatorView();
+            ByteBuffer in = ByteBuffer.allocate(64 * 1024);
+            boolean initialized = false;
+            long lastFlush = 0;
+            while (channel.read(in) >= 0) {
+                in.flip();
+                boolean changed = false;
+                while (view.apply(in)) {
+                    changed = true;
+                }
+                in.compact();
+                if (!changed || !view.isSynced()) {
+                    continue;
+                }
+                if (!initialized) {
+                    renderer.initGameView(view.getCells(), null);
+                    initialized = true;
+                }
+                show(renderer, view);
+                // Frames arriving faster than the screen refreshes are folded into the next one
+                long now = System.nanoTime();
+                if (now - lastFlush >= FRAME_NANOS) {
+                    renderer.flush();
+                    lastFlush = now;
+                }
+            }
+        }
+    }
+
+    private static void show(TerminalRenderer renderer, SpectatorView view) {
+        int[][] cells = view.getCells();
+        Brick piece = BrickTypes.byId(view.getPiece());
+        BitBoard occupancy = BitBoard.fromMatrix(cells);
+        PieceMask mask = PieceMask.of(piece);
+        int rotation = view.getRotation();
+        renderer.setGhostProbe((brick, newY) -> !occupancy.collides(mask, rotation, brick.getxPosition(), newY));
+
+        renderer.refreshGameBackground(cells);
+        renderer.updateBrickPosition(new ViewData(piece.getShapeMatrix().get(rotation), view.getX(), view.getY(), null));
+        renderer.showHoldPiece(view.getHold() == 0 ? null : BrickTypes.byId(view.getHold()).getShapeMatrix().get(0));
+        renderer.showNextPiece(null);
+        renderer.showStats(view.getScore(), view.getLines(), view.getLevel(), view.isGameOver());
+    }
+
+    /**
+     * Switches the controlling terminal between raw key input without echo and its normal
+     * line mode.
+     */
+    private static void setRawMode(boolean raw) throws IOException, InterruptedException {
+        String settings = raw ? "-icanon -echo min 1" : "sane";
+        new ProcessBuilder("sh", "-c", "stty " + settings + " < /dev/tty")
+                .inheritIO().start().waitFor();
+    }
+
+    private static void setRawModeQuietly(boolean raw) {
+        try {
+            setRawMode(raw);
+        } catch (IOException e) {
+            // nothing more can be done while shutting down
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.comp2042.server;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hierarchical timing wheel that runs many short-lived timers from one thread.
+ * <p>
+ * There are four levels of 256 slots each. Level 0 holds timers due within the current
+ * block of 256 ticks, and each level above covers 256 times as many ticks, so a 1 ms tick
+ * reaches about 49 days. Scheduling and cancelling are O(1). Once every 256 ticks, one
+ * slot of the next level is cascaded down, and each timer moves at most once per level.
+ * A timer's level is the highest 8-bit group in which its deadline differs from the
+ * current tick, so each cascade only ever sees timers for the block that is starting.
+ * </p>
+ * <p>
+ * Any thread may schedule. New timers are pushed onto a lock-free stack and placed into
+ * the wheel by the driver thread at the start of the next tick; only the driver touches the
+ * slots. Tasks run on the driver thread, so they must be short and must not block. A
+ * cancelled timer is skipped when its slot comes round.
+ * </p>
+ */
+public final class TimerWheel implements AutoCloseable {
+
+    private static final int SLOT_BITS = 8;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_DELAY_TICKS = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    /**
+     * One scheduled task. Cancelling is the only operation callers need.
+     */
+    public static final class Timeout {
+        private final Runnable task;
+        private final long deadline;
+        private Timeout next;
+        private volatile boolean cancelled;
+
+        private Timeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    private final long tickNanos;
+    private final Timeout[][] slots = new Timeout[LEVELS][SLOTS];
+    private final AtomicReference<Timeout> incoming = new AtomicReference<>();
+    private final Thread driver;
+    private final long startNanos;
+    private volatile long currentTick;
+    private volatile long lagNanos;
+    private volatile boolean running = true;
+
+    /**
+     * Creates the wheel and starts its driver thread.
+     */
+    public TimerWheel(long tick, TimeUnit unit) {
+        this.tickNanos = Math.max(1, unit.toNanos(tick));
+        this.startNanos = System.nanoTime();
+        this.driver = new Thread(this::run, "timer-wheel");
+        driver.setDaemon(true);
+        driver.start();
+    }
+
+    /**
+     * Runs {@code task} on the driver thread once {@code delay} has passed, rounded up to
+     * whole ticks. Delays below one tick run on the next tick.
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        long ticks = Math.min((unit.toNanos(delay) + tickNanos - 1) / tickNanos, MAX_DELAY_TICKS);
+        // Count from the clock rather than the driver's tick, which lags behind it when the
+        // driver is late, so a timer never fires before its delay is up
+        long clockTick = (System.nanoTime() - startNanos + tickNanos - 1) / tickNanos;
+        long tick = currentTick;
+        long deadline = Math.min(Math.max(clockTick + ticks, tick + 1), tick + MAX_DELAY_TICKS);
+        Timeout timeout = new Timeout(task, deadline);
+        Timeout head;
+        do {
+            head = incoming.get();
+            timeout.next = head;
+        } while (!incoming.compareAndSet(head, timeout));
+        return timeout;
+    }
+
+    /**
+     * How far the driver was behind real time at its last tick.
+     */
+    public long getLagNanos() {
+        return lagNanos;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(driver);
+    }
+
+    private void run() {
+        long tick = 0;
+        while (running) {
+            long due = startNanos + (tick + 1) * tickNanos;
+            long now = System.nanoTime();
+            if (now < due) {
+                LockSupport.parkNanos(due - now);
+                continue;
+            }
+            lagNanos = now - due;
+            tick++;
+            currentTick = tick;
+            advance(tick);
+        }
+    }
+
+    private void advance(long tick) {
+        // Higher levels first, so timers cascaded into a lower level's current slot
+        // are cascaded again in the same tick
+        for (int level = LEVELS - 1; level >= 1; level--) {
+            if ((tick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                int index = (int) (tick >>> (SLOT_BITS * level)) & SLOT_MASK;
+                Timeout list = slots[level][index];
+                slots[level][index] = null;
+                placeAll(list, tick);
+            }
+        }
+        placeAll(incoming.getAndSet(null), tick);
+
+        int index = (int) tick & SLOT_MASK;
+        Timeout due = slots[0][index];
+        slots[0][index] = null;
+        while (due != null) {
+            Timeout next = due.next;
+            due.next = null;
+            if (!due.cancelled) {
+                try {
+                    due.task.run();
+                } catch (RuntimeException e) {
+                    System.err.println("Timer task failed: " + e);
+                }
+            }
+            due = next;
+        }
+    }
+
+    private void placeAll(Timeout list, long tick) {
+        while (list != null) {
+            Timeout next = list.next;
+            if (!list.cancelled) {
+                place(list, tick);
+            }
+            list = next;
+        }
+    }
+
+    private void place(Timeout timeout, long tick) {
+        // Anything already due runs in this tick
+        long deadline = Math.max(timeout.deadline, tick);
+        int level = 0;
+        while (level < LEVELS - 1 && (deadline >>> (SLOT_BITS * (level + 1))) != (tick >>> (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        int index = (int) (deadline >>> (SLOT_BITS * level)) & SLOT_MASK;
+        timeout.next = slots[level][index];
+        slots[level][index] = timeout;
+    }
+}
@@ -0,0 +1,171 @@
+package com.comp2042.stats;
+
+import java.nio.ByteBuffer;
+
+/**
+ * One finished game as stored in the {@link StatsLog}.
+ * <p>
+ * Records have a fixed size of {@link #BYTES}, so any record can be found from its index
+ * and a log cut short by a crash loses at most the record being written:
+ * </p>
+ * <pre>
+ * long   endedAtMillis     wall clock, epoch milliseconds
+ * int    durationMillis    time played, pauses excluded
+ * int    score
+ * int    pieces
+ * int    holds
+ * short  singles, doubles, triples, quads   clears by number of lines, T-spins included
+ * short  tSpins            clears made with a T-spin
+ * short  level
+ * byte   maxHeight         highest the stack reached, in rows
+ * byte   longClearLines    lines removed by clears of five or more, which only custom pieces make
+ * </pre>
+ * Counts that do not fit their field are stored saturated. Records from before long clears
+ * were counted have 0 in the last byte.
+ */
+public final class GameRecord {
+
+    public static final int BYTES = 38;
+
+    private final long endedAtMillis;
+    private final int durationMillis;
+    private final int score;
+    private final int pieces;
+    private final int holds;
+    private final int singles;
+    private final int doubles;
+    private final int triples;
+    private final int quads;
+    private final int tSpins;
+    private final int level;
+    private final int maxHeight;
+    private final int longClearLines;
+
+    public GameRecord(long endedAtMillis, int durationMillis, int score, int pieces, int holds,
+                      int singles, int doubles, int triples, int quads, int tSpins, int level, int maxHeight) {
+        this(endedAtMillis, durationMillis, score, pieces, holds, singles, doubles, triples, quads, tSpins,
+                level, maxHeight, 0);
+    }
+
+    public GameRecord(long endedAtMillis, int durationMillis, int score, int pieces, int holds,
+                      int singles, int doubles, int triples, int quads, int tSpins, int level, int maxHeight,
+                      int longClearLines) {
+        this.endedAtMillis = endedAtMillis;
+        this.durationMillis = durationMillis;
+        this.score = score;
+        this.pieces = pieces;
+        this.holds = holds;
+        this.singles = singles;
+        this.doubles = doubles;
+        this.triples = triples;
+        this.quads = quads;
+        this.tSpins = tSpins;
+        this.level = level;
+        this.maxHeight = maxHeight;
+        this.longClearLines = longClearLines;
+    }
+
+    void writeTo(ByteBuffer out) {
+        out.putLong(endedAtMillis);
+        out.putInt(durationMillis);
+        out.putInt(score);
+        out.putInt(pieces);
+        out.putInt(holds);
+        out.putShort(saturate(singles));
+        out.putShort(saturate(doubles));
+        out.putShort(saturate(triples));
+        out.putShort(saturate(quads));
+        out.putShort(saturate(tSpins));
+        out.putShort(saturate(level));
+        out.put((byte) Math.min(maxHeight, 0xFF));
+        out.put((byte) Math.min(longClearLines, 0xFF));
+    }
+
+    static GameRecord readFrom(ByteBuffer in) {
+        long endedAt = in.getLong();
+        int duration = in.getInt();
+        int score = in.getInt();
+        int pieces = in.getInt();
+        int holds = in.getInt();
+        int singles = Short.toUnsignedInt(in.getShort());
+        int doubles = Short.toUnsignedInt(in.getShort());
+        int triples = Short.toUnsignedInt(in.getShort());
+        int quads = Short.toUnsignedInt(in.getShort());
+        int tSpins = Short.toUnsignedInt(in.getShort());
+        int level = Short.toUnsignedInt(in.getShort());
+        int maxHeight = Byte.toUnsignedInt(in.get());
+        int longClearLines = Byte.toUnsignedInt(in.get());
+        return new GameRecord(endedAt, duration, score, pieces, holds, singles, doubles, triples, quads, tSpins,
+                level, maxHeight, longClearLines);
+    }
+
+    private static short saturate(int value) {
+        return (short) Math.min(value, 0xFFFF);
+    }
+
+    public long getEndedAtMillis() {
+        return endedAtMillis;
+    }
+
+    public int getDurationMillis() {
+        return durationMillis;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getPieces() {
+        return pieces;
+    }
+
+    public int getHolds() {
+        return holds;
+    }
+
+    public int getSingles() {
+        return singles;
+    }
+
+    public int getDoubles() {
+        return doubles;
+    }
+
+    public int getTriples() {
+        return triples;
+    }
+
+    public int getQuads() {
+        return quads;
+    }
+
+    public int getTSpins() {
+        return tSpins;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getMaxHeight() {
+        return maxHeight;
+    }
+
+    /**
+     * Lines removed by clears of five or more lines at once.
+     */
+    public int getLongClearLines() {
+        return longClearLines;
+    }
+
+    public int getLines() {
+        return singles + 2 * doubles + 3 * triples + 4 * quads + longClearLines;
+    }
+
+    /**
+     * Pieces locked per second of play, or 0 for a game with no measured time.
+     */
+    public double getPiecesPerSecond() {
+        return durationMillis == 0 ? 0 : pieces * 1000.0 / durationMillis;
+    }
+}
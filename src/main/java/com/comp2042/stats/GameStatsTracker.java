@@ -0,0 +1,107 @@
+package com.comp2042.stats;
+
+import com.comp2042.model.TSpinDetector;
+
+/**
+ * Counts what happens in the game being played, for its {@link GameRecord}.
+ * <p>
+ * The game controller reports locks and holds as they happen and marks pauses, so the
+ * duration is time actually played. It keeps only a handful of counters; the record is
+ * built once, when the game ends.
+ * </p>
+ */
+public final class GameStatsTracker {
+
+    private long startNanos;
+    private long pausedNanos;
+    private long pausedAt;
+    private boolean paused;
+    private int pieces;
+    private int holds;
+    private int singles;
+    private int doubles;
+    private int triples;
+    private int quads;
+    private int longClearLines;
+    private int tSpins;
+    private int maxHeight;
+    private GameRecord lastGame;
+
+    /**
+     * Starts counting a new game, or a resumed one from here on.
+     */
+    public void start(long nowNanos) {
+        startNanos = nowNanos;
+        pausedNanos = 0;
+        paused = false;
+        pieces = 0;
+        holds = 0;
+        singles = 0;
+        doubles = 0;
+        triples = 0;
+        quads = 0;
+        longClearLines = 0;
+        tSpins = 0;
+        maxHeight = 0;
+    }
+
+    public void pause(long nowNanos) {
+        if (!paused) {
+            paused = true;
+            pausedAt = nowNanos;
+        }
+    }
+
+    public void unpause(long nowNanos) {
+        if (paused) {
+            paused = false;
+            pausedNanos += nowNanos - pausedAt;
+        }
+    }
+
+    /**
+     * A piece locked, clearing {@code lines} with the given {@link TSpinDetector} spin and
+     * leaving a stack {@code stackHeight} rows high.
+     */
+    public void onLock(int lines, int spin, int stackHeight) {
+        pieces++;
+        switch (lines) {
+            case 1 -> singles++;
+            case 2 -> doubles++;
+            case 3 -> triples++;
+            case 4 -> quads++;
+            default -> {
+                // Only custom pieces taller than four rows clear more
+                if (lines > 4) {
+                    longClearLines += lines;
+                }
+            }
+        }
+        if (lines > 0 && spin != TSpinDetector.NONE) {
+            tSpins++;
+        }
+        maxHeight = Math.max(maxHeight, stackHeight);
+    }
+
+    public void onHold() {
+        holds++;
+    }
+
+    /**
+     * Ends the game and builds its record, kept until the next game ends.
+     */
+    public GameRecord finish(int score, int level, long nowNanos, long wallClockMillis) {
+        unpause(nowNanos);
+        long playedMillis = (nowNanos - startNanos - pausedNanos) / 1_000_000;
+        lastGame = new GameRecord(wallClockMillis, (int) Math.min(Math.max(playedMillis, 0), Integer.MAX_VALUE),
+                score, pieces, holds, singles, doubles, triples, quads, tSpins, level, maxHeight, longClearLines);
+        return lastGame;
+    }
+
+    /**
+     * The record of the last game that ended, or null before the first one.
+     */
+    public GameRecord getLastGame() {
+        return lastGame;
+    }
+}
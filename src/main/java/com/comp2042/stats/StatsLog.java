@@ -0,0 +1,139 @@
+package com.comp2042.stats;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/**
+ * Append-only log of every finished game, one fixed-size {@link GameRecord} each.
+ * <p>
+ * The log rolls over to a new segment file every {@link #SEGMENT_RECORDS} games, so no
+ * file grows without bound and a game's index tells which segment and offset hold it.
+ * Scanning streams through the segments with one small reused buffer, visiting each
+ * record in order, so reading years of games never needs more memory than one buffer.
+ * A record cut short by a crash is ignored and overwritten by the next append.
+ * </p>
+ */
+public final class StatsLog {
+
+    public static final Path DEFAULT_DIR = Paths.get("stats");
+    static final int SEGMENT_RECORDS = 8192;
+
+    private static final int SCAN_RECORDS = 256;
+
+    private final Path dir;
+    private final int segmentRecords;
+
+    public StatsLog(Path dir) {
+        this(dir, SEGMENT_RECORDS);
+    }
+
+    StatsLog(Path dir, int segmentRecords) {
+        this.dir = dir;
+        this.segmentRecords = segmentRecords;
+    }
+
+    public Path getDir() {
+        return dir;
+    }
+
+    /**
+     * Appends one game, starting a new segment when the current one is full.
+     */
+    public void append(GameRecord record) throws IOException {
+        Files.createDirectories(dir);
+        int segment = lastSegment();
+        long used = segment < 0 ? 0 : Files.size(segmentPath(segment)) / GameRecord.BYTES;
+        if (segment < 0 || used >= segmentRecords) {
+            segment++;
+            used = 0;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(GameRecord.BYTES);
+        record.writeTo(buffer);
+        buffer.flip();
+        try (FileChannel channel = FileChannel.open(segmentPath(segment),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            // Writing at the last whole record drops any torn tail left by a crash
+            channel.truncate(used * GameRecord.BYTES);
+            channel.position(used * GameRecord.BYTES);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Number of whole records in the log.
+     */
+    public long count() throws IOException {
+        int segment = lastSegment();
+        if (segment < 0) {
+            return 0;
+        }
+        return (long) segment * segmentRecords + Files.size(segmentPath(segment)) / GameRecord.BYTES;
+    }
+
+    /**
+     * Visits every record from index {@code from} on, in order.
+     *
+     * @return the index after the last record visited, to continue from next time.
+     */
+    public long scan(long from, Consumer<GameRecord> visitor) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_RECORDS * GameRecord.BYTES);
+        long index = from;
+        int last = lastSegment();
+        for (int segment = (int) (from / segmentRecords); segment <= last; segment++) {
+            long offset = index - (long) segment * segmentRecords;
+            try (FileChannel channel = FileChannel.open(segmentPath(segment), StandardOpenOption.READ)) {
+                long whole = channel.size() / GameRecord.BYTES;
+                channel.position(offset * GameRecord.BYTES);
+                while (offset < whole) {
+                    buffer.clear();
+                    buffer.limit((int) Math.min(buffer.capacity(), (whole - offset) * GameRecord.BYTES));
+                    while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                        // fill the window
+                    }
+                    buffer.flip();
+                    if (buffer.remaining() < GameRecord.BYTES) {
+                        // The segment shrank while being read
+                        break;
+                    }
+                    while (buffer.remaining() >= GameRecord.BYTES) {
+                        visitor.accept(GameRecord.readFrom(buffer));
+                        offset++;
+                        index++;
+                    }
+                }
+            } catch (NoSuchFileException e) {
+                // A missing segment ends the log
+                break;
+            }
+            if (offset < segmentRecords) {
+                break;
+            }
+        }
+        return index;
+    }
+
+    private Path segmentPath(int segment) {
+        return dir.resolve(String.format("games-%06d.bin", segment));
+    }
+
+    /**
+     * Index of the newest segment, or -1 if the log is empty. Segments are numbered from 0
+     * with no gaps, so this finds the first one that does not exist.
+     */
+    private int lastSegment() {
+        int segment = 0;
+        while (Files.exists(segmentPath(segment))) {
+            segment++;
+        }
+        return segment - 1;
+    }
+}
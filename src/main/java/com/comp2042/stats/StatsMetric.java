@@ -0,0 +1,63 @@
+package com.comp2042.stats;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * The per-game numbers the {@link StatsSummary} aggregates.
+ * <p>
+ * Each is taken from a {@link GameRecord} as a whole number; {@link #getScale()} turns it
+ * back into the unit shown, e.g. seconds or pieces per second to two places.
+ * </p>
+ */
+public enum StatsMetric {
+
+    SCORE("Score", 1, true, GameRecord::getScore),
+    LINES("Lines", 1, true, GameRecord::getLines),
+    LEVEL("Level", 1, true, GameRecord::getLevel),
+    PIECES("Pieces", 1, true, GameRecord::getPieces),
+    /** Only games of at least {@link #MIN_PIECES_FOR_SPEED} pieces count, so a quick top-out is not a record. */
+    PIECES_PER_SECOND("Pieces / s", 100, true, record -> record.getPieces() < StatsMetric.MIN_PIECES_FOR_SPEED
+            ? -1 : Math.round(record.getPiecesPerSecond() * 100)),
+    DURATION("Time (s)", 1000, true, GameRecord::getDurationMillis),
+    QUADS("Quads", 1, true, GameRecord::getQuads),
+    T_SPINS("T-spins", 1, true, GameRecord::getTSpins),
+    HOLDS("Holds", 1, false, GameRecord::getHolds),
+    MAX_HEIGHT("Max height", 1, false, GameRecord::getMaxHeight);
+
+    public static final int MIN_PIECES_FOR_SPEED = 20;
+
+    private final String label;
+    private final double scale;
+    private final boolean hasBest;
+    private final ToLongFunction<GameRecord> extractor;
+
+    StatsMetric(String label, double scale, boolean hasBest, ToLongFunction<GameRecord> extractor) {
+        this.label = label;
+        this.scale = scale;
+        this.hasBest = hasBest;
+        this.extractor = extractor;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public double getScale() {
+        return scale;
+    }
+
+    /**
+     * Whether the highest value is a personal best worth showing; the most holds or the
+     * tallest stack is not.
+     */
+    public boolean hasBest() {
+        return hasBest;
+    }
+
+    /**
+     * The value for one game, or -1 if the game does not count towards this metric.
+     */
+    long valueOf(GameRecord record) {
+        return extractor.applyAsLong(record);
+    }
+}
@@ -0,0 +1,183 @@
+package com.comp2042.stats;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Running aggregates over every game in a {@link StatsLog}: averages, percentiles and
+ * personal bests for each {@link StatsMetric}.
+ * <p>
+ * Games are added one at a time, and each metric keeps only a count, a sum, a maximum and
+ * a fixed-size {@link ValueHistogram}, so the summary is the same small size after ten games
+ * or ten thousand. {@link #load} keeps it in a cache file next to the log together with the
+ * number of records it covers; opening the stats only scans the games played since the
+ * cache was last written, then updates it.
+ * </p>
+ */
+public final class StatsSummary {
+
+    static final String CACHE_FILE = "summary.cache";
+    private static final int CACHE_MAGIC = 0x54535443;
+    private static final int CACHE_VERSION = 1;
+    private static final int METRICS = StatsMetric.values().length;
+
+    private long recordsCovered;
+    private long games;
+    private long lastPlayedMillis;
+    private final long[] counts = new long[METRICS];
+    private final long[] sums = new long[METRICS];
+    private final long[] maxes = new long[METRICS];
+    private final ValueHistogram[] histograms = new ValueHistogram[METRICS];
+
+    public StatsSummary() {
+        for (int i = 0; i < METRICS; i++) {
+            histograms[i] = new ValueHistogram();
+        }
+    }
+
+    /**
+     * The summary of every game in the log, brought up to date from its cache.
+     * A missing or unreadable cache, or one covering more games than the log holds, is
+     * rebuilt from the whole log.
+     */
+    public static StatsSummary load(StatsLog log) throws IOException {
+        Path cache = log.getDir().resolve(CACHE_FILE);
+        StatsSummary summary = readCache(cache);
+        long count = log.count();
+        if (summary == null || summary.recordsCovered > count) {
+            summary = new StatsSummary();
+        }
+        if (summary.recordsCovered < count) {
+            summary.recordsCovered = log.scan(summary.recordsCovered, summary::add);
+            summary.writeCache(cache);
+        }
+        return summary;
+    }
+
+    /**
+     * Adds one game.
+     */
+    public void add(GameRecord record) {
+        games++;
+        lastPlayedMillis = Math.max(lastPlayedMillis, record.getEndedAtMillis());
+        for (StatsMetric metric : StatsMetric.values()) {
+            long value = metric.valueOf(record);
+            if (value < 0) {
+                continue;
+            }
+            int i = metric.ordinal();
+            counts[i]++;
+            sums[i] += value;
+            maxes[i] = Math.max(maxes[i], value);
+            histograms[i].record(value);
+        }
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * When the newest game ended, in epoch milliseconds, or 0 before the first game.
+     */
+    public long getLastPlayedMillis() {
+        return lastPlayedMillis;
+    }
+
+    /**
+     * Number of games counted towards a metric; fewer than {@link #getGames()} for metrics
+     * that skip some games.
+     */
+    public long getCount(StatsMetric metric) {
+        return counts[metric.ordinal()];
+    }
+
+    public double getAverage(StatsMetric metric) {
+        int i = metric.ordinal();
+        return counts[i] == 0 ? 0 : sums[i] / (double) counts[i] / metric.getScale();
+    }
+
+    /**
+     * The value at the given percentile, such as 50 for the median, to within a few percent.
+     */
+    public double getPercentile(StatsMetric metric, double percentile) {
+        return histograms[metric.ordinal()].getValueAtPercentile(percentile) / metric.getScale();
+    }
+
+    public double getBest(StatsMetric metric) {
+        return maxes[metric.ordinal()] / metric.getScale();
+    }
+
+    /**
+     * Number of log records this summary includes.
+     */
+    public long getRecordsCovered() {
+        return recordsCovered;
+    }
+
+    private static StatsSummary readCache(Path cache) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(cache)))) {
+            return readFrom(in);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            System.err.println("Stats cache could not be read, rebuilding it: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeCache(Path cache) {
+        Path temp = cache.resolveSibling(CACHE_FILE + ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                writeTo(out);
+            }
+            Files.move(temp, cache, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            // The summary is still correct; the next load just scans further back
+            System.err.println("Stats cache could not be written: " + e.getMessage());
+        }
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeInt(CACHE_MAGIC);
+        out.writeByte(CACHE_VERSION);
+        out.writeByte(METRICS);
+        out.writeLong(recordsCovered);
+        out.writeLong(games);
+        out.writeLong(lastPlayedMillis);
+        for (int i = 0; i < METRICS; i++) {
+            out.writeLong(counts[i]);
+            out.writeLong(sums[i]);
+            out.writeLong(maxes[i]);
+            histograms[i].writeTo(out);
+        }
+    }
+
+    static StatsSummary readFrom(DataInput in) throws IOException {
+        if (in.readInt() != CACHE_MAGIC || in.readUnsignedByte() != CACHE_VERSION
+                || in.readUnsignedByte() != METRICS) {
+            throw new IOException("Not a stats cache of this version");
+        }
+        StatsSummary summary = new StatsSummary();
+        summary.recordsCovered = in.readLong();
+        summary.games = in.readLong();
+        summary.lastPlayedMillis = in.readLong();
+        for (int i = 0; i < METRICS; i++) {
+            summary.counts[i] = in.readLong();
+            summary.sums[i] = in.readLong();
+            summary.maxes[i] = in.readLong();
+            summary.histograms[i] = ValueHistogram.readFrom(in);
+        }
+        return summary;
+    }
+}
@@ -0,0 +1,113 @@
+package com.comp2042.stats;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Log-linear histogram of non-negative values, for streaming percentiles over many games.
+ * <p>
+ * Uses the same bucketing as {@code LatencyHistogram}, with 16 sub-buckets per power of
+ * two, so a percentile is reported to within about 6% from a fixed 608 counters however
+ * many games are added. Unlike that class it is single-threaded and can be saved, so the
+ * {@link StatsSummary} cache can carry it from one run to the next.
+ * </p>
+ */
+final class ValueHistogram {
+
+    private static final int SUB_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int MAX_MSB = 40;
+    private static final long MAX_VALUE = (1L << (MAX_MSB + 1)) - 1;
+    static final int BUCKETS = (MAX_MSB - SUB_BITS + 1) * SUB_BUCKETS + SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKETS];
+    private long total;
+    private long max;
+
+    void record(long value) {
+        long clamped = Math.min(Math.max(value, 0), MAX_VALUE);
+        counts[indexOf(clamped)]++;
+        total++;
+        max = Math.max(max, clamped);
+    }
+
+    long getCount() {
+        return total;
+    }
+
+    /**
+     * The value at the given percentile, such as 50 or 90, as the upper bound of its bucket
+     * but never above the largest value recorded. Returns 0 if nothing has been recorded.
+     */
+    long getValueAtPercentile(double percentile) {
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(total * Math.min(percentile, 100.0) / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min(highestValueIn(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Writes the non-empty buckets only; most of them stay empty.
+     */
+    void writeTo(DataOutput out) throws IOException {
+        int used = 0;
+        for (long count : counts) {
+            if (count != 0) {
+                used++;
+            }
+        }
+        out.writeLong(max);
+        out.writeShort(used);
+        for (int i = 0; i < BUCKETS; i++) {
+            if (counts[i] != 0) {
+                out.writeShort(i);
+                out.writeLong(counts[i]);
+            }
+        }
+    }
+
+    static ValueHistogram readFrom(DataInput in) throws IOException {
+        ValueHistogram histogram = new ValueHistogram();
+        histogram.max = in.readLong();
+        int used = in.readUnsignedShort();
+        for (int n = 0; n < used; n++) {
+            int index = in.readUnsignedShort();
+            if (index >= BUCKETS) {
+                throw new IOException("Corrupt histogram bucket " + index);
+            }
+            long count = in.readLong();
+            histogram.counts[index] = count;
+            histogram.total += count;
+        }
+        return histogram;
+    }
+
+    static int indexOf(long value) {
+        if (value < 2 * SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    private static long lowestValueIn(int index) {
+        if (index < 2 * SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        return (long) (index % SUB_BUCKETS + SUB_BUCKETS) << shift;
+    }
+
+    private static long highestValueIn(int index) {
+        return index + 1 < BUCKETS ? lowestValueIn(index + 1) - 1 : MAX_VALUE;
+    }
+}
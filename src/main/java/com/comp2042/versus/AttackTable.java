@@ -0,0 +1,55 @@
+package com.comp2042.versus;
+
+import com.comp2042.model.TSpinDetector;
+
+/**
+ * How many garbage lines a line clear sends to the opponent.
+ * <p>
+ * Follows the common guideline values: doubles, triples and tetrises send 1, 2 and 4, and
+ * the longer clears custom pieces can make send one line per row;
+ * T-spins send twice their line count and minis one line fewer than they clear (none for a
+ * single, one for a double); back-to-back difficult
+ * clears add one; combos add lines from {@link #COMBO_LINES}; a perfect clear adds ten.
+ * </p>
+ */
+public final class AttackTable {
+
+    /** Extra lines by combo count, the last value repeating for longer combos. */
+    static final int[] COMBO_LINES = {0, 0, 1, 1, 2, 2, 3, 3, 4, 4, 4, 5};
+
+    private static final int[] CLEAR_LINES = {0, 0, 1, 2, 4};
+    private static final int BACK_TO_BACK_BONUS = 1;
+    private static final int PERFECT_CLEAR_BONUS = 10;
+
+    private AttackTable() {
+        // utility class
+    }
+
+    /**
+     * @param lines        rows cleared by the lock; 0 sends nothing.
+     * @param spin         spin classification from {@link TSpinDetector}.
+     * @param backToBack   whether this clear continued a back-to-back chain.
+     * @param combo        combo count after the lock, 0 for the first clear in a chain.
+     * @param perfectClear whether the board is empty after the clear.
+     */
+    public static int linesToSend(int lines, int spin, boolean backToBack, int combo, boolean perfectClear) {
+        if (lines <= 0) {
+            return 0;
+        }
+        int attack = switch (spin) {
+            case TSpinDetector.FULL -> lines * 2;
+            case TSpinDetector.MINI -> lines - 1;
+            default -> lines < CLEAR_LINES.length ? CLEAR_LINES[lines] : lines;
+        };
+        if (backToBack) {
+            attack += BACK_TO_BACK_BONUS;
+        }
+        if (combo > 0) {
+            attack += COMBO_LINES[Math.min(combo, COMBO_LINES.length - 1)];
+        }
+        if (perfectClear) {
+            attack += PERFECT_CLEAR_BONUS;
+        }
+        return attack;
+    }
+}
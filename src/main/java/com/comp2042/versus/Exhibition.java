@@ -0,0 +1,166 @@
+package com.comp2042.versus;
+
+import com.comp2042.bot.BeamSearchBot;
+import com.comp2042.bot.EvaluationWeights;
+import com.comp2042.model.BoardSnapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bot-versus-bot matches played in real time for display, such as the bot wall.
+ * <p>
+ * The matches are split between a few worker threads, leaving one core for the JavaFX
+ * thread. Each worker steps its matches on a 60 Hz clock and captures a
+ * {@link BoardSnapshot} of every board that changed on that tick, so the renderer never
+ * touches a live board. A worker that falls behind drops ticks instead of catching up, which
+ * only slows its games down. A finished match stays on screen for a couple of seconds and
+ * is then replaced by a new one with the next seed.
+ * </p>
+ * <p>
+ * The first player in each match searches one piece deep and the second two, since equal
+ * bots with the same pieces cancel each other's attacks and never finish.
+ * </p>
+ */
+public final class Exhibition implements AutoCloseable {
+
+    private static final long TICK_NANOS = 1_000_000_000L / VersusMatch.TICKS_PER_SECOND;
+    private static final long MAX_LAG_NANOS = 250_000_000L;
+    private static final int RESULT_TICKS = 2 * VersusMatch.TICKS_PER_SECOND;
+
+    private final int ticksPerPiece;
+    private final List<BoardSnapshot> snapshots = new ArrayList<>();
+    private final List<Thread> workers = new ArrayList<>();
+    private final List<List<Table>> assignments = new ArrayList<>();
+    private volatile boolean running;
+
+    /**
+     * One match slot on the wall: the match currently shown and the snapshots it feeds.
+     */
+    private final class Table {
+        final BoardSnapshot[] boards = new BoardSnapshot[2];
+        final long[] capturedVersion = {-1, -1};
+        long seed;
+        VersusMatch match;
+        int resultTicks;
+
+        Table(long seed) {
+            this.seed = seed;
+            for (int i = 0; i < boards.length; i++) {
+                boards[i] = BoardSnapshot.forStandardBoard();
+                snapshots.add(boards[i]);
+            }
+        }
+
+        void deal(BeamSearchBot first, BeamSearchBot second, long nextSeed) {
+            seed = nextSeed;
+            match = new VersusMatch(seed, VersusMatch.DEFAULT_GARBAGE_DELAY_TICKS);
+            match.setBot(0, first, ticksPerPiece);
+            match.setBot(1, second, ticksPerPiece);
+            match.start();
+            resultTicks = RESULT_TICKS;
+            capturedVersion[0] = -1;
+            capturedVersion[1] = -1;
+            capture();
+        }
+
+        void tick(BeamSearchBot first, BeamSearchBot second, long seedStride) {
+            if (!match.isOver()) {
+                match.step();
+                capture();
+            } else if (--resultTicks <= 0) {
+                deal(first, second, seed + seedStride);
+            }
+        }
+
+        private void capture() {
+            for (int i = 0; i < boards.length; i++) {
+                VersusPlayer player = match.getPlayer(i);
+                long version = player.getPieces() + player.getLinesReceived();
+                if (version != capturedVersion[i]) {
+                    boards[i].capture(player.getBoard());
+                    capturedVersion[i] = version;
+                }
+            }
+        }
+    }
+
+    /**
+     * @param matches       number of matches; the wall shows two boards per match.
+     * @param ticksPerPiece how often each bot places a piece, in 60 Hz ticks.
+     * @param seed          seed of the first match; the others follow on from it.
+     */
+    public Exhibition(int matches, int ticksPerPiece, long seed) {
+        this.ticksPerPiece = ticksPerPiece;
+        int threads = Math.max(1, Math.min(matches, Runtime.getRuntime().availableProcessors() - 1));
+        for (int t = 0; t < threads; t++) {
+            assignments.add(new ArrayList<>());
+        }
+        for (int m = 0; m < matches; m++) {
+            assignments.get(m % threads).add(new Table(seed + m));
+        }
+    }
+
+    /**
+     * Snapshots of every board, two per match in match order.
+     */
+    public List<BoardSnapshot> getSnapshots() {
+        return snapshots;
+    }
+
+    /**
+     * Deals the first matches and starts the worker threads.
+     */
+    public void start() {
+        running = true;
+        int matches = snapshots.size() / 2;
+        for (int t = 0; t < assignments.size(); t++) {
+            List<Table> tables = assignments.get(t);
+            Thread worker = new Thread(() -> run(tables, matches), "exhibition-" + t);
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    private void run(List<Table> tables, int seedStride) {
+        // No time budget and one search thread, so each match plays exactly as its seed says
+        try (BeamSearchBot first = new BeamSearchBot(EvaluationWeights.DEFAULT, 1, 0, 1);
+             BeamSearchBot second = new BeamSearchBot(EvaluationWeights.DEFAULT, 2, 0, 1)) {
+            for (Table table : tables) {
+                table.deal(first, second, table.seed);
+            }
+            long next = System.nanoTime();
+            while (running) {
+                for (Table table : tables) {
+                    table.tick(first, second, seedStride);
+                }
+                next += TICK_NANOS;
+                long wait = next - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                } else if (wait < -MAX_LAG_NANOS) {
+                    next = System.nanoTime();
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops the workers and waits for them to finish their current tick.
+     */
+    @Override
+    public void close() {
+        running = false;
+        for (Thread worker : workers) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        workers.clear();
+    }
+}
@@ -0,0 +1,109 @@
+package com.comp2042.versus;
+
+/**
+ * Garbage waiting to be pushed onto one player's board.
+ * <p>
+ * Each attack is kept as one entry (line count, hole column and the tick it becomes
+ * ready), in arrival order, in a ring of primitive arrays, so queuing and cancelling never
+ * allocate once the ring has grown to the match's needs. Lines a player clears first
+ * cancel their own pending garbage, oldest first, and only the remainder is sent on.
+ * </p>
+ */
+public final class GarbageQueue {
+
+    private int[] lines = new int[16];
+    private int[] holes = new int[16];
+    private long[] readyAt = new long[16];
+    private int head;
+    private int size;
+    private int pendingLines;
+
+    /**
+     * Queues an attack that may land from {@code readyTick} on.
+     */
+    public void add(int count, int holeColumn, long readyTick) {
+        if (count <= 0) {
+            return;
+        }
+        if (size == lines.length) {
+            grow();
+        }
+        int slot = (head + size) & (lines.length - 1);
+        lines[slot] = count;
+        holes[slot] = holeColumn;
+        readyAt[slot] = readyTick;
+        size++;
+        pendingLines += count;
+    }
+
+    /**
+     * Cancels up to {@code attack} pending lines, whether ready or not.
+     *
+     * @return the lines left over to send to the opponent.
+     */
+    public int cancel(int attack) {
+        while (attack > 0 && size > 0) {
+            int taken = Math.min(attack, lines[head]);
+            consume(taken);
+            attack -= taken;
+        }
+        return attack;
+    }
+
+    /**
+     * @return whether the oldest entry may land at {@code tick}.
+     */
+    public boolean isReady(long tick) {
+        return size > 0 && readyAt[head] <= tick;
+    }
+
+    /** Lines in the oldest entry. */
+    public int peekLines() {
+        return lines[head];
+    }
+
+    /** Hole column of the oldest entry. */
+    public int peekHole() {
+        return holes[head];
+    }
+
+    /**
+     * Removes {@code count} lines from the oldest entry, dropping it once empty.
+     */
+    public void consume(int count) {
+        lines[head] -= count;
+        pendingLines -= count;
+        if (lines[head] == 0) {
+            head = (head + 1) & (lines.length - 1);
+            size--;
+        }
+    }
+
+    /** Total lines queued, for the incoming-garbage meter. */
+    public int getPendingLines() {
+        return pendingLines;
+    }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+        pendingLines = 0;
+    }
+
+    private void grow() {
+        int capacity = lines.length * 2;
+        int[] newLines = new int[capacity];
+        int[] newHoles = new int[capacity];
+        long[] newReady = new long[capacity];
+        for (int i = 0; i < size; i++) {
+            int slot = (head + i) & (lines.length - 1);
+            newLines[i] = lines[slot];
+            newHoles[i] = holes[slot];
+            newReady[i] = readyAt[slot];
+        }
+        lines = newLines;
+        holes = newHoles;
+        readyAt = newReady;
+        head = 0;
+    }
+}
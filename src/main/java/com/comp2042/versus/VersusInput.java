@@ -0,0 +1,15 @@
+package com.comp2042.versus;
+
+/**
+ * A player action in a {@link VersusMatch}.
+ */
+public enum VersusInput {
+    LEFT,
+    RIGHT,
+    ROTATE_CW,
+    ROTATE_CCW,
+    ROTATE_180,
+    SOFT_DROP,
+    HARD_DROP,
+    HOLD
+}
@@ -0,0 +1,294 @@
+package com.comp2042.versus;
+
+import com.comp2042.bot.BeamSearchBot;
+import com.comp2042.bot.BotPlayer;
+import com.comp2042.bot.Placement;
+import com.comp2042.diagnostics.LatencyHistogram;
+import com.comp2042.model.DownData;
+import com.comp2042.model.LevelTable;
+import com.comp2042.model.Score;
+import com.comp2042.model.TetrisBoard;
+import com.comp2042.model.bricks.Bag7BrickGenerator;
+
+/**
+ * Two boards playing against each other on one simulation clock.
+ * <p>
+ * Time only moves when {@link #step()} is called, one tick at a time at a nominal
+ * {@link #TICKS_PER_SECOND}. Gravity, bot moves and garbage arrival are all counted in
+ * ticks, so the same seed and the same inputs on the same ticks always give the same game.
+ * The GUI calls {@code step()} as real time passes; a headless tournament calls it in a
+ * tight loop and plays hours of games in seconds.
+ * </p>
+ * <p>
+ * Both players get the same piece sequence. A clear first cancels the player's own pending
+ * garbage and sends the rest to the opponent, who receives it after
+ * {@code garbageDelayTicks}, when one of their pieces locks without clearing a line. At
+ * most {@link #MAX_GARBAGE_PER_LOCK} lines land per lock; the rest stays queued. The time
+ * taken to turn each lock into an attack and apply the opponent's garbage is recorded in
+ * nanoseconds.
+ * </p>
+ * <p>
+ * Human players are moved by {@link #input} and fall and lock at the speeds their level is
+ * given by the {@link LevelTable}. Each tick adds its share of a second to the player's
+ * gravity clock and what is left over after a step carries on to the next, as in the
+ * desktop game, so fractional speeds such as 1.5G keep their exact average rate. Bot
+ * players place one piece every {@code ticksPerPiece} ticks and are not subject to
+ * gravity, since they never leave a piece hanging.
+ * </p>
+ */
+public final class VersusMatch {
+
+    public static final int TICKS_PER_SECOND = LevelTable.FRAMES_PER_SECOND;
+    public static final int DEFAULT_GARBAGE_DELAY_TICKS = TICKS_PER_SECOND / 2;
+    public static final int MAX_GARBAGE_PER_LOCK = 8;
+    public static final int NO_WINNER = -1;
+
+    private final VersusPlayer[] players = new VersusPlayer[2];
+    private final int garbageDelayTicks;
+    private final LatencyHistogram attackTimes;
+    private final LevelTable levels;
+
+    private long tick;
+    private int winner = NO_WINNER;
+    private boolean over;
+
+    public VersusMatch(long seed, int garbageDelayTicks) {
+        this(seed, garbageDelayTicks, new LatencyHistogram());
+    }
+
+    /**
+     * @param attackTimes receives the time spent on each lock's garbage exchange; may be
+     *                    shared between matches to collect tournament-wide figures.
+     */
+    public VersusMatch(long seed, int garbageDelayTicks, LatencyHistogram attackTimes) {
+        this(seed, garbageDelayTicks, attackTimes, LevelTable.DEFAULT);
+    }
+
+    public VersusMatch(long seed, int garbageDelayTicks, LatencyHistogram attackTimes, LevelTable levels) {
+        this.garbageDelayTicks = garbageDelayTicks;
+        this.attackTimes = attackTimes;
+        this.levels = levels;
+        for (int i = 0; i < players.length; i++) {
+            TetrisBoard board = new TetrisBoard(TetrisBoard.BOARD_HEIGHT, TetrisBoard.BOARD_WIDTH, new Bag7BrickGenerator(seed));
+            board.getScore().setLevelTable(levels);
+            players[i] = new VersusPlayer(board, seed, seed * 31 + i + 1);
+        }
+    }
+
+    /**
+     * Lets a bot play one side, placing a piece every {@code ticksPerPiece} ticks. The bot
+     * should have no time budget, or the match is no longer deterministic.
+     */
+    public void setBot(int player, BeamSearchBot bot, int ticksPerPiece) {
+        players[player].bot = bot;
+        players[player].ticksPerPiece = Math.max(1, ticksPerPiece);
+    }
+
+    /**
+     * Starts a new match from tick zero. The boards are dealt again from the original seed,
+     * and garbage holes fall in the same columns.
+     */
+    public void start() {
+        tick = 0;
+        winner = NO_WINNER;
+        over = false;
+        for (VersusPlayer player : players) {
+            player.reset();
+            player.nextActionTick = player.isBot() ? player.ticksPerPiece : 0;
+        }
+    }
+
+    /**
+     * Advances the clock by one tick.
+     *
+     * @return false once the match is over.
+     */
+    public boolean step() {
+        if (over) {
+            return false;
+        }
+        tick++;
+        long elapsed = tickNanos(tick) - tickNanos(tick - 1);
+        for (int i = 0; i < players.length && !over; i++) {
+            VersusPlayer player = players[i];
+            if (player.isBot()) {
+                if (tick < player.nextActionTick) {
+                    continue;
+                }
+                player.nextActionTick = tick + player.ticksPerPiece;
+                Placement move = player.bot.findBestMove(player.getBoard());
+                if (move == null) {
+                    lose(i);
+                } else {
+                    afterStep(i, BotPlayer.play(player.getBoard(), move));
+                }
+            } else {
+                int rows = gravityRows(player, elapsed);
+                if (rows > 0) {
+                    afterStep(i, player.getBoard().fall(rows));
+                }
+            }
+        }
+        return !over;
+    }
+
+    /**
+     * Applies a human player's action at the current tick.
+     */
+    public void input(int index, VersusInput input) {
+        VersusPlayer player = players[index];
+        if (over || player.isBot()) {
+            return;
+        }
+        TetrisBoard board = player.getBoard();
+        switch (input) {
+            case LEFT -> board.moveBrickLeft();
+            case RIGHT -> board.moveBrickRight();
+            case ROTATE_CW -> board.rotateRightBrick();
+            case ROTATE_CCW -> board.rotateLeftBrick();
+            case ROTATE_180 -> board.rotate180Brick();
+            case HOLD -> {
+                if (!board.isHoldUsedThisTurn() && board.holdCurrentBrick()) {
+                    lose(index);
+                }
+            }
+            case SOFT_DROP -> {
+                DownData data = board.stepDown(true);
+                if (data.getClearRow() == null) {
+                    board.getScore().addScore(player.getScoring().softDrop(data.getDropDistance()));
+                    // Moving down by hand restarts the gravity countdown, as in the desktop game
+                    player.gravityPending = 0;
+                }
+                afterStep(index, data);
+            }
+            case HARD_DROP -> {
+                DownData data = board.hardDrop(true);
+                board.getScore().addScore(player.getScoring().hardDrop(data.getDropDistance()));
+                afterStep(index, data);
+            }
+        }
+    }
+
+    private void afterStep(int index, DownData data) {
+        if (data.getClearRow() == null) {
+            return;
+        }
+        long start = System.nanoTime();
+        VersusPlayer player = players[index];
+        VersusPlayer opponent = players[1 - index];
+        TetrisBoard board = player.getBoard();
+        Score score = board.getScore();
+        int lines = data.getClearRow().getLinesRemoved();
+
+        boolean chainBefore = player.getScoring().isBackToBack();
+        score.addScore(player.getScoring().lock(lines, data.getSpin(), score.getScoreMultiplier()));
+        player.pieces++;
+
+        if (lines > 0) {
+            score.addLines(lines);
+            boolean backToBack = chainBefore && player.getScoring().isBackToBack();
+            boolean perfectClear = board.getOccupancy().stackHeight() == 0;
+            int attack = AttackTable.linesToSend(lines, data.getSpin(), backToBack,
+                    player.getScoring().getCombo(), perfectClear);
+            int sent = player.getGarbage().cancel(attack);
+            player.linesCancelled += attack - sent;
+            if (sent > 0) {
+                opponent.getGarbage().add(sent, opponent.nextHole(), tick + garbageDelayTicks);
+                player.linesSent += sent;
+            }
+        } else if (!data.isGameOver() && receiveGarbage(player)) {
+            lose(index);
+        }
+        if (data.isGameOver()) {
+            lose(index);
+        }
+        attackTimes.record(System.nanoTime() - start);
+    }
+
+    /**
+     * Lands whatever garbage is ready, up to the per-lock limit.
+     *
+     * @return true if the player topped out.
+     */
+    private boolean receiveGarbage(VersusPlayer player) {
+        GarbageQueue garbage = player.getGarbage();
+        int budget = MAX_GARBAGE_PER_LOCK;
+        while (budget > 0 && garbage.isReady(tick)) {
+            int lines = Math.min(budget, garbage.peekLines());
+            boolean toppedOut = player.getBoard().insertGarbage(lines, garbage.peekHole());
+            garbage.consume(lines);
+            player.linesReceived += lines;
+            budget -= lines;
+            if (toppedOut) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void lose(int index) {
+        if (over) {
+            return;
+        }
+        players[index].lost = true;
+        winner = 1 - index;
+        over = true;
+    }
+
+    /**
+     * Simulated time at the start of a tick, exact over any number of ticks.
+     */
+    private static long tickNanos(long tick) {
+        return tick * 1_000_000_000L / TICKS_PER_SECOND;
+    }
+
+    /**
+     * Adds one tick to a human player's gravity clock, the way the desktop game's clock
+     * adds a frame.
+     *
+     * @return rows the piece should fall now, or for a grounded piece 1 when it should lock.
+     */
+    private int gravityRows(VersusPlayer player, long elapsedNanos) {
+        TetrisBoard board = player.getBoard();
+        int level = board.getScore().levelProperty().get();
+        player.gravityPending += elapsedNanos;
+        if (board.isGrounded()) {
+            long delay = levels.getLockDelayNanos(level);
+            if (player.gravityPending < delay) {
+                return 0;
+            }
+            player.gravityPending -= delay;
+            return 1;
+        }
+        long interval = levels.getGravityNanos(level);
+        if (player.gravityPending < interval) {
+            return 0;
+        }
+        long steps = player.gravityPending / interval;
+        player.gravityPending -= steps * interval;
+        return (int) Math.min(steps * levels.getRowsPerStep(level), LevelTable.INSTANT_ROWS);
+    }
+
+    public VersusPlayer getPlayer(int index) {
+        return players[index];
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public boolean isOver() {
+        return over;
+    }
+
+    /**
+     * Index of the winning player, or {@link #NO_WINNER} while the match is running.
+     */
+    public int getWinner() {
+        return winner;
+    }
+
+    public LatencyHistogram getAttackTimes() {
+        return attackTimes;
+    }
+}
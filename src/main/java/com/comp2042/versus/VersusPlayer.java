@@ -0,0 +1,97 @@
+package com.comp2042.versus;
+
+import com.comp2042.bot.BeamSearchBot;
+import com.comp2042.model.ScoringEngine;
+import com.comp2042.model.TetrisBoard;
+
+import java.util.Random;
+
+/**
+ * One side of a {@link VersusMatch}: a board, its scoring, its incoming garbage and,
+ * for a computer player, the bot that moves it.
+ */
+public final class VersusPlayer {
+
+    private final TetrisBoard board;
+    private final ScoringEngine scoring = new ScoringEngine();
+    private final GarbageQueue garbage = new GarbageQueue();
+    private final Random holes;
+    private final long pieceSeed;
+    private final long holeSeed;
+
+    BeamSearchBot bot;
+    int ticksPerPiece;
+    long nextActionTick;
+    /** Time since a human player's last gravity step, carried over between steps. */
+    long gravityPending;
+    boolean lost;
+    long pieces;
+    int linesSent;
+    int linesReceived;
+    int linesCancelled;
+
+    VersusPlayer(TetrisBoard board, long pieceSeed, long holeSeed) {
+        this.board = board;
+        this.pieceSeed = pieceSeed;
+        this.holeSeed = holeSeed;
+        this.holes = new Random(holeSeed);
+    }
+
+    void reset() {
+        board.newGame(pieceSeed);
+        scoring.reset();
+        garbage.clear();
+        holes.setSeed(holeSeed);
+        nextActionTick = 0;
+        gravityPending = 0;
+        lost = false;
+        pieces = 0;
+        linesSent = 0;
+        linesReceived = 0;
+        linesCancelled = 0;
+    }
+
+    /**
+     * Hole column for the next attack this player receives. Every line of one attack
+     * shares the hole, so it can be dug out in one go.
+     */
+    int nextHole() {
+        return holes.nextInt(TetrisBoard.BOARD_WIDTH);
+    }
+
+    ScoringEngine getScoring() {
+        return scoring;
+    }
+
+    public TetrisBoard getBoard() {
+        return board;
+    }
+
+    public GarbageQueue getGarbage() {
+        return garbage;
+    }
+
+    public boolean isBot() {
+        return bot != null;
+    }
+
+    public boolean hasLost() {
+        return lost;
+    }
+
+    public long getPieces() {
+        return pieces;
+    }
+
+    public int getLinesSent() {
+        return linesSent;
+    }
+
+    public int getLinesReceived() {
+        return linesReceived;
+    }
+
+    public int getLinesCancelled() {
+        return linesCancelled;
+    }
+}
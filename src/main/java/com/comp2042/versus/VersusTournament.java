@@ -0,0 +1,74 @@
+package com.comp2042.versus;
+
+import com.comp2042.bot.BeamSearchBot;
+import com.comp2042.bot.EvaluationWeights;
+import com.comp2042.diagnostics.LatencyHistogram;
+
+/**
+ * Headless bot-versus-bot tournament.
+ * <p>
+ * Plays seeded {@link VersusMatch}es as fast as the bots can think, with no wall-clock
+ * waiting, and prints the score line, the simulation speed and how long each lock's
+ * garbage exchange took.
+ * </p>
+ * <p>
+ * Usage: {@code VersusTournament [matches] [depth1] [depth2] [ticksPerPiece] [garbageDelayTicks] [maxMinutes]}.
+ * {@code maxMinutes} is simulated time; a match still running then is a draw. Both sides
+ * get the same pieces, so two bots with the same depth cancel each other's attacks and
+ * draw every time.
+ * </p>
+ */
+public class VersusTournament {
+
+    public static void main(String[] args) {
+        int matches = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        int depth1 = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+        int depth2 = args.length > 2 ? Integer.parseInt(args[2]) : 2;
+        int ticksPerPiece = args.length > 3 ? Integer.parseInt(args[3]) : 20;
+        int delay = args.length > 4 ? Integer.parseInt(args[4]) : VersusMatch.DEFAULT_GARBAGE_DELAY_TICKS;
+        long maxTicks = (args.length > 5 ? Long.parseLong(args[5]) : 10) * 60 * VersusMatch.TICKS_PER_SECOND;
+
+        LatencyHistogram attackTimes = new LatencyHistogram();
+        int[] wins = new int[2];
+        int draws = 0;
+        long ticks = 0;
+        long pieces = 0;
+        long start = System.nanoTime();
+
+        // No time budget and one thread each, so every match replays exactly from its seed
+        try (BeamSearchBot first = new BeamSearchBot(EvaluationWeights.DEFAULT, depth1, 0, 1);
+             BeamSearchBot second = new BeamSearchBot(EvaluationWeights.DEFAULT, depth2, 0, 1)) {
+            for (int game = 1; game <= matches; game++) {
+                VersusMatch match = new VersusMatch(game, delay, attackTimes);
+                match.setBot(0, first, ticksPerPiece);
+                match.setBot(1, second, ticksPerPiece);
+                match.start();
+                while (match.step() && match.getTick() < maxTicks) {
+                    // simulate as fast as possible
+                }
+                int winner = match.getWinner();
+                if (winner == VersusMatch.NO_WINNER) {
+                    draws++;
+                } else {
+                    wins[winner]++;
+                }
+                VersusPlayer a = match.getPlayer(0);
+                VersusPlayer b = match.getPlayer(1);
+                ticks += match.getTick();
+                pieces += a.getPieces() + b.getPieces();
+                System.out.printf("match %d: winner=%s ticks=%d pieces=%d/%d sent=%d/%d cancelled=%d/%d%n",
+                        game, winner == VersusMatch.NO_WINNER ? "draw" : String.valueOf(winner + 1), match.getTick(),
+                        a.getPieces(), b.getPieces(), a.getLinesSent(), b.getLinesSent(),
+                        a.getLinesCancelled(), b.getLinesCancelled());
+            }
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("wins %d-%d, draws %d; %.0f pieces/s, %.0fx real time%n",
+                wins[0], wins[1], draws, pieces / seconds,
+                ticks / (double) VersusMatch.TICKS_PER_SECOND / seconds);
+        System.out.printf("garbage exchange per lock p50=%.2fus p99=%.2fus max=%.2fus%n",
+                attackTimes.getValueAtPercentile(50) / 1e3, attackTimes.getValueAtPercentile(99) / 1e3,
+                attackTimes.getMax() / 1e3);
+    }
+}
@@ -0,0 +1,95 @@
+package com.comp2042.view;
+
+import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Loads assets concurrently and keeps them for the lifetime of the application.
+ * <p>
+ * Slots are indexed by {@link AssetHandle}, so a lookup is an array read rather than a map
+ * lookup by path. Every asset is loaded at most once, on the supplied executor, and the same
+ * instance is shared by every scene. Load times are reported to the {@link StartupProfiler}.
+ * </p>
+ */
+public final class AssetCache {
+
+    private final Executor executor;
+    private final StartupProfiler profiler;
+    private final AtomicReferenceArray<CompletableFuture<?>> slots;
+
+    /**
+     * A cache that does not report load times.
+     */
+    public AssetCache(Executor executor, int capacity) {
+        this(executor, null, capacity);
+    }
+
+    public AssetCache(Executor executor, StartupProfiler profiler, int capacity) {
+        this.executor = executor;
+        this.profiler = profiler;
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * Starts loading the asset in the background if it is not loading already.
+     *
+     * @return a future that completes with the decoded asset.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> load(AssetHandle<T> handle) {
+        int index = handle.getIndex();
+        CompletableFuture<?> existing = slots.get(index);
+        if (existing != null) {
+            return (CompletableFuture<T>) existing;
+        }
+        CompletableFuture<T> future = new CompletableFuture<>();
+        if (!slots.compareAndSet(index, null, future)) {
+            return (CompletableFuture<T>) slots.get(index);
+        }
+        executor.execute(() -> {
+            long start = System.nanoTime();
+            try {
+                URL url = AssetCache.class.getClassLoader().getResource(handle.getPath());
+                if (url == null) {
+                    throw new IllegalStateException("Asset not found: " + handle.getPath());
+                }
+                future.complete(handle.getLoader().load(url));
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            } finally {
+                if (profiler != null) {
+                    profiler.recordAsset(handle.getPath(), System.nanoTime() - start);
+                }
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Returns the asset, waiting for it to finish loading if needed.
+     *
+     * @throws IllegalStateException if the asset failed to load.
+     */
+    public <T> T get(AssetHandle<T> handle) {
+        try {
+            return load(handle).join();
+        } catch (CompletionException e) {
+            throw new IllegalStateException("Failed to load " + handle.getPath(), e.getCause());
+        }
+    }
+
+    /**
+     * Returns the asset if it has loaded successfully, otherwise null. Never blocks.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getIfReady(AssetHandle<T> handle) {
+        CompletableFuture<?> future = slots.get(handle.getIndex());
+        if (future == null || !future.isDone() || future.isCompletedExceptionally()) {
+            return null;
+        }
+        return (T) future.join();
+    }
+}
@@ -0,0 +1,51 @@
+package com.comp2042.view;
+
+import java.net.URL;
+
+/**
+ * Typed key for one asset in the {@link AssetCache}.
+ * <p>
+ * Handles are created once as constants in {@link Assets}. Each one carries a dense index
+ * into the cache's slot array, the classpath resource it is loaded from, and the function
+ * that loads and decodes it.
+ * </p>
+ *
+ * @param <T> the decoded asset type.
+ */
+public final class AssetHandle<T> {
+
+    /**
+     * Loads and decodes an asset from its resource URL. Runs on a background thread.
+     */
+    @FunctionalInterface
+    public interface Loader<T> {
+        T load(URL url) throws Exception;
+    }
+
+    private final int index;
+    private final String path;
+    private final Loader<T> loader;
+
+    AssetHandle(int index, String path, Loader<T> loader) {
+        this.index = index;
+        this.path = path;
+        this.loader = loader;
+    }
+
+    int getIndex() {
+        return index;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    Loader<T> getLoader() {
+        return loader;
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+}
@@ -0,0 +1,48 @@
+package com.comp2042.view;
+
+import javafx.scene.image.Image;
+import javafx.scene.media.AudioClip;
+import javafx.scene.text.Font;
+
+/**
+ * Handles for every shared asset, loaded through the {@link AssetCache}.
+ */
+public final class Assets {
+
+    /** Registers the "Let's go Digital" family used by the stylesheet. */
+    public static final AssetHandle<Font> FONT_DIGITAL =
+            new AssetHandle<>(0, "digital.ttf", url -> Font.loadFont(url.toExternalForm(), 12));
+
+    /** Decoded synchronously on the loader thread, so it is ready to draw when handed out. */
+    public static final AssetHandle<Image> BACKGROUND =
+            new AssetHandle<>(1, "background_image.png", url -> new Image(url.toExternalForm()));
+
+    public static final AssetHandle<AudioClip> SOUND_CLEAR =
+            new AssetHandle<>(2, "sounds/clear.wav", url -> new AudioClip(url.toExternalForm()));
+
+    public static final AssetHandle<AudioClip> SOUND_LEVEL_UP =
+            new AssetHandle<>(3, "sounds/levelup.wav", url -> new AudioClip(url.toExternalForm()));
+
+    public static final AssetHandle<AudioClip> SOUND_GAME_OVER =
+            new AssetHandle<>(4, "sounds/gameover.wav", url -> new AudioClip(url.toExternalForm()));
+
+    /** Number of handles; the size of the cache's slot array. */
+    public static final int COUNT = 5;
+
+    private static final AssetHandle<?>[] ALL = {
+            FONT_DIGITAL, BACKGROUND, SOUND_CLEAR, SOUND_LEVEL_UP, SOUND_GAME_OVER
+    };
+
+    private Assets() {
+        // utility class
+    }
+
+    /**
+     * Starts loading every asset concurrently.
+     */
+    public static void preloadAll(AssetCache cache) {
+        for (AssetHandle<?> handle : ALL) {
+            cache.load(handle);
+        }
+    }
+}
@@ -1,21 +1,27 @@
 package com.comp2042.view;
 
-import com.comp2042.controller.InputEventListener;
+import com.comp2042.diagnostics.GameMetrics;
+import com.comp2042.diagnostics.RenderPassEvent;
 import com.comp2042.model.TetrisBoard;
 import com.comp2042.model.ViewData;
+import com.comp2042.model.bricks.BrickTypes;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
 
+import java.util.Arrays;
+
 /**
  * Responsible for rendering the game state onto the JavaFX scene.
  * <p>
  * This class manages the grid of rectangles that represent the background,
  * the active falling piece, the ghost piece projection, and the preview panels.
+ * Each render pass is reported as a {@link RenderPassEvent} when a flight recording
+ * has the event enabled.
  * </p>
  */
-public class BoardRenderer {
+public class BoardRenderer implements GameRenderer {
 
     private static final int BRICK_SIZE = 20;
 
@@ -24,15 +30,17 @@ public class BoardRenderer {
     private final Pane holdPane;
     private final Pane nextBrickPane;
     private final BrickStyler brickStyler;
+    private final GameMetrics metrics = GameMetrics.global();
 
     private Rectangle[][] displayMatrix;
     private Rectangle[][] activeBrick;
+    private int[][] activeShape;
     private Rectangle[][] ghostBrick;
     private Rectangle[][] holdCells;
     private Rectangle[][] nextCells;
 
     // We need this to calculate the Ghost Piece position
-    private InputEventListener eventListener;
+    private GhostProbe ghostProbe;
 
     public BoardRenderer(GridPane gamePanel, Pane brickOverlay, Pane holdPane, Pane nextBrickPane) {
         this.gamePanel = gamePanel;
@@ -42,8 +50,13 @@ public class BoardRenderer {
         this.brickStyler = new BrickStyler();
     }
 
-    public void setEventListener(InputEventListener eventListener) {
-        this.eventListener = eventListener;
+    /**
+     * Sets where ghost collisions come from when there is no input listener, as in versus
+     * play where the renderer draws a board it does not control.
+     */
+    @Override
+    public void setGhostProbe(GhostProbe ghostProbe) {
+        this.ghostProbe = ghostProbe;
     }
 
     /**
@@ -78,6 +91,7 @@ public class BoardRenderer {
         return grid;
     }
 
+    @Override
     public void initGameView(int[][] boardMatrix, ViewData brick) {
         // 1. Init Background Grid
         // Note: Main board uses specific spacing/adding logic, so we might keep the main loop or refactor it carefully.
@@ -94,8 +108,11 @@ public class BoardRenderer {
             }
         }
 
+        // Piece grids are as large as the largest piece in use, so custom sets fit
+        int size = BrickTypes.getMaxSize();
+
         // 2. Init Ghost Brick (Pane based)
-        this.ghostBrick = createGrid(brickOverlay, brick.getBrickData().length, brick.getBrickData()[0].length);
+        this.ghostBrick = createGrid(brickOverlay, size, size);
         // Ghost needs specific styling differences (Stroke), so apply them after creation:
         for (Rectangle[] row : ghostBrick) {
             for (Rectangle r : row) {
@@ -105,28 +122,39 @@ public class BoardRenderer {
         }
 
         // 3. Init Active Brick (Pane based)
-        this.activeBrick = createGrid(brickOverlay, brick.getBrickData().length, brick.getBrickData()[0].length);
+        this.activeBrick = createGrid(brickOverlay, size, size);
         // Active brick needs initial color styling
-        for (int i = 0; i < activeBrick.length; i++) {
-            for (int j = 0; j < activeBrick[i].length; j++) {
-                brickStyler.style(activeBrick[i][j], brick.getBrickData()[i][j]);
-            }
-        }
+        styleActiveBrick(brick.getBrickData());
 
         // 4. Init Hold Pane
-        this.holdCells = createGrid(holdPane, 4, 4);
+        this.holdCells = createGrid(holdPane, size, size);
+        fitPreview(holdPane, size);
 
         // 5. Init Next Panes
-        this.nextCells = createGrid(nextBrickPane, 4, 4);
+        this.nextCells = createGrid(nextBrickPane, size, size);
+        fitPreview(nextBrickPane, size);
         // If you still have nextBrickPane2
         // this.nextCells2 = createGrid(nextBrickPane2, 4, 4);
     }
 
+    /**
+     * Widens a preview pane laid out for tetrominoes when larger pieces are in use.
+     */
+    private static void fitPreview(Pane pane, int size) {
+        double side = size * BRICK_SIZE;
+        if (pane.getPrefWidth() < side) {
+            pane.setPrefSize(side, side);
+            pane.setMaxSize(side, side);
+        }
+    }
+
+    @Override
     public void showNextPiece(int[][] shape) {
         if (nextCells == null || shape == null) return;
         renderCentered(nextCells, shape, nextBrickPane.getPrefWidth(), nextBrickPane.getPrefHeight());
     }
 
+    @Override
     public void showHoldPiece(int[][] shape) {
         if (holdCells == null) return;
 
@@ -154,6 +182,10 @@ public class BoardRenderer {
      * @param paneHeight The height of the container pane.
      */
     private void renderCentered(Rectangle[][] targetGrid, int[][] shape, double paneWidth, double paneHeight) {
+        RenderPassEvent pass = new RenderPassEvent();
+        pass.begin();
+        int restyled = 0;
+
         // 1. Clear all cells first
         for (Rectangle[] row : targetGrid) {
             for (Rectangle r : row) r.setVisible(false);
@@ -189,6 +221,7 @@ public class BoardRenderer {
 
                         r.setVisible(true);
                         brickStyler.style(r, shape[i][j]);
+                        restyled++;
 
                         // KEY FIX: Set X/Y manually based on calculated center
                         r.setX(startX + (poolCol * BRICK_SIZE));
@@ -197,31 +230,56 @@ public class BoardRenderer {
                 }
             }
         }
+        commit(pass, "preview", restyled, 0);
     }
 
+    @Override
     public void updateBrickPosition(ViewData brick) {
+        long start = metrics.isEnabled() ? System.nanoTime() : 0;
+        RenderPassEvent pass = new RenderPassEvent();
+        pass.begin();
         updateGhostPosition(brick);
 
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
+        int[][] shape = brick.getBrickData();
+        // Most updates are moves; cells only need restyling when the piece or rotation changes
+        int restyled = Arrays.deepEquals(shape, activeShape) ? 0 : styleActiveBrick(shape);
+        for (int i = 0; i < shape.length; i++) {
+            for (int j = 0; j < shape[i].length; j++) {
                 Rectangle r = activeBrick[i][j];
                 r.setX((brick.getxPosition() + j) * BRICK_SIZE);
                 r.setY((brick.getyPosition() + i - TetrisBoard.HIDDEN_ROWS) * BRICK_SIZE);
-                brickStyler.style(r, brick.getBrickData()[i][j]);
             }
         }
+        commit(pass, "brick", restyled, start);
+    }
+
+    /**
+     * Styles the active piece grid for a new shape, hiding cells outside it.
+     *
+     * @return the number of cells restyled.
+     */
+    private int styleActiveBrick(int[][] shape) {
+        for (int i = 0; i < activeBrick.length; i++) {
+            for (int j = 0; j < activeBrick[i].length; j++) {
+                int code = i < shape.length && j < shape[i].length ? shape[i][j] : 0;
+                activeBrick[i][j].setVisible(code != 0);
+                brickStyler.style(activeBrick[i][j], code);
+            }
+        }
+        activeShape = shape;
+        return activeBrick.length * activeBrick[0].length;
     }
 
     private void updateGhostPosition(ViewData brick) {
-        if (ghostBrick == null || eventListener == null) return;
+        if (ghostBrick == null || ghostProbe == null) return;
 
         int[][] shape = brick.getBrickData();
         int ghostY = calculateGhostY(brick);
 
-        for (int i = 0; i < shape.length; i++) {
-            for (int j = 0; j < shape[i].length; j++) {
+        for (int i = 0; i < ghostBrick.length; i++) {
+            for (int j = 0; j < ghostBrick[i].length; j++) {
                 Rectangle g = ghostBrick[i][j];
-                if (shape[i][j] == 0) {
+                if (i >= shape.length || j >= shape[i].length || shape[i][j] == 0) {
                     g.setVisible(false);
                     continue;
                 }
@@ -234,18 +292,40 @@ public class BoardRenderer {
 
     private int calculateGhostY(ViewData brick) {
         int ghostY = brick.getyPosition();
-        while (eventListener != null && eventListener.canMoveDown(brick, ghostY + 1)) {
+        while (ghostProbe != null && ghostProbe.canMoveDown(brick, ghostY + 1)) {
             ghostY++;
         }
         return ghostY;
     }
 
+    @Override
     public void refreshGameBackground(int[][] board) {
+        long start = metrics.isEnabled() ? System.nanoTime() : 0;
+        RenderPassEvent pass = new RenderPassEvent();
+        pass.begin();
+        int restyled = 0;
         for (int i = TetrisBoard.HIDDEN_ROWS; i < board.length; i++) {
             for (int j = 0; j < board[i].length; j++) {
                 brickStyler.style(displayMatrix[i][j], board[i][j]);
+                restyled++;
             }
         }
+        commit(pass, "background", restyled, start);
+    }
+
+    /**
+     * Reports a finished render pass to the flight recorder and, when a start time was taken,
+     * to the render time metric.
+     */
+    private void commit(RenderPassEvent pass, String name, int restyled, long start) {
+        if (start != 0) {
+            metrics.recordRender(System.nanoTime() - start);
+        }
+        if (pass.shouldCommit()) {
+            pass.pass = name;
+            pass.cellsRestyled = restyled;
+            pass.commit();
+        }
     }
 
     private int[] getBoundingBox(int[][] shape) {
@@ -0,0 +1,151 @@
+package com.comp2042.view;
+
+import com.comp2042.model.BoardSnapshot;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Draws many boards onto one shared {@link Canvas}.
+ * <p>
+ * Boards are laid out in the grid that gives the largest cells for the canvas size, and
+ * every cell is a tile from one {@link CellAtlas}. The canvas keeps its pixels between
+ * pulses, so an update pass only draws the cells that differ from what is already there:
+ * a board whose snapshot version has not moved costs one comparison, and a piece moving
+ * one column redraws a handful of tiles. The pass is timed and a {@link RefreshGovernor}
+ * spreads the boards over more pulses when it runs over budget, so a slow machine shows
+ * each game at a lower rate instead of dropping frames for the whole wall.
+ * </p>
+ */
+final class BoardWall {
+
+    private static final double GAP = 6;
+    private static final int MIN_CELL = 2;
+    private static final long FRAME_NANOS = 1_000_000_000L / 60;
+    // Leaves most of the frame for the render thread to rasterize the pass
+    private static final long PASS_BUDGET_NANOS = 4_000_000L;
+    private static final int MAX_STRIDE = 8;
+
+    private final Canvas canvas;
+    private final List<BoardSnapshot> boards;
+    private final int boardWidth;
+    private final int boardHeight;
+    private final byte[][] latest;
+    private final byte[][] drawn;
+    private final long[] drawnVersion;
+    private final RefreshGovernor governor = new RefreshGovernor(PASS_BUDGET_NANOS, FRAME_NANOS, MAX_STRIDE);
+
+    private CellAtlas atlas;
+    private int columns = 1;
+    private double originX;
+    private double originY;
+    private double tileWidth;
+    private double tileHeight;
+    private long pulse;
+    private long lastPulse;
+
+    /**
+     * @param boards the boards to show, all of the same size.
+     */
+    BoardWall(Canvas canvas, List<BoardSnapshot> boards) {
+        this.canvas = canvas;
+        this.boards = boards;
+        this.boardWidth = boards.get(0).getWidth();
+        this.boardHeight = boards.get(0).getHeight();
+        int cells = boardWidth * boardHeight;
+        latest = new byte[boards.size()][cells];
+        drawn = new byte[boards.size()][cells];
+        drawnVersion = new long[boards.size()];
+    }
+
+    /**
+     * Fits the grid to the canvas's current size and clears it, so the next passes draw
+     * every board from scratch. Call again whenever the canvas is resized.
+     */
+    void layout() {
+        double width = canvas.getWidth();
+        double height = canvas.getHeight();
+        int count = boards.size();
+        int bestCell = 0;
+        for (int c = 1; c <= count; c++) {
+            int rows = (count + c - 1) / c;
+            int cell = (int) Math.min((width / c - GAP) / boardWidth, (height / rows - GAP) / boardHeight);
+            if (cell > bestCell) {
+                bestCell = cell;
+                columns = c;
+            }
+        }
+        int cellSize = Math.max(MIN_CELL, bestCell);
+        if (atlas == null || atlas.getCellSize() != cellSize) {
+            atlas = new CellAtlas(cellSize);
+        }
+
+        int rows = (count + columns - 1) / columns;
+        tileWidth = boardWidth * cellSize + GAP;
+        tileHeight = boardHeight * cellSize + GAP;
+        originX = Math.floor((width - columns * tileWidth + GAP) / 2);
+        originY = Math.floor((height - rows * tileHeight + GAP) / 2);
+
+        canvas.getGraphicsContext2D().clearRect(0, 0, width, height);
+        for (int i = 0; i < count; i++) {
+            Arrays.fill(drawn[i], (byte) -1);
+            drawnVersion[i] = -1;
+        }
+        governor.reset();
+        lastPulse = 0;
+    }
+
+    /**
+     * Redraws the boards that are due on this pulse and have changed since they were last drawn.
+     *
+     * @param now the pulse time passed to the animation timer.
+     */
+    void update(long now) {
+        long start = System.nanoTime();
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        for (int i = 0; i < boards.size(); i++) {
+            if (!governor.isDue(i, pulse)) {
+                continue;
+            }
+            long version = boards.get(i).copyTo(latest[i], drawnVersion[i]);
+            if (version != drawnVersion[i]) {
+                drawnVersion[i] = version;
+                drawChanges(gc, i);
+            }
+        }
+        pulse++;
+        governor.record(System.nanoTime() - start, lastPulse == 0 ? 0 : now - lastPulse);
+        lastPulse = now;
+    }
+
+    private void drawChanges(GraphicsContext gc, int index) {
+        byte[] cells = latest[index];
+        byte[] onScreen = drawn[index];
+        int cellSize = atlas.getCellSize();
+        double left = originX + (index % columns) * tileWidth;
+        double top = originY + (index / columns) * tileHeight;
+        for (int k = 0; k < cells.length; k++) {
+            if (cells[k] != onScreen[k]) {
+                atlas.draw(gc, cells[k], left + (k % boardWidth) * cellSize, top + (k / boardWidth) * cellSize);
+                onScreen[k] = cells[k];
+            }
+        }
+    }
+
+    int getBoardCount() {
+        return boards.size();
+    }
+
+    /**
+     * Pulses between two redraws of the same board.
+     */
+    int getStride() {
+        return governor.getStride();
+    }
+
+    double getAveragePassNanos() {
+        return governor.getAveragePassNanos();
+    }
+}
@@ -22,6 +22,13 @@ public class BrickStyler {
     }
 
     private Paint getFillColor(int i) {
+        return colorOf(i);
+    }
+
+    /**
+     * The fill colour for a cell's colour code; empty cells are transparent.
+     */
+    static Color colorOf(int i) {
         return switch (i) {
             case 0 -> Color.TRANSPARENT;
             case 1 -> Color.AQUA;
@@ -31,6 +38,15 @@ public class BrickStyler {
             case 5 -> Color.RED;
             case 6 -> Color.BEIGE;
             case 7 -> Color.BURLYWOOD;
+            case 8 -> Color.DIMGRAY;
+            // Colours 9-15 are for pieces from a custom PieceSet
+            case 9 -> Color.ORANGE;
+            case 10 -> Color.MAGENTA;
+            case 11 -> Color.LIME;
+            case 12 -> Color.ROYALBLUE;
+            case 13 -> Color.CRIMSON;
+            case 14 -> Color.DEEPSKYBLUE;
+            case 15 -> Color.HOTPINK;
             default -> Color.WHITE;
         };
     }
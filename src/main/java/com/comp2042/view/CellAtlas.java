@@ -0,0 +1,57 @@
+package com.comp2042.view;
+
+import com.comp2042.model.bricks.PieceSet;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+/**
+ * One image holding a pre-drawn tile for every cell colour, at one cell size.
+ * <p>
+ * Tiles sit side by side in colour-code order, with tile 0 the empty cell. Drawing a cell
+ * is then one {@code drawImage} of a sub-rectangle of this image, and every cell on a canvas
+ * comes from the same texture, so the graphics pipeline can batch a whole pass instead of
+ * filling and stroking shapes one at a time. Tiles are written pixel by pixel, so building
+ * the atlas does not need a scene or a snapshot.
+ * </p>
+ */
+final class CellAtlas {
+
+    static final int COLOR_COUNT = PieceSet.MAX_COLOR + 1;
+    private static final Color EMPTY_FILL = Color.rgb(18, 18, 24);
+    private static final Color EMPTY_EDGE = Color.rgb(30, 30, 38);
+
+    private final int cellSize;
+    private final WritableImage image;
+
+    CellAtlas(int cellSize) {
+        this.cellSize = cellSize;
+        this.image = new WritableImage(cellSize * COLOR_COUNT, cellSize);
+        PixelWriter writer = image.getPixelWriter();
+        for (int code = 0; code < COLOR_COUNT; code++) {
+            Color fill = code == 0 ? EMPTY_FILL : BrickStyler.colorOf(code);
+            Color edge = code == 0 ? EMPTY_EDGE : fill.darker();
+            int left = code * cellSize;
+            for (int y = 0; y < cellSize; y++) {
+                for (int x = 0; x < cellSize; x++) {
+                    boolean border = cellSize > 3
+                            && (x == 0 || y == 0 || x == cellSize - 1 || y == cellSize - 1);
+                    writer.setColor(left + x, y, border ? edge : fill);
+                }
+            }
+        }
+    }
+
+    /**
+     * Draws the tile for {@code code} with its top-left corner at (x, y).
+     */
+    void draw(GraphicsContext gc, int code, double x, double y) {
+        int tile = code >= 0 && code < COLOR_COUNT ? code : 0;
+        gc.drawImage(image, tile * cellSize, 0, cellSize, cellSize, x, y, cellSize, cellSize);
+    }
+
+    int getCellSize() {
+        return cellSize;
+    }
+}
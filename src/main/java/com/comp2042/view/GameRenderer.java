@@ -0,0 +1,63 @@
+package com.comp2042.view;
+
+import com.comp2042.controller.InputEventListener;
+import com.comp2042.model.ViewData;
+
+/**
+ * Draws one game: the settled board, the active piece with its ghost, and the hold and
+ * next previews.
+ * <p>
+ * {@link BoardRenderer} draws into a JavaFX scene and {@link TerminalRenderer} into a
+ * terminal. Callers pass the same model data to either, so a game can be shown by whichever
+ * one fits where it runs. Board matrices include the hidden rows; renderers only draw the
+ * visible part.
+ * </p>
+ */
+public interface GameRenderer {
+
+    /**
+     * Tells the renderer whether the active brick fits at a lower row, to place the ghost.
+     */
+    @FunctionalInterface
+    interface GhostProbe {
+        boolean canMoveDown(ViewData brick, int newY);
+    }
+
+    /**
+     * Sets where ghost collisions come from. Without a probe no ghost is drawn.
+     */
+    void setGhostProbe(GhostProbe ghostProbe);
+
+    /**
+     * Takes ghost collisions from the game's input listener.
+     */
+    default void setEventListener(InputEventListener eventListener) {
+        setGhostProbe(eventListener == null ? null : eventListener::canMoveDown);
+    }
+
+    /**
+     * Builds the view for a board of this size. Called once before anything else is drawn.
+     */
+    void initGameView(int[][] boardMatrix, ViewData brick);
+
+    void refreshGameBackground(int[][] board);
+
+    void updateBrickPosition(ViewData brick);
+
+    /**
+     * @param shape the held piece, or null to clear the hold preview.
+     */
+    void showHoldPiece(int[][] shape);
+
+    /**
+     * @param shape the next piece, or null if it is not known.
+     */
+    void showNextPiece(int[][] shape);
+
+    /**
+     * Shows the score line. The JavaFX screens bind their labels to the score directly, so
+     * only renderers with no other place for it need to draw anything.
+     */
+    default void showStats(int score, int lines, int level, boolean gameOver) {
+    }
+}
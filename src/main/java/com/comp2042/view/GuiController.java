@@ -3,11 +3,18 @@ package com.comp2042.view;
 import com.comp2042.controller.InputEventListener;
 import com.comp2042.controller.event.EventSource;
 import com.comp2042.controller.event.EventType;
+import com.comp2042.controller.event.GameEventBus;
+import com.comp2042.controller.event.GameEventSubscriber;
+import com.comp2042.controller.event.GameEventType;
 import com.comp2042.controller.event.MoveEvent;
+import com.comp2042.diagnostics.FlightRecording;
+import com.comp2042.diagnostics.GameMetrics;
+import com.comp2042.diagnostics.PerfMetrics;
 import com.comp2042.model.DownData;
+import com.comp2042.model.TSpinDetector;
 import com.comp2042.model.ViewData;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
+import com.comp2042.model.bricks.BrickTypes;
+import javafx.animation.AnimationTimer;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
@@ -20,15 +27,8 @@ import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.Pane;
-import javafx.util.Duration;
 import javafx.scene.control.Label;
 import javafx.scene.layout.VBox;
-import javafx.stage.Stage;
-import javafx.scene.Node;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
-import java.io.IOException;
 
 import java.net.URL;
 import java.util.ResourceBundle;
@@ -36,8 +36,20 @@ import java.util.ResourceBundle;
 /**
  * GUI controller for the game.
  * Refactored to delegate rendering to BoardRenderer and styling to BrickStyler.
+ * <p>
+ * Game events (board changes, the hold slot, clears, level ups, game over) arrive through the
+ * {@link GameEventBus}, which is drained once per frame by an {@link AnimationTimer}
+ * just before the scene is rendered.
+ * </p>
+ * <p>
+ * The same frame pump drives gravity: while the game is running, each frame hands the
+ * time since the last one to the game, which falls and locks the piece at the speed its
+ * level table gives. Pausing needs no timer of its own, since paused frames pass no time.
+ * </p>
  */
-public class GuiController implements Initializable {
+public class GuiController implements Initializable, GameEventSubscriber {
+
+    private static final int NOTIFICATION_SLOTS = 4;
 
     @FXML private GridPane gamePanel;
     @FXML private Pane brickOverlay;
@@ -51,11 +63,19 @@ public class GuiController implements Initializable {
     @FXML private VBox pauseMenu;
     @FXML private Label levelLabel;
     @FXML private Label linesLabel;
+    @FXML private Label perfHudLabel;
 
-    private Timeline timeLine;
     private InputEventListener eventListener;
+    private GameEventBus eventBus;
+    private AnimationTimer eventPump;
 
-    private BoardRenderer boardRenderer;
+    private GameRenderer boardRenderer;
+    private SceneManager sceneManager;
+    private NotificationPool notificationPool;
+    private PerfHud perfHud;
+    private final PerfMetrics perfMetrics = PerfMetrics.global();
+    // When the key press being handled arrived, or 0 when latency is not being measured
+    private long inputStart;
 
     private final ObjectProperty<GameState> gameState = new SimpleObjectProperty<>(GameState.RUNNING);
 
@@ -72,11 +92,30 @@ public class GuiController implements Initializable {
         reflection.setTopOffset(-12);
 
         this.boardRenderer = new BoardRenderer(gamePanel, brickOverlay, holdPane, nextBrickPane);
+        this.notificationPool = new NotificationPool(groupNotification, NOTIFICATION_SLOTS);
+        this.perfHud = new PerfHud(perfHudLabel);
     }
 
     private void handleKeyPressed(KeyEvent keyEvent) {
         KeyCode code = keyEvent.getCode();
 
+        if (code == KeyCode.F3) {
+            perfHud.toggle();
+            keyEvent.consume();
+            return;
+        }
+
+        if (code == KeyCode.F4) {
+            if (FlightRecording.isRecording()) {
+                showScoreBonus(FlightRecording.stop() != null ? "RECORDING SAVED" : "RECORDING FAILED");
+            } else {
+                FlightRecording.start();
+                showScoreBonus(FlightRecording.isRecording() ? "RECORDING" : "RECORDING FAILED");
+            }
+            keyEvent.consume();
+            return;
+        }
+
         if (code == KeyCode.ESCAPE || code == KeyCode.P) {
             togglePauseMenu();
             keyEvent.consume();
@@ -93,6 +132,8 @@ public class GuiController implements Initializable {
             return;
         }
 
+        // Measured up to the redraw in refreshBrick(), which runs before the switch returns
+        inputStart = perfMetrics.isEnabled() ? System.nanoTime() : 0;
         switch (code) {
             case LEFT, A -> {
                 refreshBrick(eventListener.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER)));
@@ -102,10 +143,18 @@ public class GuiController implements Initializable {
                 refreshBrick(eventListener.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER)));
                 keyEvent.consume();
             }
-            case UP, W -> {
+            case UP, W, X -> {
                 refreshBrick(eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER)));
                 keyEvent.consume();
             }
+            case Z -> {
+                refreshBrick(eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE_CCW, EventSource.USER)));
+                keyEvent.consume();
+            }
+            case Q -> {
+                refreshBrick(eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE_180, EventSource.USER)));
+                keyEvent.consume();
+            }
             case DOWN, S -> {
                 moveDown(new MoveEvent(EventType.DOWN, EventSource.USER));
                 keyEvent.consume();
@@ -120,22 +169,24 @@ public class GuiController implements Initializable {
             }
             default -> {}
         }
+        inputStart = 0;
     }
 
     public void initGameView(int[][] boardMatrix, ViewData brick) {
         boardRenderer.initGameView(boardMatrix, brick);
+    }
 
-        timeLine = new Timeline(new KeyFrame(
-                Duration.millis(400),
-                ae -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))
-        ));
-        timeLine.setCycleCount(Timeline.INDEFINITE);
-        timeLine.play();
+    public void setSceneManager(SceneManager sceneManager) {
+        this.sceneManager = sceneManager;
     }
 
     private void refreshBrick(ViewData brick) {
         if (gameState.get() == GameState.RUNNING) {
             boardRenderer.updateBrickPosition(brick);
+            if (inputStart != 0) {
+                perfMetrics.getInputLatency().record(System.nanoTime() - inputStart);
+                inputStart = 0;
+            }
             boardRenderer.showNextPiece(brick.getNextBrickData());
         }
     }
@@ -152,6 +203,13 @@ public class GuiController implements Initializable {
         gamePanel.requestFocus();
     }
 
+    private void applyGravity(long elapsedNanos) {
+        DownData downData = eventListener.onGravityFrame(elapsedNanos);
+        if (downData != null) {
+            refreshBrick(downData.getViewData());
+        }
+    }
+
     private void moveHardDrop(MoveEvent event) {
         if (gameState.get() == GameState.RUNNING) {
             DownData downData = eventListener.onHardDropEvent(event);
@@ -165,6 +223,86 @@ public class GuiController implements Initializable {
         this.boardRenderer.setEventListener(eventListener);
     }
 
+    /**
+     * Starts draining the bus every frame. Subscribers (this controller, sound, persistence)
+     * are registered on the bus by the game controller.
+     */
+    public void setEventBus(GameEventBus eventBus) {
+        this.eventBus = eventBus;
+        if (eventPump != null) {
+            eventPump.stop();
+        }
+        eventPump = new AnimationTimer() {
+            private long lastFrame;
+            // Previous running frame, or 0 while the game is not running
+            private long lastGravityFrame;
+
+            @Override
+            public void handle(long now) {
+                if (gameState.get() == GameState.RUNNING) {
+                    if (lastGravityFrame != 0) {
+                        applyGravity(now - lastGravityFrame);
+                    }
+                    lastGravityFrame = now;
+                } else {
+                    lastGravityFrame = 0;
+                }
+                eventBus.drainAll();
+                perfHud.onFrame(now);
+                if (lastFrame != 0 && GameMetrics.global().isEnabled()) {
+                    GameMetrics.global().recordFrame(now - lastFrame);
+                }
+                lastFrame = now;
+            }
+
+            @Override
+            public void stop() {
+                super.stop();
+                // Time spent stopped (menu, pause screen) is not a dropped frame
+                lastFrame = 0;
+                lastGravityFrame = 0;
+            }
+        };
+        eventPump.start();
+    }
+
+    @Override
+    public void onEvent(GameEventType type, int a, int b, int c, int d) {
+        switch (type) {
+            case BOARD_CHANGED -> boardRenderer.refreshGameBackground(eventListener.getBoardMatrix());
+            case HOLD -> boardRenderer.showHoldPiece(a == 0 ? null : BrickTypes.byId(a).getShapeMatrix().get(0));
+            case LINE_CLEAR -> showScoreBonus(bonusText(a, b, c, d));
+            case LEVEL_UP -> showScoreBonus("LEVEL " + a);
+            case GAME_OVER -> {
+                gameOver();
+                if (b == 1) {
+                    showScoreBonus("NEW HIGH SCORE!");
+                    setHighScore(a);
+                }
+            }
+            default -> {}
+        }
+    }
+
+    private static String bonusText(int linesRemoved, int bonus, int spin, int combo) {
+        String prefix = switch (spin) {
+            case TSpinDetector.FULL -> "T-SPIN ";
+            case TSpinDetector.MINI -> "T-SPIN MINI ";
+            default -> "";
+        };
+        if (spin != TSpinDetector.NONE && linesRemoved > 0) {
+            prefix += switch (linesRemoved) {
+                case 1 -> "SINGLE ";
+                case 2 -> "DOUBLE ";
+                default -> "TRIPLE ";
+            };
+        }
+        if (combo > 0) {
+            prefix += "COMBO x" + combo + " ";
+        }
+        return prefix + "+" + bonus;
+    }
+
     public void bindGameStats(IntegerProperty scoreProp, IntegerProperty levelProp, IntegerProperty linesProp) {
         if (scoreLabel != null) {
             scoreLabel.textProperty().bind(scoreProp.asString("Score: %05d"));
@@ -177,65 +315,54 @@ public class GuiController implements Initializable {
         if (linesLabel != null) {
             linesLabel.textProperty().bind(linesProp.asString("%d"));
         }
-
-        levelProp.addListener((obs, oldVal, newVal) -> {
-            int level = newVal.intValue();
-            double delay = Math.max(100, 400 - ((level - 1) * 50));
-
-            timeLine.stop();
-            timeLine.getKeyFrames().setAll(new KeyFrame(
-                    Duration.millis(delay),
-                    ae -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))
-            ));
-            timeLine.play();
-
-            showScoreBonus("LEVEL " + level);
-        });
     }
 
     public void gameOver() {
-        timeLine.stop();
         gameOverPanel.setVisible(true);
         gameState.set(GameState.GAME_OVER);
     }
 
     public void newGame(ActionEvent actionEvent) {
-        timeLine.stop();
+        if (eventBus != null) {
+            // Deliver anything still pending from the previous game first
+            eventBus.drainAll();
+        }
         gameOverPanel.setVisible(false);
+        pauseMenu.setVisible(false);
+        notificationPool.clear();
         eventListener.createNewGame();
         gamePanel.requestFocus();
-        timeLine.play();
+        if (eventPump != null) {
+            eventPump.start();
+        }
         gameState.set(GameState.RUNNING);
     }
 
     public void pauseGame(ActionEvent actionEvent) {
-        if (timeLine == null || gameState.get() == GameState.GAME_OVER) {
+        if (eventListener == null || gameState.get() == GameState.GAME_OVER) {
             gamePanel.requestFocus();
             return;
         }
         if (gameState.get() == GameState.PAUSED) {
-            timeLine.play();
+            eventListener.setPaused(false);
             gameState.set(GameState.RUNNING);
         } else if (gameState.get() == GameState.RUNNING) {
-            timeLine.stop();
             gameState.set(GameState.PAUSED);
+            eventListener.setPaused(true);
         }
         gamePanel.requestFocus();
     }
 
     public void showScoreBonus(String text) {
-        NotificationPanel notificationPanel = new NotificationPanel(text);
-        int activeNotifications = groupNotification.getChildren().size();
-        double yOffset = activeNotifications * 25;
-
-        notificationPanel.setTranslateY(yOffset);
-
-        groupNotification.getChildren().add(notificationPanel);
-        notificationPanel.showScore(groupNotification.getChildren());
+        notificationPool.show(text);
     }
 
-    public void showHoldPiece(int[][] shape) {
-        boardRenderer.showHoldPiece(shape);
+    /**
+     * Draws the active brick and the next-piece preview, e.g. after a saved game was restored.
+     */
+    public void showBrick(ViewData brick) {
+        boardRenderer.updateBrickPosition(brick);
+        boardRenderer.showNextPiece(brick.getNextBrickData());
     }
 
     public void setHighScore(int score) {
@@ -248,15 +375,15 @@ public class GuiController implements Initializable {
         if (pauseMenu.isVisible()) {
             pauseMenu.setVisible(false);
             if (gameState.get() == GameState.PAUSED) {
-                timeLine.play();
+                eventListener.setPaused(false);
                 gameState.set(GameState.RUNNING);
             }
             gamePanel.requestFocus();
         } else {
             pauseMenu.setVisible(true);
             if (gameState.get() == GameState.RUNNING) {
-                timeLine.stop();
                 gameState.set(GameState.PAUSED);
+                eventListener.setPaused(true);
             }
         }
     }
@@ -265,13 +392,14 @@ public class GuiController implements Initializable {
         togglePauseMenu();
     }
 
-    public void onExitToMenu(ActionEvent event) throws IOException {
-        timeLine.stop();
-        URL location = getClass().getClassLoader().getResource("mainMenu.fxml");
-        Parent root = FXMLLoader.load(location);
-        Stage stage = (Stage) ((Node) event.getSource()).getScene().getWindow();
-        Scene scene = new Scene(root, 800, 600);
-        stage.setScene(scene);
-        stage.show();
+    public void onExitToMenu(ActionEvent event) {
+        if (eventPump != null) {
+            eventPump.stop();
+        }
+        if (gameState.get() == GameState.RUNNING) {
+            eventListener.setPaused(true);
+        }
+        gameState.set(GameState.PAUSED);
+        sceneManager.showMenu();
     }
 }
\ No newline at end of file
@@ -1,44 +1,42 @@
 package com.comp2042.view;
 
-import com.comp2042.controller.GameController;
-import com.comp2042.model.ScoreManager;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Node;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.control.Alert;
-import javafx.stage.Stage;
-
-import java.io.IOException;
-import java.net.URL;
 
 public class MenuController {
 
+    private SceneManager sceneManager;
+
+    public void setSceneManager(SceneManager sceneManager) {
+        this.sceneManager = sceneManager;
+    }
+
     @FXML
-    public void onNewGame(ActionEvent event) throws IOException {
-        // 1. Load the Game Layout
-        URL location = getClass().getClassLoader().getResource("gameLayout.fxml");
-        FXMLLoader loader = new FXMLLoader(location);
-        Parent root = loader.load();
+    public void onNewGame(ActionEvent event) {
+        // The game scene is preloaded and reused; this only switches to it and resets the game
+        sceneManager.showGame();
+    }
 
-        // 2. Initialize the Game Controller (Connects Logic to View)
-        GuiController c = loader.getController();
-        new GameController(c); // This starts the game loop
+    @FXML
+    public void onVersus(ActionEvent event) {
+        sceneManager.showVersus();
+    }
 
-        // 3. Switch the Scene
-        Stage stage = (Stage) ((Node) event.getSource()).getScene().getWindow();
-        Scene scene = new Scene(root, 800, 600);
-        stage.setScene(scene);
-        stage.show();
+    @FXML
+    public void onBotWall(ActionEvent event) {
+        sceneManager.showWall();
+    }
+
+    @FXML
+    public void onStats(ActionEvent event) {
+        sceneManager.showStats();
     }
 
     @FXML
     public void onHighScores(ActionEvent event) {
-        // Simple popup to show the high score
-        ScoreManager sm = new ScoreManager();
-        int highScore = sm.getHighScore();
+        // Simple popup to show the high score, using the already loaded score store
+        int highScore = sceneManager.getScoreManager().getHighScore();
 
         Alert alert = new Alert(Alert.AlertType.INFORMATION);
         alert.setTitle("High Scores");
@@ -60,13 +58,17 @@ public class MenuController {
             ↓ / S  : Soft Drop
             
             Actions:
-            ↑ / W  : Rotate
+            ↑ / W / X : Rotate Clockwise
+            Z      : Rotate Counter-clockwise
+            Q      : Rotate 180°
             SPACE  : Hard Drop
             SHIFT / C : Hold Piece
             
             Game:
             P / ESC : Pause & Menu
             N       : New Game
+            F3      : Performance Overlay
+            F4      : Start / Save Flight Recording
             """;
 
         alert.setContentText(content);
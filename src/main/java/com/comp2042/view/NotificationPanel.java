@@ -3,10 +3,7 @@ package com.comp2042.view;
 import javafx.animation.FadeTransition;
 import javafx.animation.ParallelTransition;
 import javafx.animation.TranslateTransition;
-import javafx.collections.ObservableList;
-import javafx.event.ActionEvent;
-import javafx.event.EventHandler;
-import javafx.scene.Node;
+import javafx.scene.CacheHint;
 import javafx.scene.control.Label;
 import javafx.scene.effect.Effect;
 import javafx.scene.effect.Glow;
@@ -14,20 +11,33 @@ import javafx.scene.layout.BorderPane;
 import javafx.scene.paint.Color;
 import javafx.util.Duration;
 
+/**
+ * Floating score text, built once and replayed by {@link NotificationPool}.
+ * <p>
+ * The label, glow and transitions are created in the constructor and reused for every
+ * notification. The glow is shared by all panels and the node is cached as a bitmap, so the
+ * fade and float only move a cached image instead of re-rendering the effect every frame.
+ * </p>
+ */
 public class NotificationPanel extends BorderPane {
 
-    public NotificationPanel(String text) {
+    private static final Effect GLOW = new Glow(0.6);
+
+    private final Label score;
+    private final ParallelTransition transition;
+
+    public NotificationPanel() {
         setMinHeight(200);
         setMinWidth(220);
-        final Label score = new Label(text);
+        score = new Label();
         score.getStyleClass().add("bonusStyle");
-        final Effect glow = new Glow(0.6);
-        score.setEffect(glow);
+        score.setEffect(GLOW);
         score.setTextFill(Color.WHITE);
         setCenter(score);
-    }
+        setCache(true);
+        setCacheHint(CacheHint.SPEED);
+        setVisible(false);
 
-    public void showScore(ObservableList<Node> list) {
         FadeTransition ft = new FadeTransition(Duration.millis(2000), this);
         TranslateTransition tt = new TranslateTransition(Duration.millis(2500), this);
 
@@ -36,8 +46,32 @@ public class NotificationPanel extends BorderPane {
 
         ft.setFromValue(1);
         ft.setToValue(0);
-        ParallelTransition transition = new ParallelTransition(tt, ft);
-        transition.setOnFinished(event -> list.remove(NotificationPanel.this));
-        transition.play();
+        transition = new ParallelTransition(tt, ft);
+        transition.setOnFinished(event -> setVisible(false));
+    }
+
+    public String getText() {
+        return score.getText();
+    }
+
+    /**
+     * Shows {@code text} at {@code yOffset} and plays the fade/float animation from the start.
+     */
+    public void show(String text, double yOffset) {
+        transition.stop();
+        score.setText(text);
+        setTranslateY(yOffset);
+        setOpacity(1);
+        setVisible(true);
+        transition.playFromStart();
+    }
+
+    public boolean isActive() {
+        return isVisible();
+    }
+
+    public void hide() {
+        transition.stop();
+        setVisible(false);
     }
 }
@@ -0,0 +1,81 @@
+package com.comp2042.view;
+
+import javafx.scene.Group;
+
+/**
+ * Fixed set of pre-built {@link NotificationPanel}s, recycled for score bonuses.
+ * <p>
+ * The panels are added to the overlay group once and only shown and hidden afterwards, so a
+ * notification never allocates nodes, effects or transitions. Each panel owns a fixed slot,
+ * and the slot decides its vertical offset.
+ * </p>
+ * Bursts are rate-limited: text that arrives within {@link #MERGE_WINDOW_NANOS} of the
+ * previous notification is merged into that panel (up to {@link #MAX_MERGED_LINES} lines)
+ * instead of taking a new slot. When every slot is busy, the oldest one is reused.
+ */
+public class NotificationPool {
+
+    private static final double SLOT_SPACING = 25;
+    private static final long MERGE_WINDOW_NANOS = 150_000_000L;
+    private static final int MAX_MERGED_LINES = 3;
+
+    private final NotificationPanel[] panels;
+    private final long[] shownAt;
+    private final int[] lineCount;
+    private int lastSlot = -1;
+
+    public NotificationPool(Group parent, int size) {
+        panels = new NotificationPanel[size];
+        shownAt = new long[size];
+        lineCount = new int[size];
+        for (int i = 0; i < size; i++) {
+            panels[i] = new NotificationPanel();
+            parent.getChildren().add(panels[i]);
+        }
+    }
+
+    public void show(String text) {
+        long now = System.nanoTime();
+        if (lastSlot >= 0 && panels[lastSlot].isActive() && now - shownAt[lastSlot] < MERGE_WINDOW_NANOS) {
+            if (lineCount[lastSlot] < MAX_MERGED_LINES) {
+                panels[lastSlot].show(panels[lastSlot].getText() + "\n" + text, offsetOf(lastSlot));
+                shownAt[lastSlot] = now;
+                lineCount[lastSlot]++;
+                return;
+            }
+        }
+        int slot = freeSlot();
+        panels[slot].show(text, offsetOf(slot));
+        shownAt[slot] = now;
+        lineCount[slot] = 1;
+        lastSlot = slot;
+    }
+
+    /**
+     * Lowest idle slot, or the one shown longest ago if all are busy.
+     */
+    private int freeSlot() {
+        int oldest = 0;
+        for (int i = 0; i < panels.length; i++) {
+            if (!panels[i].isActive()) {
+                return i;
+            }
+            if (shownAt[i] < shownAt[oldest]) {
+                oldest = i;
+            }
+        }
+        return oldest;
+    }
+
+    private static double offsetOf(int slot) {
+        // Slot 0 sits one step down, below the game over banner that shares the overlay group
+        return (slot + 1) * SLOT_SPACING;
+    }
+
+    public void clear() {
+        for (NotificationPanel panel : panels) {
+            panel.hide();
+        }
+        lastSlot = -1;
+    }
+}
@@ -0,0 +1,113 @@
+package com.comp2042.view;
+
+import com.comp2042.diagnostics.LatencyHistogram;
+import com.comp2042.diagnostics.PerfMetrics;
+import com.comp2042.diagnostics.RuntimeSampler;
+import javafx.scene.control.Label;
+
+/**
+ * Toggleable overlay showing frame time, simulation time, input latency, allocation rate
+ * and garbage collection over the last half second.
+ * <p>
+ * Frame times come from the frame callback ({@link #onFrame(long)}); the other timings are
+ * recorded into {@link PerfMetrics} by the code being measured. Recording only runs while
+ * the overlay is showing. The text is rebuilt at most twice a second with a
+ * reused builder, and each window's histograms are cleared after they are shown.
+ * </p>
+ */
+public class PerfHud {
+
+    private static final long REFRESH_NANOS = 500_000_000L;
+    private static final double NANOS_PER_MS = 1_000_000.0;
+
+    private final Label label;
+    private final PerfMetrics metrics = PerfMetrics.global();
+    private final StringBuilder text = new StringBuilder(256);
+    private RuntimeSampler sampler;
+    private long lastFrame;
+    private long lastRefresh;
+
+    public PerfHud(Label label) {
+        this.label = label;
+        label.setVisible(false);
+        label.setMouseTransparent(true);
+    }
+
+    public void toggle() {
+        boolean show = !label.isVisible();
+        label.setVisible(show);
+        if (show) {
+            if (sampler == null) {
+                sampler = new RuntimeSampler();
+            }
+            metrics.reset();
+            metrics.setEnabled(true);
+            lastFrame = 0;
+            lastRefresh = 0;
+            label.setText("collecting...");
+        } else {
+            metrics.setEnabled(false);
+        }
+    }
+
+    /**
+     * Called once per frame with the frame's timestamp.
+     */
+    public void onFrame(long now) {
+        if (!metrics.isEnabled()) {
+            return;
+        }
+        if (lastFrame != 0) {
+            metrics.getFrameTime().record(now - lastFrame);
+        }
+        lastFrame = now;
+
+        if (lastRefresh == 0) {
+            lastRefresh = now;
+        } else if (now - lastRefresh >= REFRESH_NANOS) {
+            lastRefresh = now;
+            refresh();
+        }
+    }
+
+    private void refresh() {
+        sampler.sample();
+        text.setLength(0);
+        appendTimes("frame", metrics.getFrameTime());
+        appendTimes("sim  ", metrics.getSimulationTime());
+        appendTimes("input", metrics.getInputLatency());
+
+        long allocated = sampler.getAllocatedBytesPerSecond();
+        text.append("alloc ");
+        if (allocated < 0) {
+            text.append("n/a");
+        } else {
+            text.append(allocated / 1024).append(" KB/s");
+        }
+        text.append("\ngc    ").append(sampler.getGcCount()).append(" pauses, ")
+                .append(sampler.getGcMillis()).append(" ms");
+        label.setText(text.toString());
+        metrics.reset();
+    }
+
+    private void appendTimes(String name, LatencyHistogram histogram) {
+        text.append(name).append(" p50 ");
+        appendMillis(histogram.getValueAtPercentile(50));
+        text.append(" p99 ");
+        appendMillis(histogram.getValueAtPercentile(99));
+        text.append(" max ");
+        appendMillis(histogram.getMax());
+        text.append(" ms (").append(histogram.getCount()).append(")\n");
+    }
+
+    private void appendMillis(long nanos) {
+        // Two decimal places without String.format
+        long hundredths = Math.round(nanos / NANOS_PER_MS * 100);
+        text.append(hundredths / 100).append('.');
+        long fraction = hundredths % 100;
+        if (fraction < 10) {
+            text.append('0');
+        }
+        text.append(fraction);
+    }
+}
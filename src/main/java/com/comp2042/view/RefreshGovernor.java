@@ -0,0 +1,94 @@
+package com.comp2042.view;
+
+/**
+ * Decides how often each board on the bot wall is redrawn.
+ * <p>
+ * The wall redraws every board on every pulse while that fits the frame budget. The stride
+ * is the number of pulses between two redraws of the same board; boards take turns, so a
+ * stride of 3 redraws a third of them on each pulse. After each update pass the caller
+ * reports how long the pass took and how long since the previous pulse. The stride goes up
+ * when the smoothed pass time is over budget or most pulses in the last window came late,
+ * and back down once the pass would still fit in half the budget with one stride less.
+ * It changes at most once per window so one slow frame does not make it flap. Times are
+ * passed in by the caller, so the class has no clock of its own. Not thread-safe; used only
+ * on the JavaFX thread.
+ * </p>
+ */
+final class RefreshGovernor {
+
+    static final int WINDOW_FRAMES = 30;
+    private static final double SMOOTHING = 0.1;
+    // A pulse this much later than the nominal frame time has missed at least one vsync
+    private static final double LATE_FACTOR = 1.5;
+
+    private final long budgetNanos;
+    private final long lateFrameNanos;
+    private final int maxStride;
+
+    private double averagePassNanos;
+    private int stride = 1;
+    private int frames;
+    private int lateFrames;
+
+    /**
+     * @param budgetNanos time the update pass may take on each pulse.
+     * @param frameNanos  nominal time between pulses.
+     * @param maxStride   the slowest refresh allowed: every board is redrawn at least once
+     *                    in this many pulses.
+     */
+    RefreshGovernor(long budgetNanos, long frameNanos, int maxStride) {
+        this.budgetNanos = budgetNanos;
+        this.lateFrameNanos = (long) (frameNanos * LATE_FACTOR);
+        this.maxStride = maxStride;
+    }
+
+    /**
+     * @param passNanos  how long this pulse's update pass took.
+     * @param sinceLast  time since the previous pulse, or 0 on the first one.
+     */
+    void record(long passNanos, long sinceLast) {
+        averagePassNanos += (passNanos - averagePassNanos) * SMOOTHING;
+        if (sinceLast > lateFrameNanos) {
+            lateFrames++;
+        }
+        if (++frames < WINDOW_FRAMES) {
+            return;
+        }
+        if ((averagePassNanos > budgetNanos || lateFrames * 2 > frames) && stride < maxStride) {
+            // Fewer boards per pass: the pass shrinks roughly in proportion
+            averagePassNanos = averagePassNanos * stride / (stride + 1);
+            stride++;
+        } else if (stride > 1 && lateFrames == 0
+                && averagePassNanos * stride / (stride - 1) < budgetNanos / 2.0) {
+            averagePassNanos = averagePassNanos * stride / (stride - 1);
+            stride--;
+        }
+        frames = 0;
+        lateFrames = 0;
+    }
+
+    /**
+     * Whether board {@code index} is due for a redraw on pulse number {@code pulse}.
+     */
+    boolean isDue(int index, long pulse) {
+        return (index + pulse) % stride == 0;
+    }
+
+    int getStride() {
+        return stride;
+    }
+
+    double getAveragePassNanos() {
+        return averagePassNanos;
+    }
+
+    /**
+     * Goes back to redrawing every board on every pulse, e.g. after the wall was rebuilt.
+     */
+    void reset() {
+        stride = 1;
+        averagePassNanos = 0;
+        frames = 0;
+        lateFrames = 0;
+    }
+}
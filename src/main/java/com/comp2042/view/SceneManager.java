@@ -0,0 +1,309 @@
+package com.comp2042.view;
+
+import com.comp2042.controller.GameController;
+import com.comp2042.controller.GameJournal;
+import com.comp2042.controller.JournalRecovery;
+import com.comp2042.model.GameSnapshot;
+import com.comp2042.model.LevelTable;
+import com.comp2042.model.SaveGameStore;
+import com.comp2042.model.ScoreManager;
+import com.comp2042.model.ScoreTable;
+import com.comp2042.model.bricks.PieceSet;
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.Alert;
+import javafx.scene.control.ButtonType;
+import javafx.scene.image.Image;
+import javafx.scene.layout.Background;
+import javafx.scene.layout.BackgroundImage;
+import javafx.scene.layout.BackgroundPosition;
+import javafx.scene.layout.BackgroundRepeat;
+import javafx.scene.layout.BackgroundSize;
+import javafx.scene.layout.Region;
+import javafx.stage.Stage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Owns the menu and game scenes and switches the stage between them.
+ * <p>
+ * Both scenes are built once and reused. Their FXML is loaded on background threads while
+ * a lightweight first frame is showing, in parallel with the shared assets in the
+ * {@link AssetCache}; FXML node graphs may be built off the JavaFX thread as long as they are
+ * not yet attached to a scene. The menu is shown as soon as its layout, font and background are
+ * ready. The game layout, sound clips and high score file keep loading behind
+ * the menu. The game {@link Scene} and {@link GameController} are created on the JavaFX thread
+ * the first time the game is shown; after that, starting a game only resets the game state.
+ * </p>
+ * <p>
+ * Once the menu is up, the {@link GameJournal} is replayed in the background, falling back
+ * to the game saved on the last pause or exit; if either holds an unfinished game, the
+ * player is asked whether to resume it.
+ * </p>
+ */
+public class SceneManager {
+
+    private static final double WIDTH = 800;
+    private static final double HEIGHT = 600;
+
+    private final Stage stage;
+    private final AssetCache assets;
+    private final Executor executor;
+    private final StartupProfiler profiler;
+    private final CompletableFuture<PreloadedGame> preload = new CompletableFuture<>();
+
+    private boolean preloadStarted;
+    private Scene menuScene;
+    private Scene gameScene;
+    private GuiController guiController;
+    private GameController gameController;
+    private Scene versusScene;
+    private VersusController versusController;
+    private Scene wallScene;
+    private WallController wallController;
+    private Scene statsScene;
+    private StatsController statsController;
+
+    /**
+     * Everything the game scene needs that can be loaded away from the JavaFX thread.
+     */
+    private static final class PreloadedGame {
+        final Parent root;
+        final GuiController controller;
+        final SoundManager soundManager;
+        final ScoreManager scoreManager;
+
+        PreloadedGame(Parent root, GuiController controller, SoundManager soundManager, ScoreManager scoreManager) {
+            this.root = root;
+            this.controller = controller;
+            this.soundManager = soundManager;
+            this.scoreManager = scoreManager;
+        }
+    }
+
+    public SceneManager(Stage stage, AssetCache assets, Executor executor, StartupProfiler profiler) {
+        this.stage = stage;
+        this.assets = assets;
+        this.executor = executor;
+        this.profiler = profiler;
+    }
+
+    /**
+     * Loads the menu in the background and shows it once it and its assets are ready, while
+     * the game scene starts preloading.
+     *
+     * @return a future that completes on the JavaFX thread once the menu is showing.
+     */
+    public CompletableFuture<Void> start() {
+        CompletableFuture<FXMLLoader> menu = CompletableFuture.supplyAsync(() -> loadFxml("mainMenu.fxml"), executor)
+                .whenComplete((loader, e) -> profiler.mark("menu-fxml"));
+        preloadGame();
+
+        return CompletableFuture.allOf(menu,
+                        assets.load(Assets.FONT_DIGITAL),
+                        assets.load(Assets.BACKGROUND))
+                .thenRunAsync(() -> {
+                    FXMLLoader loader = menu.join();
+                    MenuController menuController = loader.getController();
+                    menuController.setSceneManager(this);
+                    Parent root = loader.getRoot();
+                    applyBackground(root);
+                    menuScene = new Scene(root, WIDTH, HEIGHT);
+                    showMenu();
+                    profiler.mark("interactive");
+                    offerResume();
+                }, Platform::runLater);
+    }
+
+    /**
+     * Rebuilds the journaled or saved game, if any, away from the JavaFX thread, then offers
+     * to carry on with it as long as the player is still on the menu. The journal is never
+     * older than the save, since every save is journaled too.
+     */
+    private void offerResume() {
+        CompletableFuture.supplyAsync(() -> {
+                    // Loading the set registers its custom pieces, which the save may refer to
+                    PieceSet pieces = PieceSet.loadOrStandard(Paths.get("pieces.properties"));
+                    GameSnapshot journaled = GameJournal.isEnabled()
+                            ? JournalRecovery.recover(GameJournal.DEFAULT_PATH,
+                                    ScoreTable.loadOrDefault(Paths.get("scoring.properties")),
+                                    LevelTable.loadOrDefault(Paths.get("levels.properties")),
+                                    pieces)
+                            : null;
+                    return journaled != null ? journaled : new SaveGameStore().load(pieces);
+                }, executor)
+                .thenAcceptAsync(snapshot -> {
+                    if (snapshot == null || stage.getScene() != menuScene) {
+                        return;
+                    }
+                    Alert alert = new Alert(Alert.AlertType.CONFIRMATION,
+                            "Score " + snapshot.getScore() + ", level " + snapshot.getLevel()
+                                    + ", " + snapshot.getLines() + " lines.",
+                            ButtonType.YES, ButtonType.NO);
+                    alert.initOwner(stage);
+                    alert.setHeaderText("Resume your unfinished game?");
+                    alert.showAndWait()
+                            .filter(button -> button == ButtonType.YES)
+                            .ifPresent(button -> resumeGame(snapshot));
+                }, Platform::runLater);
+    }
+
+    /**
+     * Starts loading the game scene in the background. Later calls do nothing.
+     * <p>
+     * This uses its own thread rather than the asset executor, because applying the
+     * background waits for the image that is loading on that executor.
+     * </p>
+     */
+    public void preloadGame() {
+        if (preloadStarted) {
+            return;
+        }
+        preloadStarted = true;
+        Thread thread = new Thread(() -> {
+            try {
+                preload.complete(loadGame());
+                profiler.mark("game-preloaded");
+            } catch (Throwable e) {
+                preload.completeExceptionally(e);
+            }
+        }, "game-preload");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private PreloadedGame loadGame() {
+        FXMLLoader loader = loadFxml("gameLayout.fxml");
+        Parent root = loader.getRoot();
+        applyBackground(root);
+        return new PreloadedGame(root, loader.getController(), new SoundManager(assets), new ScoreManager());
+    }
+
+    private static FXMLLoader loadFxml(String name) {
+        try {
+            FXMLLoader loader = new FXMLLoader(SceneManager.class.getClassLoader().getResource(name));
+            // Background threads' context class loader may not see the application classes
+            loader.setClassLoader(SceneManager.class.getClassLoader());
+            loader.load();
+            return loader;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Uses the shared, already decoded background image instead of letting each scene's
+     * stylesheet load its own copy.
+     */
+    private void applyBackground(Parent root) {
+        if (root instanceof Region region) {
+            Image image = assets.get(Assets.BACKGROUND);
+            region.setBackground(new Background(new BackgroundImage(image,
+                    BackgroundRepeat.REPEAT, BackgroundRepeat.REPEAT,
+                    BackgroundPosition.DEFAULT, BackgroundSize.DEFAULT)));
+        }
+    }
+
+    public void showMenu() {
+        stage.setScene(menuScene);
+    }
+
+    /**
+     * Switches to the game scene and starts a fresh game, finishing the preload first if it
+     * has not completed yet.
+     */
+    public void showGame() {
+        if (gameScene == null) {
+            preloadGame();
+            PreloadedGame game = preload.join();
+            guiController = game.controller;
+            guiController.setSceneManager(this);
+            gameController = new GameController(guiController, game.soundManager, game.scoreManager);
+            gameScene = new Scene(game.root, WIDTH, HEIGHT);
+        }
+        stage.setScene(gameScene);
+        guiController.newGame(null);
+    }
+
+    /**
+     * Switches to the game scene and carries on a recovered or saved game.
+     */
+    public void resumeGame(GameSnapshot snapshot) {
+        showGame();
+        gameController.resume(snapshot);
+    }
+
+    /**
+     * Switches to a match against the bot. The versus scene is only built the first time it
+     * is asked for, since most sessions never open it.
+     */
+    public void showVersus() {
+        if (versusScene == null) {
+            FXMLLoader loader = loadFxml("versusLayout.fxml");
+            Parent root = loader.getRoot();
+            applyBackground(root);
+            versusController = loader.getController();
+            versusController.setSceneManager(this);
+            versusScene = new Scene(root, WIDTH, HEIGHT);
+        }
+        stage.setScene(versusScene);
+        versusController.start();
+    }
+
+    /**
+     * Switches to the bot wall and starts its games. Like the versus scene, it is only built
+     * the first time it is asked for.
+     */
+    public void showWall() {
+        if (wallScene == null) {
+            FXMLLoader loader = loadFxml("wallLayout.fxml");
+            Parent root = loader.getRoot();
+            applyBackground(root);
+            wallController = loader.getController();
+            wallController.setSceneManager(this);
+            wallScene = new Scene(root, WIDTH, HEIGHT);
+        }
+        stage.setScene(wallScene);
+        wallController.start();
+    }
+
+    /**
+     * Switches to the stats screen and loads the latest figures. Like the versus scene, it
+     * is only built the first time it is asked for.
+     */
+    public void showStats() {
+        if (statsScene == null) {
+            FXMLLoader loader = loadFxml("statsLayout.fxml");
+            Parent root = loader.getRoot();
+            applyBackground(root);
+            statsController = loader.getController();
+            statsController.setSceneManager(this);
+            statsScene = new Scene(root, WIDTH, HEIGHT);
+        }
+        stage.setScene(statsScene);
+        statsController.refresh(executor);
+    }
+
+    /**
+     * Saves the game in progress, if any, as the application closes.
+     */
+    public void saveGame() {
+        if (gameController != null) {
+            gameController.saveGame();
+        }
+    }
+
+    /**
+     * The shared high score store, loaded with the game scene.
+     */
+    public ScoreManager getScoreManager() {
+        preloadGame();
+        return preload.join().scoreManager;
+    }
+}
@@ -1,47 +1,192 @@
 package com.comp2042.view;
 
+import com.comp2042.controller.event.GameEventSubscriber;
+import com.comp2042.controller.event.GameEventType;
 import javafx.scene.media.AudioClip;
-import java.net.URL;
-import java.util.HashMap;
-import java.util.Map;
 
-public class SoundManager {
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
 
-    private final Map<String, AudioClip> soundEffects = new HashMap<>();
+/**
+ * Plays sound effects for game events.
+ * <p>
+ * As a bus subscriber it only records which sounds are due while events are delivered and
+ * plays them in {@link #onBatchEnd()}, so each effect plays at most once per frame. A level
+ * up replaces the line-clear sound, as before.
+ * </p>
+ * <p>
+ * Nothing here touches the audio backend on the caller's thread. A play request only stamps
+ * the request time and queues the effect for a dedicated "audio" worker thread; an effect
+ * that is already queued is not queued again, so repeated requests merge. The worker loads
+ * the clips in the background, drops requests that waited too long to still match the
+ * action, and applies a per-effect {@link VoiceLimiter} so identical sounds a few
+ * milliseconds apart are played once and overlapping voices are capped.
+ * </p>
+ */
+public class SoundManager implements GameEventSubscriber {
 
+    private static final long MERGE_WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(30);
+    private static final long STALE_NANOS = TimeUnit.MILLISECONDS.toNanos(150);
+
+    /**
+     * Effects with their voice limits. Lengths are the clip durations, rounded up.
+     */
+    private enum Effect {
+        CLEAR(Assets.SOUND_CLEAR, 2, 200),
+        LEVEL_UP(Assets.SOUND_LEVEL_UP, 1, 1050),
+        GAME_OVER(Assets.SOUND_GAME_OVER, 1, 2950);
+
+        final AssetHandle<AudioClip> handle;
+        final int maxVoices;
+        final long lengthNanos;
+
+        Effect(AssetHandle<AudioClip> handle, int maxVoices, long lengthMillis) {
+            this.handle = handle;
+            this.maxVoices = maxVoices;
+            this.lengthNanos = TimeUnit.MILLISECONDS.toNanos(lengthMillis);
+        }
+    }
+
+    private static final Effect[] EFFECTS = Effect.values();
+
+    private final AssetCache assets;
+    // Each effect is queued at most once, so the queue never needs more room than this
+    private final BlockingQueue<Effect> queue = new ArrayBlockingQueue<>(EFFECTS.length);
+    private final AtomicIntegerArray queued = new AtomicIntegerArray(EFFECTS.length);
+    private final AtomicLongArray requestedAt = new AtomicLongArray(EFFECTS.length);
+
+    // Used only by the worker thread
+    private final VoiceLimiter[] limiters = new VoiceLimiter[EFFECTS.length];
+    private final boolean[] missing = new boolean[EFFECTS.length];
+
+    private boolean clearPending;
+    private boolean levelUpPending;
+    private boolean gameOverPending;
+
+    /**
+     * Loads the clips itself, on the audio thread.
+     */
     public SoundManager() {
-        // Pre-load sounds to avoid lag during gameplay
-        loadSound("clear", "sounds/clear.wav");
-        loadSound("levelup", "sounds/levelup.wav");
-        loadSound("gameover", "sounds/gameover.wav");
+        this(new AssetCache(Runnable::run, Assets.COUNT));
     }
 
-    private void loadSound(String name, String path) {
-        URL resource = getClass().getClassLoader().getResource(path);
-        if (resource != null) {
-            AudioClip clip = new AudioClip(resource.toExternalForm());
-            clip.play(0.0);
-            soundEffects.put(name, clip);
-        } else {
-            System.err.println("Warning: Sound file not found: " + path);
+    /**
+     * Uses the clips from the shared asset cache. Never waits for them to finish loading.
+     */
+    public SoundManager(AssetCache assets) {
+        this.assets = assets;
+        for (Effect effect : EFFECTS) {
+            limiters[effect.ordinal()] = new VoiceLimiter(effect.maxVoices, MERGE_WINDOW_NANOS, effect.lengthNanos);
         }
+        Thread worker = new Thread(this::runWorker, "audio");
+        worker.setDaemon(true);
+        worker.start();
     }
+
     public void playClearLine() {
-        playSound("clear");
+        request(Effect.CLEAR);
     }
 
     public void playLevelUp() {
-        playSound("levelup");
+        request(Effect.LEVEL_UP);
     }
 
     public void playGameOver() {
-        playSound("gameover");
+        request(Effect.GAME_OVER);
+    }
+
+    /**
+     * Whether every clip has finished loading.
+     */
+    public boolean isReady() {
+        for (Effect effect : EFFECTS) {
+            if (assets.getIfReady(effect.handle) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void onEvent(GameEventType type, int a, int b, int c, int d) {
+        switch (type) {
+            case LINE_CLEAR -> clearPending |= a > 0;
+            case LEVEL_UP -> levelUpPending = true;
+            case GAME_OVER -> gameOverPending = true;
+            default -> {}
+        }
     }
 
-    private void playSound(String name) {
-        AudioClip clip = soundEffects.get(name);
-        if (clip != null) {
+    @Override
+    public void onBatchEnd() {
+        if (levelUpPending) {
+            playLevelUp();
+        } else if (clearPending) {
+            playClearLine();
+        }
+        if (gameOverPending) {
+            playGameOver();
+        }
+        clearPending = false;
+        levelUpPending = false;
+        gameOverPending = false;
+    }
+
+    private void request(Effect effect) {
+        int i = effect.ordinal();
+        requestedAt.set(i, System.nanoTime());
+        if (queued.compareAndSet(i, 0, 1) && !queue.offer(effect)) {
+            queued.set(i, 0);
+        }
+    }
+
+    private void runWorker() {
+        // Load every clip up front so the first request does not wait for decoding
+        for (Effect effect : EFFECTS) {
+            clip(effect);
+        }
+        try {
+            while (true) {
+                Effect effect = queue.take();
+                // Cleared before reading the request time, so a newer request is either
+                // merged into this one or queued again
+                queued.set(effect.ordinal(), 0);
+                dispatch(effect);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void dispatch(Effect effect) {
+        int i = effect.ordinal();
+        AudioClip clip = clip(effect);
+        if (clip == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (now - requestedAt.get(i) > STALE_NANOS) {
+            return;
+        }
+        if (limiters[i].tryStart(now)) {
             clip.play();
         }
     }
-}
\ No newline at end of file
+
+    private AudioClip clip(Effect effect) {
+        int i = effect.ordinal();
+        if (missing[i]) {
+            return null;
+        }
+        try {
+            return assets.get(effect.handle);
+        } catch (IllegalStateException e) {
+            missing[i] = true;
+            System.err.println("Warning: Sound file not loaded: " + effect.handle.getPath());
+            return null;
+        }
+    }
+}
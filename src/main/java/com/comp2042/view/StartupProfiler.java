@@ -0,0 +1,90 @@
+package com.comp2042.view;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records how long each startup phase takes, so time-to-interactive can be tracked.
+ * <p>
+ * Phases are marked as milliseconds since the JVM started (the JVM uptime when the profiler
+ * was created plus the time elapsed since). Asset load durations are recorded separately,
+ * since they run concurrently. {@link #report()} prints a one-line summary when the
+ * {@code tetris.startupProfile} system property is {@code true} and, when the
+ * {@code tetris.startupLog} system property names a file, appends the same line there so
+ * numbers can be compared across releases.
+ * </p>
+ */
+public final class StartupProfiler {
+
+    private static final String PRINT_PROPERTY = "tetris.startupProfile";
+    private static final String LOG_PROPERTY = "tetris.startupLog";
+
+    private final long originNanos = System.nanoTime();
+    private final long originUptimeMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+    private final Map<String, Long> phases = new LinkedHashMap<>();
+    private final Map<String, Long> assetNanos = new ConcurrentHashMap<>();
+    private boolean reported;
+
+    /**
+     * Marks the end of a phase at the current time.
+     */
+    public synchronized void mark(String phase) {
+        phases.put(phase, originUptimeMillis + (System.nanoTime() - originNanos) / 1_000_000);
+    }
+
+    public void recordAsset(String name, long nanos) {
+        assetNanos.put(name, nanos);
+    }
+
+    public synchronized String summary() {
+        StringBuilder sb = new StringBuilder("startup");
+        sb.append(" jvm-to-fx=").append(originUptimeMillis).append("ms");
+        for (Map.Entry<String, Long> phase : phases.entrySet()) {
+            sb.append(' ').append(phase.getKey()).append('=').append(phase.getValue()).append("ms");
+        }
+        for (Map.Entry<String, Long> asset : new LinkedHashMap<>(assetNanos).entrySet()) {
+            sb.append(" [").append(asset.getKey()).append(' ')
+                    .append(asset.getValue() / 1_000_000).append("ms]");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Prints the summary once if asked to and appends it to the startup log if one is configured.
+     */
+    public synchronized void report() {
+        if (reported) {
+            return;
+        }
+        reported = true;
+        String line = summary();
+        if (Boolean.getBoolean(PRINT_PROPERTY)) {
+            System.out.println(line);
+        }
+
+        String log = System.getProperty(LOG_PROPERTY);
+        if (log == null) {
+            return;
+        }
+        Path path = Paths.get(log);
+        try (Writer writer = Files.newBufferedWriter(path, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            writer.write(Instant.now() + " " + version() + " " + line + System.lineSeparator());
+        } catch (IOException e) {
+            System.err.println("Failed to write startup log: " + e.getMessage());
+        }
+    }
+
+    private static String version() {
+        String version = StartupProfiler.class.getPackage().getImplementationVersion();
+        return version == null ? "dev" : version;
+    }
+}
@@ -0,0 +1,101 @@
+package com.comp2042.view;
+
+import com.comp2042.stats.StatsLog;
+import com.comp2042.stats.StatsMetric;
+import com.comp2042.stats.StatsSummary;
+import javafx.application.Platform;
+import javafx.event.ActionEvent;
+import javafx.fxml.FXML;
+import javafx.scene.control.Label;
+import javafx.scene.layout.GridPane;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.text.DateFormat;
+import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * GUI controller for the stats screen: averages, percentiles and personal bests over every
+ * game played.
+ * <p>
+ * The {@link StatsSummary} is loaded on a background thread each time the screen is shown.
+ * It comes from a cache that only needs the games played since it was last written, so
+ * the figures appear straight away however long the history is.
+ * </p>
+ */
+public class StatsController {
+
+    private static final String[] COLUMNS = {"", "Average", "Median", "90%", "Best"};
+
+    @FXML private Label summaryLabel;
+    @FXML private GridPane statsGrid;
+
+    private SceneManager sceneManager;
+
+    public void setSceneManager(SceneManager sceneManager) {
+        this.sceneManager = sceneManager;
+    }
+
+    /**
+     * Loads the summary away from the JavaFX thread and fills in the table when it is ready.
+     */
+    public void refresh(Executor executor) {
+        summaryLabel.setText("Loading...");
+        statsGrid.getChildren().clear();
+        CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return StatsSummary.load(new StatsLog(StatsLog.DEFAULT_DIR));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, executor)
+                .whenCompleteAsync((summary, e) -> {
+                    if (e != null) {
+                        summaryLabel.setText("Stats could not be read: " + e.getMessage());
+                    } else {
+                        show(summary);
+                    }
+                }, Platform::runLater);
+    }
+
+    private void show(StatsSummary summary) {
+        if (summary.getGames() == 0) {
+            summaryLabel.setText("No games finished yet");
+            return;
+        }
+        summaryLabel.setText(summary.getGames() + " games   last played "
+                + DateFormat.getDateTimeInstance(DateFormat.MEDIUM, DateFormat.SHORT)
+                .format(new Date(summary.getLastPlayedMillis())));
+        for (int col = 0; col < COLUMNS.length; col++) {
+            statsGrid.add(label(COLUMNS[col], "statsHeader"), col, 0);
+        }
+        int row = 1;
+        for (StatsMetric metric : StatsMetric.values()) {
+            if (summary.getCount(metric) == 0) {
+                continue;
+            }
+            String whole = metric.getScale() > 1 ? "%.2f" : "%.0f";
+            statsGrid.add(label(metric.getLabel(), "statsHeader"), 0, row);
+            statsGrid.add(label(String.format(metric.getScale() > 1 ? "%.2f" : "%.1f",
+                    summary.getAverage(metric)), "statsCell"), 1, row);
+            statsGrid.add(label(String.format(whole, summary.getPercentile(metric, 50)), "statsCell"), 2, row);
+            statsGrid.add(label(String.format(whole, summary.getPercentile(metric, 90)), "statsCell"), 3, row);
+            statsGrid.add(label(metric.hasBest() ? String.format(whole, summary.getBest(metric)) : "-",
+                    "statsCell"), 4, row);
+            row++;
+        }
+    }
+
+    private static Label label(String text, String styleClass) {
+        Label label = new Label(text);
+        label.getStyleClass().add(styleClass);
+        return label;
+    }
+
+    @FXML
+    public void onBack(ActionEvent event) {
+        sceneManager.showMenu();
+    }
+}
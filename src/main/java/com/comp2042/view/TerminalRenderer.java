@@ -0,0 +1,435 @@
+package com.comp2042.view;
+
+import com.comp2042.model.TetrisBoard;
+import com.comp2042.model.ViewData;
+import com.comp2042.model.bricks.BrickTypes;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Draws a game to an ANSI terminal, e.g. over SSH.
+ * <p>
+ * The screen is a grid of two-character cells: the hold preview on the left with the
+ * score under it, the bordered board in the middle and the next preview on the right.
+ * The {@link GameRenderer} calls only update the grid held in memory; {@link #flush()}
+ * then compares it with what the terminal already shows and writes just the cells that
+ * differ. A run of changed cells on one row needs a single cursor move, and a colour
+ * change is only sent when the colour actually changes, so a piece moving one column costs
+ * a few dozen bytes and an unchanged frame costs nothing. That lets the caller flush on
+ * every engine tick without flooding a slow link.
+ * </p>
+ * <p>
+ * Output is built in one byte buffer that is reused for every frame and written with a
+ * single call. Colours use the 256-colour palette. Not thread-safe: drawing and flushing
+ * must happen on one thread.
+ * </p>
+ */
+public final class TerminalRenderer implements GameRenderer {
+
+    private static final byte ESC = 0x1b;
+    // Grid columns: hold preview, gap, border, board, border, gap, next preview
+    private static final int HOLD_COL = 0;
+
+    private static final int EMPTY = 0;
+    private static final int GHOST = 16;
+    private static final int BORDER = 32;
+    // Outside every drawn area; never written
+    private static final int VOID = 255;
+    private static final int DEFAULT_COLOR = -1;
+    private static final int ANY_COLOR = -2;
+    private static final int UNKNOWN = -3;
+
+    // 256-colour palette entries for colour codes 1-15, close to the JavaFX fills
+    private static final int[] PALETTE = {0, 51, 93, 22, 226, 196, 230, 180, 242, 208, 201, 46, 21, 124, 39, 219};
+    private static final int BORDER_COLOR = 240;
+    private static final String[] STAT_LABELS = {"SCORE", "LINES", "LEVEL"};
+
+    private final OutputStream out;
+    private byte[] buffer = new byte[4096];
+    private int length;
+
+    // Preview boxes are as wide as the largest piece in use
+    private int preview;
+    private int borderLeft;
+    private int statsRow;
+    private int boardWidth;
+    private int boardHeight;
+    private int columns;
+    private int rows;
+    private int nextCol;
+    private int[] background;
+    private int[] target;
+    private int[] shown;
+
+    private GhostProbe ghostProbe;
+    private int[][] brickShape;
+    private int brickX;
+    private int brickY;
+    private int ghostY;
+
+    private final int[] stats = new int[3];
+    private final int[] shownStats = new int[3];
+    private boolean gameOver;
+    private boolean shownGameOver;
+    private boolean screenCleared;
+
+    private int cursorRow;
+    private int cursorCol;
+    private int currentBg;
+    private int currentFg;
+    private long bytesWritten;
+
+    public TerminalRenderer(OutputStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void setGhostProbe(GhostProbe ghostProbe) {
+        this.ghostProbe = ghostProbe;
+    }
+
+    @Override
+    public void initGameView(int[][] boardMatrix, ViewData brick) {
+        preview = BrickTypes.getMaxSize();
+        borderLeft = preview + 1;
+        statsRow = preview + 3;
+        boardWidth = boardMatrix[0].length;
+        boardHeight = boardMatrix.length - TetrisBoard.HIDDEN_ROWS;
+        nextCol = borderLeft + boardWidth + 3;
+        columns = nextCol + preview;
+        rows = boardHeight + 2;
+        background = new int[boardWidth * boardHeight];
+        target = new int[columns * rows];
+        shown = new int[columns * rows];
+
+        Arrays.fill(target, VOID);
+        for (int row = 0; row < rows; row++) {
+            target[row * columns + borderLeft] = BORDER;
+            target[row * columns + borderLeft + boardWidth + 1] = BORDER;
+        }
+        for (int col = borderLeft + 1; col <= borderLeft + boardWidth; col++) {
+            target[col] = BORDER;
+            target[(rows - 1) * columns + col] = BORDER;
+        }
+        clearPreview(HOLD_COL);
+        clearPreview(nextCol);
+        brickShape = null;
+        invalidate();
+    }
+
+    /**
+     * Forgets what the terminal shows, so the next flush clears the screen and redraws
+     * everything; for example after the window was resized.
+     */
+    public void invalidate() {
+        Arrays.fill(shown, -1);
+        Arrays.fill(shownStats, -1);
+        shownGameOver = false;
+        screenCleared = false;
+    }
+
+    @Override
+    public void refreshGameBackground(int[][] board) {
+        for (int row = 0; row < boardHeight; row++) {
+            System.arraycopy(board[row + TetrisBoard.HIDDEN_ROWS], 0, background, row * boardWidth, boardWidth);
+        }
+    }
+
+    @Override
+    public void updateBrickPosition(ViewData brick) {
+        brickShape = brick.getBrickData();
+        brickX = brick.getxPosition();
+        brickY = brick.getyPosition();
+        ghostY = brickY;
+        while (ghostProbe != null && ghostProbe.canMoveDown(brick, ghostY + 1)) {
+            ghostY++;
+        }
+    }
+
+    @Override
+    public void showHoldPiece(int[][] shape) {
+        showPreview(HOLD_COL, shape);
+    }
+
+    @Override
+    public void showNextPiece(int[][] shape) {
+        showPreview(nextCol, shape);
+    }
+
+    @Override
+    public void showStats(int score, int lines, int level, boolean gameOver) {
+        stats[0] = score;
+        stats[1] = lines;
+        stats[2] = level;
+        this.gameOver = gameOver;
+    }
+
+    private void clearPreview(int left) {
+        for (int row = 1; row <= preview; row++) {
+            Arrays.fill(target, row * columns + left, row * columns + left + preview, EMPTY);
+        }
+    }
+
+    private void showPreview(int left, int[][] shape) {
+        clearPreview(left);
+        if (shape == null) {
+            return;
+        }
+        int top = shape.length;
+        int bottom = -1;
+        int first = Integer.MAX_VALUE;
+        int last = -1;
+        for (int i = 0; i < shape.length; i++) {
+            for (int j = 0; j < shape[i].length; j++) {
+                if (shape[i][j] != 0) {
+                    top = Math.min(top, i);
+                    bottom = Math.max(bottom, i);
+                    first = Math.min(first, j);
+                    last = Math.max(last, j);
+                }
+            }
+        }
+        int startRow = 1 + (preview - (bottom - top + 1)) / 2;
+        int startCol = left + (preview - (last - first + 1)) / 2;
+        for (int i = top; i <= bottom; i++) {
+            for (int j = first; j <= last; j++) {
+                if (shape[i][j] != 0) {
+                    target[(startRow + i - top) * columns + startCol + j - first] = shape[i][j];
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes everything that changed since the last flush to the terminal.
+     *
+     * @return the number of bytes written; 0 if the screen was already up to date.
+     */
+    public int flush() throws IOException {
+        composeBoard();
+        length = 0;
+        if (!screenCleared) {
+            appendAscii("\u001b[0m\u001b[2J\u001b[?25l");
+            cursorRow = UNKNOWN;
+            currentBg = UNKNOWN;
+            currentFg = UNKNOWN;
+            text(0, HOLD_COL * 2, "HOLD");
+            text(0, nextCol * 2, "NEXT");
+            screenCleared = true;
+        }
+
+        for (int row = 0; row < rows; row++) {
+            int base = row * columns;
+            for (int col = 0; col < columns; col++) {
+                int cell = target[base + col];
+                if (cell == VOID || cell == shown[base + col]) {
+                    continue;
+                }
+                moveTo(row, col * 2);
+                drawCell(cell);
+                shown[base + col] = cell;
+            }
+        }
+        drawStats();
+
+        if (length > 0) {
+            out.write(buffer, 0, length);
+            out.flush();
+            bytesWritten += length;
+        }
+        return length;
+    }
+
+    /**
+     * Restores the terminal's colours and cursor and moves below the board.
+     */
+    public void restoreTerminal() throws IOException {
+        length = 0;
+        appendAscii("\u001b[0m\u001b[?25h");
+        cursorRow = UNKNOWN;
+        moveTo(rows, 0);
+        appendByte((byte) '\n');
+        out.write(buffer, 0, length);
+        out.flush();
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    private void composeBoard() {
+        for (int row = 0; row < boardHeight; row++) {
+            System.arraycopy(background, row * boardWidth, target, (row + 1) * columns + borderLeft + 1, boardWidth);
+        }
+        if (brickShape == null) {
+            return;
+        }
+        if (ghostProbe != null) {
+            overlayBrick(ghostY, GHOST);
+        }
+        overlayBrick(brickY, 0);
+    }
+
+    private void overlayBrick(int y, int offset) {
+        for (int i = 0; i < brickShape.length; i++) {
+            int row = y + i - TetrisBoard.HIDDEN_ROWS;
+            if (row < 0 || row >= boardHeight) {
+                continue;
+            }
+            for (int j = 0; j < brickShape[i].length; j++) {
+                int col = brickX + j;
+                if (brickShape[i][j] == 0 || col < 0 || col >= boardWidth) {
+                    continue;
+                }
+                int index = (row + 1) * columns + borderLeft + 1 + col;
+                // The ghost never covers settled blocks
+                if (offset == 0 || target[index] == EMPTY) {
+                    target[index] = brickShape[i][j] + offset;
+                }
+            }
+        }
+    }
+
+    private void drawCell(int cell) {
+        if (cell == BORDER) {
+            setColors(BORDER_COLOR, ANY_COLOR);
+            appendAscii("  ");
+        } else if (cell > GHOST && cell < BORDER) {
+            setColors(DEFAULT_COLOR, color(cell - GHOST));
+            appendAscii("[]");
+        } else if (cell == EMPTY) {
+            setColors(DEFAULT_COLOR, ANY_COLOR);
+            appendAscii("  ");
+        } else {
+            setColors(color(cell), ANY_COLOR);
+            appendAscii("  ");
+        }
+        cursorCol += 2;
+    }
+
+    private void drawStats() {
+        for (int i = 0; i < stats.length; i++) {
+            if (stats[i] != shownStats[i]) {
+                int row = statsRow + i * 2;
+                if (shownStats[i] < 0) {
+                    text(row, HOLD_COL * 2, STAT_LABELS[i]);
+                }
+                moveTo(row + 1, HOLD_COL * 2);
+                setColors(DEFAULT_COLOR, DEFAULT_COLOR);
+                int start = length;
+                appendInt(stats[i]);
+                padTo(start, preview * 2);
+                shownStats[i] = stats[i];
+            }
+        }
+        if (gameOver != shownGameOver) {
+            text(statsRow + stats.length * 2 + 1, HOLD_COL * 2, gameOver ? "GAME OVER" : "         ");
+            shownGameOver = gameOver;
+        }
+    }
+
+    /**
+     * Writes plain text at a terminal row and column.
+     */
+    private void text(int row, int col, String text) {
+        moveTo(row, col);
+        setColors(DEFAULT_COLOR, DEFAULT_COLOR);
+        appendAscii(text);
+        cursorCol += text.length();
+    }
+
+    private void padTo(int start, int width) {
+        int written = length - start;
+        for (int i = written; i < width; i++) {
+            appendByte((byte) ' ');
+        }
+        cursorCol += Math.max(written, width);
+    }
+
+    /**
+     * The 256-colour palette entry for a colour code.
+     */
+    static int color(int code) {
+        return code >= 1 && code < PALETTE.length ? PALETTE[code] : 15;
+    }
+
+    /**
+     * Moves the cursor unless it is already there. Rows and columns are zero-based.
+     */
+    private void moveTo(int row, int col) {
+        if (row == cursorRow && col == cursorCol) {
+            return;
+        }
+        appendByte(ESC);
+        appendByte((byte) '[');
+        appendInt(row + 1);
+        appendByte((byte) ';');
+        appendInt(col + 1);
+        appendByte((byte) 'H');
+        cursorRow = row;
+        cursorCol = col;
+    }
+
+    private void setColors(int bg, int fg) {
+        if (bg != currentBg) {
+            sgr(48, bg);
+            currentBg = bg;
+        }
+        if (fg != ANY_COLOR && fg != currentFg) {
+            sgr(38, fg);
+            currentFg = fg;
+        }
+    }
+
+    private void sgr(int kind, int color) {
+        appendByte(ESC);
+        appendByte((byte) '[');
+        if (color == DEFAULT_COLOR) {
+            // 49 and 39 select the default background and foreground
+            appendInt(kind + 1);
+        } else {
+            appendInt(kind);
+            appendAscii(";5;");
+            appendInt(color);
+        }
+        appendByte((byte) 'm');
+    }
+
+    private void appendAscii(String text) {
+        ensure(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            buffer[length++] = (byte) text.charAt(i);
+        }
+    }
+
+    private void appendInt(int value) {
+        if (value < 0) {
+            appendByte((byte) '-');
+            value = -value;
+        }
+        ensure(10);
+        int start = length;
+        do {
+            buffer[length++] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+        for (int i = start, j = length - 1; i < j; i++, j--) {
+            byte swap = buffer[i];
+            buffer[i] = buffer[j];
+            buffer[j] = swap;
+        }
+    }
+
+    private void appendByte(byte value) {
+        ensure(1);
+        buffer[length++] = value;
+    }
+
+    private void ensure(int extra) {
+        if (length + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + extra));
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.comp2042.view;
+
+import com.comp2042.bot.BeamSearchBot;
+import com.comp2042.bot.EvaluationWeights;
+import com.comp2042.model.TetrisBoard;
+import com.comp2042.model.ViewData;
+import com.comp2042.model.bricks.PieceMask;
+import com.comp2042.versus.VersusInput;
+import com.comp2042.versus.VersusMatch;
+import com.comp2042.versus.VersusPlayer;
+import javafx.animation.AnimationTimer;
+import javafx.fxml.FXML;
+import javafx.fxml.Initializable;
+import javafx.scene.control.Label;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Pane;
+import javafx.scene.shape.Rectangle;
+
+import java.net.URL;
+import java.util.ResourceBundle;
+
+/**
+ * GUI controller for player-versus-bot matches.
+ * <p>
+ * The {@link VersusMatch} runs on its own tick clock. One {@link AnimationTimer} advances
+ * it by however many ticks the elapsed frame time covers and then draws both boards in the
+ * same pass, so the two sides never drift apart on screen. Each board has its own
+ * {@link BoardRenderer}; the background grid is only restyled when a piece has locked or
+ * garbage has landed on that side. A bar beside each board shows the garbage waiting to
+ * land on it.
+ * </p>
+ * <p>
+ * The bot searches without a time budget on the JavaFX thread; at its depth a move takes a
+ * few milliseconds, well inside a frame.
+ * </p>
+ */
+public class VersusController implements Initializable {
+
+    private static final long TICK_NANOS = 1_000_000_000L / VersusMatch.TICKS_PER_SECOND;
+    // After a stall (window dragged, machine asleep) skip ahead rather than fast-forward
+    private static final int MAX_TICKS_PER_FRAME = 5;
+    private static final int BOT_DEPTH = 2;
+    private static final int BOT_TICKS_PER_PIECE = 40;
+    private static final double METER_HEIGHT = 460;
+    private static final double METER_PER_LINE = METER_HEIGHT / (TetrisBoard.BOARD_HEIGHT - TetrisBoard.HIDDEN_ROWS);
+
+    @FXML private GridPane gamePanel1;
+    @FXML private GridPane gamePanel2;
+    @FXML private Pane brickOverlay1;
+    @FXML private Pane brickOverlay2;
+    @FXML private Pane holdPane1;
+    @FXML private Pane holdPane2;
+    @FXML private Pane nextPane1;
+    @FXML private Pane nextPane2;
+    @FXML private Rectangle garbageMeter1;
+    @FXML private Rectangle garbageMeter2;
+    @FXML private Label sentLabel1;
+    @FXML private Label sentLabel2;
+    @FXML private Label statusLabel;
+
+    private final BoardRenderer[] renderers = new BoardRenderer[2];
+    private final Rectangle[] meters = new Rectangle[2];
+    private final Label[] sentLabels = new Label[2];
+    // Pieces plus garbage received when each background was last drawn
+    private final long[] drawnVersion = new long[2];
+    private final int[] drawnHold = new int[2];
+
+    private SceneManager sceneManager;
+    private BeamSearchBot bot;
+    private VersusMatch match;
+    private AnimationTimer loop;
+    private boolean viewInitialized;
+    private long lastFrame;
+    private long pendingNanos;
+
+    @Override
+    public void initialize(URL location, ResourceBundle resources) {
+        renderers[0] = new BoardRenderer(gamePanel1, brickOverlay1, holdPane1, nextPane1);
+        renderers[1] = new BoardRenderer(gamePanel2, brickOverlay2, holdPane2, nextPane2);
+        meters[0] = garbageMeter1;
+        meters[1] = garbageMeter2;
+        sentLabels[0] = sentLabel1;
+        sentLabels[1] = sentLabel2;
+        for (int i = 0; i < renderers.length; i++) {
+            int player = i;
+            renderers[i].setGhostProbe((brick, newY) -> fitsAt(player, brick, newY));
+        }
+
+        gamePanel1.setFocusTraversable(true);
+        gamePanel1.setOnKeyPressed(this::handleKeyPressed);
+        loop = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                onFrame(now);
+            }
+        };
+    }
+
+    public void setSceneManager(SceneManager sceneManager) {
+        this.sceneManager = sceneManager;
+    }
+
+    /**
+     * Starts a new match against the bot with a fresh piece sequence.
+     */
+    public void start() {
+        if (bot == null) {
+            bot = new BeamSearchBot(EvaluationWeights.DEFAULT, BOT_DEPTH, 0, 1);
+        }
+        match = new VersusMatch(System.nanoTime(), VersusMatch.DEFAULT_GARBAGE_DELAY_TICKS);
+        match.setBot(1, bot, BOT_TICKS_PER_PIECE);
+        match.start();
+        if (!viewInitialized) {
+            for (int i = 0; i < renderers.length; i++) {
+                TetrisBoard board = match.getPlayer(i).getBoard();
+                renderers[i].initGameView(board.getBoardMatrix(), board.getViewData());
+            }
+            viewInitialized = true;
+        }
+        drawnVersion[0] = -1;
+        drawnVersion[1] = -1;
+        drawnHold[0] = -1;
+        drawnHold[1] = -1;
+        statusLabel.setVisible(false);
+        lastFrame = 0;
+        pendingNanos = 0;
+        render();
+        loop.start();
+        gamePanel1.requestFocus();
+    }
+
+    private void onFrame(long now) {
+        if (lastFrame != 0) {
+            pendingNanos = Math.min(pendingNanos + now - lastFrame, MAX_TICKS_PER_FRAME * TICK_NANOS);
+        }
+        lastFrame = now;
+        while (pendingNanos >= TICK_NANOS && !match.isOver()) {
+            match.step();
+            pendingNanos -= TICK_NANOS;
+        }
+        render();
+        if (match.isOver()) {
+            loop.stop();
+            statusLabel.setText(match.getWinner() == 0 ? "YOU WIN" : "BOT WINS");
+            statusLabel.setVisible(true);
+        }
+    }
+
+    private void render() {
+        for (int i = 0; i < renderers.length; i++) {
+            VersusPlayer player = match.getPlayer(i);
+            TetrisBoard board = player.getBoard();
+            BoardRenderer renderer = renderers[i];
+
+            long version = player.getPieces() + player.getLinesReceived();
+            if (version != drawnVersion[i]) {
+                renderer.refreshGameBackground(board.getBoardMatrix());
+                sentLabels[i].setText(String.valueOf(player.getLinesSent()));
+                drawnVersion[i] = version;
+            }
+            if (board.getHoldPieceId() != drawnHold[i]) {
+                renderer.showHoldPiece(board.getHoldBrickShape());
+                drawnHold[i] = board.getHoldPieceId();
+            }
+            ViewData brick = board.getViewData();
+            renderer.updateBrickPosition(brick);
+            renderer.showNextPiece(brick.getNextBrickData());
+
+            double height = Math.min(player.getGarbage().getPendingLines() * METER_PER_LINE, METER_HEIGHT);
+            meters[i].setHeight(height);
+            meters[i].setY(METER_HEIGHT - height);
+        }
+    }
+
+    private boolean fitsAt(int player, ViewData brick, int newY) {
+        TetrisBoard board = match.getPlayer(player).getBoard();
+        return !board.getOccupancy().collides(PieceMask.byId(board.getCurrentPieceId()), board.getCurrentRotation(),
+                brick.getxPosition(), newY);
+    }
+
+    private void handleKeyPressed(KeyEvent keyEvent) {
+        KeyCode code = keyEvent.getCode();
+        if (code == KeyCode.ESCAPE) {
+            loop.stop();
+            sceneManager.showMenu();
+            keyEvent.consume();
+            return;
+        }
+        if (code == KeyCode.N) {
+            start();
+            keyEvent.consume();
+            return;
+        }
+        if (match == null || match.isOver()) {
+            return;
+        }
+        VersusInput input = switch (code) {
+            case LEFT, A -> VersusInput.LEFT;
+            case RIGHT, D -> VersusInput.RIGHT;
+            case UP, W, X -> VersusInput.ROTATE_CW;
+            case Z -> VersusInput.ROTATE_CCW;
+            case Q -> VersusInput.ROTATE_180;
+            case DOWN, S -> VersusInput.SOFT_DROP;
+            case SPACE -> VersusInput.HARD_DROP;
+            case SHIFT, C -> VersusInput.HOLD;
+            default -> null;
+        };
+        if (input != null) {
+            // Drawn with the bot's board on the next frame
+            match.input(0, input);
+            keyEvent.consume();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.comp2042.view;
+
+import java.util.Arrays;
+
+/**
+ * Decides whether a sound effect may start another voice.
+ * <p>
+ * A request is dropped if the same effect started less than the merge window ago, since two
+ * identical sounds a few milliseconds apart are heard as one stuttering sound. Otherwise it
+ * is allowed while fewer than the maximum number of voices are still playing; a voice is
+ * assumed to play for the clip's length. Times are passed in by the caller, so the class has
+ * no clock of its own. Not thread-safe; used only by the audio worker.
+ * </p>
+ */
+final class VoiceLimiter {
+
+    private static final long FREE = Long.MIN_VALUE;
+
+    private final long mergeWindowNanos;
+    private final long voiceNanos;
+    private final long[] voiceEnds;
+    private long lastStart = FREE;
+
+    /**
+     * @param maxVoices        how many copies of the effect may overlap.
+     * @param mergeWindowNanos requests closer than this to the last start are dropped.
+     * @param voiceNanos       how long one voice plays.
+     */
+    VoiceLimiter(int maxVoices, long mergeWindowNanos, long voiceNanos) {
+        this.mergeWindowNanos = mergeWindowNanos;
+        this.voiceNanos = voiceNanos;
+        this.voiceEnds = new long[maxVoices];
+        Arrays.fill(voiceEnds, FREE);
+    }
+
+    /**
+     * Claims a voice if one is free.
+     *
+     * @param now the current {@link System#nanoTime()}.
+     * @return true if the effect should be played now.
+     */
+    boolean tryStart(long now) {
+        if (lastStart != FREE && now - lastStart < mergeWindowNanos) {
+            return false;
+        }
+        for (int i = 0; i < voiceEnds.length; i++) {
+            if (voiceEnds[i] == FREE || now - voiceEnds[i] >= 0) {
+                voiceEnds[i] = now + voiceNanos;
+                lastStart = now;
+                return true;
+            }
+        }
+        return false;
+    }
+}
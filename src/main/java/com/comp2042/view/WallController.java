@@ -0,0 +1,136 @@
+package com.comp2042.view;
+
+import com.comp2042.versus.Exhibition;
+import javafx.animation.AnimationTimer;
+import javafx.fxml.FXML;
+import javafx.fxml.Initializable;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.control.Label;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.Pane;
+
+import java.net.URL;
+import java.util.ResourceBundle;
+
+/**
+ * GUI controller for the bot wall: many live bot-versus-bot games on one screen.
+ * <p>
+ * The games run in an {@link Exhibition} on worker threads; this controller only reads
+ * their snapshots. One {@link AnimationTimer} drives a single update pass per pulse that
+ * draws every board through a {@link BoardWall}, and once a second the status line shows
+ * the frame rate and how many pulses each board waits between redraws. Keys 1 to 4 switch
+ * between 16, 32, 48 and 64 boards; ESC stops the games and returns to the menu.
+ * </p>
+ */
+public class WallController implements Initializable {
+
+    private static final int DEFAULT_BOARDS = 32;
+    private static final int TICKS_PER_PIECE = 30;
+    private static final long SECOND_NANOS = 1_000_000_000L;
+
+    @FXML private Pane canvasHolder;
+    @FXML private Canvas wallCanvas;
+    @FXML private Label statusLabel;
+
+    private SceneManager sceneManager;
+    private Exhibition exhibition;
+    private BoardWall wall;
+    private AnimationTimer loop;
+    private int boardCount = DEFAULT_BOARDS;
+    private long statusStart;
+    private int statusFrames;
+
+    @Override
+    public void initialize(URL location, ResourceBundle resources) {
+        wallCanvas.widthProperty().bind(canvasHolder.widthProperty());
+        wallCanvas.heightProperty().bind(canvasHolder.heightProperty());
+        wallCanvas.widthProperty().addListener((obs, oldValue, newValue) -> relayout());
+        wallCanvas.heightProperty().addListener((obs, oldValue, newValue) -> relayout());
+
+        canvasHolder.setFocusTraversable(true);
+        canvasHolder.setOnKeyPressed(this::handleKeyPressed);
+        loop = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                onFrame(now);
+            }
+        };
+    }
+
+    public void setSceneManager(SceneManager sceneManager) {
+        this.sceneManager = sceneManager;
+    }
+
+    /**
+     * Starts a fresh set of games with the current board count.
+     */
+    public void start() {
+        stop();
+        exhibition = new Exhibition(boardCount / 2, TICKS_PER_PIECE, System.nanoTime());
+        wall = new BoardWall(wallCanvas, exhibition.getSnapshots());
+        wall.layout();
+        exhibition.start();
+        statusStart = 0;
+        statusFrames = 0;
+        statusLabel.setText(boardCount + " boards");
+        loop.start();
+        canvasHolder.requestFocus();
+    }
+
+    /**
+     * Stops drawing and stops the games' worker threads.
+     */
+    public void stop() {
+        loop.stop();
+        if (exhibition != null) {
+            exhibition.close();
+            exhibition = null;
+        }
+    }
+
+    private void relayout() {
+        if (wall != null) {
+            wall.layout();
+        }
+    }
+
+    private void onFrame(long now) {
+        wall.update(now);
+        if (statusStart == 0) {
+            statusStart = now;
+            return;
+        }
+        statusFrames++;
+        if (now - statusStart >= SECOND_NANOS) {
+            double fps = statusFrames * (double) SECOND_NANOS / (now - statusStart);
+            statusLabel.setText(String.format("%d boards   %.0f fps   redraw every %d frame%s   pass %.2f ms   [1-4] boards   [ESC] menu",
+                    wall.getBoardCount(), fps, wall.getStride(), wall.getStride() == 1 ? "" : "s",
+                    wall.getAveragePassNanos() / 1e6));
+            statusStart = now;
+            statusFrames = 0;
+        }
+    }
+
+    private void handleKeyPressed(KeyEvent keyEvent) {
+        KeyCode code = keyEvent.getCode();
+        if (code == KeyCode.ESCAPE) {
+            stop();
+            sceneManager.showMenu();
+            keyEvent.consume();
+            return;
+        }
+        int boards = switch (code) {
+            case DIGIT1, NUMPAD1 -> 16;
+            case DIGIT2, NUMPAD2 -> 32;
+            case DIGIT3, NUMPAD3 -> 48;
+            case DIGIT4, NUMPAD4 -> 64;
+            default -> 0;
+        };
+        if (boards != 0) {
+            boardCount = boards;
+            start();
+            keyEvent.consume();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.comp2042.bot;
+
+import com.comp2042.model.BitBoard;
+import com.comp2042.model.TetrisBoard;
+import com.comp2042.model.bricks.Brick;
+import com.comp2042.model.bricks.BrickGenerator;
+import com.comp2042.model.bricks.IBrick;
+import com.comp2042.model.bricks.PieceMask;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BeamSearchBotTest {
+
+    /** Deals nothing but I pieces, so holding can never change which piece is placed. */
+    private static final class OnlyIGenerator implements BrickGenerator {
+        private final Brick brick = new IBrick();
+
+        @Override
+        public Brick getBrick() {
+            return brick;
+        }
+
+        @Override
+        public Brick getNextBrick() {
+            return brick;
+        }
+
+        @Override
+        public List<Brick> getPreview(int count) {
+            List<Brick> preview = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                preview.add(brick);
+            }
+            return List.copyOf(preview);
+        }
+    }
+
+    /** Four full rows except for a well in the rightmost column. */
+    private static TetrisBoard boardWithWell() {
+        TetrisBoard board = new TetrisBoard(TetrisBoard.BOARD_HEIGHT, TetrisBoard.BOARD_WIDTH, new OnlyIGenerator());
+        board.createNewBrick();
+        int[][] matrix = board.getBoardMatrix();
+        for (int y = TetrisBoard.BOARD_HEIGHT - 4; y < TetrisBoard.BOARD_HEIGHT; y++) {
+            for (int x = 0; x < TetrisBoard.BOARD_WIDTH - 1; x++) {
+                matrix[y][x] = 1;
+            }
+        }
+        return board;
+    }
+
+    @Test
+    void findBestMove_IPieceAndFourDeepWell_TakesTheTetris() {
+        TetrisBoard board = boardWithWell();
+
+        Placement move;
+        try (BeamSearchBot bot = new BeamSearchBot(EvaluationWeights.DEFAULT, 1, 0, 1)) {
+            move = bot.findBestMove(board);
+        }
+
+        assertNotNull(move, "An empty-topped board always has a legal placement");
+        BitBoard after = BitBoard.fromMatrix(board.getBoardMatrix());
+        int lines = after.place(PieceMask.byId(move.getPieceId()), move.getRotation(), move.getX(), move.getY());
+        assertEquals(4, lines, "The bot should drop the I vertically into the well");
+        assertEquals(0, after.stackHeight(), "Clearing four rows should leave the board empty");
+        assertNotNull(move.getPath(), "The chosen move should come with an input path");
+    }
+
+    @Test
+    void findBestMove_NoBudget_IsDeterministic() {
+        try (BeamSearchBot first = new BeamSearchBot(EvaluationWeights.DEFAULT, 2, 0, 2);
+             BeamSearchBot second = new BeamSearchBot(EvaluationWeights.DEFAULT, 2, 0, 2)) {
+            Placement a = first.findBestMove(boardWithWell());
+            Placement b = second.findBestMove(boardWithWell());
+
+            assertEquals(a.getRotation(), b.getRotation());
+            assertEquals(a.getX(), b.getX());
+            assertEquals(a.getY(), b.getY());
+            assertTrue(first.getLastNodesExpanded() > 0, "The search should report the nodes it expanded");
+        }
+    }
+}
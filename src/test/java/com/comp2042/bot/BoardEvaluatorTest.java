@@ -0,0 +1,63 @@
+package com.comp2042.bot;
+
+import com.comp2042.model.BitBoard;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardEvaluatorTest {
+
+    private static final int WIDTH = 10;
+    private static final int HEIGHT = 20;
+    private static final int FULL_ROW = (1 << WIDTH) - 1;
+
+    @Test
+    void evaluate_FlatterBoard_RanksHigher() {
+        // Same number of cells: two flat rows versus a staircase
+        BitBoard flat = new BitBoard(WIDTH, HEIGHT);
+        flat.setRow(HEIGHT - 1, FULL_ROW & ~0b1);
+        flat.setRow(HEIGHT - 2, FULL_ROW & ~0b1);
+        BitBoard jagged = new BitBoard(WIDTH, HEIGHT);
+        jagged.setRow(HEIGHT - 1, FULL_ROW & ~0b1);
+        jagged.setRow(HEIGHT - 2, 0b0000011110);
+        jagged.setRow(HEIGHT - 3, 0b0000011110);
+        jagged.setRow(HEIGHT - 4, 0b0000000010);
+
+        BoardEvaluator evaluator = new BoardEvaluator(EvaluationWeights.DEFAULT);
+
+        assertTrue(evaluator.evaluate(flat) > evaluator.evaluate(jagged),
+                "A flat stack should score better than a bumpy one");
+    }
+
+    @Test
+    void evaluate_BoardWithHole_RanksLowerThanWithout() {
+        BitBoard solid = new BitBoard(WIDTH, HEIGHT);
+        solid.setRow(HEIGHT - 1, FULL_ROW & ~0b1);
+        solid.setRow(HEIGHT - 2, FULL_ROW & ~0b1);
+        BitBoard holed = new BitBoard(WIDTH, HEIGHT);
+        holed.setRow(HEIGHT - 1, FULL_ROW & ~0b10001);
+        holed.setRow(HEIGHT - 2, FULL_ROW & ~0b1);
+
+        BoardEvaluator evaluator = new BoardEvaluator(EvaluationWeights.DEFAULT);
+
+        assertTrue(evaluator.evaluate(solid) > evaluator.evaluate(holed),
+                "A covered empty cell should be penalised");
+    }
+
+    @Test
+    void evaluate_EmptyBoard_ScoresZero() {
+        BoardEvaluator evaluator = new BoardEvaluator(EvaluationWeights.DEFAULT);
+
+        assertEquals(0.0, evaluator.evaluate(new BitBoard(WIDTH, HEIGHT)), 1e-9,
+                "An empty board has no features to penalise");
+    }
+
+    @Test
+    void clearReward_MoreLines_RewardsMore() {
+        BoardEvaluator evaluator = new BoardEvaluator(EvaluationWeights.DEFAULT);
+
+        assertTrue(evaluator.clearReward(4, 1) > evaluator.clearReward(1, 1),
+                "A tetris should be worth more than a single");
+        assertEquals(0.0, evaluator.clearReward(0, 1), 1e-9);
+    }
+}
@@ -0,0 +1,69 @@
+package com.comp2042.bot;
+
+import com.comp2042.model.BitBoard;
+import com.comp2042.model.TetrisBoard;
+import com.comp2042.model.bricks.OBrick;
+import com.comp2042.model.bricks.PieceMask;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReachablePlacementGeneratorTest {
+
+    /** Board with a roof over columns 0-5, leaving a two-row cavity underneath it. */
+    private static BitBoard boardWithOverhang() {
+        BitBoard board = new BitBoard(TetrisBoard.BOARD_WIDTH, TetrisBoard.BOARD_HEIGHT);
+        board.setRow(TetrisBoard.BOARD_HEIGHT - 3, 0b0000111111);
+        return board;
+    }
+
+    @Test
+    void generate_FindsTuckUnderOverhangThatStraightDropMisses() {
+        BitBoard board = boardWithOverhang();
+        PieceMask o = PieceMask.of(new OBrick());
+        // O fills shape rows 1-2, so y = height - 3 puts it on the floor
+        int floorY = TetrisBoard.BOARD_HEIGHT - 3;
+
+        List<Placement> reachable = new ArrayList<>();
+        new ReachablePlacementGenerator().generate(board, o, false, reachable);
+        List<Placement> dropped = new ArrayList<>();
+        new DropPlacementGenerator().generate(board, o, false, dropped);
+
+        assertTrue(reachable.stream().anyMatch(p -> p.getX() == 3 && p.getY() == floorY),
+                "O piece should be able to slide left into the cavity under the roof");
+        assertFalse(dropped.stream().anyMatch(p -> p.getX() == 3 && p.getY() == floorY),
+                "A straight drop cannot reach the cavity");
+    }
+
+    @Test
+    void findPath_ReplaysToTargetUsingOnlyLegalMoves() {
+        BitBoard board = boardWithOverhang();
+        PieceMask o = PieceMask.of(new OBrick());
+        ReachablePlacementGenerator generator = new ReachablePlacementGenerator();
+        List<Placement> placements = new ArrayList<>();
+        generator.generate(board, o, false, placements);
+
+        for (Placement target : placements) {
+            BotMove[] path = generator.findPath(board, o, target.getRotation(), target.getX(), target.getY());
+            assertNotNull(path, "Every generated placement must have a path: " + target);
+
+            int x = TetrisBoard.SPAWN_X;
+            int y = TetrisBoard.SPAWN_Y;
+            for (BotMove move : path) {
+                switch (move) {
+                    case LEFT -> x--;
+                    case RIGHT -> x++;
+                    case DOWN -> y++;
+                    case ROTATE_CW, ROTATE_CCW, ROTATE_180 -> fail("O piece has a single rotation");
+                }
+                assertFalse(board.collides(o, 0, x, y), "Path passes through a filled cell: " + target);
+            }
+            assertEquals(target.getX(), x);
+            assertEquals(target.getY(), y);
+            assertTrue(board.collides(o, 0, x, y + 1), "Target must be a lock position");
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.comp2042.bot;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeightTunerTest {
+
+    private static final long SEED = 42L;
+
+    /** Rewards the first weight only, so the elite are the samples with the largest first weight. */
+    private static final WeightTuner.CandidateFitness FIRST_WEIGHT = (candidate, gameSeed) -> candidate[0];
+
+    /** Peaks at zero when the candidate equals {@link #TARGET}. */
+    private static final double[] TARGET = {-1.0, -0.5, -0.25, -0.125, 0.5};
+    private static final WeightTuner.CandidateFitness DISTANCE_TO_TARGET = (candidate, gameSeed) -> {
+        double sum = 0;
+        for (int i = 0; i < candidate.length; i++) {
+            double d = candidate[i] - TARGET[i];
+            sum += d * d;
+        }
+        return -sum;
+    };
+
+    private static Path checkpoint() throws IOException {
+        return Files.createTempDirectory("tuner").resolve("checkpoint.properties");
+    }
+
+    @Test
+    void run_FitnessRewardsOneWeight_MovesTheMeanTowardsTheElite() throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            WeightTuner tuner = new WeightTuner(checkpoint(), 16, 1, SEED, FIRST_WEIGHT, pool);
+            double start = tuner.getMean()[0];
+
+            tuner.run(3);
+
+            assertEquals(3, tuner.getGeneration());
+            assertTrue(tuner.getMean()[0] > start + 0.5,
+                    "Refitting to the elite should push the rewarded weight up, got " + tuner.getMean()[0]);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void run_SingleElite_RefitsOntoTheBestCandidateWithNoiseFloor() throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            // A population of 4 keeps exactly one elite at a 25% elite fraction
+            WeightTuner tuner = new WeightTuner(checkpoint(), 4, 2, SEED, DISTANCE_TO_TARGET, pool);
+
+            tuner.run(1);
+
+            assertArrayEquals(tuner.getBest(), tuner.getMean(), 1e-12,
+                    "With one elite the new mean should be the generation's best candidate");
+            for (double sd : tuner.getStdDev()) {
+                assertEquals(0.01, sd, 1e-12, "A single elite has no spread, so the noise floor applies");
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void run_TracksTheBestCandidateSeen() throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            WeightTuner tuner = new WeightTuner(checkpoint(), 12, 1, SEED, DISTANCE_TO_TARGET, pool);
+
+            tuner.run(1);
+            double afterOne = tuner.getBestFitness();
+            tuner.run(5);
+
+            assertEquals(DISTANCE_TO_TARGET.score(tuner.getBest(), 0), tuner.getBestFitness(), 1e-12,
+                    "The recorded best fitness should belong to the recorded best weights");
+            assertTrue(tuner.getBestFitness() >= afterOne, "The best fitness should never get worse");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void loadCheckpoint_ResumedRun_MatchesAnUninterruptedOne() throws IOException, InterruptedException, ExecutionException {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            WeightTuner straight = new WeightTuner(checkpoint(), 8, 2, SEED, DISTANCE_TO_TARGET, pool);
+            straight.run(3);
+
+            Path path = checkpoint();
+            WeightTuner first = new WeightTuner(path, 8, 2, SEED, DISTANCE_TO_TARGET, pool);
+            assertFalse(first.loadCheckpoint(), "No checkpoint exists yet");
+            first.run(1);
+            assertTrue(Files.exists(path), "Each generation should be checkpointed");
+
+            // A different constructor seed proves the seed is restored from the file
+            WeightTuner resumed = new WeightTuner(path, 8, 2, SEED + 1, DISTANCE_TO_TARGET, pool);
+            assertTrue(resumed.loadCheckpoint());
+            assertEquals(1, resumed.getGeneration());
+            assertArrayEquals(first.getMean(), resumed.getMean(), 0.0, "Vectors should survive the round trip exactly");
+            assertArrayEquals(first.getStdDev(), resumed.getStdDev(), 0.0);
+            assertArrayEquals(first.getBest(), resumed.getBest(), 0.0);
+            assertEquals(first.getBestFitness(), resumed.getBestFitness(), 0.0);
+
+            resumed.run(3);
+
+            assertArrayEquals(straight.getMean(), resumed.getMean(), 0.0);
+            assertArrayEquals(straight.getStdDev(), resumed.getStdDev(), 0.0);
+            assertArrayEquals(straight.getBest(), resumed.getBest(), 0.0);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
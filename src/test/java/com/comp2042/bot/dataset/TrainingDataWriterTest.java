@@ -0,0 +1,46 @@
+package com.comp2042.bot.dataset;
+
+import com.comp2042.model.BitBoard;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrainingDataWriterTest {
+
+    @Test
+    void writtenRecordsReadBackAcrossChunksAndFiles() throws IOException {
+        Path dir = Files.createTempDirectory("ttd");
+        BitBoard board = new BitBoard(10, 25);
+        int records = TrainingDataFormat.CHUNK_RECORDS * 2 + 17;
+
+        // Small file limit forces a roll-over after every chunk
+        try (TrainingDataWriter writer = new TrainingDataWriter(dir, "test", 10, 25, 1)) {
+            for (int i = 0; i < records; i++) {
+                board.setRow(24, i);
+                writer.append(board, i % 7 + 1, i % 8, i % 2 == 0, i % 4, i % 10 - 1, i % 23, i * 37);
+            }
+        }
+
+        int read = 0;
+        try (TrainingDataReader reader = TrainingDataReader.open(dir)) {
+            while (reader.next()) {
+                int i = read++;
+                assertEquals(i & board.getFullRowMask(), reader.getBoardRow(24), "Bottom row of record " + i);
+                assertEquals(0, reader.getBoardRow(0));
+                assertEquals(i % 7 + 1, reader.getPieceId());
+                assertEquals(i % 8, reader.getHoldId());
+                assertEquals(i % 2 == 0, reader.isHoldUsed());
+                assertEquals(i % 4, reader.getRotation());
+                assertEquals(i % 10 - 1, reader.getX(), "Negative x must survive the signed byte column");
+                assertEquals(i % 23, reader.getY());
+                assertEquals(i * 37, reader.getReward(), "Varint reward of record " + i);
+            }
+        }
+        assertEquals(records, read, "Every record should be read back exactly once");
+    }
+}
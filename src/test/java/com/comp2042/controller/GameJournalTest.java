@@ -0,0 +1,242 @@
+package com.comp2042.controller;
+
+import com.comp2042.model.DownData;
+import com.comp2042.model.GameSnapshot;
+import com.comp2042.model.LevelTable;
+import com.comp2042.model.ScoreTable;
+import com.comp2042.model.ScoringEngine;
+import com.comp2042.model.TetrisBoard;
+import com.comp2042.model.bricks.PieceSet;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Properties;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameJournalTest {
+
+    /**
+     * Plays random inputs by the same rules as {@link GameController}, journaling them as it goes.
+     */
+    private static final class Player {
+        final TetrisBoard board = new TetrisBoard(TetrisBoard.BOARD_HEIGHT, TetrisBoard.BOARD_WIDTH);
+        final ScoringEngine scoring = new ScoringEngine(ScoreTable.DEFAULT);
+        final GameJournal journal;
+        final Random random = new Random(5);
+
+        Player(GameJournal journal) {
+            this.journal = journal;
+            newGame();
+        }
+
+        void newGame() {
+            long seed = random.nextLong();
+            board.newGame(seed);
+            scoring.reset();
+            journal.startGame(seed);
+        }
+
+        void play(int steps) {
+            for (int step = 0; step < steps; step++) {
+                int action = random.nextInt(GameJournal.HOLD + 1);
+                journal.input(action);
+                DownData downData = switch (action) {
+                    case GameJournal.LEFT -> {
+                        board.moveBrickLeft();
+                        yield null;
+                    }
+                    case GameJournal.RIGHT -> {
+                        board.moveBrickRight();
+                        yield null;
+                    }
+                    case GameJournal.ROTATE_CW -> {
+                        board.rotateRightBrick();
+                        yield null;
+                    }
+                    case GameJournal.ROTATE_CCW -> {
+                        board.rotateLeftBrick();
+                        yield null;
+                    }
+                    case GameJournal.ROTATE_180 -> {
+                        board.rotate180Brick();
+                        yield null;
+                    }
+                    case GameJournal.SOFT_DROP -> {
+                        DownData d = board.stepDown(true);
+                        if (d.getClearRow() == null && !d.isGameOver()) {
+                            board.getScore().addScore(scoring.softDrop(d.getDropDistance()));
+                        }
+                        yield d;
+                    }
+                    case GameJournal.GRAVITY -> board.stepDown(false);
+                    case GameJournal.HARD_DROP -> {
+                        DownData d = board.hardDrop(true);
+                        board.getScore().addScore(scoring.hardDrop(d.getDropDistance()));
+                        yield d;
+                    }
+                    case GameJournal.AUTO_DROP -> board.hardDrop(false);
+                    // A hold that tops out ends the game without locking anything
+                    default -> board.holdCurrentBrick() ? new DownData(null, null, true) : null;
+                };
+                if (downData == null) {
+                    continue;
+                }
+                if (downData.getClearRow() != null) {
+                    int lines = downData.getClearRow().getLinesRemoved();
+                    board.getScore().addScore(scoring.lock(lines, downData.getSpin(),
+                            board.getScore().levelProperty().get()));
+                    if (lines > 0) {
+                        board.getScore().addLines(lines);
+                    }
+                    journal.lock(1, lines, board.getScore().scoreProperty().get());
+                }
+                if (downData.isGameOver()) {
+                    journal.gameOver();
+                    newGame();
+                }
+            }
+        }
+
+        byte[] state() throws IOException {
+            return bytesOf(GameSnapshot.capture(board, scoring));
+        }
+    }
+
+    private static byte[] bytesOf(GameSnapshot snapshot) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        snapshot.writeTo(new DataOutputStream(out));
+        return out.toByteArray();
+    }
+
+    private static byte[] recovered(Path path) throws IOException {
+        GameSnapshot snapshot = JournalRecovery.recover(path, ScoreTable.DEFAULT);
+        assertNotNull(snapshot, "The unfinished game should be recovered");
+        return bytesOf(snapshot);
+    }
+
+    @Test
+    void recover_AfterClose_RebuildsTheSameGame() throws IOException {
+        Path path = Files.createTempDirectory("journal").resolve("game.journal");
+        GameJournal journal = new GameJournal(path, 5, 2);
+        Player player = new Player(journal);
+        player.play(3000);
+        journal.close();
+
+        assertArrayEquals(player.state(), recovered(path), "Replaying the journal should end in the same state");
+    }
+
+    @Test
+    void recover_TornLastRecord_StopsBeforeIt() throws IOException {
+        Path path = Files.createTempDirectory("journal").resolve("game.journal");
+        GameJournal journal = new GameJournal(path, 5, 2);
+        Player player = new Player(journal);
+        player.play(500);
+        journal.close();
+
+        // A lock record cut off after two of its seven bytes
+        Files.write(path, new byte[]{GameJournal.LOCK, 3}, StandardOpenOption.APPEND);
+        assertArrayEquals(player.state(), recovered(path), "A torn record should be ignored, not fail the recovery");
+    }
+
+    @Test
+    void snapshot_CompactsJournal() throws IOException {
+        Path path = Files.createTempDirectory("journal").resolve("game.journal");
+        GameJournal journal = new GameJournal(path, 5, 2);
+        Player player = new Player(journal);
+        player.play(2000);
+        journal.snapshot(GameSnapshot.capture(player.board, player.scoring));
+        player.play(10);
+        journal.close();
+
+        int snapshotBytes = player.state().length;
+        assertTrue(Files.size(path) < GameJournal.HEADER_BYTES + 3 + snapshotBytes + 10 * 7,
+                "Only the snapshot and the inputs after it should be left, not " + Files.size(path) + " bytes");
+        assertArrayEquals(player.state(), recovered(path), "Replay should continue from the snapshot");
+    }
+
+    @Test
+    void gameOver_LeavesNothingToResume() throws IOException {
+        Path path = Files.createTempDirectory("journal").resolve("game.journal");
+        GameJournal journal = new GameJournal(path, 5, 2);
+        journal.startGame(1);
+        journal.input(GameJournal.HARD_DROP);
+        journal.gameOver();
+        journal.close();
+
+        assertFalse(Files.exists(path), "A finished game's journal should be deleted");
+        assertNull(JournalRecovery.recover(path, ScoreTable.DEFAULT));
+    }
+
+    /**
+     * Appends inputs until the ring is full and records are being dropped. The writer only
+     * wakes once a minute, so nothing is drained in the meantime.
+     */
+    private static void fillRing(GameJournal journal) {
+        while (!journal.isDropping()) {
+            journal.input(GameJournal.LEFT);
+        }
+    }
+
+    @Test
+    void gameOver_WhileDropping_LeavesNothingToResume() throws IOException {
+        Path path = Files.createTempDirectory("journal").resolve("game.journal");
+        GameJournal journal = new GameJournal(path, 60_000, 0);
+        // 17 bytes of START leave an odd number free, so one byte is left for GAME_OVER
+        journal.startGame(1);
+        fillRing(journal);
+        journal.gameOver();
+        journal.close();
+
+        assertFalse(Files.exists(path), "A game that ended while records were dropped should not be resumable");
+    }
+
+    @Test
+    void gameOver_RingFull_LeavesNothingToResume() throws IOException {
+        Path path = Files.createTempDirectory("journal").resolve("game.journal");
+        GameJournal journal = new GameJournal(path, 60_000, 0);
+        // START and LOCK take 24 bytes, so two-byte inputs fill the ring exactly
+        journal.startGame(1);
+        journal.lock(1, 0, 0);
+        fillRing(journal);
+        journal.gameOver();
+        journal.close();
+
+        assertFalse(Files.exists(path), "A game that ended with no room in the ring should not be resumable");
+    }
+
+    @Test
+    void recover_ScoreDoesNotMatch_Rejected() throws IOException {
+        Path path = Files.createTempDirectory("journal").resolve("game.journal");
+        GameJournal journal = new GameJournal(path, 5, 2);
+        journal.startGame(1);
+        journal.input(GameJournal.AUTO_DROP);
+        journal.lock(1, 0, 12345);
+        journal.close();
+
+        assertNull(JournalRecovery.recover(path, ScoreTable.DEFAULT),
+                "A journal that replays to a different score is not the same game");
+    }
+
+    @Test
+    void recover_OtherPieceSet_Rejected() throws IOException {
+        Path path = Files.createTempDirectory("journal").resolve("game.journal");
+        GameJournal journal = new GameJournal(path, 5, 2);
+        journal.startGame(1);
+        journal.input(GameJournal.LEFT);
+        journal.close();
+        Properties props = new Properties();
+        props.setProperty("pieces", "I,O,T");
+        PieceSet other = PieceSet.fromProperties(props);
+
+        assertNotNull(JournalRecovery.recover(path, ScoreTable.DEFAULT, LevelTable.DEFAULT, PieceSet.STANDARD));
+        assertNull(JournalRecovery.recover(path, ScoreTable.DEFAULT, LevelTable.DEFAULT, other),
+                "A journal dealt from another piece set must not be replayed with this one");
+    }
+}
@@ -0,0 +1,41 @@
+package com.comp2042.controller;
+
+import com.comp2042.model.LevelTable;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GravityClockTest {
+
+    private static final long FRAME = Math.round(LevelTable.FRAME_NANOS);
+
+    @Test
+    void advance_Falling_StepsOncePerInterval() {
+        GravityClock clock = new GravityClock(LevelTable.DEFAULT);
+        int rows = 0;
+        for (int frame = 0; frame < 240; frame++) {
+            rows += clock.advance(FRAME, 1, false);
+        }
+        assertEquals(10, rows, "Level 1 falls a row every 24 frames");
+    }
+
+    @Test
+    void advance_Grounded_WaitsForLockDelay() {
+        LevelTable table = new LevelTable(1, new double[]{1}, new int[]{30}, new int[]{10}, new int[]{1});
+        GravityClock clock = new GravityClock(table);
+        assertEquals(1, clock.advance(FRAME, 1, false), "1G falls a row every frame");
+        int frames = 0;
+        while (clock.advance(FRAME, 1, true) == 0) {
+            frames++;
+        }
+        assertEquals(29, frames, "The lock should come on the 30th frame on the ground");
+    }
+
+    @Test
+    void advance_TwentyG_DropsToTheStack() {
+        LevelTable table = new LevelTable(1, new double[]{20}, new int[]{30}, new int[]{10}, new int[]{1});
+        GravityClock clock = new GravityClock(table);
+        assertEquals(0, clock.advance(FRAME / 2, 1, false));
+        assertEquals(LevelTable.INSTANT_ROWS, clock.advance(FRAME / 2 + 1, 1, false));
+    }
+}
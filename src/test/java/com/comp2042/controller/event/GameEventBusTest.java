@@ -0,0 +1,107 @@
+package com.comp2042.controller.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEventBusTest {
+
+    /** Records delivered events as "TYPE:a" strings. */
+    private static final class Recorder implements GameEventSubscriber {
+        final List<String> events = new ArrayList<>();
+        int batches;
+
+        @Override
+        public void onEvent(GameEventType type, int a, int b, int c, int d) {
+            events.add(type + ":" + a);
+        }
+
+        @Override
+        public void onBatchEnd() {
+            batches++;
+        }
+    }
+
+    @Test
+    void drain_DeliversEventsInOrderToEverySubscriber() {
+        GameEventBus bus = new GameEventBus(16);
+        Recorder first = new Recorder();
+        Recorder second = new Recorder();
+        bus.subscribe(first);
+        bus.subscribe(second);
+
+        bus.publish(GameEventType.LOCK, 6);
+        bus.publish(GameEventType.LINE_CLEAR, 2, 200, 0, 0);
+        bus.drainAll();
+
+        assertEquals(List.of("LOCK:6", "LINE_CLEAR:2"), first.events);
+        assertEquals(first.events, second.events, "Each subscriber should see the same events");
+        assertEquals(1, first.batches);
+    }
+
+    @Test
+    void drain_CoalescedTypesDeliveredOncePerDrain() {
+        GameEventBus bus = new GameEventBus(16);
+        Recorder recorder = new Recorder();
+        bus.subscribe(recorder);
+
+        bus.publish(GameEventType.BOARD_CHANGED);
+        bus.publish(GameEventType.LINE_CLEAR, 1, 50, 0, 0);
+        bus.publish(GameEventType.BOARD_CHANGED);
+        bus.publish(GameEventType.GAME_OVER, 100);
+        bus.publish(GameEventType.GAME_OVER, 100);
+        bus.drainAll();
+
+        assertEquals(List.of("LINE_CLEAR:1", "BOARD_CHANGED:0", "GAME_OVER:100"), recorder.events,
+                "Only the last board change and game over should be delivered");
+    }
+
+    @Test
+    void drain_Twice_DeliversOnce() {
+        GameEventBus bus = new GameEventBus(16);
+        Recorder recorder = new Recorder();
+        bus.subscribe(recorder);
+
+        bus.publish(GameEventType.HOLD, 3);
+        bus.drainAll();
+        bus.drainAll();
+
+        assertEquals(1, recorder.events.size());
+        assertEquals(1, recorder.batches, "The second, empty drain should not end a batch");
+    }
+
+    @Test
+    void drain_SubscriberLapped_SkipsOldestAndCountsMissed() {
+        GameEventBus bus = new GameEventBus(4);
+        Recorder recorder = new Recorder();
+        GameEventBus.Subscription subscription = bus.subscribe(recorder);
+
+        for (int i = 0; i < 6; i++) {
+            bus.publish(GameEventType.LEVEL_UP, i);
+        }
+        subscription.drain();
+
+        assertEquals(List.of("LEVEL_UP:2", "LEVEL_UP:3", "LEVEL_UP:4", "LEVEL_UP:5"), recorder.events);
+        assertEquals(2, subscription.getMissed());
+    }
+
+    @Test
+    void subscribe_LateSubscriberSeesOnlyNewEvents() {
+        GameEventBus bus = new GameEventBus(16);
+        bus.publish(GameEventType.LEVEL_UP, 2);
+        Recorder recorder = new Recorder();
+        bus.subscribe(recorder);
+        bus.publish(GameEventType.LEVEL_UP, 3);
+        bus.drainAll();
+
+        assertEquals(List.of("LEVEL_UP:3"), recorder.events);
+    }
+
+    @Test
+    void constructor_NonPowerOfTwo_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> new GameEventBus(10));
+    }
+}
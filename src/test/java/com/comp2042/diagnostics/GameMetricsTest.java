@@ -0,0 +1,76 @@
+package com.comp2042.diagnostics;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameMetricsTest {
+
+    @Test
+    void recordLock_CountsClearsByType() {
+        GameMetrics metrics = new GameMetrics();
+        metrics.recordLock(0);
+        metrics.recordLock(1);
+        metrics.recordLock(4);
+        metrics.recordLock(4);
+        metrics.recordLock(5);
+
+        String text = metrics.toPrometheusText();
+
+        assertTrue(text.contains("tetris_pieces_locked_total 5\n"), "Every lock should be counted");
+        assertTrue(text.contains("tetris_lines_cleared_total{type=\"single\"} 1\n"));
+        assertTrue(text.contains("tetris_lines_cleared_total{type=\"double\"} 0\n"));
+        assertTrue(text.contains("tetris_lines_cleared_total{type=\"tetris\"} 2\n"),
+                "A five-line clear is not a tetris");
+        assertTrue(text.contains("tetris_lines_cleared_total{type=\"five_plus\"} 1\n"));
+    }
+
+    @Test
+    void recordFrame_CountsMissedFrames() {
+        GameMetrics metrics = new GameMetrics();
+        metrics.recordFrame(16_700_000);
+        metrics.recordFrame(50_000_000);
+
+        assertTrue(metrics.toPrometheusText().contains("tetris_dropped_frames_total 2\n"),
+                "A 50ms gap at 60 Hz should count two missed frames");
+    }
+
+    @Test
+    void recordTick_WritesCumulativeBuckets() {
+        GameMetrics metrics = new GameMetrics();
+        metrics.recordTick(40_000);
+        metrics.recordTick(2_000_000);
+        metrics.recordTick(500_000_000);
+
+        String text = metrics.toPrometheusText();
+
+        assertTrue(text.contains("tetris_ticks_total 3\n"));
+        assertTrue(text.contains("tetris_tick_seconds_bucket{le=\"5.0E-5\"} 1\n"));
+        assertTrue(text.contains("tetris_tick_seconds_bucket{le=\"0.0025\"} 2\n"));
+        assertTrue(text.contains("tetris_tick_seconds_bucket{le=\"+Inf\"} 3\n"));
+        assertTrue(text.contains("tetris_tick_seconds_count 3\n"));
+        assertTrue(text.contains("tetris_tick_seconds_max 0.5\n"), "Worst tick should be exported");
+    }
+
+    @Test
+    void server_ServesMetricsOnLocalhost() throws IOException {
+        GameMetrics metrics = new GameMetrics();
+        metrics.recordBotSearch(1_000, 500_000_000);
+
+        try (MetricsServer server = MetricsServer.start(0, metrics)) {
+            assertTrue(metrics.isEnabled(), "Starting the endpoint should enable recording");
+            URL url = URI.create("http://127.0.0.1:" + server.getPort() + "/metrics").toURL();
+            String body;
+            try (InputStream in = url.openStream()) {
+                body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            assertTrue(body.contains("tetris_bot_nodes_per_second 2000\n"), body);
+        }
+    }
+}
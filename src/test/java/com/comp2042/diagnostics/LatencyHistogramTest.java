@@ -0,0 +1,58 @@
+package com.comp2042.diagnostics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void indexOf_BucketBoundsContainValue() {
+        long[] values = {0, 1, 63, 64, 65, 127, 128, 1_000, 16_666_667, 1L << 40};
+        for (long value : values) {
+            int index = LatencyHistogram.indexOf(value);
+            assertTrue(LatencyHistogram.lowestValueIn(index) <= value, "Lower bound for " + value);
+            assertTrue(LatencyHistogram.highestValueIn(index) >= value, "Upper bound for " + value);
+        }
+    }
+
+    @Test
+    void indexOf_IsMonotonicAndFillsEveryBucket() {
+        int previous = -1;
+        for (int index = 0; index < LatencyHistogram.BUCKETS; index++) {
+            long low = LatencyHistogram.lowestValueIn(index);
+            assertEquals(index, LatencyHistogram.indexOf(low), "Lowest value of bucket " + index);
+            assertTrue(index > previous);
+            previous = index;
+        }
+    }
+
+    @Test
+    void getValueAtPercentile_IsWithinThreePercent() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long ms = 1; ms <= 100; ms++) {
+            histogram.record(ms * 1_000_000);
+        }
+
+        long p50 = histogram.getValueAtPercentile(50);
+        long p99 = histogram.getValueAtPercentile(99);
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(100_000_000, histogram.getMax());
+        assertEquals(50_000_000, p50, 50_000_000 * 0.03, "p50 should be about 50ms");
+        assertEquals(99_000_000, p99, 99_000_000 * 0.03, "p99 should be about 99ms");
+    }
+
+    @Test
+    void reset_ClearsEverything() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(5_000);
+        histogram.record(-1);
+
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getValueAtPercentile(99), "An empty histogram should report zero");
+    }
+}
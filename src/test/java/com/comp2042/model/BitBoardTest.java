@@ -0,0 +1,66 @@
+package com.comp2042.model;
+
+import com.comp2042.model.bricks.Brick;
+import com.comp2042.model.bricks.OBrick;
+import com.comp2042.model.bricks.PieceMask;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BitBoardTest {
+
+    @Test
+    void collides_MatchesMatrixIntersect() {
+        int[][] matrix = new int[6][4];
+        matrix[5] = new int[]{1, 1, 0, 1};
+        BitBoard board = BitBoard.fromMatrix(matrix);
+        Brick brick = new OBrick();
+        PieceMask mask = PieceMask.of(brick);
+        int[][] shape = brick.getShapeMatrix().get(0);
+
+        for (int y = -1; y < 6; y++) {
+            for (int x = -2; x < 4; x++) {
+                assertEquals(MatrixUtils.intersect(matrix, shape, x, y), board.collides(mask, 0, x, y),
+                        "Bitboard and matrix collision should agree at x=" + x + ", y=" + y);
+            }
+        }
+    }
+
+    @Test
+    void place_FullRowIsClearedAndRowsAboveFall() {
+        BitBoard board = new BitBoard(4, 6);
+        board.setRow(5, 0b0011);
+        board.setRow(4, 0b0001);
+        PieceMask mask = PieceMask.of(new OBrick());
+
+        // O occupies shape columns 1-2 and rows 1-2, so x=1 fills board columns 2-3
+        int lines = board.place(mask, 0, 1, 3);
+
+        assertEquals(1, lines, "Bottom row should be completed by the O piece");
+        assertEquals(0b1101, board.getRow(5), "Row above the cleared one should fall to the floor");
+        assertEquals(0, board.getRow(4));
+    }
+
+    @Test
+    void insertGarbage_RowsMoveUpAndHoleStaysOpen() {
+        BitBoard board = new BitBoard(4, 4);
+        board.setRow(3, 0b0110);
+
+        boolean overflow = board.insertGarbage(2, 1);
+
+        assertFalse(overflow, "Empty top rows can be pushed off without overflow");
+        assertEquals(0b0110, board.getRow(1), "The old bottom row should rise by two");
+        assertEquals(0b1101, board.getRow(2), "Garbage should leave column 1 open");
+        assertEquals(0b1101, board.getRow(3));
+        assertTrue(board.insertGarbage(3, 0), "Pushing a filled row off the top should be reported");
+    }
+
+    @Test
+    void insertGarbage_HoleOutsideTheBoard_Throws() {
+        BitBoard board = new BitBoard(4, 4);
+
+        assertThrows(IllegalArgumentException.class, () -> board.insertGarbage(1, 4),
+                "A hole past the last column would leave a full row");
+        assertThrows(IllegalArgumentException.class, () -> board.insertGarbage(1, -1));
+    }
+}
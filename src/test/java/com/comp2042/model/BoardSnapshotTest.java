@@ -0,0 +1,55 @@
+package com.comp2042.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardSnapshotTest {
+
+    @Test
+    void capture_StampsActivePieceOverVisibleRows() {
+        TetrisBoard board = new TetrisBoard(TetrisBoard.BOARD_HEIGHT, TetrisBoard.BOARD_WIDTH);
+        board.newGame();
+        board.hardDrop(true);
+        BoardSnapshot snapshot = BoardSnapshot.forStandardBoard();
+
+        snapshot.capture(board);
+        byte[] cells = new byte[snapshot.getWidth() * snapshot.getHeight()];
+        snapshot.copyTo(cells, -1);
+
+        int[][] matrix = board.getBoardMatrix();
+        int[][] shape = board.getViewData().getBrickData();
+        int x = board.getCurrentOffset().x();
+        int y = board.getCurrentOffset().y();
+        for (int row = 0; row < snapshot.getHeight(); row++) {
+            for (int col = 0; col < snapshot.getWidth(); col++) {
+                int boardRow = row + TetrisBoard.HIDDEN_ROWS;
+                int expected = matrix[boardRow][col];
+                int r = boardRow - y;
+                int c = col - x;
+                if (r >= 0 && r < shape.length && c >= 0 && c < shape[r].length && shape[r][c] != 0) {
+                    expected = shape[r][c];
+                }
+                assertEquals(expected, cells[row * snapshot.getWidth() + col], "Cell " + row + "," + col);
+            }
+        }
+    }
+
+    @Test
+    void copyTo_UnchangedVersion_LeavesTargetAlone() {
+        TetrisBoard board = new TetrisBoard(TetrisBoard.BOARD_HEIGHT, TetrisBoard.BOARD_WIDTH);
+        board.newGame();
+        BoardSnapshot snapshot = BoardSnapshot.forStandardBoard();
+        snapshot.capture(board);
+        byte[] cells = new byte[snapshot.getWidth() * snapshot.getHeight()];
+        long version = snapshot.copyTo(cells, -1);
+
+        cells[0] = 42;
+        assertEquals(version, snapshot.copyTo(cells, version));
+        assertEquals(42, cells[0], "An up-to-date copy should not be overwritten");
+
+        snapshot.capture(board);
+        assertNotEquals(version, snapshot.copyTo(cells, version), "A new capture should bump the version");
+        assertEquals(0, cells[0]);
+    }
+}
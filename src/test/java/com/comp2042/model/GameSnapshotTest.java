@@ -0,0 +1,190 @@
+package com.comp2042.model;
+
+import com.comp2042.model.bricks.Bag7BrickGenerator;
+import com.comp2042.model.bricks.PieceSet;
+import com.comp2042.model.bricks.RandomBrickGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSnapshotTest {
+
+    private static void play(TetrisBoard board, ScoringEngine scoring, Random random, int steps) {
+        for (int step = 0; step < steps; step++) {
+            switch (random.nextInt(6)) {
+                case 0 -> board.moveBrickLeft();
+                case 1 -> board.moveBrickRight();
+                case 2 -> board.rotateRightBrick();
+                case 3 -> board.holdCurrentBrick();
+                case 4 -> board.stepDown(false);
+                default -> {
+                    DownData downData = board.hardDrop(true);
+                    int lines = downData.getClearRow().getLinesRemoved();
+                    board.getScore().addScore(scoring.lock(lines, downData.getSpin(), 1));
+                    board.getScore().addLines(lines);
+                    if (downData.isGameOver()) {
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    private static byte[] bytesOf(GameSnapshot snapshot) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        snapshot.writeTo(new DataOutputStream(out));
+        return out.toByteArray();
+    }
+
+    @Test
+    void restore_SavedMidGame_ContinuesIdentically() throws IOException {
+        TetrisBoard original = new TetrisBoard(TetrisBoard.BOARD_HEIGHT, TetrisBoard.BOARD_WIDTH);
+        ScoringEngine originalScoring = new ScoringEngine();
+        original.newGame(42);
+        play(original, originalScoring, new Random(1), 120);
+
+        byte[] saved = bytesOf(GameSnapshot.capture(original, originalScoring));
+        TetrisBoard restored = new TetrisBoard(TetrisBoard.BOARD_HEIGHT, TetrisBoard.BOARD_WIDTH);
+        ScoringEngine restoredScoring = new ScoringEngine();
+        restored.newGame(7);
+        GameSnapshot.readFrom(new DataInputStream(new ByteArrayInputStream(saved))).restore(restored, restoredScoring);
+
+        assertArrayEquals(saved, bytesOf(GameSnapshot.capture(restored, restoredScoring)),
+                "A restored game should save to the same bytes");
+
+        play(original, originalScoring, new Random(2), 300);
+        play(restored, restoredScoring, new Random(2), 300);
+        assertArrayEquals(bytesOf(GameSnapshot.capture(original, originalScoring)),
+                bytesOf(GameSnapshot.capture(restored, restoredScoring)),
+                "The same inputs after a restore should give the same game, pieces included");
+    }
+
+    @Test
+    void restore_CustomPieceSet_KeepsPiecesAndColours() throws IOException {
+        Properties props = new Properties();
+        props.setProperty("pieces", "I,O,W");
+        props.setProperty("W.id", "30");
+        props.setProperty("W.color", "15");
+        props.setProperty("W.shape", "#../##./.##");
+        PieceSet set = PieceSet.fromProperties(props);
+        TetrisBoard original = new TetrisBoard(TetrisBoard.BOARD_HEIGHT, TetrisBoard.BOARD_WIDTH,
+                new Bag7BrickGenerator(set, 3));
+        ScoringEngine scoring = new ScoringEngine();
+        original.newGame(3);
+        play(original, scoring, new Random(3), 150);
+        assertTrue(Arrays.stream(original.getBoardMatrix()).flatMapToInt(Arrays::stream).anyMatch(c -> c == 15),
+                "The game should have locked a W piece");
+
+        byte[] saved = bytesOf(GameSnapshot.capture(original, scoring));
+        TetrisBoard restored = new TetrisBoard(TetrisBoard.BOARD_HEIGHT, TetrisBoard.BOARD_WIDTH,
+                new Bag7BrickGenerator(set, 0));
+        ScoringEngine restoredScoring = new ScoringEngine();
+        GameSnapshot.readFrom(new DataInputStream(new ByteArrayInputStream(saved))).restore(restored, restoredScoring);
+
+        assertArrayEquals(original.getBoardMatrix(), restored.getBoardMatrix(), "Colours above 8 should survive");
+        assertArrayEquals(saved, bytesOf(GameSnapshot.capture(restored, restoredScoring)));
+    }
+
+    @Test
+    void capture_UnseededGenerator_Throws() {
+        TetrisBoard board = new TetrisBoard(TetrisBoard.BOARD_HEIGHT, TetrisBoard.BOARD_WIDTH,
+                new RandomBrickGenerator());
+        board.newGame();
+        assertThrows(IllegalStateException.class, () -> GameSnapshot.capture(board, new ScoringEngine()));
+    }
+
+    @Test
+    void writeTo_MidGame_IsCompact() throws IOException {
+        TetrisBoard board = new TetrisBoard(TetrisBoard.BOARD_HEIGHT, TetrisBoard.BOARD_WIDTH);
+        ScoringEngine scoring = new ScoringEngine();
+        board.newGame(42);
+        play(board, scoring, new Random(1), 120);
+
+        int plain = TetrisBoard.BOARD_HEIGHT * TetrisBoard.BOARD_WIDTH;
+        int size = bytesOf(GameSnapshot.capture(board, scoring)).length;
+        assertTrue(size * 2 < plain, "A snapshot should take far less than a byte per cell, not " + size + " bytes");
+    }
+
+    @Test
+    void readFrom_OtherVersion_Throws() throws IOException {
+        TetrisBoard board = new TetrisBoard(TetrisBoard.BOARD_HEIGHT, TetrisBoard.BOARD_WIDTH);
+        board.newGame(1);
+        byte[] bytes = bytesOf(GameSnapshot.capture(board, new ScoringEngine()));
+        bytes[0] = (byte) (GameSnapshot.FORMAT_VERSION + 1);
+
+        assertThrows(IOException.class, () -> GameSnapshot.readFrom(new DataInputStream(new ByteArrayInputStream(bytes))));
+    }
+
+    @Test
+    void readFrom_UnknownPieceId_Throws() throws IOException {
+        TetrisBoard board = new TetrisBoard(TetrisBoard.BOARD_HEIGHT, TetrisBoard.BOARD_WIDTH);
+        board.newGame(1);
+        byte[] bytes = bytesOf(GameSnapshot.capture(board, new ScoringEngine()));
+        // The piece id follows the version, size, first row, packed length and packed cells
+        int pieceAt = 6 + ((bytes[4] & 0xFF) << 8 | bytes[5] & 0xFF);
+        bytes[pieceAt] = (byte) 200;
+
+        assertThrows(IOException.class, () -> GameSnapshot.readFrom(new DataInputStream(new ByteArrayInputStream(bytes))));
+
+        Path path = Files.createTempDirectory("save").resolve("savegame.dat");
+        Files.write(path, bytes);
+        assertNull(new SaveGameStore(path).load(), "A save naming an unknown piece should be ignored");
+    }
+
+    @Test
+    void restore_OtherBoardSize_ChangesNothing() throws IOException {
+        // newGame() would resize the board to the standard size, so only spawn a piece
+        TetrisBoard small = new TetrisBoard(TetrisBoard.BOARD_HEIGHT - 5, TetrisBoard.BOARD_WIDTH);
+        small.createNewBrick();
+        GameSnapshot snapshot = GameSnapshot.capture(small, new ScoringEngine());
+        TetrisBoard board = new TetrisBoard(TetrisBoard.BOARD_HEIGHT, TetrisBoard.BOARD_WIDTH);
+        ScoringEngine scoring = new ScoringEngine();
+        board.newGame(2);
+        play(board, scoring, new Random(4), 60);
+        byte[] before = bytesOf(GameSnapshot.capture(board, scoring));
+
+        assertThrows(IllegalArgumentException.class, () -> snapshot.restore(board, scoring));
+        assertArrayEquals(before, bytesOf(GameSnapshot.capture(board, scoring)),
+                "A rejected snapshot should leave the board, queue and score as they were");
+    }
+
+    @Test
+    void restore_OtherPieceSet_IsRejected() throws IOException {
+        Properties props = new Properties();
+        props.setProperty("pieces", "I,O,W");
+        props.setProperty("W.id", "30");
+        props.setProperty("W.color", "15");
+        props.setProperty("W.shape", "#../##./.##");
+        PieceSet set = PieceSet.fromProperties(props);
+        TetrisBoard custom = new TetrisBoard(TetrisBoard.BOARD_HEIGHT, TetrisBoard.BOARD_WIDTH,
+                new Bag7BrickGenerator(set, 3));
+        custom.newGame(3);
+        GameSnapshot snapshot = GameSnapshot.capture(custom, new ScoringEngine());
+        TetrisBoard standard = new TetrisBoard(TetrisBoard.BOARD_HEIGHT, TetrisBoard.BOARD_WIDTH);
+        standard.newGame(3);
+        byte[] before = bytesOf(GameSnapshot.capture(standard, new ScoringEngine()));
+
+        assertTrue(snapshot.isDealtFrom(set));
+        assertFalse(snapshot.isDealtFrom(PieceSet.STANDARD));
+        assertThrows(IllegalArgumentException.class, () -> snapshot.restore(standard, new ScoringEngine()),
+                "A game dealt from one set must not carry on with another");
+        assertArrayEquals(before, bytesOf(GameSnapshot.capture(standard, new ScoringEngine())));
+
+        Path path = Files.createTempDirectory("save").resolve("savegame.dat");
+        SaveGameStore store = new SaveGameStore(path);
+        store.save(snapshot);
+        assertNotNull(store.load(set));
+        assertNull(store.load(PieceSet.STANDARD), "A save from another piece set should not be offered");
+    }
+}
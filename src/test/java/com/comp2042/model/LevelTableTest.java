@@ -0,0 +1,83 @@
+package com.comp2042.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LevelTableTest {
+
+    @Test
+    void defaultTable_KeepsOriginalCurve() {
+        LevelTable table = LevelTable.DEFAULT;
+        for (int level = 1; level <= 12; level++) {
+            long expectedMillis = Math.max(100, 400 - (level - 1) * 50L);
+            assertEquals(expectedMillis, Math.round(table.getGravityNanos(level) / 1e6),
+                    "Gravity at level " + level);
+            assertEquals(table.getGravityNanos(level), table.getLockDelayNanos(level),
+                    "A landed piece should lock one gravity step later at level " + level);
+            assertEquals(level, table.getScoreMultiplier(level), "The multiplier should be the level");
+        }
+        assertEquals(24, table.getGravityTicks(1));
+        assertEquals(6, table.getGravityTicks(20));
+    }
+
+    @Test
+    void levelForLines_UsesLinesPerLevel() {
+        assertEquals(1, LevelTable.DEFAULT.levelForLines(0));
+        assertEquals(1, LevelTable.DEFAULT.levelForLines(9));
+        assertEquals(2, LevelTable.DEFAULT.levelForLines(10));
+        assertEquals(5, LevelTable.DEFAULT.levelForLines(45));
+
+        LevelTable table = new LevelTable(4, new double[]{1 / 60.0}, new int[]{30}, new int[]{5, 10}, new int[]{1});
+        assertEquals(2, table.levelForLines(5));
+        assertEquals(2, table.levelForLines(14));
+        assertEquals(3, table.levelForLines(15));
+        assertEquals(4, table.levelForLines(1000), "Play should stay at the top level");
+    }
+
+    @Test
+    void fromProperties_CompilesFractionalAndTwentyG() {
+        Properties props = new Properties();
+        props.setProperty("levels", "3");
+        props.setProperty("gravity", "1/64, 1.5G, 20G");
+        props.setProperty("lockDelay", "30");
+        LevelTable table = LevelTable.fromProperties(props);
+
+        assertEquals(3, table.getLevels());
+        assertEquals(64, table.getGravityTicks(1));
+        assertEquals(1, table.getRowsPerStep(1));
+        assertEquals(2, table.getRowsPerStep(2), "1.5G should fall two rows at a time");
+        assertEquals(Math.round(LevelTable.FRAME_NANOS * 4 / 3), table.getGravityNanos(2),
+                "two rows every one and a third frames");
+        assertEquals(LevelTable.INSTANT_ROWS, table.getRowsPerStep(3));
+        assertEquals(1, table.getGravityTicks(3));
+        assertEquals(30, table.getLockDelayTicks(3));
+        assertEquals(3, table.getScoreMultiplier(3), "Missing keys should keep their defaults");
+        assertEquals(table.getRowsPerStep(3), table.getRowsPerStep(50), "Levels past the table use the last one");
+    }
+
+    @Test
+    void fromProperties_BadValues_Throw() {
+        Properties props = new Properties();
+        props.setProperty("gravity", "0");
+        assertThrows(IllegalArgumentException.class, () -> LevelTable.fromProperties(props));
+        props.setProperty("gravity", "fast");
+        assertThrows(IllegalArgumentException.class, () -> LevelTable.fromProperties(props));
+        props.setProperty("gravity", "1/60");
+        props.setProperty("linesPerLevel", "0");
+        assertThrows(IllegalArgumentException.class, () -> LevelTable.fromProperties(props));
+    }
+
+    @Test
+    void fromProperties_MoreLevelsThanSpectatorsCanSee_Throws() {
+        Properties props = new Properties();
+        props.setProperty("levels", String.valueOf(LevelTable.MAX_LEVELS));
+        assertEquals(255, LevelTable.fromProperties(props).getLevels());
+
+        props.setProperty("levels", String.valueOf(LevelTable.MAX_LEVELS + 1));
+        assertThrows(IllegalArgumentException.class, () -> LevelTable.fromProperties(props),
+                "Levels above 255 would wrap in the spectator stream");
+    }
+}
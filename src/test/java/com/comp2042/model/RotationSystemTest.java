@@ -0,0 +1,102 @@
+package com.comp2042.model;
+
+import com.comp2042.model.bricks.IBrick;
+import com.comp2042.model.bricks.OBrick;
+import com.comp2042.model.bricks.PieceMask;
+import com.comp2042.model.bricks.SBrick;
+import com.comp2042.model.bricks.TBrick;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RotationSystemTest {
+
+    private final RotationSystem srs = RotationSystem.srs();
+
+    @Test
+    void rotate_OpenSpace_UsesFirstTestWithoutKick() {
+        BitBoard board = new BitBoard(10, 20);
+        PieceMask t = PieceMask.of(new TBrick());
+
+        long result = srs.rotate(board, t, 0, 3, 5, RotationSystem.CW);
+
+        assertNotEquals(RotationSystem.FAILED, result, "T should rotate freely in open space");
+        assertEquals(1, RotationSystem.rotationOf(result), "Clockwise from spawn should give state R");
+        assertEquals(0, RotationSystem.kickOf(result), "No kick should be needed");
+        assertEquals(3, RotationSystem.xOf(result));
+        assertEquals(5, RotationSystem.yOf(result));
+    }
+
+    @Test
+    void rotate_FourClockwiseTurns_ReturnToSpawn() {
+        BitBoard board = new BitBoard(10, 20);
+        PieceMask t = PieceMask.of(new TBrick());
+        int rotation = 0;
+        for (int i = 0; i < 4; i++) {
+            long result = srs.rotate(board, t, rotation, 3, 5, RotationSystem.CW);
+            rotation = RotationSystem.rotationOf(result);
+        }
+        assertEquals(0, rotation, "Four clockwise turns should return to the spawn state");
+    }
+
+    @Test
+    void rotate_CounterClockwiseAndFlip_ReachExpectedStates() {
+        BitBoard board = new BitBoard(10, 20);
+        PieceMask t = PieceMask.of(new TBrick());
+
+        assertEquals(3, RotationSystem.rotationOf(srs.rotate(board, t, 0, 3, 5, RotationSystem.CCW)),
+                "Counter-clockwise from spawn should give state L");
+        assertEquals(2, RotationSystem.rotationOf(srs.rotate(board, t, 0, 3, 5, RotationSystem.FLIP)),
+                "180 from spawn should give state 2");
+    }
+
+    @Test
+    void rotate_AgainstLeftWall_KicksRight() {
+        BitBoard board = new BitBoard(10, 20);
+        PieceMask i = PieceMask.of(new IBrick());
+        // Vertical I in state L sits in shape column 1; x=-1 puts it against the left wall
+        assertFalse(board.collides(i, 3, -1, 5), "Start position should be free");
+        assertTrue(board.collides(i, 0, -1, 5), "Unkicked rotation should leave the board");
+
+        long result = srs.rotate(board, i, 3, -1, 5, RotationSystem.CW);
+
+        assertNotEquals(RotationSystem.FAILED, result, "Rotation should succeed with a kick");
+        assertTrue(RotationSystem.kickOf(result) > 0, "A kick offset should have been used");
+        assertTrue(RotationSystem.xOf(result) >= 0, "Kick should move the piece away from the wall");
+        assertFalse(board.collides(i, RotationSystem.rotationOf(result),
+                RotationSystem.xOf(result), RotationSystem.yOf(result)), "Kicked position must be free");
+    }
+
+    @Test
+    void rotate_FullyBlocked_Fails() {
+        BitBoard board = new BitBoard(10, 20);
+        for (int y = 0; y < 20; y++) {
+            board.setRow(y, 0b1111111111);
+        }
+        PieceMask t = PieceMask.of(new TBrick());
+
+        assertEquals(RotationSystem.FAILED, srs.rotate(board, t, 0, 3, 5, RotationSystem.CW),
+                "Rotation into a full board should fail");
+    }
+
+    @Test
+    void rotate_OPiece_StaysInPlace() {
+        BitBoard board = new BitBoard(10, 20);
+        PieceMask o = PieceMask.of(new OBrick());
+
+        long result = srs.rotate(board, o, 0, 3, 5, RotationSystem.CW);
+
+        assertEquals(0, RotationSystem.rotationOf(result));
+        assertEquals(3, RotationSystem.xOf(result));
+        assertEquals(5, RotationSystem.yOf(result));
+    }
+
+    @Test
+    void canonicalRotation_SPieceStatesShareFootprint() {
+        PieceMask s = PieceMask.of(new SBrick());
+
+        assertEquals(0, s.getCanonicalRotation(2), "S state 2 covers the same cells as spawn, shifted");
+        assertEquals(1, s.getCanonicalRotation(3), "S state L covers the same cells as state R, shifted");
+        assertEquals(1, s.getCanonicalRotation(1), "State R has no earlier equivalent");
+    }
+}
@@ -0,0 +1,98 @@
+package com.comp2042.model;
+
+/**
+ * Times the scalar and SIMD {@link RowKernel}s across board widths and reports the width
+ * from which the SIMD one is faster, the crossover {@link RowKernels} switches at.
+ * <p>
+ * Each width is measured on full rows, the worst case for the full-row test, since every
+ * cell has to be read. Every kernel gets a warm-up before timing, and the best of several
+ * rounds is reported. Build the test classes with the {@code vector} profile and run it
+ * with the module enabled:
+ * </p>
+ * <pre>
+ * mvn -Pvector test-compile
+ * java --add-modules jdk.incubator.vector -cp target/classes:target/test-classes com.comp2042.model.RowKernelBenchmark
+ * </pre>
+ */
+public final class RowKernelBenchmark {
+
+    private static final int[] WIDTHS = {4, 8, 10, 12, 16, 20, 24, 32, 48, 64, 96, 128, 256};
+    private static final int ROWS = 64;
+    private static final long WARMUP_NANOS = 200_000_000L;
+    private static final long ROUND_NANOS = 50_000_000L;
+    private static final int ROUNDS = 5;
+
+    // Keeps the JIT from discarding the work being timed
+    private static volatile int sink;
+
+    private RowKernelBenchmark() {
+        // utility class
+    }
+
+    public static void main(String[] args) {
+        RowKernel vector = RowKernels.vector();
+        if (vector == null) {
+            System.out.println("Vector API not available; build with -Pvector and run with --add-modules jdk.incubator.vector");
+            return;
+        }
+        System.out.printf("%d int lanes, current crossover %d%n%n", vector.lanes(), RowKernels.getVectorMinWidth());
+        System.out.println(" width   scalar     SIMD   (ns per row)");
+
+        double[][] results = new double[WIDTHS.length][2];
+        for (int w = 0; w < WIDTHS.length; w++) {
+            int width = WIDTHS[w];
+            int[][] board = new int[ROWS][width];
+            for (int r = 0; r < ROWS; r++) {
+                for (int c = 0; c < width; c++) {
+                    board[r][c] = 1 + c % 7;
+                }
+            }
+            results[w][0] = nanosPerRow(RowKernels.SCALAR, board);
+            results[w][1] = nanosPerRow(vector, board);
+            System.out.printf("%6d %8.2f %8.2f%n", width, results[w][0], results[w][1]);
+        }
+        System.out.println();
+        System.out.println("SIMD faster from width " + crossover(results, vector.lanes()));
+    }
+
+    /**
+     * Best time per row over several rounds.
+     */
+    private static double nanosPerRow(RowKernel kernel, int[][] board) {
+        run(kernel, board, WARMUP_NANOS);
+        double best = Double.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            best = Math.min(best, run(kernel, board, ROUND_NANOS));
+        }
+        return best;
+    }
+
+    private static double run(RowKernel kernel, int[][] board, long duration) {
+        long rows = 0;
+        int hits = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            for (int r = 0; r < ROWS; r++) {
+                hits += kernel.isFull(board[r]) ? 1 : 0;
+            }
+            rows += ROWS;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < duration);
+        sink += hits;
+        return (double) elapsed / rows;
+    }
+
+    /**
+     * The narrowest width from which SIMD beats scalar at every larger width, or "never".
+     * Rows narrower than one register run the SIMD kernel's scalar tail only, so they are
+     * not counted.
+     */
+    private static String crossover(double[][] results, int lanes) {
+        int from = -1;
+        for (int w = WIDTHS.length - 1; w >= 0 && WIDTHS[w] >= lanes && results[w][1] < results[w][0]; w--) {
+            from = WIDTHS[w];
+        }
+        return from < 0 ? "never" : String.valueOf(from);
+    }
+}
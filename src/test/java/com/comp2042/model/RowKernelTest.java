@@ -0,0 +1,50 @@
+package com.comp2042.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class RowKernelTest {
+
+    private static int[] randomRow(Random random, int width, double density) {
+        int[] row = new int[width];
+        for (int c = 0; c < width; c++) {
+            row[c] = random.nextDouble() < density ? 1 + random.nextInt(8) : 0;
+        }
+        return row;
+    }
+
+    @Test
+    void vectorKernel_RandomRows_AgreesWithScalar() {
+        RowKernel vector = RowKernels.vector();
+        assumeTrue(vector != null, "Needs the vector profile: mvn -Pvector test");
+        Random random = new Random(1);
+        for (int width = 1; width <= 130; width++) {
+            for (int trial = 0; trial < 50; trial++) {
+                int[] row = randomRow(random, width, trial % 2 == 0 ? 1.0 : 0.97);
+                assertEquals(RowKernels.SCALAR.isFull(row), vector.isFull(row), "isFull at width " + width);
+            }
+        }
+    }
+
+    @Test
+    void checkRemoving_WideBoard_ClearsOnlyFullRows() {
+        Random random = new Random(3);
+        int[][] board = new int[8][48];
+        for (int r = 0; r < board.length; r++) {
+            board[r] = randomRow(random, 48, r % 3 == 0 ? 1.0 : 0.9);
+        }
+        board[0][47] = 0;
+        ClearRow result = MatrixUtils.checkRemoving(board);
+
+        assertEquals(2, result.getLinesRemoved(), "Rows 3 and 6 are full");
+        int[][] cleared = result.getNewMatrix();
+        assertArrayEquals(new int[48], cleared[0]);
+        assertArrayEquals(new int[48], cleared[1]);
+        assertArrayEquals(board[0], cleared[2], "Rows above a cleared row move down");
+        assertArrayEquals(board[7], cleared[7]);
+    }
+}
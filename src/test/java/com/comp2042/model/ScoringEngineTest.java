@@ -0,0 +1,103 @@
+package com.comp2042.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoringEngineTest {
+
+    @Test
+    void lock_PlainClears_MatchOriginalFormula() {
+        for (int lines = 1; lines <= 4; lines++) {
+            ScoringEngine engine = new ScoringEngine();
+            assertEquals(50 * lines * lines * 3, engine.lock(lines, TSpinDetector.NONE, 3),
+                    "Default table should keep 50 * lines^2 * level for " + lines + " lines");
+        }
+    }
+
+    @Test
+    void lock_ConsecutiveClears_AddComboBonus() {
+        ScoringEngine engine = new ScoringEngine();
+        assertEquals(50, engine.lock(1, TSpinDetector.NONE, 1));
+        assertEquals(50 + 50, engine.lock(1, TSpinDetector.NONE, 1), "Second clear in a row is combo 1");
+        assertEquals(50 + 100, engine.lock(1, TSpinDetector.NONE, 1), "Third clear in a row is combo 2");
+        assertEquals(0, engine.lock(0, TSpinDetector.NONE, 1));
+        assertEquals(-1, engine.getCombo(), "A lock without a clear should end the combo");
+        assertEquals(50, engine.lock(1, TSpinDetector.NONE, 1));
+    }
+
+    @Test
+    void lock_BackToBackTetris_GetsMultiplier() {
+        ScoringEngine engine = new ScoringEngine();
+        engine.lock(4, TSpinDetector.NONE, 1);
+        engine.lock(0, TSpinDetector.NONE, 1);
+        assertEquals(1200, engine.lock(4, TSpinDetector.NONE, 1), "Second Tetris should score 150%");
+        engine.lock(0, TSpinDetector.NONE, 1);
+        engine.lock(1, TSpinDetector.NONE, 1);
+        assertFalse(engine.isBackToBack(), "A plain single should break the back-to-back chain");
+    }
+
+    @Test
+    void lock_TSpinDouble_UsesSpinTable() {
+        ScoringEngine engine = new ScoringEngine();
+        assertEquals(1200 * 2, engine.lock(2, TSpinDetector.FULL, 2));
+        assertTrue(engine.isBackToBack(), "T-spin clears count towards back-to-back");
+        assertEquals(400, new ScoringEngine().lock(0, TSpinDetector.FULL, 1), "Zero-line T-spins still score");
+    }
+
+    @Test
+    void drops_ScorePerCell() {
+        ScoringEngine engine = new ScoringEngine();
+        assertEquals(3, engine.softDrop(3));
+        assertEquals(36, engine.hardDrop(18));
+    }
+
+    @Test
+    void listener_ReceivesPrimitiveEvents() {
+        ScoringEngine engine = new ScoringEngine();
+        int[] seen = new int[3];
+        engine.setListener(new ScoreListener() {
+            @Override
+            public void onLock(int lines, int spin, int combo, boolean backToBack, int points) {
+                seen[0] = lines;
+                seen[1] = spin;
+                seen[2] = points;
+            }
+        });
+        engine.lock(3, TSpinDetector.FULL, 1);
+        assertArrayEquals(new int[]{3, TSpinDetector.FULL, 1600}, seen);
+    }
+
+    @Test
+    void fromProperties_OverridesOnlyGivenKeys() {
+        Properties props = new Properties();
+        props.setProperty("clear", "0, 100, 300, 500, 800");
+        props.setProperty("hardDrop", "1");
+        ScoreTable table = ScoreTable.fromProperties(props);
+
+        assertEquals(300, table.getAward(TSpinDetector.NONE, 2));
+        assertEquals(1, table.getHardDropPerCell());
+        assertEquals(ScoreTable.DEFAULT.getAward(TSpinDetector.FULL, 1), table.getAward(TSpinDetector.FULL, 1));
+    }
+
+    @Test
+    void fromProperties_WrongLength_Throws() {
+        Properties props = new Properties();
+        props.setProperty("clear", "0,50");
+        assertThrows(IllegalArgumentException.class, () -> ScoreTable.fromProperties(props));
+    }
+
+    @Test
+    void lock_MoreThanFourLines_ScoresPastATetris() {
+        ScoringEngine engine = new ScoringEngine();
+
+        assertEquals(1150, engine.lock(5, TSpinDetector.NONE, 1),
+                "Each line past four should add the tetris-over-triple step of 350");
+        assertTrue(engine.isBackToBack(), "A clear longer than a tetris is difficult too");
+        engine.lock(0, TSpinDetector.NONE, 1);
+        assertEquals(1500 * 150 / 100 * 2, engine.lock(6, TSpinDetector.NONE, 2),
+                "Six lines after five continues the back-to-back chain");
+    }
+}
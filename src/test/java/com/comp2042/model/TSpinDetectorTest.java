@@ -0,0 +1,65 @@
+package com.comp2042.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TSpinDetectorTest {
+
+    private static final int T_ID = 6;
+
+    /**
+     * Classic T-spin double slot: the T points down into the gap at column 4,
+     * with an overhang at (3, 3).
+     */
+    private static BitBoard tSlot() {
+        BitBoard board = new BitBoard(10, 6);
+        board.setRow(5, 0b1111101111);
+        board.setRow(4, 0b1111000111);
+        board.setRow(3, 0b0000001000);
+        return board;
+    }
+
+    @Test
+    void detect_ThreeCornersWithBothFrontFilled_IsFullSpin() {
+        assertEquals(TSpinDetector.FULL, TSpinDetector.detect(tSlot(), T_ID, 2, 3, 3, true, RotationSystem.CW, 0),
+                "T pointing into a slot with three filled corners should be a full T-spin");
+    }
+
+    @Test
+    void detect_LastMoveNotRotation_IsNoSpin() {
+        assertEquals(TSpinDetector.NONE, TSpinDetector.detect(tSlot(), T_ID, 2, 3, 3, false, RotationSystem.CW, 0),
+                "Sliding into the slot should not count as a spin");
+    }
+
+    @Test
+    void detect_OtherPiece_IsNoSpin() {
+        assertEquals(TSpinDetector.NONE, TSpinDetector.detect(tSlot(), 3, 2, 3, 3, true, RotationSystem.CW, 0),
+                "Only the T piece can score T-spins");
+    }
+
+    @Test
+    void detect_OnlyOneFrontCorner_IsMiniUnlessLastKick() {
+        BitBoard board = tSlot();
+        // Pointing up, the front corners are (3, 3) and (5, 3); only (3, 3) is filled
+        assertEquals(TSpinDetector.MINI, TSpinDetector.detect(board, T_ID, 0, 3, 3, true, RotationSystem.CW, 0));
+        assertEquals(TSpinDetector.FULL, TSpinDetector.detect(board, T_ID, 0, 3, 3, true, RotationSystem.CW, 4),
+                "The last kick test upgrades a mini to a full T-spin");
+    }
+
+    @Test
+    void detect_TwoCorners_IsNoSpin() {
+        BitBoard board = new BitBoard(10, 6);
+        board.setRow(5, 0b1111101111);
+        assertEquals(TSpinDetector.NONE, TSpinDetector.detect(board, T_ID, 2, 3, 3, true, RotationSystem.CW, 0));
+    }
+
+    @Test
+    void detect_FlipOnFifthKick_StaysMini() {
+        BitBoard board = tSlot();
+        // Kick 4 is not the last of the six 180-degree tests
+        assertEquals(TSpinDetector.MINI, TSpinDetector.detect(board, T_ID, 0, 3, 3, true, RotationSystem.FLIP, 4),
+                "Only the last 90-degree kick test upgrades a mini");
+        assertEquals(TSpinDetector.MINI, TSpinDetector.detect(board, T_ID, 0, 3, 3, true, RotationSystem.FLIP, 5));
+    }
+}
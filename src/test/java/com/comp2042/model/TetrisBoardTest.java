@@ -44,4 +44,63 @@ class TetrisBoardTest {
         // At least one step should have been taken
         assertNotNull(data);
     }
+
+    @Test
+    void insertGarbage_ShiftsRowsUpAndKeepsOccupancyInSync() {
+        TetrisBoard board = new TetrisBoard(TetrisBoard.BOARD_HEIGHT, TetrisBoard.BOARD_WIDTH);
+        board.newGame();
+        board.hardDrop(false);
+        int[][] matrix = board.getBoardMatrix();
+        int[] bottom = matrix[TetrisBoard.BOARD_HEIGHT - 1];
+
+        boolean toppedOut = board.insertGarbage(2, 3);
+
+        assertFalse(toppedOut, "Two rows of garbage on a nearly empty board should not top out");
+        assertSame(bottom, board.getBoardMatrix()[TetrisBoard.BOARD_HEIGHT - 3],
+                "Existing rows should move up by reference, not be copied");
+        for (int y = TetrisBoard.BOARD_HEIGHT - 2; y < TetrisBoard.BOARD_HEIGHT; y++) {
+            for (int x = 0; x < TetrisBoard.BOARD_WIDTH; x++) {
+                assertEquals(x == 3 ? 0 : TetrisBoard.GARBAGE_COLOR, board.getBoardMatrix()[y][x],
+                        "Garbage row " + y + " should be full except the hole");
+            }
+        }
+        BitBoard expected = BitBoard.fromMatrix(board.getBoardMatrix());
+        for (int y = 0; y < TetrisBoard.BOARD_HEIGHT; y++) {
+            assertEquals(expected.getRow(y), board.getOccupancy().getRow(y), "Occupancy row " + y + " should match");
+        }
+    }
+
+    @Test
+    void insertGarbage_StackPushedOffTheTop_TopsOut() {
+        TetrisBoard board = new TetrisBoard(TetrisBoard.BOARD_HEIGHT, TetrisBoard.BOARD_WIDTH);
+        board.newGame();
+
+        assertTrue(board.insertGarbage(TetrisBoard.BOARD_HEIGHT, 0),
+                "Filling the whole board with garbage leaves no room for the active brick");
+    }
+
+    @Test
+    void fall_StopsWhereThePieceLands_AndLocksOnTheNextStep() {
+        TetrisBoard board = new TetrisBoard(TetrisBoard.BOARD_HEIGHT, TetrisBoard.BOARD_WIDTH);
+        board.newGame();
+
+        DownData landed = board.fall(LevelTable.INSTANT_ROWS);
+
+        assertNull(landed.getClearRow(), "Landing should not lock the piece");
+        assertTrue(board.isGrounded());
+        assertTrue(landed.getDropDistance() > 0);
+        assertNotNull(board.fall(LevelTable.INSTANT_ROWS).getClearRow(),
+                "A piece already on the stack should lock");
+        assertFalse(board.isGrounded(), "The next piece should spawn in the air");
+    }
+
+    @Test
+    void insertGarbage_HoleOutsideTheBoard_Throws() {
+        TetrisBoard board = new TetrisBoard(TetrisBoard.BOARD_HEIGHT, TetrisBoard.BOARD_WIDTH);
+        board.newGame();
+
+        assertThrows(IllegalArgumentException.class, () -> board.insertGarbage(1, -1));
+        assertThrows(IllegalArgumentException.class, () -> board.insertGarbage(1, TetrisBoard.BOARD_WIDTH));
+        assertEquals(0, board.getOccupancy().stackHeight(), "A rejected attack should leave the board alone");
+    }
 }
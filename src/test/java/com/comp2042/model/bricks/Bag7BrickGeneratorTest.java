@@ -0,0 +1,35 @@
+package com.comp2042.model.bricks;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Bag7BrickGeneratorTest {
+
+    @Test
+    void getPreview_ReturnsUpcomingBricksWithoutConsumingThem() {
+        Bag7BrickGenerator generator = new Bag7BrickGenerator();
+
+        List<Brick> preview = generator.getPreview(10);
+
+        assertEquals(10, preview.size());
+        assertSame(preview.get(0), generator.getNextBrick(), "Preview should start at the next brick");
+        assertSame(preview.get(0), generator.getBrick());
+        assertSame(preview.get(1), generator.getBrick());
+        assertThrows(UnsupportedOperationException.class, () -> preview.add(new OBrick()),
+                "Preview must be read-only");
+    }
+
+    @Test
+    void restore_UnknownId_LeavesTheQueueAlone() {
+        Bag7BrickGenerator generator = new Bag7BrickGenerator(5);
+        int[] queued = generator.getQueuedIds();
+        long rngState = generator.getRngState();
+
+        assertThrows(IllegalArgumentException.class, () -> generator.restore(99, new int[]{1, 2, 200}));
+        assertArrayEquals(queued, generator.getQueuedIds(), "A failed restore should not clear the queue");
+        assertEquals(rngState, generator.getRngState());
+    }
+}
@@ -0,0 +1,191 @@
+package com.comp2042.model.bricks;
+
+import com.comp2042.model.BitBoard;
+import com.comp2042.model.DownData;
+import com.comp2042.model.TetrisBoard;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PieceSetTest {
+
+    /** The standard seven plus four pentominoes, the I pentomino filling a 5x5 box. */
+    static PieceSet pentominoes() {
+        Properties props = new Properties();
+        props.setProperty("pieces", "I,J,L,O,S,T,Z,F,P,X,I5");
+        props.setProperty("F.id", "9");
+        props.setProperty("F.shape", ".##/##./.#.");
+        props.setProperty("P.id", "10");
+        props.setProperty("P.shape", "##/##/#.");
+        props.setProperty("X.id", "11");
+        props.setProperty("X.color", "13");
+        props.setProperty("X.shape", ".#./###/.#.");
+        props.setProperty("I5.id", "12");
+        props.setProperty("I5.shape", "...../#####");
+        return PieceSet.fromProperties(props);
+    }
+
+    @Test
+    void fromProperties_CustomPieces_GeneratesClockwiseRotations() {
+        PieceSet set = pentominoes();
+        Brick f = BrickTypes.byId(9);
+        List<int[][]> rotations = f.getShapeMatrix();
+
+        assertEquals(11, set.size());
+        assertEquals(5, set.getMaxSize(), "The I pentomino needs a 5x5 box");
+        assertEquals(4, rotations.size());
+        assertArrayEquals(new int[][]{{0, 9, 9}, {9, 9, 0}, {0, 9, 0}}, rotations.get(0));
+        assertArrayEquals(new int[][]{{0, 9, 0}, {9, 9, 9}, {0, 0, 9}}, rotations.get(1),
+                "R should be the spawn shape turned clockwise");
+        assertArrayEquals(new int[][]{{0, 9, 0}, {0, 9, 9}, {9, 9, 0}}, rotations.get(2));
+        assertArrayEquals(new int[][]{{9, 0, 0}, {9, 9, 9}, {0, 9, 0}}, rotations.get(3));
+        assertEquals(13, PieceMask.byId(11).getColor(), "An explicit colour should be kept");
+        assertEquals(10, PieceMask.byId(10).getColor(), "Pieces without a colour are coloured from 9 in order");
+    }
+
+    @Test
+    void fromProperties_CompilesMasksAtLoad() {
+        pentominoes();
+        PieceMask i5 = PieceMask.byId(12);
+
+        assertNotNull(i5, "Masks should be ready before the first spawn");
+        assertEquals(0b11111, i5.getRowMask(0, 1));
+        assertEquals(1, i5.getMinRow(0));
+        assertEquals(1, i5.getMaxRow(0));
+        assertEquals(0, i5.getCanonicalRotation(2), "The flat I pentomino's 180 turn fills the same cells");
+    }
+
+    @Test
+    void fromProperties_StandardLetters_UseBuiltInBricks() {
+        Properties props = new Properties();
+        props.setProperty("pieces", "T, I");
+        PieceSet set = PieceSet.fromProperties(props);
+
+        assertEquals(List.of(6, 1), set.getBricks().stream().map(Brick::getId).toList());
+        assertSame(PieceSet.STANDARD, PieceSet.fromProperties(new Properties()));
+    }
+
+    @Test
+    void fromProperties_IdTakenByAnotherShape_Throws() {
+        Properties first = new Properties();
+        first.setProperty("pieces", "A");
+        first.setProperty("A.id", "200");
+        first.setProperty("A.shape", "###/#..");
+        PieceSet.fromProperties(first);
+        PieceSet.fromProperties(first);
+
+        Properties second = new Properties();
+        second.setProperty("pieces", "B");
+        second.setProperty("B.id", "200");
+        second.setProperty("B.shape", "###/..#");
+        assertThrows(IllegalArgumentException.class, () -> PieceSet.fromProperties(second));
+    }
+
+    @Test
+    void fromProperties_InvalidPieces_Throw() {
+        Properties props = new Properties();
+        props.setProperty("pieces", "Q");
+        assertThrows(IllegalArgumentException.class, () -> PieceSet.fromProperties(props), "No shape");
+
+        props.setProperty("Q.shape", "##/##");
+        assertThrows(IllegalArgumentException.class, () -> PieceSet.fromProperties(props), "No id");
+
+        props.setProperty("Q.id", "5");
+        assertThrows(IllegalArgumentException.class, () -> PieceSet.fromProperties(props), "Standard id");
+
+        props.setProperty("Q.id", "201");
+        props.setProperty("Q.shape", "#######");
+        assertThrows(IllegalArgumentException.class, () -> PieceSet.fromProperties(props), "Wider than the spawn allows");
+    }
+
+    @Test
+    void loadOrStandard_MissingFile_ReturnsStandard() {
+        assertSame(PieceSet.STANDARD, PieceSet.loadOrStandard(Path.of("no-such-pieces.properties")));
+    }
+
+    @Test
+    void bag_CustomSet_DealsEachPieceOncePerBag() {
+        PieceSet set = pentominoes();
+        Bag7BrickGenerator generator = new Bag7BrickGenerator(set, 3);
+
+        for (int bag = 0; bag < 5; bag++) {
+            Set<Integer> dealt = new HashSet<>();
+            for (int i = 0; i < set.size(); i++) {
+                dealt.add(generator.getBrick().getId());
+            }
+            assertEquals(set.size(), dealt.size(), "Bag " + bag + " should hold every piece once");
+        }
+    }
+
+    @Test
+    void bag_StandardSet_DealsAsBefore() {
+        Bag7BrickGenerator standard = new Bag7BrickGenerator(11);
+        Bag7BrickGenerator explicit = new Bag7BrickGenerator(PieceSet.STANDARD, 11);
+        for (int i = 0; i < 50; i++) {
+            assertEquals(standard.getBrick().getId(), explicit.getBrick().getId(), "Piece " + i);
+        }
+    }
+
+    @Test
+    void game_PentominoSet_NeverOverlapsTheStack() {
+        TetrisBoard board = new TetrisBoard(TetrisBoard.BOARD_HEIGHT, TetrisBoard.BOARD_WIDTH,
+                new Bag7BrickGenerator(pentominoes(), 5));
+        board.newGame(5);
+        Random random = new Random(5);
+        Set<Integer> seen = new HashSet<>();
+        for (int step = 0; step < 20_000; step++) {
+            seen.add(board.getCurrentPieceId());
+            switch (random.nextInt(5)) {
+                case 0 -> board.moveBrickLeft();
+                case 1 -> board.moveBrickRight();
+                case 2 -> board.rotateRightBrick();
+                case 3 -> board.rotateLeftBrick();
+                default -> {
+                    DownData downData = board.hardDrop(true);
+                    if (downData.isGameOver()) {
+                        board.newGame(step);
+                    }
+                }
+            }
+            assertFalse(board.getOccupancy().collides(PieceMask.byId(board.getCurrentPieceId()),
+                    board.getCurrentRotation(), board.getCurrentOffset().x(), board.getCurrentOffset().y()),
+                    "The active piece should never overlap the stack");
+        }
+        assertTrue(seen.containsAll(List.of(9, 10, 11, 12)), "Every pentomino should have been dealt");
+    }
+
+    @Test
+    void fingerprint_DependsOnPiecesAndTheirOrder() {
+        Properties reordered = new Properties();
+        reordered.setProperty("pieces", "J,I,L,O,S,T,Z");
+
+        assertEquals(pentominoes().fingerprint(), pentominoes().fingerprint(), "The same set should hash the same");
+        assertEquals(PieceSet.STANDARD.fingerprint(), PieceSet.fromProperties(new Properties()).fingerprint());
+        assertNotEquals(PieceSet.STANDARD.fingerprint(), pentominoes().fingerprint());
+        assertNotEquals(PieceSet.STANDARD.fingerprint(), PieceSet.fromProperties(reordered).fingerprint(),
+                "Listing order changes what a seed deals, so it changes the fingerprint");
+    }
+
+    @Test
+    void place_VerticalIPentomino_ClearsFiveLines() {
+        pentominoes();
+        BitBoard board = new BitBoard(TetrisBoard.BOARD_WIDTH, TetrisBoard.BOARD_HEIGHT);
+        int wellColumn = TetrisBoard.BOARD_WIDTH - 1;
+        for (int y = TetrisBoard.BOARD_HEIGHT - 5; y < TetrisBoard.BOARD_HEIGHT; y++) {
+            board.setRow(y, (1 << wellColumn) - 1);
+        }
+
+        // Turned clockwise, the I pentomino fills column 3 of its 5x5 box
+        int lines = board.place(PieceMask.byId(12), 1, wellColumn - 3, TetrisBoard.BOARD_HEIGHT - 5);
+
+        assertEquals(5, lines, "Custom pieces taller than four rows can clear more than a tetris");
+        assertEquals(0, board.stackHeight());
+    }
+}
@@ -0,0 +1,196 @@
+package com.comp2042.server;
+
+import com.comp2042.model.DownData;
+import com.comp2042.model.TetrisBoard;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpectatorFeedTest {
+
+    /** Collects frames into one stream, the way a socket would deliver them. */
+    private static final class Recorder implements SpectatorFeed.Sink {
+        final List<ByteBuffer> frames = new ArrayList<>();
+
+        @Override
+        public void send(ByteBuffer frame) {
+            frames.add(frame);
+        }
+
+        @Override
+        public void sessionClosed() {
+        }
+
+        void replayInto(SpectatorView view) {
+            for (ByteBuffer frame : frames) {
+                assertTrue(view.apply(frame.duplicate()), "Each frame should be complete");
+            }
+            frames.clear();
+        }
+    }
+
+    private static DownData randomStep(TetrisBoard board, Random random) {
+        switch (random.nextInt(8)) {
+            case 0 -> board.moveBrickLeft();
+            case 1 -> board.moveBrickRight();
+            case 2 -> board.rotateRightBrick();
+            case 3 -> board.rotateLeftBrick();
+            case 4 -> board.holdCurrentBrick();
+            case 5 -> {
+                return board.hardDrop(true);
+            }
+            default -> {
+                return board.stepDown(true);
+            }
+        }
+        return null;
+    }
+
+    private static void assertSameGame(TetrisBoard board, SpectatorView view, int step) {
+        assertArrayEquals(board.getBoardMatrix(), view.getCells(), "Board differs at step " + step);
+        assertEquals(board.getCurrentPieceId(), view.getPiece(), "Piece differs at step " + step);
+        assertEquals(board.getCurrentOffset().x(), view.getX(), "x differs at step " + step);
+        assertEquals(board.getCurrentOffset().y(), view.getY(), "y differs at step " + step);
+        assertEquals(board.getCurrentRotation(), view.getRotation(), "Rotation differs at step " + step);
+        assertEquals(board.getHoldPieceId(), view.getHold(), "Hold differs at step " + step);
+        assertEquals(board.getScore().scoreProperty().get(), view.getScore(), "Score differs at step " + step);
+    }
+
+    @Test
+    void publish_RandomGame_SpectatorStaysInSync() {
+        TetrisBoard board = new TetrisBoard(TetrisBoard.BOARD_HEIGHT, TetrisBoard.BOARD_WIDTH);
+        board.newGame();
+        SpectatorFeed feed = new SpectatorFeed(1000);
+        Recorder recorder = new Recorder();
+        SpectatorView view = new SpectatorView();
+        feed.subscribe(recorder, board, false);
+        Random random = new Random(42);
+
+        int locks = 0;
+        for (int step = 0; step < 3000; step++) {
+            DownData data = randomStep(board, random);
+            boolean gameOver = data != null && data.isGameOver();
+            if (data != null && data.getClearRow() != null) {
+                locks++;
+            }
+            feed.publish(board, data, gameOver);
+            recorder.replayInto(view);
+            assertSameGame(board, view, step);
+            if (gameOver) {
+                assertTrue(view.isGameOver(), "Game over should be streamed");
+                board.newGame();
+                feed.restart();
+                feed.publish(board, null, false);
+                recorder.replayInto(view);
+            }
+        }
+        assertTrue(locks > 100, "The random game should lock plenty of pieces");
+    }
+
+    @Test
+    void publish_PlainMove_CostsSevenBytes() {
+        TetrisBoard board = new TetrisBoard(TetrisBoard.BOARD_HEIGHT, TetrisBoard.BOARD_WIDTH);
+        board.newGame();
+        SpectatorFeed feed = new SpectatorFeed(SpectatorFeed.DEFAULT_KEYFRAME_INTERVAL);
+        Recorder recorder = new Recorder();
+        feed.subscribe(recorder, board, false);
+        recorder.frames.clear();
+
+        assertTrue(board.moveBrickLeft());
+        feed.publish(board, null, false);
+
+        assertEquals(1, recorder.frames.size(), "One move should be one frame");
+        assertEquals(7, recorder.frames.get(0).remaining(), "Length prefix plus a 5-byte MOVE");
+    }
+
+    @Test
+    void publish_NoSpectators_EncodesNothing() {
+        TetrisBoard board = new TetrisBoard(TetrisBoard.BOARD_HEIGHT, TetrisBoard.BOARD_WIDTH);
+        board.newGame();
+        SpectatorFeed feed = new SpectatorFeed(SpectatorFeed.DEFAULT_KEYFRAME_INTERVAL);
+
+        board.moveBrickRight();
+        feed.publish(board, board.hardDrop(true), false);
+
+        assertEquals(0, feed.getBytesEncoded());
+    }
+
+    @Test
+    void subscribe_LateJoiner_CatchesUpFromLastKeyframe() {
+        TetrisBoard board = new TetrisBoard(TetrisBoard.BOARD_HEIGHT, TetrisBoard.BOARD_WIDTH);
+        board.newGame();
+        SpectatorFeed feed = new SpectatorFeed(4);
+        Recorder early = new Recorder();
+        feed.subscribe(early, board, false);
+        Random random = new Random(7);
+        boolean gameOver = false;
+        for (int step = 0; step < 200 && !gameOver; step++) {
+            DownData data = randomStep(board, random);
+            gameOver = data != null && data.isGameOver();
+            feed.publish(board, data, gameOver);
+        }
+
+        Recorder late = new Recorder();
+        feed.subscribe(late, board, gameOver);
+        SpectatorView view = new SpectatorView();
+        assertEquals(SpectatorProtocol.KEYFRAME, late.frames.get(0).get(SpectatorProtocol.HEADER_BYTES),
+                "The replay should start with a keyframe");
+        late.replayInto(view);
+
+        assertSameGame(board, view, 200);
+    }
+
+    @Test
+    void spectatorServer_StreamsSessionOverSocket() throws IOException {
+        try (GameServer server = GameServer.start(0, 0);
+             Socket player = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            BufferedReader in = new BufferedReader(new InputStreamReader(player.getInputStream(), StandardCharsets.US_ASCII));
+            OutputStream out = player.getOutputStream();
+            long sessionId = Long.parseLong(in.readLine().substring("HELLO ".length()));
+
+            try (SocketChannel spectator = SocketChannel.open(
+                    new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getSpectatorPort()))) {
+                spectator.write(ByteBuffer.allocate(Long.BYTES).putLong(0, sessionId));
+                SpectatorView view = new SpectatorView();
+                ByteBuffer buffer = ByteBuffer.allocate(4096);
+                readFrames(spectator, buffer, view, 1);
+                assertTrue(view.isSynced(), "A new spectator should get a keyframe first");
+
+                out.write("DROP\n".getBytes(StandardCharsets.US_ASCII));
+                out.flush();
+                String[] state = in.readLine().split(" ");
+                long before = view.getFrames();
+                while (view.getScore() != Integer.parseInt(state[1])) {
+                    readFrames(spectator, buffer, view, before + 1);
+                    before = view.getFrames();
+                }
+                assertEquals(Integer.parseInt(state[4]), view.getPiece(), "Spectator should see the next piece");
+            }
+        }
+    }
+
+    private static void readFrames(SocketChannel channel, ByteBuffer buffer, SpectatorView view, long until) throws IOException {
+        while (view.getFrames() < until) {
+            assertTrue(channel.read(buffer) >= 0, "Stream ended early");
+            buffer.flip();
+            while (view.apply(buffer)) {
+                // keep applying complete frames
+            }
+            buffer.compact();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.comp2042.server;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimerWheelTest {
+
+    @Test
+    void schedule_RunsTasksInDeadlineOrder() throws InterruptedException {
+        List<Integer> order = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(3);
+        try (TimerWheel wheel = new TimerWheel(1, TimeUnit.MILLISECONDS)) {
+            wheel.schedule(() -> { order.add(3); done.countDown(); }, 60, TimeUnit.MILLISECONDS);
+            wheel.schedule(() -> { order.add(1); done.countDown(); }, 5, TimeUnit.MILLISECONDS);
+            wheel.schedule(() -> { order.add(2); done.countDown(); }, 30, TimeUnit.MILLISECONDS);
+
+            assertTrue(done.await(2, TimeUnit.SECONDS), "Every task should run");
+        }
+        assertEquals(List.of(1, 2, 3), order);
+    }
+
+    @Test
+    void schedule_DelayBeyondFirstLevel_CascadesAndRunsOnTime() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        long[] ranAfter = new long[1];
+        try (TimerWheel wheel = new TimerWheel(1, TimeUnit.MILLISECONDS)) {
+            long start = System.nanoTime();
+            // 300 ticks is past the 256 slots of the first level
+            wheel.schedule(() -> {
+                ranAfter[0] = System.nanoTime() - start;
+                done.countDown();
+            }, 300, TimeUnit.MILLISECONDS);
+
+            assertTrue(done.await(2, TimeUnit.SECONDS), "Task on a higher level should still run");
+        }
+        long millis = TimeUnit.NANOSECONDS.toMillis(ranAfter[0]);
+        assertTrue(millis >= 299, "Should not run early, ran after " + millis + "ms");
+    }
+
+    @Test
+    void cancel_PreventsTaskFromRunning() throws InterruptedException {
+        AtomicBoolean ran = new AtomicBoolean();
+        CountDownLatch later = new CountDownLatch(1);
+        try (TimerWheel wheel = new TimerWheel(1, TimeUnit.MILLISECONDS)) {
+            TimerWheel.Timeout timeout = wheel.schedule(() -> ran.set(true), 10, TimeUnit.MILLISECONDS);
+            timeout.cancel();
+            wheel.schedule(later::countDown, 40, TimeUnit.MILLISECONDS);
+
+            assertTrue(later.await(2, TimeUnit.SECONDS));
+        }
+        assertFalse(ran.get(), "A cancelled task should never run");
+    }
+}
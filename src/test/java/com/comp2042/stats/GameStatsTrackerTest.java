@@ -0,0 +1,38 @@
+package com.comp2042.stats;
+
+import com.comp2042.model.TSpinDetector;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameStatsTrackerTest {
+
+    @Test
+    void onLock_MoreThanFourLines_CountsEveryLine() throws IOException {
+        GameStatsTracker tracker = new GameStatsTracker();
+        tracker.start(0);
+        tracker.onLock(1, TSpinDetector.NONE, 3);
+        tracker.onLock(4, TSpinDetector.NONE, 6);
+        tracker.onLock(5, TSpinDetector.NONE, 7);
+        tracker.onLock(0, TSpinDetector.NONE, 2);
+
+        GameRecord record = tracker.finish(1000, 2, 1_000_000_000L, 0);
+
+        assertEquals(4, record.getPieces());
+        assertEquals(1, record.getSingles());
+        assertEquals(1, record.getQuads(), "A five-line clear is not a quad");
+        assertEquals(5, record.getLongClearLines());
+        assertEquals(10, record.getLines(), "Lines should include the five-line clear");
+
+        StatsLog log = new StatsLog(Files.createTempDirectory("stats"), 10);
+        log.append(record);
+        List<GameRecord> read = new ArrayList<>();
+        log.scan(0, read::add);
+        assertEquals(10, read.get(0).getLines(), "Long clear lines should survive the stats log");
+    }
+}
@@ -0,0 +1,61 @@
+package com.comp2042.stats;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatsLogTest {
+
+    static GameRecord game(int i) {
+        return new GameRecord(1_700_000_000_000L + i, 60_000 + i, i * 100, 50 + i, i % 5,
+                i % 7, i % 4, i % 3, i % 2, i % 3, 1 + i / 10, 5 + i % 15);
+    }
+
+    @Test
+    void scan_AcrossSegments_VisitsEveryRecordInOrder() throws IOException {
+        StatsLog log = new StatsLog(Files.createTempDirectory("stats"), 10);
+        for (int i = 0; i < 35; i++) {
+            log.append(game(i));
+        }
+        assertEquals(35, log.count());
+
+        List<GameRecord> read = new ArrayList<>();
+        assertEquals(35, log.scan(0, read::add), "Scan should return the index after the last record");
+        assertEquals(35, read.size());
+        for (int i = 0; i < read.size(); i++) {
+            GameRecord record = read.get(i);
+            assertEquals(i * 100, record.getScore(), "Score of game " + i);
+            assertEquals(50 + i, record.getPieces());
+            assertEquals(game(i).getLines(), record.getLines());
+            assertEquals(5 + i % 15, record.getMaxHeight());
+        }
+
+        List<GameRecord> tail = new ArrayList<>();
+        log.scan(27, tail::add);
+        assertEquals(8, tail.size(), "Scanning from the middle of a segment should visit only the rest");
+        assertEquals(2700, tail.get(0).getScore());
+    }
+
+    @Test
+    void append_AfterTornRecord_OverwritesIt() throws IOException {
+        Path dir = Files.createTempDirectory("stats");
+        StatsLog log = new StatsLog(dir, 10);
+        log.append(game(1));
+        log.append(game(2));
+        Files.write(dir.resolve("games-000000.bin"), new byte[GameRecord.BYTES / 2], StandardOpenOption.APPEND);
+        assertEquals(2, log.count(), "A half-written record is not counted");
+
+        log.append(game(3));
+        List<GameRecord> read = new ArrayList<>();
+        log.scan(0, read::add);
+        assertEquals(3, read.size());
+        assertEquals(300, read.get(2).getScore(), "The next game should replace the torn record");
+    }
+}
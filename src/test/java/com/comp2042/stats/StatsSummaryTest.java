@@ -0,0 +1,93 @@
+package com.comp2042.stats;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatsSummaryTest {
+
+    @Test
+    void load_GamesAddedSinceCache_MatchesFullScan() throws IOException {
+        Path dir = Files.createTempDirectory("stats");
+        StatsLog log = new StatsLog(dir, 16);
+        for (int i = 0; i < 50; i++) {
+            log.append(StatsLogTest.game(i));
+        }
+        assertEquals(50, StatsSummary.load(log).getGames());
+        assertTrue(Files.exists(dir.resolve(StatsSummary.CACHE_FILE)), "Loading should leave a cache behind");
+
+        for (int i = 50; i < 60; i++) {
+            log.append(StatsLogTest.game(i));
+        }
+        StatsSummary incremental = StatsSummary.load(log);
+        StatsSummary full = new StatsSummary();
+        log.scan(0, full::add);
+
+        assertEquals(60, incremental.getRecordsCovered());
+        for (StatsMetric metric : StatsMetric.values()) {
+            assertEquals(full.getCount(metric), incremental.getCount(metric), metric + " count");
+            assertEquals(full.getAverage(metric), incremental.getAverage(metric), 1e-9, metric + " average");
+            assertEquals(full.getPercentile(metric, 90), incremental.getPercentile(metric, 90), 1e-9,
+                    metric + " 90th percentile");
+            assertEquals(full.getBest(metric), incremental.getBest(metric), 1e-9, metric + " best");
+        }
+    }
+
+    @Test
+    void load_CacheAheadOfLog_Rebuilds() throws IOException {
+        Path dir = Files.createTempDirectory("stats");
+        StatsLog log = new StatsLog(dir, 16);
+        for (int i = 0; i < 20; i++) {
+            log.append(StatsLogTest.game(i));
+        }
+        StatsSummary.load(log);
+        for (Path segment : Files.newDirectoryStream(dir, "games-*.bin")) {
+            Files.delete(segment);
+        }
+        log.append(StatsLogTest.game(99));
+
+        StatsSummary summary = StatsSummary.load(log);
+        assertEquals(1, summary.getGames(), "A cache covering games the log no longer has should be dropped");
+        assertEquals(9900.0, summary.getBest(StatsMetric.SCORE));
+    }
+
+    @Test
+    void getPercentile_ManyGames_WithinBucketPrecision() {
+        StatsSummary summary = new StatsSummary();
+        for (int score = 1; score <= 10_000; score++) {
+            summary.add(new GameRecord(0, 120_000, score, 10, 0, 0, 0, 0, 0, 0, 1, 0));
+        }
+        assertEquals(5000, summary.getPercentile(StatsMetric.SCORE, 50), 5000 * 0.07);
+        assertEquals(9000, summary.getPercentile(StatsMetric.SCORE, 90), 9000 * 0.07);
+        assertEquals(10_000.0, summary.getBest(StatsMetric.SCORE));
+        assertEquals(5000.5, summary.getAverage(StatsMetric.SCORE), 1e-9);
+        assertEquals(0, summary.getCount(StatsMetric.PIECES_PER_SECOND),
+                "Games too short to measure speed should not count towards it");
+    }
+
+    @Test
+    void finish_PausedTime_NotCounted() {
+        GameStatsTracker tracker = new GameStatsTracker();
+        long second = 1_000_000_000L;
+        tracker.start(0);
+        tracker.onLock(4, 0, 6);
+        tracker.onLock(2, 2, 9);
+        tracker.onHold();
+        tracker.pause(10 * second);
+        tracker.unpause(70 * second);
+        GameRecord record = tracker.finish(1200, 2, 100 * second, 1234L);
+
+        assertEquals(40_000, record.getDurationMillis(), "A minute paused should not count as played");
+        assertEquals(2, record.getPieces());
+        assertEquals(6, record.getLines());
+        assertEquals(1, record.getQuads());
+        assertEquals(1, record.getTSpins());
+        assertEquals(1, record.getHolds());
+        assertEquals(9, record.getMaxHeight());
+        assertSame(record, tracker.getLastGame());
+    }
+}
@@ -0,0 +1,44 @@
+package com.comp2042.versus;
+
+import com.comp2042.model.TSpinDetector;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AttackTableTest {
+
+    @Test
+    void linesToSend_PlainClears_SendGuidelineValues() {
+        assertEquals(0, AttackTable.linesToSend(1, TSpinDetector.NONE, false, 0, false));
+        assertEquals(1, AttackTable.linesToSend(2, TSpinDetector.NONE, false, 0, false));
+        assertEquals(2, AttackTable.linesToSend(3, TSpinDetector.NONE, false, 0, false));
+        assertEquals(4, AttackTable.linesToSend(4, TSpinDetector.NONE, false, 0, false));
+    }
+
+    @Test
+    void linesToSend_TSpins_SendTwiceTheirLines() {
+        assertEquals(2, AttackTable.linesToSend(1, TSpinDetector.FULL, false, 0, false));
+        assertEquals(4, AttackTable.linesToSend(2, TSpinDetector.FULL, false, 0, false));
+        assertEquals(6, AttackTable.linesToSend(3, TSpinDetector.FULL, false, 0, false));
+    }
+
+    @Test
+    void linesToSend_TSpinMinis_SendOneLineFewerThanCleared() {
+        assertEquals(0, AttackTable.linesToSend(1, TSpinDetector.MINI, false, 0, false), "A mini single sends nothing");
+        assertEquals(1, AttackTable.linesToSend(2, TSpinDetector.MINI, false, 0, false), "A mini double sends one line");
+        assertEquals(2, AttackTable.linesToSend(2, TSpinDetector.MINI, true, 0, false),
+                "Back-to-back adds one line to a mini");
+    }
+
+    @Test
+    void linesToSend_NoLines_SendsNothing() {
+        assertEquals(0, AttackTable.linesToSend(0, TSpinDetector.FULL, true, 3, true));
+    }
+
+    @Test
+    void linesToSend_MoreThanFourLines_SendOnePerRow() {
+        assertEquals(5, AttackTable.linesToSend(5, TSpinDetector.NONE, false, 0, false),
+                "A five-line clear should send more than a tetris");
+        assertEquals(8, AttackTable.linesToSend(7, TSpinDetector.NONE, true, 0, false));
+    }
+}
@@ -0,0 +1,48 @@
+package com.comp2042.versus;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GarbageQueueTest {
+
+    @Test
+    void cancel_RemovesOldestFirstAndReturnsTheRest() {
+        GarbageQueue queue = new GarbageQueue();
+        queue.add(2, 0, 10);
+        queue.add(3, 5, 20);
+
+        int leftOver = queue.cancel(4);
+
+        assertEquals(0, leftOver, "Four lines should be absorbed by five pending");
+        assertEquals(1, queue.getPendingLines());
+        assertEquals(5, queue.peekHole(), "The older attack should be cancelled first");
+        assertEquals(3, queue.cancel(4), "Only one line was left to cancel");
+        assertEquals(0, queue.getPendingLines());
+    }
+
+    @Test
+    void isReady_WaitsForTheDelay() {
+        GarbageQueue queue = new GarbageQueue();
+        queue.add(1, 2, 30);
+
+        assertFalse(queue.isReady(29), "Garbage should not land before its delay");
+        assertTrue(queue.isReady(30));
+    }
+
+    @Test
+    void add_BeyondInitialCapacity_KeepsArrivalOrder() {
+        GarbageQueue queue = new GarbageQueue();
+        queue.add(1, 0, 0);
+        queue.consume(1);
+        for (int i = 0; i < 40; i++) {
+            queue.add(1, i % 10, i);
+        }
+
+        for (int i = 0; i < 40; i++) {
+            assertEquals(i % 10, queue.peekHole(), "Entry " + i + " should come out in order");
+            queue.consume(1);
+        }
+        assertEquals(0, queue.getPendingLines());
+    }
+}
@@ -0,0 +1,100 @@
+package com.comp2042.versus;
+
+import com.comp2042.bot.BeamSearchBot;
+import com.comp2042.bot.EvaluationWeights;
+import com.comp2042.diagnostics.LatencyHistogram;
+import com.comp2042.model.LevelTable;
+import com.comp2042.model.TetrisBoard;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VersusMatchTest {
+
+    @Test
+    void step_SameSeedAndBots_ReplaysExactly() {
+        try (BeamSearchBot first = new BeamSearchBot(EvaluationWeights.DEFAULT, 1, 0, 1);
+             BeamSearchBot second = new BeamSearchBot(EvaluationWeights.DEFAULT, 2, 0, 1)) {
+            VersusMatch a = playFor(first, second, 1200);
+            VersusMatch b = playFor(first, second, 1200);
+
+            for (int p = 0; p < 2; p++) {
+                assertArrayEquals(a.getPlayer(p).getBoard().getBoardMatrix(), b.getPlayer(p).getBoard().getBoardMatrix(),
+                        "Player " + p + " should have the same board in both runs");
+                assertEquals(a.getPlayer(p).getLinesSent(), b.getPlayer(p).getLinesSent());
+            }
+            assertTrue(a.getPlayer(0).getPieces() > 0, "The bots should have played");
+        }
+    }
+
+    private static VersusMatch playFor(BeamSearchBot first, BeamSearchBot second, int ticks) {
+        VersusMatch match = new VersusMatch(99, VersusMatch.DEFAULT_GARBAGE_DELAY_TICKS);
+        match.setBot(0, first, 10);
+        match.setBot(1, second, 10);
+        match.start();
+        for (int i = 0; i < ticks && match.step(); i++) {
+            // run the clock
+        }
+        return match;
+    }
+
+    @Test
+    void input_LockWithoutClear_LandsReadyGarbageOnly() {
+        VersusMatch match = new VersusMatch(1, 5);
+        match.start();
+        VersusPlayer player = match.getPlayer(0);
+        player.getGarbage().add(2, 7, match.getTick() + 5);
+
+        match.input(0, VersusInput.HARD_DROP);
+        assertEquals(0, player.getLinesReceived(), "Garbage should wait for its delay");
+
+        for (int i = 0; i < 5; i++) {
+            match.step();
+        }
+        match.input(0, VersusInput.HARD_DROP);
+
+        assertEquals(2, player.getLinesReceived());
+        int[] bottom = player.getBoard().getBoardMatrix()[TetrisBoard.BOARD_HEIGHT - 1];
+        assertEquals(0, bottom[7], "The hole should be where the attack said");
+        assertEquals(TetrisBoard.GARBAGE_COLOR, bottom[0]);
+        assertFalse(match.isOver());
+    }
+
+    @Test
+    void start_Restarted_DealsTheSameSequenceAgain() {
+        VersusMatch match = new VersusMatch(7, VersusMatch.DEFAULT_GARBAGE_DELAY_TICKS);
+        match.start();
+        int[] first = dealt(match.getPlayer(0).getBoard(), 20);
+
+        match.start();
+
+        assertArrayEquals(first, dealt(match.getPlayer(0).getBoard(), 20),
+                "A restarted match should be dealt from the original seed");
+    }
+
+    private static int[] dealt(TetrisBoard board, int pieces) {
+        int[] ids = new int[pieces];
+        for (int i = 0; i < pieces; i++) {
+            ids[i] = board.getCurrentPieceId();
+            board.hardDrop(true);
+        }
+        return ids;
+    }
+
+    @Test
+    void step_FractionalGravity_KeepsItsAverageRate() {
+        // 1.5G: two rows every one and a third ticks
+        LevelTable table = new LevelTable(1, new double[]{1.5}, new int[]{30}, new int[]{10}, new int[]{1});
+        VersusMatch match = new VersusMatch(3, VersusMatch.DEFAULT_GARBAGE_DELAY_TICKS, new LatencyHistogram(), table);
+        match.start();
+        TetrisBoard board = match.getPlayer(0).getBoard();
+        int startY = board.getCurrentOffset().y();
+
+        for (int i = 0; i < 6; i++) {
+            match.step();
+        }
+
+        assertEquals(startY + 8, board.getCurrentOffset().y(),
+                "Six ticks at 1.5G hold four full steps of two rows, not six");
+    }
+}
@@ -0,0 +1,57 @@
+package com.comp2042.view;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssetCacheTest {
+
+    @Test
+    void get_LoadsEachHandleOnlyOnce() {
+        AtomicInteger loads = new AtomicInteger();
+        AssetHandle<String> handle = new AssetHandle<>(0, "digital.ttf", url -> {
+            loads.incrementAndGet();
+            return url.getPath();
+        });
+        AssetCache cache = new AssetCache(Runnable::run, new StartupProfiler(), 1);
+
+        String first = cache.get(handle);
+        String second = cache.get(handle);
+
+        assertSame(first, second, "Every caller should share the same instance");
+        assertEquals(1, loads.get(), "The asset should be decoded once");
+    }
+
+    @Test
+    void get_MissingResource_ThrowsIllegalState() {
+        AssetHandle<String> handle = new AssetHandle<>(0, "no/such/asset.png", url -> "unused");
+        AssetCache cache = new AssetCache(Runnable::run, new StartupProfiler(), 1);
+
+        assertThrows(IllegalStateException.class, () -> cache.get(handle));
+        assertNull(cache.getIfReady(handle), "A failed asset should never be reported as ready");
+    }
+
+    @Test
+    void getIfReady_NotLoaded_ReturnsNull() {
+        AssetHandle<String> handle = new AssetHandle<>(0, "digital.ttf", url -> "font");
+        // An executor that never runs the task keeps the asset loading forever
+        AssetCache cache = new AssetCache(task -> { }, new StartupProfiler(), 1);
+
+        cache.load(handle);
+
+        assertNull(cache.getIfReady(handle), "An asset still loading should not be returned");
+    }
+
+    @Test
+    void load_RecordsTimeWithProfiler() {
+        StartupProfiler profiler = new StartupProfiler();
+        AssetHandle<String> handle = new AssetHandle<>(0, "digital.ttf", url -> "font");
+        AssetCache cache = new AssetCache(Runnable::run, profiler, 1);
+
+        cache.get(handle);
+
+        assertTrue(profiler.summary().contains("[digital.ttf "), "Asset load time should appear in the summary");
+    }
+}
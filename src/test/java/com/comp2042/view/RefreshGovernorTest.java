@@ -0,0 +1,64 @@
+package com.comp2042.view;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RefreshGovernorTest {
+
+    private static final long MS = 1_000_000L;
+    private static final long FRAME = 16_667_000L;
+
+    private static void run(RefreshGovernor governor, int frames, long passNanos, long sinceLast) {
+        for (int i = 0; i < frames; i++) {
+            governor.record(passNanos, sinceLast);
+        }
+    }
+
+    @Test
+    void record_OverBudget_RaisesStrideUpToMax() {
+        RefreshGovernor governor = new RefreshGovernor(4 * MS, FRAME, 3);
+
+        run(governor, RefreshGovernor.WINDOW_FRAMES * 20, 12 * MS, FRAME);
+
+        assertEquals(3, governor.getStride(), "A pass three times over budget should reach the maximum stride");
+    }
+
+    @Test
+    void record_CheapAgain_ReturnsToEveryPulse() {
+        RefreshGovernor governor = new RefreshGovernor(4 * MS, FRAME, 8);
+        run(governor, RefreshGovernor.WINDOW_FRAMES * 10, 20 * MS, FRAME);
+        assertTrue(governor.getStride() > 1);
+
+        run(governor, RefreshGovernor.WINDOW_FRAMES * 40, MS / 10, FRAME);
+
+        assertEquals(1, governor.getStride(), "Cheap passes should bring every board back to every pulse");
+    }
+
+    @Test
+    void record_LatePulses_RaiseStrideEvenWithinBudget() {
+        RefreshGovernor governor = new RefreshGovernor(4 * MS, FRAME, 8);
+
+        run(governor, RefreshGovernor.WINDOW_FRAMES, MS, 2 * FRAME);
+
+        assertEquals(2, governor.getStride(), "Missed vsyncs should spread the boards out");
+    }
+
+    @Test
+    void isDue_EveryBoardOncePerStride() {
+        RefreshGovernor governor = new RefreshGovernor(4 * MS, FRAME, 8);
+        run(governor, RefreshGovernor.WINDOW_FRAMES * 3, 100 * MS, FRAME);
+        int stride = governor.getStride();
+        assertTrue(stride > 1);
+
+        for (int board = 0; board < 10; board++) {
+            int due = 0;
+            for (long pulse = 0; pulse < stride; pulse++) {
+                if (governor.isDue(board, pulse)) {
+                    due++;
+                }
+            }
+            assertEquals(1, due, "Board " + board + " should be redrawn once per stride");
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.comp2042.view;
+
+import com.comp2042.model.TetrisBoard;
+import com.comp2042.model.ViewData;
+import com.comp2042.model.bricks.BrickTypes;
+import com.comp2042.model.bricks.PieceMask;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TerminalRendererTest {
+
+    /** Column of the board's first cell: hold preview, gap and left border, two characters each. */
+    private static int boardLeft() {
+        return (BrickTypes.getMaxSize() + 2) * 2;
+    }
+
+    /** Replays the escape sequences the renderer emits onto an in-memory screen. */
+    private static final class Screen {
+        final char[][] text = new char[40][60];
+        final int[][] background = new int[40][60];
+        int row;
+        int col;
+        int bg = -1;
+
+        Screen() {
+            clear();
+        }
+
+        void clear() {
+            for (char[] line : text) {
+                Arrays.fill(line, ' ');
+            }
+            for (int[] line : background) {
+                Arrays.fill(line, -1);
+            }
+        }
+
+        void apply(byte[] bytes) {
+            int i = 0;
+            while (i < bytes.length) {
+                if (bytes[i] != 0x1b) {
+                    text[row][col] = (char) bytes[i];
+                    background[row][col] = bg;
+                    col++;
+                    i++;
+                    continue;
+                }
+                int end = i + 2;
+                while (!Character.isLetter(bytes[end])) {
+                    end++;
+                }
+                String params = new String(bytes, i + 2, end - i - 2).replace("?", "");
+                switch (bytes[end]) {
+                    case 'H' -> {
+                        String[] parts = params.split(";");
+                        row = Integer.parseInt(parts[0]) - 1;
+                        col = Integer.parseInt(parts[1]) - 1;
+                    }
+                    case 'J' -> clear();
+                    case 'm' -> {
+                        String[] parts = params.split(";");
+                        if (parts[0].equals("48")) {
+                            bg = Integer.parseInt(parts[2]);
+                        } else if (parts[0].equals("49") || parts[0].equals("0")) {
+                            bg = -1;
+                        }
+                    }
+                    default -> {
+                    }
+                }
+                i = end + 1;
+            }
+        }
+    }
+
+    private static TerminalRenderer rendererFor(TetrisBoard board, ByteArrayOutputStream out) {
+        TerminalRenderer renderer = new TerminalRenderer(out);
+        renderer.initGameView(board.getBoardMatrix(), board.getViewData());
+        renderer.setGhostProbe((brick, newY) -> !board.getOccupancy().collides(
+                PieceMask.byId(board.getCurrentPieceId()), board.getCurrentRotation(), brick.getxPosition(), newY));
+        return renderer;
+    }
+
+    private static void render(TetrisBoard board, TerminalRenderer renderer) {
+        ViewData brick = board.getViewData();
+        renderer.refreshGameBackground(board.getBoardMatrix());
+        renderer.updateBrickPosition(brick);
+        renderer.showHoldPiece(board.getHoldBrickShape());
+        renderer.showNextPiece(brick.getNextBrickData());
+    }
+
+    private static void assertScreenShows(TetrisBoard board, Screen screen, int step) {
+        int[][] matrix = board.getBoardMatrix();
+        int[][] shape = board.getViewData().getBrickData();
+        int x = board.getCurrentOffset().x();
+        int y = board.getCurrentOffset().y();
+        for (int row = TetrisBoard.HIDDEN_ROWS; row < matrix.length; row++) {
+            for (int col = 0; col < matrix[row].length; col++) {
+                int r = row - y;
+                int c = col - x;
+                boolean piece = r >= 0 && r < shape.length && c >= 0 && c < shape[r].length && shape[r][c] != 0;
+                int expected = piece ? shape[r][c] : matrix[row][col];
+                int screenRow = row - TetrisBoard.HIDDEN_ROWS + 1;
+                int screenCol = boardLeft() + col * 2;
+                int shown = screen.background[screenRow][screenCol];
+                if (expected != 0) {
+                    assertEquals(TerminalRenderer.color(expected), shown,
+                            "Cell " + row + "," + col + " at step " + step);
+                } else {
+                    assertEquals(-1, shown, "Cell " + row + "," + col + " should be empty at step " + step);
+                }
+            }
+        }
+    }
+
+    @Test
+    void flush_RandomGame_ScreenMatchesBoard() throws IOException {
+        TetrisBoard board = new TetrisBoard(TetrisBoard.BOARD_HEIGHT, TetrisBoard.BOARD_WIDTH);
+        board.newGame();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TerminalRenderer renderer = rendererFor(board, out);
+        Screen screen = new Screen();
+        Random random = new Random(3);
+
+        for (int step = 0; step < 1500; step++) {
+            switch (random.nextInt(6)) {
+                case 0 -> board.moveBrickLeft();
+                case 1 -> board.moveBrickRight();
+                case 2 -> board.rotateRightBrick();
+                case 3 -> board.holdCurrentBrick();
+                case 4 -> board.stepDown(false);
+                default -> {
+                    if (board.hardDrop(false).isGameOver()) {
+                        board.newGame();
+                    }
+                }
+            }
+            render(board, renderer);
+            out.reset();
+            renderer.flush();
+            screen.apply(out.toByteArray());
+            assertScreenShows(board, screen, step);
+        }
+    }
+
+    @Test
+    void flush_NothingChanged_WritesNothing() throws IOException {
+        TetrisBoard board = new TetrisBoard(TetrisBoard.BOARD_HEIGHT, TetrisBoard.BOARD_WIDTH);
+        board.newGame();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TerminalRenderer renderer = rendererFor(board, out);
+        render(board, renderer);
+        assertTrue(renderer.flush() > 0, "The first frame draws the whole screen");
+
+        render(board, renderer);
+        assertEquals(0, renderer.flush(), "An unchanged frame should write nothing");
+    }
+
+    @Test
+    void flush_OneColumnMove_WritesOnlyChangedCells() throws IOException {
+        TetrisBoard board = new TetrisBoard(TetrisBoard.BOARD_HEIGHT, TetrisBoard.BOARD_WIDTH);
+        board.newGame();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TerminalRenderer renderer = rendererFor(board, out);
+        render(board, renderer);
+        int full = renderer.flush();
+
+        assertTrue(board.moveBrickLeft());
+        render(board, renderer);
+        int delta = renderer.flush();
+
+        assertTrue(delta < 200, "A one-column move should cost a few cells, not " + delta + " bytes");
+        assertTrue(delta * 10 < full, "The delta should be far smaller than a full frame");
+    }
+}
@@ -0,0 +1,37 @@
+package com.comp2042.view;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VoiceLimiterTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void tryStart_WithinMergeWindow_IsDropped() {
+        VoiceLimiter limiter = new VoiceLimiter(4, 30 * MS, 200 * MS);
+
+        assertTrue(limiter.tryStart(1_000 * MS), "First request should play");
+        assertFalse(limiter.tryStart(1_010 * MS), "Identical effect 10ms later should merge");
+        assertTrue(limiter.tryStart(1_040 * MS), "Request after the merge window should play");
+    }
+
+    @Test
+    void tryStart_AllVoicesBusy_IsDroppedUntilOneEnds() {
+        VoiceLimiter limiter = new VoiceLimiter(2, 30 * MS, 200 * MS);
+
+        assertTrue(limiter.tryStart(0));
+        assertTrue(limiter.tryStart(50 * MS));
+        assertFalse(limiter.tryStart(100 * MS), "A third overlapping voice should be refused");
+        assertTrue(limiter.tryStart(200 * MS), "The first voice has ended, so its slot is free");
+    }
+
+    @Test
+    void tryStart_NegativeClock_StillStarts() {
+        VoiceLimiter limiter = new VoiceLimiter(1, 30 * MS, 200 * MS);
+
+        assertTrue(limiter.tryStart(-5_000 * MS), "nanoTime may be negative");
+        assertFalse(limiter.tryStart(-4_900 * MS));
+    }
+}